@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.sink.SaveModeExecuteLocation;
 import org.apache.seatunnel.common.constants.JobMode;
 
+import java.util.List;
 import java.util.Map;
 
 public interface EnvCommonOptions {
@@ -90,6 +91,23 @@ public interface EnvCommonOptions {
                     .defaultValue(SaveModeExecuteLocation.CLUSTER)
                     .withDescription("The location of save mode execute.");
 
+    Option<Boolean> SHUFFLE_PARTITION_BY_KEY =
+            Options.key("shuffle.partition_by_key")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Repartition rows by the hash of the key columns before writing to the sink, "
+                                    + "rows with the same key are always written by the same sink writer. "
+                                    + "Only supported by the Zeta engine.");
+
+    Option<List<String>> SHUFFLE_PARTITION_KEYS =
+            Options.key("shuffle.partition_keys")
+                    .listType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The key columns used by `shuffle.partition_by_key`, "
+                                    + "the primary key of each table is used if not set.");
+
     Option<String> JARS =
             Options.key("jars")
                     .stringType()
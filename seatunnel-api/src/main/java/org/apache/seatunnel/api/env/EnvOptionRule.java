@@ -34,6 +34,8 @@ public class EnvOptionRule {
                         EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND,
                         EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND,
                         EnvCommonOptions.SAVEMODE_EXECUTE_LOCATION,
+                        EnvCommonOptions.SHUFFLE_PARTITION_BY_KEY,
+                        EnvCommonOptions.SHUFFLE_PARTITION_KEYS,
                         EnvCommonOptions.CUSTOM_PARAMETERS)
                 .build();
     }
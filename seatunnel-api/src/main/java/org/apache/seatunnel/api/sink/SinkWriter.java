@@ -79,6 +79,13 @@ public interface SinkWriter<T, CommitInfoT, StateT> {
         return prepareCommit();
     }
 
+    /**
+     * Called before the {@link #prepareCommit(long)} of the last checkpoint when the input of the
+     * writer is ended. The writer should return all the data it holds back in that prepare commit,
+     * since there is no later checkpoint to commit them.
+     */
+    default void prepareClose() {}
+
     /**
      * @return The writer's state.
      * @throws IOException if fail to snapshot writer's state.
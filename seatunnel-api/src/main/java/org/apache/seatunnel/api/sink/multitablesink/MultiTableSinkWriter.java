@@ -218,6 +218,15 @@ public class MultiTableSinkWriter
         return multiTableStates;
     }
 
+    @Override
+    public void prepareClose() {
+        for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
+            synchronized (runnable.get(i)) {
+                sinkWritersWithIndex.get(i).values().forEach(SinkWriter::prepareClose);
+            }
+        }
+    }
+
     @Override
     public Optional<MultiTableCommitInfo> prepareCommit() throws IOException {
         return Optional.empty();
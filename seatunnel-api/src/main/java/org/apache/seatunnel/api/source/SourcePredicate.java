@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A predicate on a column of the table produced by the source. The values are of the java type of
+ * the column's {@link org.apache.seatunnel.api.table.type.SeaTunnelDataType}, a row whose column
+ * is null only matches {@link Operator#IS_NULL}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public final class SourcePredicate implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull private final String fieldName;
+    @NonNull private final Operator operator;
+    @NonNull private final List<Object> values;
+
+    public static SourcePredicate of(String fieldName, Operator operator, Object... values) {
+        return new SourcePredicate(
+                fieldName, operator, Collections.unmodifiableList(Arrays.asList(values)));
+    }
+
+    public enum Operator {
+        EQUAL,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL,
+        IS_NULL,
+        IS_NOT_NULL,
+        /** The column is equal to one of the values. */
+        IN
+    }
+}
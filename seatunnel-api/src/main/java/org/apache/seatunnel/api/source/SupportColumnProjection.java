@@ -17,5 +17,20 @@
 
 package org.apache.seatunnel.api.source;
 
+import java.util.List;
+
 /** Mark whether the Source connector supports ColumnProjection */
-public interface SupportColumnProjection {}
+public interface SupportColumnProjection {
+
+    /**
+     * Push the columns required by the downstream into the source. It is called before {@link
+     * SeaTunnelSource#getProducedCatalogTables()}, when it returns true the produced table only
+     * contains the given columns in the given order.
+     *
+     * @param fieldNames the required columns, all of them are columns of the produced table
+     * @return whether the projection is applied by the source
+     */
+    default boolean applyProjection(List<String> fieldNames) {
+        return false;
+    }
+}
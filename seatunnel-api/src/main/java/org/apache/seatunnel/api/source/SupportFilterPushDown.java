@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+import java.util.List;
+
+/** Mark whether the Source connector supports to skip the rows which do not match predicates. */
+public interface SupportFilterPushDown {
+
+    /**
+     * Push the predicates of the downstream into the source. It is called before {@link
+     * SeaTunnelSource#getProducedCatalogTables()}. The downstream still evaluates all the
+     * predicates, so the source can read more rows than the predicates match, but must not skip a
+     * matching row.
+     *
+     * @param predicates the predicates which are combined with AND
+     * @return the predicates used by the source
+     */
+    List<SourcePredicate> applyFilters(List<SourcePredicate> predicates);
+}
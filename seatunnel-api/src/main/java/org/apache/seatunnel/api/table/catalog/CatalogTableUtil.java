@@ -273,4 +273,61 @@ public class CatalogTableUtil implements Serializable {
                 catalogTable.getComment(),
                 catalogTable.getCatalogName());
     }
+
+    /**
+     * Keep the given columns of the catalog table in the given order, the primary key and the
+     * constraint keys are kept only when all of their columns are kept.
+     */
+    public static CatalogTable projectCatalogTable(
+            CatalogTable catalogTable, List<String> fieldNames) {
+        TableSchema tableSchema = catalogTable.getTableSchema();
+        Map<String, Column> columnMap =
+                tableSchema.getColumns().stream()
+                        .collect(Collectors.toMap(Column::getName, Function.identity()));
+        List<Column> columns = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            Column column = columnMap.get(fieldName);
+            if (column == null) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The column [%s] is not exists in table [%s]",
+                                fieldName, catalogTable.getTableId()));
+            }
+            columns.add(column);
+        }
+
+        PrimaryKey primaryKey = tableSchema.getPrimaryKey();
+        if (primaryKey != null && !fieldNames.containsAll(primaryKey.getColumnNames())) {
+            primaryKey = null;
+        }
+        List<ConstraintKey> constraintKeys = new ArrayList<>();
+        if (tableSchema.getConstraintKeys() != null) {
+            for (ConstraintKey constraintKey : tableSchema.getConstraintKeys()) {
+                boolean kept =
+                        constraintKey.getColumnNames().stream()
+                                .allMatch(column -> fieldNames.contains(column.getColumnName()));
+                if (kept) {
+                    constraintKeys.add(constraintKey);
+                }
+            }
+        }
+        TableSchema finalSchema =
+                TableSchema.builder()
+                        .columns(columns)
+                        .primaryKey(primaryKey)
+                        .constraintKey(constraintKeys)
+                        .build();
+
+        List<String> partitionKeys =
+                catalogTable.getPartitionKeys().stream()
+                        .filter(fieldNames::contains)
+                        .collect(Collectors.toList());
+        return CatalogTable.of(
+                catalogTable.getTableId(),
+                finalSchema,
+                catalogTable.getOptions(),
+                partitionKeys,
+                catalogTable.getComment(),
+                catalogTable.getCatalogName());
+    }
 }
@@ -23,6 +23,8 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface SeaTunnelTransform<T>
         extends Serializable, PluginIdentifierInterface, SeaTunnelJobAware {
@@ -53,6 +55,25 @@ public interface SeaTunnelTransform<T>
      */
     T map(T row);
 
+    /**
+     * Transform a batch of input data, the rows filtered by this transform are not contained in
+     * the result. The engine calls this method instead of {@link #map(Object)} when it buffers the
+     * input rows, a transform can override it to amortize the per row overhead.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data, in the same order as the input.
+     */
+    default List<T> mapBatch(List<T> rows) {
+        List<T> outputs = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            T output = map(row);
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+        return outputs;
+    }
+
     /** call it when Transformer completed */
     default void close() {}
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mark whether the transform can describe what it reads from its input, the engine pushes it into
+ * a source which implements {@link SupportColumnProjection} or {@link SupportFilterPushDown}.
+ */
+public interface SupportPushDown {
+
+    /**
+     * Get the input columns used by the transform.
+     *
+     * @return the used columns in the order of the input table, empty if all columns are used
+     */
+    Optional<List<String>> getRequiredFields();
+
+    /**
+     * Get the predicates which an input row must match to produce any output.
+     *
+     * @return the predicates which are combined with AND
+     */
+    List<SourcePredicate> getPredicates();
+}
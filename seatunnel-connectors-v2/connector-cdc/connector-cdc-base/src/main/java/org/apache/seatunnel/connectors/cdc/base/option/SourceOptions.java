@@ -44,6 +44,13 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Long> SNAPSHOT_CHUNK_BUFFER_MAX_BYTES =
+            Options.key("snapshot.chunk.buffer.max-bytes")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The max estimated bytes of the snapshot records of a split buffered in memory when exactly-once is enabled. The records are spilled to a local file when the buffer exceeds this size, 0 means the buffer is not bounded.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -111,7 +118,8 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(
+                        SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_CHUNK_BUFFER_MAX_BYTES)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Boundedness;
@@ -80,6 +81,8 @@ import java.util.stream.Stream;
 public abstract class IncrementalSource<T, C extends SourceConfig>
         implements SeaTunnelSource<T, SourceSplitBase, PendingSplitsState> {
 
+    private static final String CDC_SNAPSHOT_SPILL_BYTES = "CDCSnapshotSpillBytes";
+
     protected ReadonlyConfig readonlyConfig;
     protected SourceConfig.Factory<C> configFactory;
     protected OffsetFactory offsetFactory;
@@ -169,13 +172,19 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new LinkedBlockingQueue<>(2);
 
         SchemaChangeResolver schemaChangeResolver = deserializationSchema.getSchemaChangeResolver();
+        long chunkBufferMaxBytes =
+                readonlyConfig.get(SourceOptions.SNAPSHOT_CHUNK_BUFFER_MAX_BYTES);
+        Counter spillBytesCounter =
+                readerContext.getMetricsContext().counter(CDC_SNAPSHOT_SPILL_BYTES);
         Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
                 () ->
                         new IncrementalSourceSplitReader<>(
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                chunkBufferMaxBytes,
+                                spillBytesCounter);
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
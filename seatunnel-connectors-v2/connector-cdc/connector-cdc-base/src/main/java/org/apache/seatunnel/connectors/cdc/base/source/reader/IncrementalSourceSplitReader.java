@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
 import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
@@ -52,17 +53,23 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final DataSourceDialect<C> dataSourceDialect;
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
+    private final long chunkBufferMaxBytes;
+    private final Counter spillBytesCounter;
 
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
-            SchemaChangeResolver schemaChangeResolver) {
+            SchemaChangeResolver schemaChangeResolver,
+            long chunkBufferMaxBytes,
+            Counter spillBytesCounter) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.chunkBufferMaxBytes = chunkBufferMaxBytes;
+        this.spillBytesCounter = spillBytesCounter;
     }
 
     @Override
@@ -128,7 +135,12 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                 if (currentFetcher == null) {
                     final FetchTask.Context taskContext =
                             dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                    currentFetcher =
+                            new IncrementalSourceScanFetcher(
+                                    taskContext,
+                                    subtaskId,
+                                    chunkBufferMaxBytes,
+                                    spillBytesCounter);
                 }
             } else {
                 // point from snapshot split to incremental split
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.source.split.CompletedSnapshotSplitInfo;
+import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The finished snapshot splits of one table, sorted by the split start. The snapshot splits of a
+ * table are disjoint ranges of the split key, so the split which contains a key can be found by a
+ * binary search instead of checking every split.
+ */
+public class CompletedSnapshotSplitRanges {
+
+    private static final Comparator<CompletedSnapshotSplitInfo> SPLIT_START_COMPARATOR =
+            (split1, split2) -> compareSplitStart(split1.getSplitStart(), split2.getSplitStart());
+
+    private final List<CompletedSnapshotSplitInfo> splits;
+
+    public CompletedSnapshotSplitRanges(List<CompletedSnapshotSplitInfo> splits) {
+        List<CompletedSnapshotSplitInfo> sortedSplits = new ArrayList<>(splits);
+        sortedSplits.sort(SPLIT_START_COMPARATOR);
+        this.splits = Collections.unmodifiableList(sortedSplits);
+    }
+
+    public List<CompletedSnapshotSplitInfo> getSplits() {
+        return splits;
+    }
+
+    /** Returns the split whose key range contains the given split key, or null if not found. */
+    public CompletedSnapshotSplitInfo find(Object[] key) {
+        // find the last split whose start is less than or equal to the key
+        int low = 0;
+        int high = splits.size() - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compareSplitStart(splits.get(mid).getSplitStart(), key) <= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return null;
+        }
+        CompletedSnapshotSplitInfo split = splits.get(candidate);
+        if (SourceRecordUtils.splitKeyRangeContains(
+                key, split.getSplitStart(), split.getSplitEnd())) {
+            return split;
+        }
+        return null;
+    }
+
+    /** The null split start means the first split, it is less than any key. */
+    private static int compareSplitStart(Object[] splitStart, Object[] key) {
+        if (splitStart == null) {
+            return key == null ? 0 : -1;
+        }
+        if (key == null) {
+            return 1;
+        }
+        return SourceRecordUtils.compareSplitKey(splitStart, key);
+    }
+}
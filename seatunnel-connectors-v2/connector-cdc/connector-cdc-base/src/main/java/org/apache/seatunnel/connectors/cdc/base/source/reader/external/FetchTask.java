@@ -20,7 +20,6 @@ package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.connector.base.ChangeEventQueue;
@@ -30,7 +29,6 @@ import io.debezium.relational.Tables;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /** The task to fetching data of a Split. */
 public interface FetchTask<Split> {
@@ -65,7 +63,16 @@ public interface FetchTask<Split> {
 
         boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd);
 
-        void rewriteOutputBuffer(Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord);
+        /**
+         * Returns the split key of the data change record, or null if the context can not extract
+         * it. The stream fetcher falls back to {@link #isRecordBetween} on every finished split in
+         * that case.
+         */
+        default Object[] getSplitKey(SourceRecord record) {
+            return null;
+        }
+
+        void rewriteOutputBuffer(SnapshotRecordBuffer outputBuffer, SourceRecord changeRecord);
 
         List<SourceRecord> formatMessageTimestamp(Collection<SourceRecord> snapshotRecords);
 
@@ -17,14 +17,15 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
@@ -32,9 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -66,8 +65,22 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
-    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+    // the number of spilled records normalized at a time
+    private static final int SPILLED_RECORDS_BATCH_SIZE = 1024;
+
+    private final long chunkBufferMaxBytes;
+    private final Counter spillBytesCounter;
+    // the spilled buffer of the last split, its records may not have been read
+    private SnapshotRecordBuffer spilledBuffer;
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext,
+            int subtaskId,
+            long chunkBufferMaxBytes,
+            Counter spillBytesCounter) {
         this.taskContext = taskContext;
+        this.chunkBufferMaxBytes = chunkBufferMaxBytes;
+        this.spillBytesCounter = spillBytesCounter;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -153,54 +166,88 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
-        while (!reachChangeLogEnd) {
-            checkReadException();
-            List<DataChangeEvent> batch = queue.poll();
-            for (DataChangeEvent event : batch) {
-                SourceRecord record = event.getRecord();
-                if (lowWatermark == null) {
-                    lowWatermark = record;
-                    assertLowWatermark(lowWatermark);
-                    continue;
-                }
+        // the records of the last split have been emitted
+        closeSpilledBuffer();
+        SnapshotChunkBuffer outputBuffer =
+                new SnapshotChunkBuffer(chunkBufferMaxBytes, spillBytesCounter);
+        try {
+            while (!reachChangeLogEnd) {
+                checkReadException();
+                List<DataChangeEvent> batch = queue.poll();
+                for (DataChangeEvent event : batch) {
+                    SourceRecord record = event.getRecord();
+                    if (lowWatermark == null) {
+                        lowWatermark = record;
+                        assertLowWatermark(lowWatermark);
+                        continue;
+                    }
 
-                if (highWatermark == null && isHighWatermarkEvent(record)) {
-                    highWatermark = record;
-                    // begin to capture binlog events
-                    reachChangeLogStart = true;
-                    continue;
-                }
+                    if (highWatermark == null && isHighWatermarkEvent(record)) {
+                        highWatermark = record;
+                        // begin to capture binlog events
+                        reachChangeLogStart = true;
+                        continue;
+                    }
 
-                if (reachChangeLogStart && isEndWatermarkEvent(record)) {
-                    // capture to end watermark events, stop the loop
-                    reachChangeLogEnd = true;
-                    break;
-                }
+                    if (reachChangeLogStart && isEndWatermarkEvent(record)) {
+                        // capture to end watermark events, stop the loop
+                        reachChangeLogEnd = true;
+                        break;
+                    }
 
-                if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
-                } else {
-                    if (isChangeRecordInChunkRange(record)) {
-                        // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
+                    if (!reachChangeLogStart) {
+                        outputBuffer.add(record);
+                    } else {
+                        if (isChangeRecordInChunkRange(record)) {
+                            // rewrite overlapping snapshot records through the record key
+                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        }
                     }
                 }
             }
+        } catch (Throwable e) {
+            // the records are not emitted, delete the spill file
+            outputBuffer.close();
+            throw e;
         }
         // snapshot split return its data once
         hasNextElement.set(false);
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-        normalizedRecords.add(highWatermark);
-
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        if (!outputBuffer.isSpilled()) {
+            final List<SourceRecord> normalizedRecords = new ArrayList<>();
+            normalizedRecords.add(lowWatermark);
+            normalizedRecords.addAll(
+                    taskContext.formatMessageTimestamp(outputBuffer.memoryRecords()));
+            normalizedRecords.add(highWatermark);
+            sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        } else {
+            // the spilled records are read back and normalized in batches when they are emitted
+            spilledBuffer = outputBuffer;
+            sourceRecordsSet.add(
+                    SourceRecords.fromIterable(
+                            spilledRecords(lowWatermark, outputBuffer, highWatermark)));
+        }
         return sourceRecordsSet.iterator();
     }
 
+    private Iterable<SourceRecord> spilledRecords(
+            SourceRecord lowWatermark,
+            SnapshotChunkBuffer outputBuffer,
+            SourceRecord highWatermark) {
+        return () -> {
+            Iterator<List<SourceRecord>> normalizedBatches =
+                    Iterators.transform(
+                            Iterators.partition(
+                                    outputBuffer.records(), SPILLED_RECORDS_BATCH_SIZE),
+                            taskContext::formatMessageTimestamp);
+            return Iterators.concat(
+                    Iterators.singletonIterator(lowWatermark),
+                    Iterators.concat(Iterators.transform(normalizedBatches, List::iterator)),
+                    Iterators.singletonIterator(highWatermark));
+        };
+    }
+
     private void assertLowWatermark(SourceRecord lowWatermark) {
         checkState(
                 isLowWatermarkEvent(lowWatermark),
@@ -219,9 +266,17 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         }
     }
 
+    private void closeSpilledBuffer() {
+        if (spilledBuffer != null) {
+            spilledBuffer.close();
+            spilledBuffer = null;
+        }
+    }
+
     @Override
     public void close() {
         try {
+            closeSpilledBuffer();
             if (taskContext != null) {
                 taskContext.close();
             }
@@ -72,8 +72,8 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
 
     // maximum watermark for each table
     private Map<TableId, Offset> maxSplitHighWatermarkMap;
-    // finished spilt info
-    private Map<TableId, List<CompletedSnapshotSplitInfo>> finishedSplitsInfo;
+    // finished spilt info, sorted by split start
+    private Map<TableId, CompletedSnapshotSplitRanges> finishedSplitsInfo;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
@@ -225,8 +225,17 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
             }
             // not enter pure binlog mode and need to check whether the current record meets the
             // emitting conditions.
-            if (finishedSplitsInfo.containsKey(tableId)) {
-                for (CompletedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
+            CompletedSnapshotSplitRanges splitRanges = finishedSplitsInfo.get(tableId);
+            if (splitRanges != null) {
+                Object[] splitKey = taskContext.getSplitKey(sourceRecord);
+                if (splitKey != null) {
+                    // the record is not in any finished split if no split contains its key
+                    CompletedSnapshotSplitInfo splitInfo = splitRanges.find(splitKey);
+                    return splitInfo != null
+                            && position.isAfter(splitInfo.getWatermark().getHighWatermark());
+                }
+                // the split key is unknown, check every split
+                for (CompletedSnapshotSplitInfo splitInfo : splitRanges.getSplits()) {
                     if (taskContext.isRecordBetween(
                                     sourceRecord,
                                     splitInfo.getSplitStart(),
@@ -283,7 +292,11 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
                 tableIdBinlogPositionMap.put(tableId, highWatermark);
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, CompletedSnapshotSplitRanges> splitRangesMap = new HashMap<>();
+        splitsInfoMap.forEach(
+                (tableId, splits) ->
+                        splitRangesMap.put(tableId, new CompletedSnapshotSplitRanges(splits)));
+        this.finishedSplitsInfo = splitRangesMap;
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
     }
@@ -40,7 +40,6 @@ import io.debezium.util.SchemaNameAdjuster;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /** The context for fetch task that fetching data of snapshot split from JDBC data source. */
@@ -71,15 +70,19 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
 
     @Override
     public boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        Object[] key = getSplitKey(record);
+        return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+    }
+
+    @Override
+    public Object[] getSplitKey(SourceRecord record) {
         SeaTunnelRowType splitKeyType =
                 getSplitType(getDatabaseSchema().tableFor(getTableId(record)));
-        Object[] key = SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
-        return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+        return SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
     }
 
     @Override
-    public void rewriteOutputBuffer(
-            Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {
+    public void rewriteOutputBuffer(SnapshotRecordBuffer outputBuffer, SourceRecord changeRecord) {
         Struct key = (Struct) changeRecord.key();
         Struct value = (Struct) changeRecord.value();
         if (value != null) {
@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.io.CountingOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The buffer of the records of one snapshot split, used to normalize the snapshot records with the
+ * change records captured between the low and high watermark.
+ *
+ * <p>Snapshot records are added by {@link #add(SourceRecord)} and kept in memory. Once their
+ * estimated size exceeds {@code maxMemoryBytes}, the records in memory are appended to a local
+ * spill file. Change records are applied through {@link #put} and {@link #remove}, the operations
+ * used by {@link FetchTask.Context#rewriteOutputBuffer}: a change of a record in memory is applied
+ * in place, other changes are kept in memory by the serialized key and merged with the spill file
+ * when it is read back. The records are returned in the same order as a {@link LinkedHashMap}
+ * would keep them.
+ */
+@Slf4j
+public class SnapshotChunkBuffer implements SnapshotRecordBuffer {
+
+    private static final int RECORD_OVERHEAD_BYTES = 64;
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+
+    private final long maxMemoryBytes;
+    private final Counter spillBytesCounter;
+    private final LinkedHashMap<Struct, SourceRecord> memoryRecords = new LinkedHashMap<>();
+    // changes of the records which may have been spilled, the null value means deleted
+    private final LinkedHashMap<ByteBuffer, SourceRecord> spilledRecordChanges =
+            new LinkedHashMap<>();
+    private long memoryBytes;
+
+    private JsonConverter keyConverter;
+    private JsonConverter valueConverter;
+    private File spillFile;
+    private CountingOutputStream spillCountingOutput;
+    private ObjectOutputStream spillOutput;
+    private long spilledRecords;
+    private boolean read;
+
+    /**
+     * @param maxMemoryBytes the max estimated bytes of snapshot records kept in memory, the buffer
+     *     never spills if it is not positive
+     * @param spillBytesCounter the counter of bytes written to spill files
+     */
+    public SnapshotChunkBuffer(long maxMemoryBytes, Counter spillBytesCounter) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillBytesCounter = spillBytesCounter;
+    }
+
+    /** Adds a snapshot record, the records in memory are spilled if the buffer is full. */
+    public void add(SourceRecord record) {
+        SourceRecord previous = memoryRecords.put((Struct) record.key(), record);
+        memoryBytes += estimateSize(record);
+        if (previous != null) {
+            memoryBytes -= estimateSize(previous);
+        }
+        if (maxMemoryBytes > 0 && memoryBytes > maxMemoryBytes) {
+            spill();
+        }
+    }
+
+    @Override
+    public void put(Struct key, SourceRecord record) {
+        if (!isSpilled() || memoryRecords.containsKey(key)) {
+            memoryRecords.put(key, record);
+        } else {
+            spilledRecordChanges.put(serializeKey(key), record);
+        }
+    }
+
+    @Override
+    public void remove(Struct key) {
+        if (!isSpilled() || memoryRecords.containsKey(key)) {
+            memoryRecords.remove(key);
+        } else {
+            spilledRecordChanges.put(serializeKey(key), null);
+        }
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    @VisibleForTesting
+    File getSpillFile() {
+        return spillFile;
+    }
+
+    /** Returns the buffered records, which must not be called if the buffer has been spilled. */
+    public Collection<SourceRecord> memoryRecords() {
+        checkState(!isSpilled(), "The snapshot chunk buffer has been spilled");
+        return Collections.unmodifiableCollection(memoryRecords.values());
+    }
+
+    /**
+     * Returns the merged records of the spill file and memory. The records can only be read once,
+     * the spill file is deleted when all records have been read or the buffer is closed.
+     */
+    @Override
+    public Iterator<SourceRecord> records() {
+        checkState(!read, "The snapshot chunk buffer has been read");
+        read = true;
+        if (!isSpilled()) {
+            return memoryRecords.values().iterator();
+        }
+        try {
+            spillOutput.close();
+            spillOutput = null;
+            ObjectInputStream spillInput =
+                    new ObjectInputStream(
+                            new BufferedInputStream(new FileInputStream(spillFile)));
+            return new MergedRecordIterator(spillInput);
+        } catch (IOException e) {
+            close();
+            throw new SeaTunnelException("Failed to read the snapshot chunk spill file", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+                spillOutput = null;
+            }
+        } catch (IOException e) {
+            log.warn("Close snapshot chunk spill file {} error", spillFile, e);
+        }
+        if (spillFile != null && spillFile.exists() && !spillFile.delete()) {
+            log.warn("Failed to delete snapshot chunk spill file {}", spillFile);
+        }
+    }
+
+    private void spill() {
+        try {
+            if (spillOutput == null) {
+                spillFile = File.createTempFile("seatunnel-cdc-snapshot-chunk-", ".spill");
+                spillCountingOutput =
+                        new CountingOutputStream(
+                                new BufferedOutputStream(new FileOutputStream(spillFile)));
+                spillOutput = new ObjectOutputStream(spillCountingOutput);
+                keyConverter = createConverter(true);
+                valueConverter = createConverter(false);
+            }
+            long startBytes = spillCountingOutput.getCount();
+            for (SourceRecord record : memoryRecords.values()) {
+                writeRecord(record);
+            }
+            spillOutput.flush();
+            long bytes = spillCountingOutput.getCount() - startBytes;
+            spillBytesCounter.inc(bytes);
+            log.info(
+                    "Spill {} snapshot records ({} bytes in memory) to {}, {} bytes written",
+                    memoryRecords.size(),
+                    memoryBytes,
+                    spillFile,
+                    bytes);
+            spilledRecords += memoryRecords.size();
+            memoryRecords.clear();
+            memoryBytes = 0;
+        } catch (IOException e) {
+            close();
+            throw new SeaTunnelException("Failed to spill the snapshot chunk records", e);
+        }
+    }
+
+    private void writeRecord(SourceRecord record) throws IOException {
+        spillOutput.writeObject(record.sourcePartition());
+        spillOutput.writeObject(record.sourceOffset());
+        spillOutput.writeObject(record.topic());
+        spillOutput.writeObject(record.kafkaPartition());
+        spillOutput.writeObject(record.timestamp());
+        ByteBuffer serializedKey = serializeKey((Struct) record.key());
+        writeBytes(serializedKey == null ? null : serializedKey.array());
+        writeBytes(
+                valueConverter.fromConnectData(
+                        record.topic(), record.valueSchema(), record.value()));
+        // do not keep the references of written objects
+        spillOutput.reset();
+    }
+
+    /** Reads the next spilled record, returns null if it has been deleted by a change. */
+    @SuppressWarnings("unchecked")
+    private SourceRecord readRecord(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        Map<String, ?> sourcePartition = (Map<String, ?>) in.readObject();
+        Map<String, ?> sourceOffset = (Map<String, ?>) in.readObject();
+        String topic = (String) in.readObject();
+        Integer kafkaPartition = (Integer) in.readObject();
+        Long timestamp = (Long) in.readObject();
+        byte[] keyBytes = readBytes(in);
+        byte[] valueBytes = readBytes(in);
+
+        ByteBuffer serializedKey = keyBytes == null ? null : ByteBuffer.wrap(keyBytes);
+        if (spilledRecordChanges.containsKey(serializedKey)) {
+            return spilledRecordChanges.remove(serializedKey);
+        }
+        SchemaAndValue key = keyConverter.toConnectData(topic, keyBytes);
+        SchemaAndValue value = valueConverter.toConnectData(topic, valueBytes);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                key.schema(),
+                key.value(),
+                value.schema(),
+                value.value(),
+                timestamp);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            spillOutput.writeInt(-1);
+            return;
+        }
+        spillOutput.writeInt(bytes.length);
+        spillOutput.write(bytes);
+    }
+
+    private static byte[] readBytes(ObjectInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private ByteBuffer serializeKey(Struct key) {
+        if (key == null) {
+            return null;
+        }
+        return ByteBuffer.wrap(keyConverter.fromConnectData(null, key.schema(), key));
+    }
+
+    private static JsonConverter createConverter(boolean isKey) {
+        JsonConverter converter = new JsonConverter();
+        converter.configure(
+                Collections.singletonMap(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, true), isKey);
+        return converter;
+    }
+
+    static long estimateSize(SourceRecord record) {
+        return RECORD_OVERHEAD_BYTES + estimateSize(record.key()) + estimateSize(record.value());
+    }
+
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            long size = OBJECT_OVERHEAD_BYTES;
+            for (Field field : struct.schema().fields()) {
+                size += estimateSize(struct.get(field));
+            }
+            return size;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return OBJECT_OVERHEAD_BYTES + ((ByteBuffer) value).remaining();
+        }
+        if (value instanceof List) {
+            long size = OBJECT_OVERHEAD_BYTES;
+            for (Object element : (List<?>) value) {
+                size += estimateSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = OBJECT_OVERHEAD_BYTES;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        return OBJECT_OVERHEAD_BYTES;
+    }
+
+    /**
+     * Reads the spill file, then the records in memory, then the changes whose keys are not found
+     * in the spill file.
+     */
+    private class MergedRecordIterator extends AbstractIterator<SourceRecord> {
+        private final ObjectInputStream spillInput;
+        private long remainingSpilledRecords = spilledRecords;
+        private Iterator<SourceRecord> memoryIterator;
+        private Iterator<SourceRecord> changeIterator;
+
+        private MergedRecordIterator(ObjectInputStream spillInput) {
+            this.spillInput = spillInput;
+        }
+
+        @Override
+        protected SourceRecord computeNext() {
+            while (remainingSpilledRecords > 0) {
+                remainingSpilledRecords--;
+                SourceRecord record = readSpilledRecord();
+                if (record != null) {
+                    return record;
+                }
+            }
+            if (memoryIterator == null) {
+                closeSpillInput();
+                memoryIterator = memoryRecords.values().iterator();
+            }
+            if (memoryIterator.hasNext()) {
+                return memoryIterator.next();
+            }
+            if (changeIterator == null) {
+                changeIterator = spilledRecordChanges.values().iterator();
+            }
+            while (changeIterator.hasNext()) {
+                SourceRecord changedRecord = changeIterator.next();
+                if (changedRecord != null) {
+                    return changedRecord;
+                }
+            }
+            return endOfData();
+        }
+
+        private SourceRecord readSpilledRecord() {
+            try {
+                return readRecord(spillInput);
+            } catch (IOException | ClassNotFoundException e) {
+                closeSpillInput();
+                throw new SeaTunnelException("Failed to read the snapshot chunk spill file", e);
+            }
+        }
+
+        private void closeSpillInput() {
+            try {
+                spillInput.close();
+            } catch (IOException e) {
+                log.warn("Close snapshot chunk spill file {} error", spillFile, e);
+            }
+            close();
+        }
+    }
+}
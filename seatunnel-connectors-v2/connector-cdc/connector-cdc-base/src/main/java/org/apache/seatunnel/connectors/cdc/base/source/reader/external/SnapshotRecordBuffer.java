@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * The buffer of the snapshot records of a split, which is rewritten by the change records
+ * captured between the low and high watermark through the record key.
+ */
+public interface SnapshotRecordBuffer extends Closeable {
+
+    /** Inserts or updates the record of the key. */
+    void put(Struct key, SourceRecord record);
+
+    /** Deletes the record of the key. */
+    void remove(Struct key);
+
+    /** Returns the buffered records, they can only be read once. */
+    Iterator<SourceRecord> records();
+
+    /** Releases the resources of the buffer, e.g. the records which have not been read. */
+    @Override
+    void close();
+}
@@ -26,14 +26,23 @@ import java.util.List;
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private final Iterable<SourceRecord> sourceRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    private SourceRecords(Iterable<SourceRecord> sourceRecords) {
+        this.sourceRecords = sourceRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
-        return sourceRecords;
+        if (sourceRecords instanceof List) {
+            return (List<SourceRecord>) sourceRecords;
+        }
+        final List<SourceRecord> records = new ArrayList<>();
+        sourceRecords.forEach(records::add);
+        return records;
     }
 
     public Iterator<SourceRecord> iterator() {
@@ -45,4 +54,12 @@ public final class SourceRecords {
         records.add(record);
         return new SourceRecords(records);
     }
+
+    /**
+     * Creates the records which are read lazily when they are emitted, e.g. the records of a
+     * spilled snapshot split.
+     */
+    public static SourceRecords fromIterable(Iterable<SourceRecord> records) {
+        return new SourceRecords(records);
+    }
 }
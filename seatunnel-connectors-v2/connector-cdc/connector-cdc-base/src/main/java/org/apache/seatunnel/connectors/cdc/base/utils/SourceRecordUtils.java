@@ -178,6 +178,17 @@ public class SourceRecordUtils {
         }
     }
 
+    /** Compares two split keys field by field, in the same order as the split key range check. */
+    public static int compareSplitKey(Object[] key1, Object[] key2) {
+        for (int i = 0; i < Math.min(key1.length, key2.length); i++) {
+            int res = compareObjects(key1[i], key2[i]);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return Integer.compare(key1.length, key2.length);
+    }
+
     @SuppressWarnings("unchecked")
     private static int compareObjects(Object o1, Object o2) {
         if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.cdc.base.source.split.CompletedSnapshotSplitInfo;
+import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class CompletedSnapshotSplitRangesTest {
+
+    private static final TableId TABLE_ID = new TableId("db", null, "table");
+    private static final SeaTunnelRowType SPLIT_KEY_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id"}, new SeaTunnelDataType[] {BasicType.LONG_TYPE});
+
+    @Test
+    public void testFindSplit() {
+        int splitCount = 10000;
+        long chunkSize = 10;
+        List<CompletedSnapshotSplitInfo> splits = new ArrayList<>();
+        for (int i = 0; i < splitCount; i++) {
+            Object[] splitStart = i == 0 ? null : new Object[] {i * chunkSize};
+            Object[] splitEnd = i == splitCount - 1 ? null : new Object[] {(i + 1) * chunkSize};
+            splits.add(
+                    new CompletedSnapshotSplitInfo(
+                            "split-" + i, TABLE_ID, SPLIT_KEY_TYPE, splitStart, splitEnd, null));
+        }
+        Collections.shuffle(splits, new Random(1));
+        CompletedSnapshotSplitRanges splitRanges = new CompletedSnapshotSplitRanges(splits);
+
+        Assertions.assertEquals(
+                "split-0", splitRanges.find(new Object[] {Long.MIN_VALUE}).getSplitId());
+        Assertions.assertEquals("split-0", splitRanges.find(new Object[] {9L}).getSplitId());
+        Assertions.assertEquals("split-1", splitRanges.find(new Object[] {10L}).getSplitId());
+        Assertions.assertEquals(
+                "split-" + (splitCount - 1),
+                splitRanges.find(new Object[] {Long.MAX_VALUE}).getSplitId());
+
+        Random random = new Random(2);
+        for (int i = 0; i < 1000; i++) {
+            Object[] key = new Object[] {(long) random.nextInt((int) (splitCount * chunkSize))};
+            Assertions.assertEquals(findByScan(splits, key), splitRanges.find(key), key[0] + "");
+        }
+    }
+
+    @Test
+    public void testFindWithGap() {
+        List<CompletedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(
+                new CompletedSnapshotSplitInfo(
+                        "split-1",
+                        TABLE_ID,
+                        SPLIT_KEY_TYPE,
+                        new Object[] {100L},
+                        new Object[] {200L},
+                        null));
+        splits.add(
+                new CompletedSnapshotSplitInfo(
+                        "split-0", TABLE_ID, SPLIT_KEY_TYPE, null, new Object[] {50L}, null));
+        CompletedSnapshotSplitRanges splitRanges = new CompletedSnapshotSplitRanges(splits);
+
+        Assertions.assertEquals("split-0", splitRanges.getSplits().get(0).getSplitId());
+        Assertions.assertEquals("split-0", splitRanges.find(new Object[] {1L}).getSplitId());
+        Assertions.assertNull(splitRanges.find(new Object[] {70L}));
+        Assertions.assertEquals("split-1", splitRanges.find(new Object[] {150L}).getSplitId());
+        Assertions.assertNull(splitRanges.find(new Object[] {200L}));
+    }
+
+    private static CompletedSnapshotSplitInfo findByScan(
+            List<CompletedSnapshotSplitInfo> splits, Object[] key) {
+        for (CompletedSnapshotSplitInfo split : splits) {
+            if (SourceRecordUtils.splitKeyRangeContains(
+                    key, split.getSplitStart(), split.getSplitEnd())) {
+                return split;
+            }
+        }
+        return null;
+    }
+}
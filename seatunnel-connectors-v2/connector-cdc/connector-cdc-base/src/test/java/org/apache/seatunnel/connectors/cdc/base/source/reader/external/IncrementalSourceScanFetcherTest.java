@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceScanFetcherTest {
+
+    @Test
+    public void testDeleteSpillFileWhenNormalizeFailed() throws Exception {
+        FetchTask.Context taskContext = createTaskContext();
+        AtomicReference<SnapshotChunkBuffer> buffer = new AtomicReference<>();
+        doAnswer(
+                        invocation -> {
+                            buffer.set(invocation.getArgument(0));
+                            throw new IllegalStateException("rewrite failed");
+                        })
+                .when(taskContext)
+                .rewriteOutputBuffer(any(), any());
+        IncrementalSourceScanFetcher fetcher = createFetcher(taskContext);
+
+        Assertions.assertThrows(IllegalStateException.class, fetcher::pollSplitRecords);
+        Assertions.assertTrue(buffer.get().isSpilled());
+        Assertions.assertFalse(buffer.get().getSpillFile().exists());
+        fetcher.close();
+    }
+
+    @Test
+    public void testDeleteSpillFileOnClose() throws Exception {
+        FetchTask.Context taskContext = createTaskContext();
+        AtomicReference<SnapshotChunkBuffer> buffer = new AtomicReference<>();
+        doAnswer(
+                        invocation -> {
+                            buffer.set(invocation.getArgument(0));
+                            return null;
+                        })
+                .when(taskContext)
+                .rewriteOutputBuffer(any(), any());
+        IncrementalSourceScanFetcher fetcher = createFetcher(taskContext);
+
+        Iterator<SourceRecords> records = fetcher.pollSplitRecords();
+        Assertions.assertTrue(records.hasNext());
+        Assertions.assertTrue(buffer.get().getSpillFile().exists());
+        // the records are not read, e.g. the reader is closed because of a failover
+        fetcher.close();
+        Assertions.assertFalse(buffer.get().getSpillFile().exists());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FetchTask.Context createTaskContext() throws InterruptedException {
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        List<DataChangeEvent> snapshotBatch = new ArrayList<>();
+        snapshotBatch.add(new DataChangeEvent(watermark(WatermarkKind.LOW)));
+        for (int i = 0; i < 10; i++) {
+            snapshotBatch.add(
+                    new DataChangeEvent(SnapshotChunkBufferTest.record(i, "name-" + i)));
+        }
+        List<DataChangeEvent> changeBatch = new ArrayList<>();
+        changeBatch.add(new DataChangeEvent(watermark(WatermarkKind.HIGH)));
+        changeBatch.add(new DataChangeEvent(SnapshotChunkBufferTest.record(1, "updated-1")));
+        changeBatch.add(new DataChangeEvent(watermark(WatermarkKind.END)));
+        when(queue.poll()).thenReturn(snapshotBatch, changeBatch);
+        when(taskContext.getQueue()).thenReturn(queue);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.isDataChangeRecord(any())).thenReturn(true);
+        when(taskContext.isRecordBetween(any(), any(), any())).thenReturn(true);
+        return taskContext;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IncrementalSourceScanFetcher createFetcher(FetchTask.Context taskContext) {
+        // spill every snapshot record
+        IncrementalSourceScanFetcher fetcher =
+                new IncrementalSourceScanFetcher(
+                        taskContext, 0, 1, new ThreadSafeCounter("spillBytes"));
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit())
+                .thenReturn(
+                        new SnapshotSplit(
+                                "split-0", new TableId("db", null, "table"), null, null, null));
+        fetcher.submitTask(fetchTask);
+        return fetcher;
+    }
+
+    private static SourceRecord watermark(WatermarkKind watermarkKind) {
+        return WatermarkEvent.create(
+                Collections.emptyMap(),
+                "test.db.table",
+                "split-0",
+                watermarkKind,
+                mock(Offset.class));
+    }
+}
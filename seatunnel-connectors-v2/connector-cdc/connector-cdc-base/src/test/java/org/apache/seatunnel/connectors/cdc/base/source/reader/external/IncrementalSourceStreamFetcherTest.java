@@ -18,7 +18,12 @@
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
 import org.apache.seatunnel.connectors.cdc.base.schema.SchemaChangeResolver;
+import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.CompletedSnapshotSplitInfo;
+import org.apache.seatunnel.connectors.cdc.base.source.split.IncrementalSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
 import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
 
@@ -33,6 +38,7 @@ import org.mockito.stubbing.Answer;
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.connector.SourceInfoStructMaker;
 import io.debezium.data.Envelope;
 import io.debezium.heartbeat.Heartbeat;
@@ -44,6 +50,7 @@ import io.debezium.schema.TopicSelector;
 import io.debezium.util.SchemaNameAdjuster;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -53,7 +60,9 @@ import static io.debezium.config.CommonConnectorConfig.TRANSACTION_TOPIC;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class IncrementalSourceStreamFetcherTest {
@@ -387,6 +396,81 @@ public class IncrementalSourceStreamFetcherTest {
         return eventRef.get();
     }
 
+    @Test
+    public void testShouldEmitBySplitKey() throws Exception {
+        TableId tableId = new TableId("db", null, "table");
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.isDataChangeRecord(any())).thenReturn(true);
+        when(taskContext.getStreamOffset(any())).thenReturn(new TestOffset(6));
+        List<CompletedSnapshotSplitInfo> splits =
+                Arrays.asList(
+                        completedSplit(tableId, "split-0", null, new Object[] {10L}, 5),
+                        completedSplit(
+                                tableId, "split-1", new Object[] {10L}, new Object[] {20L}, 8),
+                        completedSplit(tableId, "split-2", new Object[] {30L}, null, 3));
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit())
+                .thenReturn(
+                        new IncrementalSplit(
+                                "incremental",
+                                Collections.singletonList(tableId),
+                                new TestOffset(0),
+                                null,
+                                splits));
+        IncrementalSourceStreamFetcher fetcher =
+                new IncrementalSourceStreamFetcher(taskContext, 0, null);
+        fetcher.submitTask(fetchTask);
+
+        SourceRecord record = dataChangeRecord(tableId);
+        when(taskContext.getSplitKey(record)).thenReturn(new Object[] {5L});
+        Assertions.assertTrue(fetcher.shouldEmit(record));
+        when(taskContext.getSplitKey(record)).thenReturn(new Object[] {15L});
+        Assertions.assertFalse(fetcher.shouldEmit(record));
+        // the key is between the finished splits
+        when(taskContext.getSplitKey(record)).thenReturn(new Object[] {25L});
+        Assertions.assertFalse(fetcher.shouldEmit(record));
+        verify(taskContext, never()).isRecordBetween(any(), any(), any());
+
+        // every split is checked if the split key is unknown
+        when(taskContext.getSplitKey(record)).thenReturn(null);
+        when(taskContext.isRecordBetween(record, null, new Object[] {10L})).thenReturn(true);
+        Assertions.assertTrue(fetcher.shouldEmit(record));
+        fetcher.close();
+    }
+
+    private static CompletedSnapshotSplitInfo completedSplit(
+            TableId tableId,
+            String splitId,
+            Object[] splitStart,
+            Object[] splitEnd,
+            int highWatermark) {
+        return new CompletedSnapshotSplitInfo(
+                splitId,
+                tableId,
+                null,
+                splitStart,
+                splitEnd,
+                new SnapshotSplitWatermark(
+                        splitId, new TestOffset(highWatermark), new TestOffset(highWatermark)));
+    }
+
+    private static SourceRecord dataChangeRecord(TableId tableId) {
+        Schema sourceSchema =
+                SchemaBuilder.struct()
+                        .field(AbstractSourceInfo.DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                        .field(AbstractSourceInfo.TABLE_NAME_KEY, Schema.STRING_SCHEMA)
+                        .build();
+        Schema valueSchema =
+                SchemaBuilder.struct().field(Envelope.FieldName.SOURCE, sourceSchema).build();
+        Struct source =
+                new Struct(sourceSchema)
+                        .put(AbstractSourceInfo.DATABASE_NAME_KEY, tableId.catalog())
+                        .put(AbstractSourceInfo.TABLE_NAME_KEY, tableId.table());
+        Struct value = new Struct(valueSchema).put(Envelope.FieldName.SOURCE, source);
+        return new SourceRecord(null, null, "topic", null, null, null, valueSchema, value);
+    }
+
     static IncrementalSourceStreamFetcher createFetcher() {
         SchemaChangeResolver schemaChangeResolver = mock(SchemaChangeResolver.class);
         when(schemaChangeResolver.support(any()))
@@ -426,4 +510,23 @@ public class IncrementalSourceStreamFetcherTest {
             return null;
         }
     }
+
+    private static class TestOffset extends Offset {
+        private final int position;
+
+        TestOffset(int position) {
+            this.position = position;
+            this.offset = Collections.singletonMap("position", String.valueOf(position));
+        }
+
+        @Override
+        public int compareTo(Offset o) {
+            return Integer.compare(position, ((TestOffset) o).position);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestOffset && position == ((TestOffset) o).position;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SnapshotChunkBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    @Test
+    public void testNotSpilled() {
+        Counter spillBytes = new ThreadSafeCounter("spillBytes");
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(0, spillBytes);
+        Map<Struct, SourceRecord> expected = new LinkedHashMap<>();
+        applySnapshotAndChanges(buffer, expected);
+
+        Assertions.assertFalse(buffer.isSpilled());
+        Assertions.assertEquals(0, spillBytes.getCount());
+        assertRecords(expected, new ArrayList<>(buffer.memoryRecords()).iterator());
+    }
+
+    @Test
+    public void testSpilled() {
+        Counter spillBytes = new ThreadSafeCounter("spillBytes");
+        SnapshotChunkBuffer buffer =
+                new SnapshotChunkBuffer(
+                        SnapshotChunkBuffer.estimateSize(record(0, "name-0")) * 10, spillBytes);
+        Map<Struct, SourceRecord> expected = new LinkedHashMap<>();
+        applySnapshotAndChanges(buffer, expected);
+
+        Assertions.assertTrue(buffer.isSpilled());
+        Assertions.assertTrue(spillBytes.getCount() > 0);
+        Assertions.assertThrows(IllegalStateException.class, buffer::memoryRecords);
+        assertRecords(expected, buffer.records());
+        Assertions.assertThrows(IllegalStateException.class, buffer::records);
+        // the spill file is deleted once all records have been read
+        Assertions.assertFalse(buffer.getSpillFile().exists());
+        buffer.close();
+    }
+
+    @Test
+    public void testDeleteSpillFileOnClose() {
+        Counter spillBytes = new ThreadSafeCounter("spillBytes");
+        SnapshotChunkBuffer unreadBuffer = new SnapshotChunkBuffer(1, spillBytes);
+        unreadBuffer.add(record(0, "name-0"));
+        Assertions.assertTrue(unreadBuffer.getSpillFile().exists());
+        unreadBuffer.close();
+        Assertions.assertFalse(unreadBuffer.getSpillFile().exists());
+
+        SnapshotChunkBuffer partiallyReadBuffer = new SnapshotChunkBuffer(1, spillBytes);
+        partiallyReadBuffer.add(record(0, "name-0"));
+        partiallyReadBuffer.add(record(1, "name-1"));
+        Iterator<SourceRecord> records = partiallyReadBuffer.records();
+        records.next();
+        Assertions.assertTrue(partiallyReadBuffer.getSpillFile().exists());
+        partiallyReadBuffer.close();
+        Assertions.assertFalse(partiallyReadBuffer.getSpillFile().exists());
+    }
+
+    private static void applySnapshotAndChanges(
+            SnapshotChunkBuffer buffer, Map<Struct, SourceRecord> expected) {
+        for (int i = 0; i < 100; i++) {
+            SourceRecord record = record(i, "name-" + i);
+            buffer.add(record);
+            expected.put((Struct) record.key(), record);
+        }
+        // update, delete and insert records after the high watermark
+        List<SourceRecord> changes = new ArrayList<>();
+        changes.add(record(3, "updated-3"));
+        changes.add(record(99, "updated-99"));
+        changes.add(record(100, "inserted-100"));
+        changes.add(record(101, "inserted-101"));
+        for (SourceRecord change : changes) {
+            buffer.put((Struct) change.key(), change);
+            expected.put((Struct) change.key(), change);
+        }
+        for (int id : new int[] {5, 98, 101}) {
+            buffer.remove(key(id));
+            expected.remove(key(id));
+        }
+    }
+
+    private static void assertRecords(
+            Map<Struct, SourceRecord> expected, Iterator<SourceRecord> actual) {
+        for (SourceRecord expectedRecord : expected.values()) {
+            Assertions.assertTrue(actual.hasNext());
+            SourceRecord actualRecord = actual.next();
+            Struct expectedValue = (Struct) expectedRecord.value();
+            Struct actualValue = (Struct) actualRecord.value();
+            Assertions.assertEquals(expectedValue.get("id"), actualValue.get("id"));
+            Assertions.assertEquals(expectedValue.get("name"), actualValue.get("name"));
+            Assertions.assertEquals(
+                    ((Struct) expectedRecord.key()).get("id"),
+                    ((Struct) actualRecord.key()).get("id"));
+            Assertions.assertEquals(expectedRecord.sourceOffset(), actualRecord.sourceOffset());
+            Assertions.assertEquals(expectedRecord.topic(), actualRecord.topic());
+        }
+        Assertions.assertFalse(actual.hasNext());
+    }
+
+    static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    static SourceRecord record(int id, String name) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("pos", (long) id),
+                "test.db.table",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                VALUE_SCHEMA,
+                new Struct(VALUE_SCHEMA).put("id", id).put("name", name));
+    }
+}
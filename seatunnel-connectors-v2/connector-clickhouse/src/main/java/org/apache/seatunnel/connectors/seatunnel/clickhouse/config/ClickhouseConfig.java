@@ -91,6 +91,14 @@ public class ClickhouseConfig {
                     .defaultValue(false)
                     .withDescription("Split mode when table is distributed engine");
 
+    /** When split_mode is true, whether the source splits every shard by partition */
+    public static final Option<Boolean> SPLIT_BY_PARTITION =
+            Options.key("split_by_partition")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "When split_mode is true, whether the source splits every shard of the distributed table by partition");
+
     /** When split_mode is true, the sharding_key use for split */
     public static final Option<String> SHARDING_KEY =
             Options.key("sharding_key")
@@ -118,6 +126,21 @@ public class ClickhouseConfig {
                     .withDescription(
                             "Allow experimental lightweight delete based on `*MergeTree` table engine");
 
+    public static final Option<Boolean> ROW_BINARY_MODE =
+            Options.key("row_binary_mode")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Encode rows into RowBinary format and insert them into every shard by http, "
+                                    + "the jdbc statement is still used when primary_key is set");
+
+    public static final Option<Boolean> ROW_BINARY_COMPRESS =
+            Options.key("row_binary_compress")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "When row_binary_mode is true, whether compress the RowBinary data by LZ4");
+
     /** ClickhouseFile sink connector used clickhouse-local program's path */
     public static final Option<String> CLICKHOUSE_LOCAL_PATH =
             Options.key("clickhouse_local_path")
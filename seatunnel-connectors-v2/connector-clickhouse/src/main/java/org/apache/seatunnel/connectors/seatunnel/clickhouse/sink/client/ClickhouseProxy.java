@@ -201,6 +201,30 @@ public class ClickhouseProxy {
         }
     }
 
+    /**
+     * Get the active partitions of the table in the default database of the connection.
+     *
+     * @param connection clickhouse connection.
+     * @param table table name.
+     * @return partition id list.
+     */
+    public List<String> getActivePartitionIds(ClickHouseRequest<?> connection, String table) {
+        String sql =
+                String.format(
+                        "select distinct partition_id from system.parts where database = currentDatabase() and table = '%s' and active order by partition_id",
+                        table);
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            List<String> partitionIds = new ArrayList<>();
+            response.records().forEach(r -> partitionIds.add(r.getValue(0).asString()));
+            return partitionIds;
+        } catch (ClickHouseException e) {
+            throw new ClickhouseConnectorException(
+                    ClickhouseConnectorErrorCode.PARTITION_LIST_GET_FAILED,
+                    "Cannot get partition list of table " + table + " from clickhouse",
+                    e);
+        }
+    }
+
     /**
      * Get ClickHouse table info.
      *
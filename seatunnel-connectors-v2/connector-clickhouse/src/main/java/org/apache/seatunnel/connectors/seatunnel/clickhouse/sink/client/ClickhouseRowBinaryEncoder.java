@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Encode {@link SeaTunnelRow} into the ClickHouse RowBinary format. The encoder of every column is
+ * compiled from the column type of the ClickHouse table, so the server does not parse the values.
+ */
+@Slf4j
+public class ClickhouseRowBinaryEncoder {
+
+    private final String[] columns;
+    private final FieldEncoder[] fieldEncoders;
+
+    private ClickhouseRowBinaryEncoder(String[] columns, FieldEncoder[] fieldEncoders) {
+        this.columns = columns;
+        this.fieldEncoders = fieldEncoders;
+    }
+
+    /**
+     * Create the encoder of the row type, return null if some column can not be encoded, the JDBC
+     * statement should be used in this case.
+     */
+    public static ClickhouseRowBinaryEncoder create(
+            SeaTunnelRowType rowType, Map<String, String> tableSchema, ZoneId zoneId) {
+        String[] columns = rowType.getFieldNames();
+        FieldEncoder[] fieldEncoders = new FieldEncoder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            String type = tableSchema.get(columns[i]);
+            fieldEncoders[i] = type == null ? null : createFieldEncoder(type, zoneId);
+            if (fieldEncoders[i] == null) {
+                log.warn("Column {} of type {} can not be written as RowBinary", columns[i], type);
+                return null;
+            }
+        }
+        return new ClickhouseRowBinaryEncoder(columns, fieldEncoders);
+    }
+
+    public String getInsertSql(String table) {
+        return String.format(
+                "INSERT INTO %s (%s) FORMAT RowBinary",
+                table,
+                Arrays.stream(columns).map(c -> "`" + c + "`").collect(Collectors.joining(",")));
+    }
+
+    public void encode(SeaTunnelRow row, Output out) {
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            fieldEncoders[i].write(out, row.getField(i));
+        }
+    }
+
+    static FieldEncoder createFieldEncoder(String type, ZoneId zoneId) {
+        type = type.trim();
+        int index = type.indexOf('(');
+        String name = index < 0 ? type : type.substring(0, index);
+        List<String> args =
+                index < 0
+                        ? new ArrayList<>()
+                        : splitArguments(type.substring(index + 1, type.length() - 1));
+        switch (name) {
+            case "Nullable":
+                FieldEncoder nested = createFieldEncoder(args.get(0), zoneId);
+                return nested == null ? null : nested.nullable();
+            case "LowCardinality":
+                // LowCardinality does not change the RowBinary format of the nested type
+                return createFieldEncoder(args.get(0), zoneId);
+            case "Bool":
+                return new FieldEncoder(
+                        1, (out, v) -> out.writeByte(Boolean.TRUE.equals(v) ? 1 : 0));
+            case "Int8":
+            case "UInt8":
+                return new FieldEncoder(1, (out, v) -> out.writeByte(toNumber(v).byteValue()));
+            case "Int16":
+            case "UInt16":
+                return new FieldEncoder(2, (out, v) -> out.writeShort(toNumber(v).shortValue()));
+            case "Int32":
+            case "UInt32":
+                return new FieldEncoder(4, (out, v) -> out.writeInt(toNumber(v).intValue()));
+            case "Int64":
+            case "UInt64":
+                return new FieldEncoder(8, (out, v) -> out.writeLong(toNumber(v).longValue()));
+            case "Float32":
+                return new FieldEncoder(
+                        4,
+                        (out, v) -> out.writeInt(Float.floatToIntBits(toNumber(v).floatValue())));
+            case "Float64":
+                return new FieldEncoder(
+                        8,
+                        (out, v) ->
+                                out.writeLong(
+                                        Double.doubleToLongBits(toNumber(v).doubleValue())));
+            case "String":
+                return new FieldEncoder(
+                        1,
+                        (out, v) -> {
+                            byte[] bytes = toBytes(v);
+                            out.writeVarInt(bytes.length);
+                            out.writeBytes(bytes, 0, bytes.length);
+                        });
+            case "FixedString":
+                int length = Integer.parseInt(args.get(0));
+                return new FieldEncoder(
+                        length,
+                        (out, v) -> {
+                            byte[] bytes = toBytes(v);
+                            if (bytes.length > length) {
+                                throw new ClickhouseConnectorException(
+                                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                        String.format(
+                                                "Value of %d bytes is too long for FixedString(%d)",
+                                                bytes.length, length));
+                            }
+                            out.writeBytes(bytes, 0, bytes.length);
+                            out.writeZeros(length - bytes.length);
+                        });
+            case "Date":
+                return new FieldEncoder(
+                        2, (out, v) -> out.writeShort((int) toLocalDate(v).toEpochDay()));
+            case "Date32":
+                return new FieldEncoder(
+                        4, (out, v) -> out.writeInt((int) toLocalDate(v).toEpochDay()));
+            case "DateTime":
+                ZoneId dateTimeZone = args.isEmpty() ? zoneId : ZoneId.of(unquote(args.get(0)));
+                return new FieldEncoder(
+                        4,
+                        (out, v) ->
+                                out.writeInt(
+                                        (int)
+                                                toLocalDateTime(v)
+                                                        .atZone(dateTimeZone)
+                                                        .toEpochSecond()));
+            case "DateTime64":
+                int precision = Integer.parseInt(args.get(0));
+                ZoneId dateTime64Zone = args.size() < 2 ? zoneId : ZoneId.of(unquote(args.get(1)));
+                long scale = BigInteger.TEN.pow(precision).longValue();
+                long nanosPerTick = BigInteger.TEN.pow(9 - precision).longValue();
+                return new FieldEncoder(
+                        8,
+                        (out, v) -> {
+                            Instant instant = toLocalDateTime(v).atZone(dateTime64Zone).toInstant();
+                            out.writeLong(
+                                    instant.getEpochSecond() * scale
+                                            + instant.getNano() / nanosPerTick);
+                        });
+            case "Decimal":
+                return decimalEncoder(
+                        Integer.parseInt(args.get(0)), Integer.parseInt(args.get(1)));
+            case "Decimal32":
+                return decimalEncoder(9, Integer.parseInt(args.get(0)));
+            case "Decimal64":
+                return decimalEncoder(18, Integer.parseInt(args.get(0)));
+            case "Decimal128":
+                return decimalEncoder(38, Integer.parseInt(args.get(0)));
+            case "Decimal256":
+                return decimalEncoder(76, Integer.parseInt(args.get(0)));
+            case "Array":
+                FieldEncoder element = createFieldEncoder(args.get(0), zoneId);
+                if (element == null) {
+                    return null;
+                }
+                return new FieldEncoder(
+                        1,
+                        (out, v) -> {
+                            Object[] array = (Object[]) v;
+                            out.writeVarInt(array.length);
+                            for (Object e : array) {
+                                element.write(out, e);
+                            }
+                        });
+            case "Map":
+                FieldEncoder key = createFieldEncoder(args.get(0), zoneId);
+                FieldEncoder value = createFieldEncoder(args.get(1), zoneId);
+                if (key == null || value == null) {
+                    return null;
+                }
+                return new FieldEncoder(
+                        1,
+                        (out, v) -> {
+                            Map<?, ?> map = (Map<?, ?>) v;
+                            out.writeVarInt(map.size());
+                            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                                key.write(out, entry.getKey());
+                                value.write(out, entry.getValue());
+                            }
+                        });
+            default:
+                return null;
+        }
+    }
+
+    private static FieldEncoder decimalEncoder(int precision, int scale) {
+        int width = precision <= 9 ? 4 : precision <= 18 ? 8 : precision <= 38 ? 16 : 32;
+        return new FieldEncoder(
+                width,
+                (out, v) -> {
+                    BigDecimal decimal =
+                            v instanceof BigDecimal
+                                    ? (BigDecimal) v
+                                    : new BigDecimal(v.toString());
+                    byte[] bytes =
+                            decimal.setScale(scale, RoundingMode.HALF_UP)
+                                    .unscaledValue()
+                                    .toByteArray();
+                    if (bytes.length > width) {
+                        throw new ClickhouseConnectorException(
+                                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                String.format(
+                                        "Value %s is out of range of Decimal(%d, %d)",
+                                        decimal, precision, scale));
+                    }
+                    // big endian two's complement to little endian with sign extension
+                    byte sign = (byte) (decimal.signum() < 0 ? -1 : 0);
+                    for (int i = 0; i < width; i++) {
+                        out.writeByte(i < bytes.length ? bytes[bytes.length - 1 - i] : sign);
+                    }
+                });
+    }
+
+    /** Split the arguments of a type by the top level commas. */
+    private static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                result.add(arguments.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        result.add(arguments.substring(start).trim());
+        return result;
+    }
+
+    private static String unquote(String s) {
+        return s.replace("'", "").trim();
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Boolean) {
+            return ((Boolean) value) ? 1 : 0;
+        }
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private static byte[] toBytes(Object value) {
+        return value instanceof byte[]
+                ? (byte[]) value
+                : value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.toString().replace(' ', 'T'));
+    }
+
+    static final class FieldEncoder {
+        /** The RowBinary default value of every type is zero bytes, e.g. an empty string. */
+        private final int defaultSize;
+
+        private final BiConsumer<Output, Object> encoder;
+        private final boolean nullable;
+
+        private FieldEncoder(int defaultSize, BiConsumer<Output, Object> encoder) {
+            this(defaultSize, encoder, false);
+        }
+
+        private FieldEncoder(
+                int defaultSize, BiConsumer<Output, Object> encoder, boolean nullable) {
+            this.defaultSize = defaultSize;
+            this.encoder = encoder;
+            this.nullable = nullable;
+        }
+
+        private FieldEncoder nullable() {
+            return new FieldEncoder(defaultSize, encoder, true);
+        }
+
+        void write(Output out, Object value) {
+            if (nullable) {
+                out.writeByte(value == null ? 1 : 0);
+                if (value == null) {
+                    return;
+                }
+            }
+            if (value == null) {
+                // same as the JDBC statement, null of a not nullable column is the default value
+                out.writeZeros(defaultSize);
+            } else {
+                encoder.accept(out, value);
+            }
+        }
+    }
+
+    /** A growable little endian byte buffer, which is reused by the following batches. */
+    public static final class Output {
+        private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+        private byte[] buf = new byte[DEFAULT_CAPACITY];
+        private int count;
+
+        void writeByte(int v) {
+            ensureCapacity(1);
+            buf[count++] = (byte) v;
+        }
+
+        void writeShort(int v) {
+            ensureCapacity(2);
+            buf[count++] = (byte) v;
+            buf[count++] = (byte) (v >>> 8);
+        }
+
+        void writeInt(int v) {
+            ensureCapacity(4);
+            for (int i = 0; i < 4; i++) {
+                buf[count++] = (byte) (v >>> (i << 3));
+            }
+        }
+
+        void writeLong(long v) {
+            ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                buf[count++] = (byte) (v >>> (i << 3));
+            }
+        }
+
+        void writeVarInt(int v) {
+            while ((v & ~0x7F) != 0) {
+                writeByte((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            writeByte(v);
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buf, count, length);
+            count += length;
+        }
+
+        void writeZeros(int length) {
+            ensureCapacity(length);
+            Arrays.fill(buf, count, count + length, (byte) 0);
+            count += length;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public void reset() {
+            count = 0;
+        }
+
+        /** The stream reads the buffer without copying it, it is invalid after reset. */
+        public InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + length));
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
+
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseFormat;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+
+/** The RowBinary batch of one shard, which is sent by a single http INSERT request. */
+public class ClickhouseRowBinaryStatement {
+
+    private final ClickHouseRequest<?> request;
+    private final String insertSql;
+    private final ClickhouseRowBinaryEncoder.Output output;
+    private final IntHolder intHolder;
+
+    public ClickhouseRowBinaryStatement(
+            ClickHouseRequest<?> request, String insertSql, IntHolder intHolder) {
+        this.request = request;
+        this.insertSql = insertSql;
+        this.output = new ClickhouseRowBinaryEncoder.Output();
+        this.intHolder = intHolder;
+    }
+
+    public ClickhouseRowBinaryEncoder.Output getOutput() {
+        return output;
+    }
+
+    public IntHolder getIntHolder() {
+        return intHolder;
+    }
+
+    public void executeBatch() throws ClickHouseException {
+        try (ClickHouseResponse response =
+                request.write()
+                        .query(insertSql)
+                        .format(ClickHouseFormat.RowBinary)
+                        .data(output.toInputStream())
+                        .executeAndWait()) {
+            output.reset();
+            intHolder.setValue(0);
+        }
+    }
+}
@@ -32,6 +32,8 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.config.ClickHouseClientOption;
 import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +42,7 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -53,7 +56,9 @@ public class ClickhouseSinkWriter
     private final ReaderOption option;
     private final ShardRouter shardRouter;
     private final transient ClickhouseProxy proxy;
+    private final ClickhouseRowBinaryEncoder rowBinaryEncoder;
     private final Map<Shard, ClickhouseBatchStatement> statementMap;
+    private final Map<Shard, ClickhouseRowBinaryStatement> rowBinaryStatementMap;
 
     ClickhouseSinkWriter(ReaderOption option, Context context) {
         this.option = option;
@@ -61,7 +66,14 @@ public class ClickhouseSinkWriter
 
         this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
         this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
-        this.statementMap = initStatementMap();
+        this.rowBinaryEncoder = createRowBinaryEncoder();
+        if (rowBinaryEncoder != null) {
+            this.statementMap = new HashMap<>();
+            this.rowBinaryStatementMap = initRowBinaryStatementMap();
+        } else {
+            this.statementMap = initStatementMap();
+            this.rowBinaryStatementMap = new HashMap<>();
+        }
     }
 
     @Override
@@ -75,6 +87,17 @@ public class ClickhouseSinkWriter
                             .indexOf(this.option.getShardMetadata().getShardKey());
             shardKey = element.getField(i);
         }
+        if (rowBinaryEncoder != null) {
+            ClickhouseRowBinaryStatement statement =
+                    rowBinaryStatementMap.get(shardRouter.getShard(shardKey));
+            rowBinaryEncoder.encode(element, statement.getOutput());
+            IntHolder sizeHolder = statement.getIntHolder();
+            sizeHolder.setValue(sizeHolder.getValue() + 1);
+            if (sizeHolder.getValue() >= option.getBulkSize()) {
+                flush(statement);
+            }
+            return;
+        }
         ClickhouseBatchStatement statement = statementMap.get(shardRouter.getShard(shardKey));
         JdbcBatchStatementExecutor clickHouseStatement = statement.getJdbcBatchStatementExecutor();
         IntHolder sizeHolder = statement.getIntHolder();
@@ -98,6 +121,7 @@ public class ClickhouseSinkWriter
                 intHolder.setValue(0);
             }
         }
+        flushRowBinaryStatements();
         return Optional.empty();
     }
 
@@ -106,6 +130,7 @@ public class ClickhouseSinkWriter
 
     @Override
     public void close() throws IOException {
+        flushRowBinaryStatements();
         this.proxy.close();
         flush();
     }
@@ -132,6 +157,25 @@ public class ClickhouseSinkWriter
         }
     }
 
+    private void flush(ClickhouseRowBinaryStatement statement) {
+        try {
+            statement.executeBatch();
+        } catch (Exception e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse execute RowBinary insert error",
+                    e);
+        }
+    }
+
+    private void flushRowBinaryStatements() {
+        for (ClickhouseRowBinaryStatement statement : rowBinaryStatementMap.values()) {
+            if (statement.getIntHolder().getValue() > 0) {
+                flush(statement);
+            }
+        }
+    }
+
     private void flush() {
         for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
             try (ClickHouseConnectionImpl needClosedConnection =
@@ -204,6 +248,49 @@ public class ClickhouseSinkWriter
         return result;
     }
 
+    /**
+     * The RowBinary insert only writes all rows as INSERT like the jdbc insert executor, so it is
+     * used when primary_key is not set and all the columns can be encoded.
+     */
+    private ClickhouseRowBinaryEncoder createRowBinaryEncoder() {
+        if (!option.isRowBinaryMode()) {
+            return null;
+        }
+        if (option.getPrimaryKeys() != null && option.getPrimaryKeys().length > 0) {
+            log.warn("row_binary_mode does not support update and delete, fallback to jdbc");
+            return null;
+        }
+        ClickhouseRowBinaryEncoder encoder =
+                ClickhouseRowBinaryEncoder.create(
+                        option.getSeaTunnelRowType(),
+                        option.getTableSchema(),
+                        ZoneId.of(option.getServerTimeZone()));
+        if (encoder == null) {
+            log.warn("row_binary_mode does not support the columns of the table, fallback to jdbc");
+        }
+        return encoder;
+    }
+
+    private Map<Shard, ClickhouseRowBinaryStatement> initRowBinaryStatementMap() {
+        Map<Shard, ClickhouseRowBinaryStatement> result = new HashMap<>(Common.COLLECTION_SIZE);
+        String insertSql = rowBinaryEncoder.getInsertSql(shardRouter.getShardTable());
+        shardRouter
+                .getShards()
+                .forEach(
+                        (weight, s) -> {
+                            ClickHouseRequest<?> request = proxy.getClickhouseConnection(s);
+                            if (option.isRowBinaryCompress()) {
+                                // compress the request body by LZ4, the default compression
+                                request.option(ClickHouseClientOption.DECOMPRESS, true);
+                            }
+                            result.put(
+                                    s,
+                                    new ClickhouseRowBinaryStatement(
+                                            request, insertSql, new IntHolder()));
+                        });
+        return result;
+    }
+
     private boolean clickhouseServerEnableExperimentalLightweightDelete(
             ClickHouseConnectionImpl clickhouseConnection) {
         if (!option.isAllowExperimentalLightweightDelete()) {
@@ -36,6 +36,8 @@ import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
@@ -48,6 +50,7 @@ import com.clickhouse.client.ClickHouseResponse;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableMap;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
@@ -58,7 +61,10 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Clickh
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.HOST;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SERVER_TIME_ZONE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SPLIT_BY_PARTITION;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SPLIT_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SQL;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.TABLE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.USERNAME;
 
 @AutoService(SeaTunnelSource.class)
@@ -70,6 +76,12 @@ public class ClickhouseSource
     private List<ClickHouseNode> servers;
     private SeaTunnelRowType rowTypeInfo;
     private String sql;
+    private String database;
+    private String table;
+    /** Null if the source is not in split mode. */
+    private ShardMetadata shardMetadata;
+
+    private boolean splitByPartition;
 
     @Override
     public String getPluginName() {
@@ -96,6 +108,8 @@ public class ClickhouseSource
         Map<String, Object> defaultConfig =
                 ImmutableMap.<String, Object>builder()
                         .put(SERVER_TIME_ZONE.key(), SERVER_TIME_ZONE.defaultValue())
+                        .put(SPLIT_MODE.key(), SPLIT_MODE.defaultValue())
+                        .put(SPLIT_BY_PARTITION.key(), SPLIT_BY_PARTITION.defaultValue())
                         .build();
 
         config = config.withFallback(ConfigFactory.parseMap(defaultConfig));
@@ -122,6 +136,31 @@ public class ClickhouseSource
                         customConfig);
 
         sql = config.getString(SQL.key());
+        database = config.getString(DATABASE.key());
+        if (config.getBoolean(SPLIT_MODE.key())) {
+            if (!CheckConfigUtil.isValidParam(config, TABLE.key())) {
+                throw new ClickhouseConnectorException(
+                        SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                        String.format(
+                                "PluginName: %s, PluginType: %s, Message: %s",
+                                getPluginName(),
+                                PluginType.SOURCE,
+                                "table must be set when split_mode is true"));
+            }
+            table = config.getString(TABLE.key());
+            shardMetadata =
+                    new ShardMetadata(
+                            null,
+                            null,
+                            database,
+                            table,
+                            "Distributed",
+                            true,
+                            new Shard(1, 1, servers.get(0)),
+                            config.getString(USERNAME.key()),
+                            config.getString(PASSWORD.key()));
+            splitByPartition = config.getBoolean(SPLIT_BY_PARTITION.key());
+        }
         ClickHouseNode currentServer =
                 servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
         try (ClickHouseClient client = ClickHouseClient.newInstance(currentServer.getProtocol());
@@ -168,14 +207,16 @@ public class ClickhouseSource
     @Override
     public SourceReader<SeaTunnelRow, ClickhouseSourceSplit> createReader(
             SourceReader.Context readerContext) throws Exception {
-        return new ClickhouseSourceReader(servers, readerContext, this.rowTypeInfo, sql);
+        return new ClickhouseSourceReader(
+                servers, readerContext, this.rowTypeInfo, sql, database, table);
     }
 
     @Override
     public SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> createEnumerator(
             SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext)
             throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        return new ClickhouseSourceSplitEnumerator(
+                enumeratorContext, shardMetadata, splitByPartition, Collections.emptySet());
     }
 
     @Override
@@ -183,6 +224,13 @@ public class ClickhouseSource
             SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext,
             ClickhouseSourceState checkpointState)
             throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        // the state of the versions without split mode is null
+        return new ClickhouseSourceSplitEnumerator(
+                enumeratorContext,
+                shardMetadata,
+                splitByPartition,
+                checkpointState == null
+                        ? Collections.emptySet()
+                        : checkpointState.getAssignedSplits());
     }
 }
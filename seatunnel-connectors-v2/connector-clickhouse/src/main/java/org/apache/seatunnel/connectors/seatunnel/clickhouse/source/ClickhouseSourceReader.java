@@ -26,36 +26,56 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseFormat;
 import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseRecord;
 import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
+@Slf4j
 public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, ClickhouseSourceSplit> {
 
+    private static final int POLL_BATCH_SIZE = 1024;
+
     private final List<ClickHouseNode> servers;
     private ClickHouseClient client;
     private final SeaTunnelRowType rowTypeInfo;
     private final SourceReader.Context readerContext;
     private ClickHouseRequest<?> request;
     private final String sql;
+    private final String database;
+    private final String table;
+
+    private final Deque<ClickhouseSourceSplit> splits;
+    private volatile boolean noMoreSplit;
+
+    private ClickhouseSourceSplit currentSplit;
+    private ClickHouseResponse currentResponse;
+    private Iterator<ClickHouseRecord> currentRecords;
 
-    private final List<ClickhouseSourceSplit> splits;
+    private final long pollNextWaitTime = 1000L;
 
     ClickhouseSourceReader(
             List<ClickHouseNode> servers,
             SourceReader.Context readerContext,
             SeaTunnelRowType rowTypeInfo,
-            String sql) {
+            String sql,
+            String database,
+            String table) {
         this.servers = servers;
         this.readerContext = readerContext;
         this.rowTypeInfo = rowTypeInfo;
         this.sql = sql;
-        this.splits = new ArrayList<>();
+        this.database = database;
+        this.table = table;
+        this.splits = new LinkedList<>();
     }
 
     @Override
@@ -68,6 +88,7 @@ public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, Clickh
 
     @Override
     public void close() throws IOException {
+        closeCurrentSplit();
         if (client != null) {
             client.close();
         }
@@ -75,34 +96,85 @@ public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, Clickh
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        if (!splits.isEmpty()) {
-            try (ClickHouseResponse response = this.request.query(sql).executeAndWait()) {
-                response.stream()
-                        .forEach(
-                                record -> {
-                                    Object[] values =
-                                            new Object[this.rowTypeInfo.getFieldNames().length];
-                                    for (int i = 0; i < record.size(); i++) {
-                                        if (record.getValue(i).isNullOrEmpty()) {
-                                            values[i] = null;
-                                        } else {
-                                            values[i] =
-                                                    TypeConvertUtil.valueUnwrap(
-                                                            this.rowTypeInfo.getFieldType(i),
-                                                            record.getValue(i));
-                                        }
-                                    }
-                                    output.collect(new SeaTunnelRow(values));
-                                });
+        synchronized (output.getCheckpointLock()) {
+            if (currentSplit == null) {
+                ClickhouseSourceSplit split = splits.poll();
+                if (split != null) {
+                    openSplit(split);
+                } else if (noMoreSplit) {
+                    log.info("Closed the bounded clickhouse source");
+                    this.readerContext.signalNoMoreElement();
+                    return;
+                } else {
+                    Thread.sleep(pollNextWaitTime);
+                    return;
+                }
+            }
+            // emit a bounded batch of the streamed response, so the checkpoint barrier doesn't
+            // wait until the whole split is read
+            try {
+                for (int i = 0; i < POLL_BATCH_SIZE && currentRecords.hasNext(); i++) {
+                    output.collect(toRow(currentRecords.next()));
+                }
+            } catch (Exception e) {
+                closeCurrentSplit();
+                throw e;
+            }
+            if (!currentRecords.hasNext()) {
+                closeCurrentSplit();
             }
-            this.readerContext.signalNoMoreElement();
-            this.splits.clear();
+        }
+    }
+
+    private void openSplit(ClickhouseSourceSplit split) throws Exception {
+        ClickHouseRequest<?> splitRequest = this.request;
+        String splitSql = this.sql;
+        if (split.getShard() != null) {
+            splitRequest =
+                    client.connect(split.getShard().getNode())
+                            .format(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+            splitSql = ClickhouseSourceSplitEnumerator.buildSplitSql(sql, database, table, split);
+        }
+        log.info("Read clickhouse split {} with sql: {}", split.splitId(), splitSql);
+        // the RowBinary response is streamed, the rows are not buffered in memory
+        currentResponse = splitRequest.query(splitSql).executeAndWait();
+        currentRecords = currentResponse.records().iterator();
+        currentSplit = split;
+    }
+
+    private SeaTunnelRow toRow(ClickHouseRecord record) {
+        Object[] values = new Object[this.rowTypeInfo.getFieldNames().length];
+        for (int i = 0; i < record.size(); i++) {
+            if (record.getValue(i).isNullOrEmpty()) {
+                values[i] = null;
+            } else {
+                values[i] =
+                        TypeConvertUtil.valueUnwrap(
+                                this.rowTypeInfo.getFieldType(i), record.getValue(i));
+            }
+        }
+        return new SeaTunnelRow(values);
+    }
+
+    private void closeCurrentSplit() {
+        currentSplit = null;
+        currentRecords = null;
+        if (currentResponse != null) {
+            currentResponse.close();
+            currentResponse = null;
         }
     }
 
     @Override
     public List<ClickhouseSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return Collections.emptyList();
+        List<ClickhouseSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            // the response has no position to resume from, the split being read is read again
+            // from the start on restore
+            state.add(currentSplit);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
@@ -111,7 +183,9 @@ public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, Clickh
     }
 
     @Override
-    public void handleNoMoreSplits() {}
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {}
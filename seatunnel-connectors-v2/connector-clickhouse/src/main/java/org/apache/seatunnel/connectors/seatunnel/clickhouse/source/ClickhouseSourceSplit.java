@@ -18,10 +18,38 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A split runs the configured sql. In split mode the split is bound to one shard of the
+ * distributed table, and optionally to one partition of the local table of the shard.
+ */
+@Getter
+@ToString(exclude = "shard")
+@EqualsAndHashCode(of = "splitId")
+@AllArgsConstructor
 public class ClickhouseSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = -1L;
+
+    private final String splitId;
+
+    /** The shard to query, null means any configured server. */
+    private final Shard shard;
+
+    /** The local table of the shard which replaces the distributed table in the sql. */
+    private final String localTable;
+
+    /** The partition of the local table to read, null means the whole table. */
+    private final String partitionId;
+
     @Override
     public String splitId() {
-        return null;
+        return splitId;
     }
 }
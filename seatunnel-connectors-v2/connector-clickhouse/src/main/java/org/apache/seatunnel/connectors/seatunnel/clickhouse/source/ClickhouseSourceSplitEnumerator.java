@@ -18,54 +18,91 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ClickhouseProxy;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ShardRouter;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Create one split for the whole sql, or in split mode one split per shard of the distributed
+ * table (or per partition of the shard), so the shards are read in parallel.
+ */
+@Slf4j
 public class ClickhouseSourceSplitEnumerator
         implements SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
 
+    private static final String SQL_SPLIT_ID = "sql";
+
     private final Context<ClickhouseSourceSplit> context;
-    private final Set<Integer> readers;
-    private volatile int assigned = -1;
+    /** Null if the source is not in split mode. */
+    private final ShardMetadata shardMetadata;
+
+    private final boolean splitByPartition;
+    private final Map<Integer, List<ClickhouseSourceSplit>> pendingSplits;
+    /** Splits that have been assigned to readers. */
+    private final Set<ClickhouseSourceSplit> assignedSplits;
 
-    // TODO support read distributed engine use multi split
-    ClickhouseSourceSplitEnumerator(Context<ClickhouseSourceSplit> enumeratorContext) {
+    private final Object lock = new Object();
+
+    private volatile boolean discovered;
+
+    ClickhouseSourceSplitEnumerator(
+            Context<ClickhouseSourceSplit> enumeratorContext,
+            ShardMetadata shardMetadata,
+            boolean splitByPartition,
+            Set<ClickhouseSourceSplit> assignedSplits) {
         this.context = enumeratorContext;
-        this.readers = new HashSet<>();
+        this.shardMetadata = shardMetadata;
+        this.splitByPartition = splitByPartition;
+        this.pendingSplits = new HashMap<>();
+        this.assignedSplits = new HashSet<>(assignedSplits);
     }
 
     @Override
     public void open() {}
 
     @Override
-    public void run() throws Exception {}
+    public void run() throws Exception {
+        List<ClickhouseSourceSplit> splits = planSplits();
+        for (int i = 0; i < splits.size(); i++) {
+            ClickhouseSourceSplit split = splits.get(i);
+            if (!assignedSplits.contains(split)) {
+                addPendingSplits(
+                        Collections.singletonList(split), i % context.currentParallelism());
+            }
+        }
+        log.info("Planned {} clickhouse splits", splits.size());
+        discovered = true;
+        assignPendingSplits();
+    }
 
     @Override
     public void close() throws IOException {}
 
     @Override
     public void addSplitsBack(List<ClickhouseSourceSplit> splits, int subtaskId) {
-        if (splits.isEmpty()) {
-            return;
-        }
-        if (subtaskId == assigned) {
-            Optional<Integer> otherReader = readers.stream().filter(r -> r != subtaskId).findAny();
-            if (otherReader.isPresent()) {
-                context.assignSplit(otherReader.get(), splits);
-            } else {
-                assigned = -1;
-            }
-        }
+        log.debug("Clickhouse source add splits back {}, subtaskId:{}", splits, subtaskId);
+        addPendingSplits(splits, subtaskId);
     }
 
     @Override
     public int currentUnassignedSplitSize() {
-        return assigned < 0 ? 0 : 1;
+        return pendingSplits.values().stream().mapToInt(Collection::size).sum();
     }
 
     @Override
@@ -73,18 +110,95 @@ public class ClickhouseSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
-        readers.add(subtaskId);
-        if (assigned < 0) {
-            assigned = subtaskId;
-            context.assignSplit(subtaskId, new ClickhouseSourceSplit());
+        // readers registered after the planning still need to be told there are no more splits
+        if (discovered) {
+            assignPendingSplits();
         }
     }
 
     @Override
     public ClickhouseSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
+        synchronized (lock) {
+            return new ClickhouseSourceState(new HashSet<>(assignedSplits));
+        }
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+
+    private List<ClickhouseSourceSplit> planSplits() {
+        if (shardMetadata == null) {
+            return Collections.singletonList(
+                    new ClickhouseSourceSplit(SQL_SPLIT_ID, null, null, null));
+        }
+        ClickhouseProxy proxy = new ClickhouseProxy(shardMetadata.getDefaultShard().getNode());
+        try {
+            ShardRouter shardRouter = new ShardRouter(proxy, shardMetadata);
+            String localTable = shardRouter.getShardTable();
+            List<ClickhouseSourceSplit> splits = new ArrayList<>();
+            for (Shard shard : shardRouter.getShards().values()) {
+                String shardSplitId = "shard-" + shard.getShardNum();
+                if (!splitByPartition) {
+                    splits.add(new ClickhouseSourceSplit(shardSplitId, shard, localTable, null));
+                    continue;
+                }
+                List<String> partitionIds =
+                        proxy.getActivePartitionIds(
+                                proxy.getClickhouseConnection(shard), localTable);
+                for (String partitionId : partitionIds) {
+                    splits.add(
+                            new ClickhouseSourceSplit(
+                                    shardSplitId + "-" + partitionId,
+                                    shard,
+                                    localTable,
+                                    partitionId));
+                }
+            }
+            return splits;
+        } finally {
+            proxy.close();
+        }
+    }
+
+    /**
+     * Replace the distributed table after FROM or JOIN in the sql by the local table of the shard,
+     * or by a subquery of one partition of the local table.
+     */
+    static String buildSplitSql(
+            String sql, String database, String table, ClickhouseSourceSplit split) {
+        String localTable = split.getLocalTable();
+        if (split.getPartitionId() != null) {
+            localTable =
+                    String.format(
+                            "(SELECT * FROM %s WHERE _partition_id = '%s')",
+                            localTable, split.getPartitionId().replace("'", "\\'"));
+        }
+        // the identifiers may be quoted by backticks or double quotes
+        Pattern tablePattern =
+                Pattern.compile(
+                        "(?i)(\\b(?:FROM|JOIN)\\s+)([`\"]?"
+                                + Pattern.quote(database)
+                                + "[`\"]?\\.)?[`\"]?"
+                                + Pattern.quote(table)
+                                + "[`\"]?(?![\\w`\".])");
+        return tablePattern.matcher(sql).replaceAll("$1" + Matcher.quoteReplacement(localTable));
+    }
+
+    private void addPendingSplits(Collection<ClickhouseSourceSplit> splits, int ownerReader) {
+        pendingSplits.computeIfAbsent(ownerReader, r -> new ArrayList<>()).addAll(splits);
+    }
+
+    private void assignPendingSplits() {
+        for (int reader : context.registeredReaders()) {
+            List<ClickhouseSourceSplit> splits = pendingSplits.remove(reader);
+            synchronized (lock) {
+                if (splits != null && !splits.isEmpty()) {
+                    assignedSplits.addAll(splits);
+                    log.info("Assigning splits to reader {} {}", reader, splits);
+                    context.assignSplit(reader, splits);
+                }
+                context.signalNoMoreSplits(reader);
+            }
+        }
+    }
 }
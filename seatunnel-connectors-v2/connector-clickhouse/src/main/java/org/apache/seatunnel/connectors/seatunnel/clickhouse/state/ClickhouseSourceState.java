@@ -17,6 +17,19 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.state;
 
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.Serializable;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ClickhouseSourceState implements Serializable {
+
+    private static final long serialVersionUID = -1L;
 
-public class ClickhouseSourceState implements Serializable {}
+    private final Set<ClickhouseSourceSplit> assignedSplits;
+}
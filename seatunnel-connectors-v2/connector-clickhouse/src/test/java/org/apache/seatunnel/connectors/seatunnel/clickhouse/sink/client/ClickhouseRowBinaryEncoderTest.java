@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ClickhouseRowBinaryEncoderTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    @Test
+    public void testEncodeField() {
+        Assertions.assertArrayEquals(bytes(1, 0, 0, 0), encode("Int32", 1));
+        Assertions.assertArrayEquals(bytes(1), encode("Nullable(String)", null));
+        Assertions.assertArrayEquals(
+                bytes(0, 2, 'a', 'b'), encode("LowCardinality(Nullable(String))", "ab"));
+        Assertions.assertArrayEquals(
+                bytes(0x6a, 0xff, 0xff, 0xff), encode("Decimal(9, 2)", new BigDecimal("-1.5")));
+        Assertions.assertArrayEquals(bytes(1, 0), encode("Date", LocalDate.of(1970, 1, 2)));
+        Assertions.assertArrayEquals(
+                bytes(0xdc, 0x05, 0, 0, 0, 0, 0, 0),
+                encode("DateTime64(3, 'UTC')", LocalDateTime.of(1970, 1, 1, 0, 0, 1, 500_000_000)));
+        Assertions.assertArrayEquals(
+                bytes(1, 0, 0, 0),
+                encode("DateTime('Asia/Shanghai')", LocalDateTime.of(1970, 1, 1, 8, 0, 1)));
+        Assertions.assertArrayEquals(
+                bytes(2, 0, 1, 1), encode("Array(Nullable(Int8))", new Integer[] {1, null}));
+        Assertions.assertArrayEquals(bytes('a', 0, 0), encode("FixedString(3)", "a"));
+        // null of a not nullable column is written as the default value
+        Assertions.assertArrayEquals(bytes(0, 0, 0, 0, 0, 0, 0, 0), encode("Int64", null));
+        Assertions.assertNull(ClickhouseRowBinaryEncoder.createFieldEncoder("UUID", UTC));
+    }
+
+    @Test
+    public void testEncodeRow() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+        Map<String, String> tableSchema = new HashMap<>();
+        tableSchema.put("id", "UInt64");
+        tableSchema.put("name", "String");
+        ClickhouseRowBinaryEncoder encoder =
+                ClickhouseRowBinaryEncoder.create(rowType, tableSchema, UTC);
+        Assertions.assertEquals(
+                "INSERT INTO t (`id`,`name`) FORMAT RowBinary", encoder.getInsertSql("t"));
+
+        ClickhouseRowBinaryEncoder.Output output = new ClickhouseRowBinaryEncoder.Output();
+        encoder.encode(new SeaTunnelRow(new Object[] {300L, "x"}), output);
+        Assertions.assertArrayEquals(
+                bytes(0x2c, 0x01, 0, 0, 0, 0, 0, 0, 1, 'x'), output.toByteArray());
+
+        tableSchema.put("name", "UUID");
+        Assertions.assertNull(ClickhouseRowBinaryEncoder.create(rowType, tableSchema, UTC));
+    }
+
+    private static byte[] encode(String type, Object value) {
+        ClickhouseRowBinaryEncoder.Output output = new ClickhouseRowBinaryEncoder.Output();
+        ClickhouseRowBinaryEncoder.createFieldEncoder(type, UTC).write(output, value);
+        return output.toByteArray();
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
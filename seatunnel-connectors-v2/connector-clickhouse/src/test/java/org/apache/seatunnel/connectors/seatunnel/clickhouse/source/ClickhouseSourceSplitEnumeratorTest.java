@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class ClickhouseSourceSplitEnumeratorTest {
+
+    @Test
+    public void testBuildShardSql() {
+        ClickhouseSourceSplit split = new ClickhouseSourceSplit("shard-1", null, "t_local", null);
+        Assertions.assertEquals(
+                "select t, t_id from t_local where x = 1",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select t, t_id from db.t where x = 1", "db", "t", split));
+        Assertions.assertEquals(
+                "SELECT * FROM t_local a JOIN db.t2 b ON a.id = b.id",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "SELECT * FROM `db`.`t` a JOIN db.t2 b ON a.id = b.id", "db", "t", split));
+        Assertions.assertEquals(
+                "select * from other.t",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from other.t", "db", "t", split));
+    }
+
+    @Test
+    public void testBuildShardSqlWithQuotedTable() {
+        ClickhouseSourceSplit split = new ClickhouseSourceSplit("shard-1", null, "t_local", null);
+        Assertions.assertEquals(
+                "select * from t_local",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from \"db\".\"t\"", "db", "t", split));
+        Assertions.assertEquals(
+                "select * from t_local",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from `t`", "db", "t", split));
+        Assertions.assertEquals(
+                "SELECT * FROM\n  t_local",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "SELECT * FROM\n  DB.T", "db", "t", split));
+        // tables which only start with the name of the table are not replaced
+        Assertions.assertEquals(
+                "select * from db.t2 join `t_other` using id",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from db.t2 join `t_other` using id", "db", "t", split));
+    }
+
+    @Test
+    public void testBuildShardSqlWithSubquery() {
+        ClickhouseSourceSplit split = new ClickhouseSourceSplit("shard-1", null, "t_local", null);
+        Assertions.assertEquals(
+                "select count(*) from (select id from t_local where x = 1) s",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select count(*) from (select id from `db`.`t` where x = 1) s",
+                        "db",
+                        "t",
+                        split));
+        Assertions.assertEquals(
+                "select * from t_local where id in (select id from db.t2)",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from db.t where id in (select id from db.t2)", "db", "t", split));
+    }
+
+    @Test
+    public void testBuildPartitionSql() {
+        ClickhouseSourceSplit split =
+                new ClickhouseSourceSplit("shard-1-202301", null, "t_local", "202301");
+        Assertions.assertEquals(
+                "select * from (SELECT * FROM t_local WHERE _partition_id = '202301') s",
+                ClickhouseSourceSplitEnumerator.buildSplitSql(
+                        "select * from t s", "db", "t", split));
+    }
+
+    @Test
+    public void testAssignSqlSplitWithoutShards() throws Exception {
+        SourceSplitEnumerator.Context<ClickhouseSourceSplit> context =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.currentParallelism()).thenReturn(2);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+        ClickhouseSourceSplitEnumerator enumerator =
+                new ClickhouseSourceSplitEnumerator(context, null, false, Collections.emptySet());
+
+        enumerator.run();
+
+        Mockito.verify(context)
+                .assignSplit(
+                        0,
+                        Collections.singletonList(
+                                new ClickhouseSourceSplit("sql", null, null, null)));
+        Mockito.verify(context, Mockito.never()).assignSplit(Mockito.eq(1), Mockito.anyList());
+        Mockito.verify(context).signalNoMoreSplits(0);
+        Mockito.verify(context).signalNoMoreSplits(1);
+        Assertions.assertEquals(
+                Collections.singleton(new ClickhouseSourceSplit("sql", null, null, null)),
+                enumerator.snapshotState(1).getAssignedSplits());
+    }
+}
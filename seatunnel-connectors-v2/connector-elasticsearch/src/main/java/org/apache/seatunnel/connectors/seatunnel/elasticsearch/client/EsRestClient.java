@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
@@ -31,6 +32,7 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.IndexDocsCount;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.ScrollResult;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SearchAfterResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.util.SSLUtils;
@@ -44,6 +46,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -51,6 +55,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -60,13 +65,16 @@ import javax.net.ssl.SSLContext;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsType.AGGREGATE_METRIC_DOUBLE;
@@ -83,6 +91,8 @@ public class EsRestClient implements Closeable {
 
     private static final int SOCKET_TIMEOUT = 5 * 60 * 1000;
 
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
     private final RestClient restClient;
 
     private EsRestClient(RestClient restClient) {
@@ -207,6 +217,21 @@ public class EsRestClient implements Closeable {
     public BulkResponse bulk(String requestBody) {
         Request request = new Request("POST", "/_bulk");
         request.setJsonEntity(requestBody);
+        return bulk(request, () -> requestBody);
+    }
+
+    /**
+     * bulk the first length bytes of the request body, the body is not copied so the caller can
+     * reuse the buffer after the method returns.
+     */
+    public BulkResponse bulk(byte[] requestBody, int length) {
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(
+                new ByteArrayEntity(requestBody, 0, length, ContentType.APPLICATION_JSON));
+        return bulk(request, () -> new String(requestBody, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private BulkResponse bulk(Request request, Supplier<String> requestBody) {
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
@@ -220,22 +245,53 @@ public class EsRestClient implements Closeable {
                 JsonNode json = objectMapper.readTree(entity);
                 int took = json.get("took").asInt();
                 boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                BulkResponse bulkResponse = new BulkResponse(errors, took, entity);
+                if (errors) {
+                    getFailedItemsFromBulkResponse(json, bulkResponse);
+                }
+                return bulkResponse;
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                         String.format(
                                 "bulk es response status code=%d,request boy=%s",
-                                response.getStatusLine().getStatusCode(), requestBody));
+                                response.getStatusLine().getStatusCode(), requestBody.get()));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
                     ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
-                    String.format("bulk es error,request boy=%s", requestBody),
+                    String.format("bulk es error,request boy=%s", requestBody.get()),
                     e);
         }
     }
 
+    /**
+     * the items of the bulk response are in the same order as the requests, every item holds one
+     * action result such as {"index":{"status":429,"error":{...}}}. Items rejected by 429 or a 5xx
+     * status can be retried, other errors like a mapping conflict fail again when retried.
+     */
+    @VisibleForTesting
+    static void getFailedItemsFromBulkResponse(JsonNode json, BulkResponse bulkResponse) {
+        List<Integer> retryableItems = new ArrayList<>();
+        boolean fatalErrors = false;
+        JsonNode items = json.get("items");
+        for (int i = 0; i < items.size(); i++) {
+            JsonNode result = items.get(i).elements().next();
+            if (!result.has("error")) {
+                continue;
+            }
+            int status = result.get("status").asInt();
+            if (status == STATUS_TOO_MANY_REQUESTS
+                    || status >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                retryableItems.add(i);
+            } else {
+                fatalErrors = true;
+            }
+        }
+        bulkResponse.setRetryableItems(retryableItems);
+        bulkResponse.setFatalErrors(fatalErrors);
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -305,15 +361,147 @@ public class EsRestClient implements Closeable {
     }
 
     private ScrollResult getDocsFromScrollRequest(String endpoint, String requestBody) {
+        ObjectNode responseJson =
+                performSearchRequest(
+                        endpoint,
+                        requestBody,
+                        ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR);
+        return getDocsFromScrollResponse(responseJson);
+    }
+
+    /**
+     * open a point in time of the index call /${index}/_pit?keep_alive=${keepAlive}
+     *
+     * @param index index name
+     * @param keepAlive such as:1m
+     * @return the point in time id
+     */
+    public String openPointInTime(String index, String keepAlive) {
+        String endpoint = "/" + index + "/_pit?keep_alive=" + keepAlive;
         Request request = new Request("POST", endpoint);
-        request.setJsonEntity(requestBody);
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
                 throw new ElasticsearchConnectorException(
-                        ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
                         "POST " + endpoint + " response null");
             }
+            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                String entity = EntityUtils.toString(response.getEntity());
+                return JsonUtils.parseObject(entity).get("id").asText();
+            } else {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                        String.format(
+                                "POST %s response status code=%d",
+                                endpoint, response.getStatusLine().getStatusCode()));
+            }
+        } catch (IOException e) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                    String.format("POST %s error", endpoint),
+                    e);
+        }
+    }
+
+    /**
+     * close the point in time call DELETE /_pit, a point in time which is already closed or
+     * expired is ignored
+     *
+     * @param pitId the point in time id
+     */
+    public void closePointInTime(String pitId) {
+        Request request = new Request("DELETE", "/_pit");
+        request.setJsonEntity(JsonUtils.toJsonString(Collections.singletonMap("id", pitId)));
+        try {
+            restClient.performRequest(request);
+        } catch (IOException e) {
+            if (isNotFound(e)) {
+                return;
+            }
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                    "DELETE /_pit error",
+                    e);
+        }
+    }
+
+    /** Whether the request failed because the resource, like a point in time, is not found. */
+    public static boolean isNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResponseException) {
+                return ((ResponseException) cause).getResponse().getStatusLine().getStatusCode()
+                        == HttpStatus.SC_NOT_FOUND;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * search one page of a slice of the point in time call /_search. Documents are sorted by
+     * _shard_doc, so the sort values of the last document can be used to resume the slice.
+     *
+     * @param pitId the point in time id of the last request
+     * @param keepAlive such as:1m
+     * @param source select fields
+     * @param size fetch documents count in one request
+     * @param sliceId the slice to read
+     * @param sliceMax the number of slices of the point in time
+     * @param searchAfter the sort values of the last document, null for the first page
+     */
+    public SearchAfterResult searchWithPointInTime(
+            String pitId,
+            String keepAlive,
+            List<String> source,
+            Map<String, Object> query,
+            int size,
+            int sliceId,
+            int sliceMax,
+            List<Object> searchAfter) {
+        Map<String, Object> pit = new HashMap<>();
+        pit.put("id", pitId);
+        pit.put("keep_alive", keepAlive);
+        Map<String, Object> slice = new HashMap<>();
+        slice.put("id", sliceId);
+        slice.put("max", sliceMax);
+        Map<String, Object> param = new HashMap<>();
+        param.put("pit", pit);
+        param.put("slice", slice);
+        param.put("query", query);
+        param.put("_source", source);
+        param.put("sort", Collections.singletonList(Collections.singletonMap("_shard_doc", "asc")));
+        param.put("size", size);
+        if (searchAfter != null) {
+            param.put("search_after", searchAfter);
+        }
+        ObjectNode responseJson =
+                performSearchRequest(
+                        "/_search",
+                        JsonUtils.toJsonString(param),
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR);
+
+        SearchAfterResult result = new SearchAfterResult();
+        JsonNode pitIdNode = responseJson.get("pit_id");
+        result.setPitId(pitIdNode == null ? pitId : pitIdNode.asText());
+        JsonNode hitsNode = responseJson.get("hits").get("hits");
+        result.setDocs(getDocsFromHits(hitsNode));
+        if (hitsNode.size() > 0) {
+            JsonNode sort = hitsNode.get(hitsNode.size() - 1).get("sort");
+            result.setSearchAfter(JsonUtils.toList(sort.toString(), Object.class));
+        }
+        return result;
+    }
+
+    private ObjectNode performSearchRequest(
+            String endpoint, String requestBody, ElasticsearchConnectorErrorCode errorCode) {
+        Request request = new Request("POST", endpoint);
+        request.setJsonEntity(requestBody);
+        try {
+            Response response = restClient.performRequest(request);
+            if (response == null) {
+                throw new ElasticsearchConnectorException(
+                        errorCode, "POST " + endpoint + " response null");
+            }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                 String entity = EntityUtils.toString(response.getEntity());
                 ObjectNode responseJson = JsonUtils.parseObject(entity);
@@ -327,17 +515,17 @@ public class EsRestClient implements Closeable {
                                 "POST %s,total shards(%d)!= successful shards(%d)",
                                 endpoint, totalShards, successful));
 
-                return getDocsFromScrollResponse(responseJson);
+                return responseJson;
             } else {
                 throw new ElasticsearchConnectorException(
-                        ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                        errorCode,
                         String.format(
                                 "POST %s response status code=%d,request boy=%s",
                                 endpoint, response.getStatusLine().getStatusCode(), requestBody));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
-                    ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                    errorCode,
                     String.format("POST %s error,request boy=%s", endpoint, requestBody),
                     e);
         }
@@ -349,9 +537,12 @@ public class EsRestClient implements Closeable {
         scrollResult.setScrollId(scrollId);
 
         JsonNode hitsNode = responseJson.get("hits").get("hits");
-        List<Map<String, Object>> docs = new ArrayList<>(hitsNode.size());
-        scrollResult.setDocs(docs);
+        scrollResult.setDocs(getDocsFromHits(hitsNode));
+        return scrollResult;
+    }
 
+    private List<Map<String, Object>> getDocsFromHits(JsonNode hitsNode) {
+        List<Map<String, Object>> docs = new ArrayList<>(hitsNode.size());
         for (JsonNode jsonNode : hitsNode) {
             Map<String, Object> doc = new HashMap<>();
             doc.put("_index", jsonNode.get("_index").textValue());
@@ -369,7 +560,7 @@ public class EsRestClient implements Closeable {
             }
             docs.add(doc);
         }
-        return scrollResult;
+        return docs;
     }
 
     /**
@@ -70,6 +70,13 @@ public class SinkConfig {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Integer> MAX_INFLIGHT_REQUESTS =
+            Options.key("max_inflight_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of bulk requests of one sink writer which are sent concurrently while the next batch is built.");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
@@ -77,6 +77,13 @@ public class SourceConfig implements Serializable {
                     .withDescription(
                             "Maximum number of hits to be returned with each Elasticsearch scroll request");
 
+    public static final Option<Integer> SLICE_NUM =
+            Options.key("slice_num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of slices each index is divided into. When greater than 1, the slices of an index are read in parallel by point in time and search_after, which requires Elasticsearch 7.12 or later");
+
     public static final Option<Map<String, Object>> QUERY =
             Options.key("query")
                     .type(new TypeReference<Map<String, Object>>() {})
@@ -90,6 +97,7 @@ public class SourceConfig implements Serializable {
     private Map<String, Object> query;
     private String scrollTime;
     private int scrollSize;
+    private int sliceNum = SLICE_NUM.defaultValue();
 
     private CatalogTable catalogTable;
 
@@ -100,6 +108,7 @@ public class SourceConfig implements Serializable {
         sourceConfig.setQuery(new HashMap<>(query));
         sourceConfig.setScrollTime(scrollTime);
         sourceConfig.setScrollSize(scrollSize);
+        sourceConfig.setSliceNum(sliceNum);
         sourceConfig.setCatalogTable(catalogTable);
         return sourceConfig;
     }
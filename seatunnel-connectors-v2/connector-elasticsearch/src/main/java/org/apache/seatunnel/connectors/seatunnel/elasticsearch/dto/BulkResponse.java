@@ -17,12 +17,19 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto;
 
+import java.util.Collections;
+import java.util.List;
+
 /** the response of bulk ES by http request */
 public class BulkResponse {
 
     private boolean errors;
     private int took;
     private String response;
+    /** the positions of the items failed by a retryable error, e.g. 429 too many requests */
+    private List<Integer> retryableItems = Collections.emptyList();
+    /** whether some items failed by an error which can not be resolved by retrying */
+    private boolean fatalErrors;
 
     public BulkResponse() {}
 
@@ -55,4 +62,20 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public List<Integer> getRetryableItems() {
+        return retryableItems;
+    }
+
+    public void setRetryableItems(List<Integer> retryableItems) {
+        this.retryableItems = retryableItems;
+    }
+
+    public boolean isFatalErrors() {
+        return fatalErrors;
+    }
+
+    public void setFatalErrors(boolean fatalErrors) {
+        this.fatalErrors = fatalErrors;
+    }
 }
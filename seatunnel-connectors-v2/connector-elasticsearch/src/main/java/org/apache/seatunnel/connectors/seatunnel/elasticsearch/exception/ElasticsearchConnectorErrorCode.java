@@ -33,7 +33,10 @@ public enum ElasticsearchConnectorErrorCode implements SeaTunnelErrorCode {
     CHECK_INDEX_FAILED("ELASTICSEARCH-10", "Failed to check whether the index exists"),
     SOURCE_CONFIG_ERROR_01(
             "ELASTICSEARCH-11",
-            "'index' or 'index_list' must be configured, with at least one being required.");
+            "'index' or 'index_list' must be configured, with at least one being required."),
+    POINT_IN_TIME_REQUEST_ERROR("ELASTICSEARCH-12", "Fail to point in time request"),
+    BULK_ITEMS_FAILED(
+            "ELASTICSEARCH-13", "Bulk items failed with an error which can not be retried");
     ;
 
     private final String code;
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
@@ -27,6 +29,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.IndexInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
@@ -36,12 +39,21 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.SeaTunn
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSinkState;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * ElasticsearchSinkWriter is a sink writer that will write {@link SeaTunnelRow} to Elasticsearch.
@@ -56,11 +68,17 @@ public class ElasticsearchSinkWriter
     private final int maxBatchSize;
 
     private final SeaTunnelRowSerializer seaTunnelRowSerializer;
-    private final List<String> requestEsList;
+    private List<String> requestEsList;
     private EsRestClient esRestClient;
     private RetryMaterial retryMaterial;
     private static final long DEFAULT_SLEEP_TIME_MS = 200L;
 
+    private final int maxInflightRequests;
+    private final Semaphore inflightRequests;
+    private final BlockingQueue<BulkBuffer> bulkBuffers;
+    private final ExecutorService executor;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
     public ElasticsearchSinkWriter(
             Context context,
             CatalogTable catalogTable,
@@ -80,7 +98,26 @@ public class ElasticsearchSinkWriter
 
         this.requestEsList = new ArrayList<>(maxBatchSize);
         this.retryMaterial =
-                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+                new RetryMaterial(
+                        maxRetryCount,
+                        true,
+                        exception -> !isBulkItemsFailed(exception),
+                        DEFAULT_SLEEP_TIME_MS,
+                        true);
+
+        this.maxInflightRequests = config.get(SinkConfig.MAX_INFLIGHT_REQUESTS);
+        this.inflightRequests = new Semaphore(maxInflightRequests);
+        this.bulkBuffers = new ArrayBlockingQueue<>(maxInflightRequests);
+        for (int i = 0; i < maxInflightRequests; i++) {
+            bulkBuffers.add(new BulkBuffer());
+        }
+        this.executor =
+                Executors.newFixedThreadPool(
+                        maxInflightRequests,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("elasticsearch-sink-bulk-%d")
+                                .setDaemon(true)
+                                .build());
     }
 
     @Override
@@ -92,49 +129,157 @@ public class ElasticsearchSinkWriter
         String indexRequestRow = seaTunnelRowSerializer.serializeRow(element);
         requestEsList.add(indexRequestRow);
         if (requestEsList.size() >= maxBatchSize) {
-            bulkEsWithRetry(this.esRestClient, this.requestEsList);
+            flush();
         }
     }
 
     @Override
     public Optional<ElasticsearchCommitInfo> prepareCommit() {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        // all rows before the checkpoint barrier must be written, to keep at-least-once
+        flush();
+        awaitInflightRequests();
         return Optional.empty();
     }
 
     @Override
     public void abortPrepare() {}
 
-    public synchronized void bulkEsWithRetry(
-            EsRestClient esRestClient, List<String> requestEsList) {
+    /** Send the buffered rows in the background, the next batch is built while it is sent. */
+    private void flush() {
+        checkFailure();
+        if (requestEsList.isEmpty()) {
+            return;
+        }
+        List<String> requests = requestEsList;
+        requestEsList = new ArrayList<>(maxBatchSize);
+        try {
+            inflightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for in-flight bulk requests",
+                    e);
+        }
+        executor.execute(
+                () -> {
+                    try {
+                        bulkEsWithRetry(this.esRestClient, requests);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        inflightRequests.release();
+                    }
+                });
+    }
+
+    /**
+     * Bulk the requests, only the items rejected by a retryable error (429, 5xx) are sent again.
+     * The request body is written into a buffer which is reused by the following bulks.
+     */
+    public void bulkEsWithRetry(EsRestClient esRestClient, List<String> requestEsList) {
+        // there are as many buffers as in-flight permits
+        BulkBuffer buffer = bulkBuffers.poll();
         try {
+            List<String> pending = new ArrayList<>(requestEsList);
             RetryUtils.retryWithException(
                     () -> {
-                        if (requestEsList.size() > 0) {
-                            String requestBody = String.join("\n", requestEsList) + "\n";
-                            BulkResponse bulkResponse = esRestClient.bulk(requestBody);
-                            if (bulkResponse.isErrors()) {
+                        if (pending.isEmpty()) {
+                            return null;
+                        }
+                        buffer.writeRequests(pending);
+                        BulkResponse bulkResponse =
+                                esRestClient.bulk(buffer.getBuffer(), buffer.size());
+                        if (bulkResponse.isErrors()) {
+                            if (bulkResponse.isFatalErrors()) {
                                 throw new ElasticsearchConnectorException(
-                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                        ElasticsearchConnectorErrorCode.BULK_ITEMS_FAILED,
                                         "bulk es error: " + bulkResponse.getResponse());
                             }
-                            return bulkResponse;
+                            retainRetryableItems(pending, bulkResponse.getRetryableItems());
+                            throw new ElasticsearchConnectorException(
+                                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                    String.format(
+                                            "%d bulk items are rejected by es", pending.size()));
                         }
-                        return null;
+                        return bulkResponse;
                     },
                     retryMaterial);
-            requestEsList.clear();
         } catch (Exception e) {
             throw new ElasticsearchConnectorException(
                     CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
                     "ElasticSearch execute batch statement error",
                     e);
+        } finally {
+            bulkBuffers.offer(buffer);
+        }
+    }
+
+    @VisibleForTesting
+    static void retainRetryableItems(List<String> requests, List<Integer> retryableItems) {
+        List<String> retryableRequests = new ArrayList<>(retryableItems.size());
+        for (int item : retryableItems) {
+            retryableRequests.add(requests.get(item));
+        }
+        requests.clear();
+        requests.addAll(retryableRequests);
+    }
+
+    private static boolean isBulkItemsFailed(Exception exception) {
+        return exception instanceof ElasticsearchConnectorException
+                && ElasticsearchConnectorErrorCode.BULK_ITEMS_FAILED.equals(
+                        ((ElasticsearchConnectorException) exception).getSeaTunnelErrorCode());
+    }
+
+    private void awaitInflightRequests() {
+        try {
+            inflightRequests.acquire(maxInflightRequests);
+            inflightRequests.release(maxInflightRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for in-flight bulk requests",
+                    e);
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Failed to bulk rows to elasticsearch",
+                    t);
         }
     }
 
     @Override
     public void close() throws IOException {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
-        esRestClient.close();
+        try {
+            flush();
+            awaitInflightRequests();
+        } finally {
+            executor.shutdownNow();
+            esRestClient.close();
+        }
+    }
+
+    /** Exposes the internal array, so the body can be sent without copying it. */
+    private static class BulkBuffer extends ByteArrayOutputStream {
+
+        void writeRequests(List<String> requests) {
+            reset();
+            for (String request : requests) {
+                byte[] bytes = request.getBytes(StandardCharsets.UTF_8);
+                write(bytes, 0, bytes.length);
+                write('\n');
+            }
+        }
+
+        byte[] getBuffer() {
+            return buf;
+        }
     }
 }
@@ -156,12 +156,14 @@ public class ElasticsearchSource
 
         String scrollTime = readonlyConfig.get(SourceConfig.SCROLL_TIME);
         int scrollSize = readonlyConfig.get(SourceConfig.SCROLL_SIZE);
+        int sliceNum = readonlyConfig.get(SourceConfig.SLICE_NUM);
         SourceConfig sourceConfig = new SourceConfig();
         sourceConfig.setSource(source);
         sourceConfig.setCatalogTable(catalogTable);
         sourceConfig.setQuery(query);
         sourceConfig.setScrollTime(scrollTime);
         sourceConfig.setScrollSize(scrollSize);
+        sourceConfig.setSliceNum(sliceNum);
         sourceConfig.setIndex(index);
         sourceConfig.setCatalogTable(catalogTable);
         return sourceConfig;
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -25,6 +27,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.ScrollResult;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SearchAfterResult;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.DefaultSeaTunnelRowDeserializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.ElasticsearchRecord;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.SeaTunnelRowDeserializer;
@@ -54,13 +58,22 @@ public class ElasticsearchSourceReader
     private final long pollNextWaitTime = 1000L;
 
     public ElasticsearchSourceReader(SourceReader.Context context, ReadonlyConfig connConfig) {
+        this(context, connConfig, null);
+    }
+
+    @VisibleForTesting
+    ElasticsearchSourceReader(
+            SourceReader.Context context, ReadonlyConfig connConfig, EsRestClient esRestClient) {
         this.context = context;
         this.connConfig = connConfig;
+        this.esRestClient = esRestClient;
     }
 
     @Override
     public void open() {
-        esRestClient = EsRestClient.createInstance(this.connConfig);
+        if (esRestClient == null) {
+            esRestClient = EsRestClient.createInstance(this.connConfig);
+        }
     }
 
     @Override
@@ -71,8 +84,14 @@ public class ElasticsearchSourceReader
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            ElasticsearchSourceSplit split = splits.poll();
-            if (split != null) {
+            ElasticsearchSourceSplit split = splits.peek();
+            if (split != null && split.isSliced()) {
+                if (collectSlicePage(split, output)) {
+                    splits.poll();
+                    finishSlice(split);
+                }
+            } else if (split != null) {
+                splits.poll();
                 SeaTunnelRowType seaTunnelRowType = split.getSeaTunnelRowType();
                 SeaTunnelRowDeserializer deserializer =
                         new DefaultSeaTunnelRowDeserializer(seaTunnelRowType);
@@ -101,14 +120,86 @@ public class ElasticsearchSourceReader
         }
     }
 
+    /**
+     * Read the next page of the slice. The split keeps the sort values of the last emitted
+     * document, so a restored slice resumes after it.
+     *
+     * @return true if the slice is finished
+     */
+    private boolean collectSlicePage(
+            ElasticsearchSourceSplit split, Collector<SeaTunnelRow> output) {
+        SourceConfig sourceConfig = split.getSourceConfig();
+        SearchAfterResult result;
+        try {
+            result = searchSlicePage(split);
+        } catch (ElasticsearchConnectorException e) {
+            if (!EsRestClient.isNotFound(e)) {
+                throw e;
+            }
+            // the point in time is expired or closed, e.g. when the job is restored after the
+            // enumerator is closed, read the slice again from a new point in time
+            log.warn(
+                    "The point in time of split {} is not found, read the slice from the start",
+                    split.splitId(),
+                    e);
+            split.setPitId(
+                    esRestClient.openPointInTime(
+                            sourceConfig.getIndex(), sourceConfig.getScrollTime()));
+            split.setSearchAfter(null);
+            split.setReaderOwnedPit(true);
+            result = searchSlicePage(split);
+        }
+        SeaTunnelRowDeserializer deserializer =
+                new DefaultSeaTunnelRowDeserializer(split.getSeaTunnelRowType());
+        outputFromDocs(result.getDocs(), sourceConfig, output, deserializer);
+        split.setPitId(result.getPitId());
+        if (result.getSearchAfter() != null) {
+            split.setSearchAfter(result.getSearchAfter());
+        }
+        return result.getDocs().size() < sourceConfig.getScrollSize();
+    }
+
+    private SearchAfterResult searchSlicePage(ElasticsearchSourceSplit split) {
+        SourceConfig sourceConfig = split.getSourceConfig();
+        return esRestClient.searchWithPointInTime(
+                split.getPitId(),
+                sourceConfig.getScrollTime(),
+                sourceConfig.getSource(),
+                sourceConfig.getQuery(),
+                sourceConfig.getScrollSize(),
+                split.getSliceId(),
+                sourceConfig.getSliceNum(),
+                split.getSearchAfter());
+    }
+
+    /** The enumerator closes the shared point in time after all the slices are finished. */
+    private void finishSlice(ElasticsearchSourceSplit split) {
+        if (split.isReaderOwnedPit()) {
+            try {
+                esRestClient.closePointInTime(split.getPitId());
+            } catch (Exception e) {
+                log.warn("Failed to close point in time of split {}", split.splitId(), e);
+            }
+        }
+        context.sendSourceEventToEnumerator(new SliceFinishedEvent(split.splitId()));
+    }
+
     private void outputFromScrollResult(
             ScrollResult scrollResult,
             SourceConfig sourceConfig,
             Collector<SeaTunnelRow> output,
             SeaTunnelRowDeserializer deserializer) {
+        outputFromDocs(scrollResult.getDocs(), sourceConfig, output, deserializer);
+    }
+
+    private void outputFromDocs(
+            List<Map<String, Object>> docs,
+            SourceConfig sourceConfig,
+            Collector<SeaTunnelRow> output,
+            SeaTunnelRowDeserializer deserializer) {
         List<String> source = sourceConfig.getSource();
         String tableId = sourceConfig.getCatalogTable().getTablePath().toString();
-        for (Map<String, Object> doc : scrollResult.getDocs()) {
+        for (Map<String, Object> doc : docs) {
             SeaTunnelRow seaTunnelRow =
                     deserializer.deserialize(new ElasticsearchRecord(doc, source, tableId));
             output.collect(seaTunnelRow);
@@ -117,7 +208,11 @@ public class ElasticsearchSourceReader
 
     @Override
     public List<ElasticsearchSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<ElasticsearchSourceSplit> state = new ArrayList<>(splits.size());
+        for (ElasticsearchSourceSplit split : splits) {
+            state.add(split.copy());
+        }
+        return state;
     }
 
     @Override
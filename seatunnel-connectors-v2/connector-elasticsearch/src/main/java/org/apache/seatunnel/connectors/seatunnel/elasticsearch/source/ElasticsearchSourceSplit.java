@@ -21,12 +21,14 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @ToString
-@AllArgsConstructor
 public class ElasticsearchSourceSplit implements SourceSplit {
 
     private static final long serialVersionUID = -1L;
@@ -35,6 +37,57 @@ public class ElasticsearchSourceSplit implements SourceSplit {
 
     @Getter private SourceConfig sourceConfig;
 
+    /** The slice of the index read by this split, only used when the split is sliced. */
+    @Getter private int sliceId;
+
+    /**
+     * The point in time shared by all slices of the index, null means the whole index is read by
+     * scroll.
+     */
+    @Getter @Setter private String pitId;
+
+    /** The sort values of the last emitted document, null if the slice is not started yet. */
+    @Getter @Setter private List<Object> searchAfter;
+
+    /**
+     * The point in time is opened by the reader after the shared one is gone, so the reader closes
+     * it when the slice is finished.
+     */
+    @Getter @Setter private boolean readerOwnedPit;
+
+    public ElasticsearchSourceSplit(String splitId, SourceConfig sourceConfig) {
+        this(splitId, sourceConfig, 0, null, null);
+    }
+
+    public ElasticsearchSourceSplit(
+            String splitId,
+            SourceConfig sourceConfig,
+            int sliceId,
+            String pitId,
+            List<Object> searchAfter) {
+        this.splitId = splitId;
+        this.sourceConfig = sourceConfig;
+        this.sliceId = sliceId;
+        this.pitId = pitId;
+        this.searchAfter = searchAfter;
+    }
+
+    public boolean isSliced() {
+        return pitId != null;
+    }
+
+    public ElasticsearchSourceSplit copy() {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(
+                        splitId,
+                        sourceConfig,
+                        sliceId,
+                        pitId,
+                        searchAfter == null ? null : new ArrayList<>(searchAfter));
+        split.setReaderOwnedPit(readerOwnedPit);
+        return split;
+    }
+
     public SeaTunnelRowType getSeaTunnelRowType() {
         return sourceConfig.getCatalogTable().getSeaTunnelRowType();
     }
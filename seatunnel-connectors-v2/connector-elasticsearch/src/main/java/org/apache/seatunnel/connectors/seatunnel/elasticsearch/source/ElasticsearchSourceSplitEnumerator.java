@@ -17,11 +17,15 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.IndexDocsCount;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 
@@ -33,6 +37,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +61,9 @@ public class ElasticsearchSourceSplitEnumerator
 
     private volatile boolean shouldEnumerate;
 
+    /** The open points in time and the ids of their unfinished slice splits. */
+    private final Map<String, Set<String>> pointInTimeSlices = new HashMap<>();
+
     public ElasticsearchSourceSplitEnumerator(
             SourceSplitEnumerator.Context<ElasticsearchSourceSplit> context,
             ReadonlyConfig connConfig,
@@ -68,20 +76,36 @@ public class ElasticsearchSourceSplitEnumerator
             ElasticsearchSourceState sourceState,
             ReadonlyConfig connConfig,
             List<SourceConfig> sourceConfigs) {
+        this(context, sourceState, connConfig, sourceConfigs, null);
+    }
+
+    @VisibleForTesting
+    ElasticsearchSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<ElasticsearchSourceSplit> context,
+            ElasticsearchSourceState sourceState,
+            ReadonlyConfig connConfig,
+            List<SourceConfig> sourceConfigs,
+            EsRestClient esRestClient) {
         this.context = context;
+        this.esRestClient = esRestClient;
         this.connConfig = connConfig;
         this.pendingSplit = new HashMap<>();
         this.shouldEnumerate = sourceState == null;
         if (sourceState != null) {
             this.shouldEnumerate = sourceState.isShouldEnumerate();
             this.pendingSplit.putAll(sourceState.getPendingSplit());
+            if (sourceState.getPointInTimeSlices() != null) {
+                this.pointInTimeSlices.putAll(sourceState.getPointInTimeSlices());
+            }
         }
         this.sourceConfigs = sourceConfigs;
     }
 
     @Override
     public void open() {
-        esRestClient = EsRestClient.createInstance(connConfig);
+        if (esRestClient == null) {
+            esRestClient = EsRestClient.createInstance(connConfig);
+        }
     }
 
     @Override
@@ -106,14 +130,19 @@ public class ElasticsearchSourceSplitEnumerator
     private void addPendingSplit(Collection<ElasticsearchSourceSplit> splits) {
         int readerCount = context.currentParallelism();
         for (ElasticsearchSourceSplit split : splits) {
-            int ownerReader = getSplitOwner(split.splitId(), readerCount);
+            int ownerReader = getSplitOwner(split, readerCount);
             log.info("Assigning {} to {} reader.", split, ownerReader);
             pendingSplit.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(split);
         }
     }
 
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+    private static int getSplitOwner(ElasticsearchSourceSplit split, int numReaders) {
+        if (split.isSliced()) {
+            // spread the slices of one index over consecutive readers
+            int indexHash = split.getSourceConfig().getIndex().hashCode() & Integer.MAX_VALUE;
+            return (int) (((long) indexHash + split.getSliceId()) % numReaders);
+        }
+        return (split.splitId().hashCode() & Integer.MAX_VALUE) % numReaders;
     }
 
     private void assignSplit(Collection<Integer> readers) {
@@ -138,6 +167,9 @@ public class ElasticsearchSourceSplitEnumerator
     }
 
     private List<ElasticsearchSourceSplit> getElasticsearchSplit() {
+        if (sourceConfigs.stream().anyMatch(sourceConfig -> sourceConfig.getSliceNum() > 1)) {
+            checkPointInTimeSupported();
+        }
         List<ElasticsearchSourceSplit> splits = new ArrayList<>();
         for (SourceConfig sourceConfig : sourceConfigs) {
 
@@ -151,16 +183,97 @@ public class ElasticsearchSourceSplitEnumerator
             for (IndexDocsCount indexDocsCount : indexDocsCounts) {
                 SourceConfig cloneCfg = sourceConfig.clone();
                 cloneCfg.setIndex(indexDocsCount.getIndex());
-                splits.add(
-                        new ElasticsearchSourceSplit(
-                                String.valueOf(indexDocsCount.getIndex().hashCode()), cloneCfg));
+                String splitId = String.valueOf(indexDocsCount.getIndex().hashCode());
+                if (cloneCfg.getSliceNum() > 1) {
+                    splits.addAll(getSliceSplits(splitId, cloneCfg));
+                } else {
+                    splits.add(new ElasticsearchSourceSplit(splitId, cloneCfg));
+                }
             }
         }
         return splits;
     }
 
+    /**
+     * All slices of the index share one point in time, so that they partition the same snapshot of
+     * the index.
+     */
+    private List<ElasticsearchSourceSplit> getSliceSplits(
+            String splitId, SourceConfig sourceConfig) {
+        String pitId =
+                esRestClient.openPointInTime(sourceConfig.getIndex(), sourceConfig.getScrollTime());
+        List<ElasticsearchSourceSplit> splits = new ArrayList<>(sourceConfig.getSliceNum());
+        Set<String> sliceSplitIds = new HashSet<>();
+        for (int sliceId = 0; sliceId < sourceConfig.getSliceNum(); sliceId++) {
+            ElasticsearchSourceSplit split =
+                    new ElasticsearchSourceSplit(
+                            splitId + "-" + sliceId, sourceConfig, sliceId, pitId, null);
+            splits.add(split);
+            sliceSplitIds.add(split.splitId());
+        }
+        synchronized (stateLock) {
+            pointInTimeSlices.put(pitId, sliceSplitIds);
+        }
+        return splits;
+    }
+
+    private void checkPointInTimeSupported() {
+        ElasticsearchClusterInfo clusterInfo = esRestClient.getClusterInfo();
+        if (clusterInfo.isOpensearch()
+                || !isPointInTimeSupported(clusterInfo.getClusterVersion())) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCode.OPERATION_NOT_SUPPORTED,
+                    String.format(
+                            "slice_num greater than 1 reads the index by point in time, which requires Elasticsearch 7.12 or later, but the cluster is %s",
+                            clusterInfo));
+        }
+    }
+
+    /** The point in time api with the _shard_doc sort is supported since Elasticsearch 7.12. */
+    @VisibleForTesting
+    static boolean isPointInTimeSupported(String clusterVersion) {
+        String[] versions = clusterVersion.split("\\.");
+        int major = Integer.parseInt(versions[0].replaceAll("\\D.*", ""));
+        int minor = versions.length > 1 ? Integer.parseInt(versions[1].replaceAll("\\D.*", "")) : 0;
+        return major > 7 || (major == 7 && minor >= 12);
+    }
+
+    @Override
+    public void handleSourceEvent(int subtaskId, SourceEvent sourceEvent) {
+        if (!(sourceEvent instanceof SliceFinishedEvent)) {
+            return;
+        }
+        String splitId = ((SliceFinishedEvent) sourceEvent).getSplitId();
+        String finishedPitId = null;
+        synchronized (stateLock) {
+            for (Map.Entry<String, Set<String>> entry : pointInTimeSlices.entrySet()) {
+                if (entry.getValue().remove(splitId) && entry.getValue().isEmpty()) {
+                    finishedPitId = entry.getKey();
+                }
+            }
+            if (finishedPitId != null) {
+                pointInTimeSlices.remove(finishedPitId);
+            }
+        }
+        if (finishedPitId != null) {
+            log.info("All slices of point in time {} are finished, close it", finishedPitId);
+            closePointInTime(finishedPitId);
+        }
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            esRestClient.closePointInTime(pitId);
+        } catch (Exception e) {
+            // the point in time is released by elasticsearch after its keep alive anyway
+            log.warn("Failed to close point in time {}", pitId, e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
+        // the enumerator is also closed on failover, the points in time of unfinished slices are
+        // kept for the restored readers and expire after their keep alive otherwise
         esRestClient.close();
     }
 
@@ -195,7 +308,11 @@ public class ElasticsearchSourceSplitEnumerator
     @Override
     public ElasticsearchSourceState snapshotState(long checkpointId) throws Exception {
         synchronized (stateLock) {
-            return new ElasticsearchSourceState(shouldEnumerate, pendingSplit);
+            Map<String, Set<String>> pointInTimeSlicesCopy = new HashMap<>();
+            pointInTimeSlices.forEach(
+                    (pitId, splitIds) -> pointInTimeSlicesCopy.put(pitId, new HashSet<>(splitIds)));
+            return new ElasticsearchSourceState(
+                    shouldEnumerate, pendingSplit, pointInTimeSlicesCopy);
         }
     }
 
@@ -23,10 +23,13 @@ import lombok.Getter;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @AllArgsConstructor
 @Getter
 public class ElasticsearchSourceState implements Serializable {
     private boolean shouldEnumerate;
     private Map<Integer, List<ElasticsearchSourceSplit>> pendingSplit;
+    /** The open points in time and the ids of their unfinished slice splits. */
+    private Map<String, Set<String>> pointInTimeSlices;
 }
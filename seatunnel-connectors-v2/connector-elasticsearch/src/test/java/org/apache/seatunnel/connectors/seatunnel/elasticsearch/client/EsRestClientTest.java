@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.client;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class EsRestClientTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void testGetFailedItemsFromBulkResponse() throws Exception {
+        BulkResponse bulkResponse =
+                getFailedItems(
+                        "{\"took\":3,\"errors\":true,\"items\":["
+                                + "{\"index\":{\"_id\":\"1\",\"status\":201}},"
+                                + "{\"index\":{\"_id\":\"2\",\"status\":429,\"error\":{\"type\":\"es_rejected_execution_exception\"}}},"
+                                + "{\"update\":{\"_id\":\"3\",\"status\":503,\"error\":{\"type\":\"unavailable_shards_exception\"}}},"
+                                + "{\"delete\":{\"_id\":\"4\",\"status\":200}},"
+                                + "{\"create\":{\"_id\":\"5\",\"status\":500,\"error\":{\"type\":\"exception\"}}}]}");
+        Assertions.assertEquals(Arrays.asList(1, 2, 4), bulkResponse.getRetryableItems());
+        Assertions.assertFalse(bulkResponse.isFatalErrors());
+    }
+
+    @Test
+    void testFatalItemErrors() throws Exception {
+        BulkResponse bulkResponse =
+                getFailedItems(
+                        "{\"took\":3,\"errors\":true,\"items\":["
+                                + "{\"index\":{\"_id\":\"1\",\"status\":400,\"error\":{\"type\":\"mapper_parsing_exception\"}}},"
+                                + "{\"index\":{\"_id\":\"2\",\"status\":429,\"error\":{\"type\":\"es_rejected_execution_exception\"}}},"
+                                + "{\"create\":{\"_id\":\"3\",\"status\":409,\"error\":{\"type\":\"version_conflict_engine_exception\"}}}]}");
+        Assertions.assertEquals(Collections.singletonList(1), bulkResponse.getRetryableItems());
+        Assertions.assertTrue(bulkResponse.isFatalErrors());
+    }
+
+    @Test
+    void testNoFailedItems() throws Exception {
+        BulkResponse bulkResponse =
+                getFailedItems(
+                        "{\"took\":3,\"errors\":false,\"items\":["
+                                + "{\"index\":{\"_id\":\"1\",\"status\":201}},"
+                                + "{\"delete\":{\"_id\":\"2\",\"status\":404}}]}");
+        Assertions.assertTrue(bulkResponse.getRetryableItems().isEmpty());
+        Assertions.assertFalse(bulkResponse.isFatalErrors());
+    }
+
+    private static BulkResponse getFailedItems(String response) throws Exception {
+        JsonNode json = OBJECT_MAPPER.readTree(response);
+        BulkResponse bulkResponse =
+                new BulkResponse(
+                        json.get("errors").asBoolean(), json.get("took").asInt(), response);
+        EsRestClient.getFailedItemsFromBulkResponse(json, bulkResponse);
+        return bulkResponse;
+    }
+}
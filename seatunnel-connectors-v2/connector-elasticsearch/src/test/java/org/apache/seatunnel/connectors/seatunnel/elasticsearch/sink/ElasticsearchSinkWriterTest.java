@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ElasticsearchSinkWriterTest {
+
+    @Test
+    void testRetainRetryableItems() {
+        List<String> requests = new ArrayList<>(Arrays.asList("r0", "r1", "r2", "r3", "r4"));
+        ElasticsearchSinkWriter.retainRetryableItems(requests, Arrays.asList(1, 3, 4));
+        Assertions.assertEquals(Arrays.asList("r1", "r3", "r4"), requests);
+
+        // the positions of the next response refer to the retried requests
+        ElasticsearchSinkWriter.retainRetryableItems(requests, Collections.singletonList(2));
+        Assertions.assertEquals(Collections.singletonList("r4"), requests);
+    }
+
+    @Test
+    void testRetainNoItems() {
+        List<String> requests = new ArrayList<>(Arrays.asList("r0", "r1"));
+        ElasticsearchSinkWriter.retainRetryableItems(requests, Collections.emptyList());
+        Assertions.assertTrue(requests.isEmpty());
+    }
+}
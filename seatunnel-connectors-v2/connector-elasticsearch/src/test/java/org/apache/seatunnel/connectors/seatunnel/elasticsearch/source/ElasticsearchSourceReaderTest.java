@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SearchAfterResult;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ElasticsearchSourceReaderTest {
+
+    private SourceReader.Context context;
+
+    private EsRestClient esRestClient;
+
+    private ElasticsearchSourceReader reader;
+
+    private ListCollector output;
+
+    @BeforeEach
+    void setUp() {
+        context = Mockito.mock(SourceReader.Context.class);
+        esRestClient = Mockito.mock(EsRestClient.class);
+        reader =
+                new ElasticsearchSourceReader(
+                        context, ReadonlyConfig.fromMap(new HashMap<>()), esRestClient);
+        reader.open();
+        output = new ListCollector();
+    }
+
+    @Test
+    void testReadSliceBySearchAfter() throws Exception {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(
+                        "1-0", ElasticsearchSourceSplitTest.createSourceConfig(), 0, "pit", null);
+        Mockito.when(searchPage("pit", null))
+                .thenReturn(result("pit-1", Arrays.<Object>asList(1), "a", "b"));
+        Mockito.when(searchPage("pit-1", Arrays.<Object>asList(1)))
+                .thenReturn(result("pit-2", Arrays.<Object>asList(2), "c"));
+        reader.addSplits(Collections.singletonList(split));
+
+        reader.pollNext(output);
+        Assertions.assertEquals(Arrays.asList("a", "b"), output.names());
+        List<ElasticsearchSourceSplit> state = reader.snapshotState(1);
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals("pit-1", state.get(0).getPitId());
+        Assertions.assertEquals(Arrays.asList(1), state.get(0).getSearchAfter());
+        Mockito.verify(context, Mockito.never()).sendSourceEventToEnumerator(Mockito.any());
+
+        // the last page is smaller than the scroll size
+        reader.pollNext(output);
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), output.names());
+        Assertions.assertTrue(reader.snapshotState(2).isEmpty());
+        Mockito.verify(context).sendSourceEventToEnumerator(new SliceFinishedEvent("1-0"));
+        Mockito.verify(esRestClient, Mockito.never()).closePointInTime(Mockito.anyString());
+    }
+
+    @Test
+    void testRestoreSliceOfClosedPointInTime() throws Exception {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(
+                        "1-0",
+                        ElasticsearchSourceSplitTest.createSourceConfig(),
+                        0,
+                        "closed-pit",
+                        new ArrayList<>(Arrays.<Object>asList(5)));
+        Mockito.when(searchPage("closed-pit", Arrays.<Object>asList(5)))
+                .thenThrow(
+                        new ElasticsearchConnectorException(
+                                ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                                "POST /_search error",
+                                notFound()));
+        Mockito.when(esRestClient.openPointInTime("st_index", "1m")).thenReturn("new-pit");
+        Mockito.when(searchPage("new-pit", null)).thenReturn(result("new-pit", null, "a"));
+        reader.addSplits(Collections.singletonList(split));
+
+        reader.pollNext(output);
+        Assertions.assertEquals(Collections.singletonList("a"), output.names());
+        Mockito.verify(esRestClient).closePointInTime("new-pit");
+        Mockito.verify(context).sendSourceEventToEnumerator(new SliceFinishedEvent("1-0"));
+    }
+
+    @Test
+    void testRethrowOtherFailures() {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(
+                        "1-0", ElasticsearchSourceSplitTest.createSourceConfig(), 0, "pit", null);
+        Mockito.when(searchPage("pit", null))
+                .thenThrow(
+                        new ElasticsearchConnectorException(
+                                ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                                "POST /_search error"));
+        reader.addSplits(Collections.singletonList(split));
+
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class, () -> reader.pollNext(output));
+        Mockito.verify(esRestClient, Mockito.never())
+                .openPointInTime(Mockito.anyString(), Mockito.anyString());
+    }
+
+    private SearchAfterResult searchPage(String pitId, List<Object> searchAfter) {
+        return esRestClient.searchWithPointInTime(
+                Mockito.eq(pitId),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt(),
+                Mockito.eq(0),
+                Mockito.eq(3),
+                Mockito.eq(searchAfter));
+    }
+
+    private static SearchAfterResult result(
+            String pitId, List<Object> searchAfter, String... names) {
+        List<Map<String, Object>> docs = new ArrayList<>();
+        for (String name : names) {
+            Map<String, Object> doc = new HashMap<>();
+            doc.put("_index", "st_index");
+            doc.put("name", name);
+            docs.add(doc);
+        }
+        SearchAfterResult result = new SearchAfterResult();
+        result.setPitId(pitId);
+        result.setDocs(docs);
+        result.setSearchAfter(searchAfter);
+        return result;
+    }
+
+    private static ResponseException notFound() {
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_NOT_FOUND);
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusLine()).thenReturn(statusLine);
+        ResponseException exception = Mockito.mock(ResponseException.class);
+        Mockito.when(exception.getResponse()).thenReturn(response);
+        return exception;
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+
+        List<Object> names() {
+            return rows.stream().map(row -> row.getField(0)).collect(Collectors.toList());
+        }
+    }
+}
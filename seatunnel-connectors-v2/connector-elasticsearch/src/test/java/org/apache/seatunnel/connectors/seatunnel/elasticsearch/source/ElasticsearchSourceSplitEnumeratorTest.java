@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.IndexDocsCount;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ElasticsearchSourceSplitEnumeratorTest {
+
+    private SourceSplitEnumerator.Context<ElasticsearchSourceSplit> context;
+
+    private EsRestClient esRestClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        context = Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.currentParallelism()).thenReturn(2);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+
+        esRestClient = Mockito.mock(EsRestClient.class);
+        IndexDocsCount indexDocsCount = new IndexDocsCount();
+        indexDocsCount.setIndex("st_index");
+        indexDocsCount.setDocsCount(10L);
+        Mockito.when(esRestClient.getIndexDocsCount("st_index"))
+                .thenReturn(Collections.singletonList(indexDocsCount));
+        Mockito.when(esRestClient.openPointInTime("st_index", "1m")).thenReturn("pit");
+    }
+
+    @Test
+    void testIsPointInTimeSupported() {
+        Assertions.assertFalse(ElasticsearchSourceSplitEnumerator.isPointInTimeSupported("6.8.0"));
+        Assertions.assertFalse(ElasticsearchSourceSplitEnumerator.isPointInTimeSupported("7.11.2"));
+        Assertions.assertTrue(ElasticsearchSourceSplitEnumerator.isPointInTimeSupported("7.12.0"));
+        Assertions.assertTrue(
+                ElasticsearchSourceSplitEnumerator.isPointInTimeSupported("7.17.0-SNAPSHOT"));
+        Assertions.assertTrue(ElasticsearchSourceSplitEnumerator.isPointInTimeSupported("8.1.0"));
+    }
+
+    @Test
+    void testRejectSlicesOnUnsupportedCluster() {
+        mockCluster(null, "7.10.2");
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class, () -> createEnumerator(null).run());
+
+        mockCluster("opensearch", "2.11.0");
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class, () -> createEnumerator(null).run());
+
+        Mockito.verify(esRestClient, Mockito.never())
+                .openPointInTime(Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    void testClosePointInTimeAfterAllSlicesFinished() throws Exception {
+        mockCluster(null, "7.17.0");
+        ElasticsearchSourceSplitEnumerator enumerator = createEnumerator(null);
+        enumerator.run();
+
+        List<ElasticsearchSourceSplit> splits = assignedSplits();
+        Assertions.assertEquals(3, splits.size());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(0, 1, 2)),
+                splits.stream()
+                        .map(ElasticsearchSourceSplit::getSliceId)
+                        .collect(Collectors.toSet()));
+        splits.forEach(split -> Assertions.assertEquals("pit", split.getPitId()));
+        Set<String> splitIds =
+                splits.stream().map(ElasticsearchSourceSplit::splitId).collect(Collectors.toSet());
+        Assertions.assertEquals(
+                Collections.singletonMap("pit", splitIds),
+                enumerator.snapshotState(1).getPointInTimeSlices());
+
+        enumerator.handleSourceEvent(0, new SliceFinishedEvent(splits.get(0).splitId()));
+        enumerator.handleSourceEvent(1, new SliceFinishedEvent(splits.get(1).splitId()));
+        Mockito.verify(esRestClient, Mockito.never()).closePointInTime(Mockito.anyString());
+
+        enumerator.handleSourceEvent(0, new SliceFinishedEvent(splits.get(2).splitId()));
+        Mockito.verify(esRestClient).closePointInTime("pit");
+        Assertions.assertTrue(enumerator.snapshotState(2).getPointInTimeSlices().isEmpty());
+
+        enumerator.close();
+        Mockito.verify(esRestClient).closePointInTime("pit");
+    }
+
+    @Test
+    void testKeepUnfinishedPointInTimeOnClose() throws Exception {
+        mockCluster(null, "8.1.0");
+        ElasticsearchSourceSplitEnumerator enumerator = createEnumerator(null);
+        enumerator.run();
+        enumerator.handleSourceEvent(0, new SliceFinishedEvent(assignedSplits().get(0).splitId()));
+        ElasticsearchSourceState state = enumerator.snapshotState(1);
+
+        enumerator.close();
+        Mockito.verify(esRestClient, Mockito.never()).closePointInTime(Mockito.anyString());
+        Mockito.verify(esRestClient).close();
+
+        // the restored enumerator closes the point in time once the remaining slices finish
+        enumerator = createEnumerator(state);
+        Set<String> remainingSplitIds = state.getPointInTimeSlices().get("pit");
+        Assertions.assertEquals(2, remainingSplitIds.size());
+        for (String splitId : remainingSplitIds) {
+            enumerator.handleSourceEvent(0, new SliceFinishedEvent(splitId));
+        }
+        Mockito.verify(esRestClient).closePointInTime("pit");
+    }
+
+    @Test
+    void testRestorePointInTimeSlices() throws Exception {
+        Map<String, Set<String>> pointInTimeSlices = new HashMap<>();
+        pointInTimeSlices.put("pit", new HashSet<>(Arrays.asList("1-0", "1-1")));
+        ElasticsearchSourceSplitEnumerator enumerator =
+                createEnumerator(
+                        new ElasticsearchSourceState(false, new HashMap<>(), pointInTimeSlices));
+
+        enumerator.handleSourceEvent(0, new SliceFinishedEvent("1-0"));
+        Mockito.verify(esRestClient, Mockito.never()).closePointInTime(Mockito.anyString());
+        enumerator.handleSourceEvent(1, new SliceFinishedEvent("1-1"));
+        Mockito.verify(esRestClient).closePointInTime("pit");
+    }
+
+    private void mockCluster(String distribution, String version) {
+        Mockito.when(esRestClient.getClusterInfo())
+                .thenReturn(
+                        ElasticsearchClusterInfo.builder()
+                                .distribution(distribution)
+                                .clusterVersion(version)
+                                .build());
+    }
+
+    private ElasticsearchSourceSplitEnumerator createEnumerator(ElasticsearchSourceState state) {
+        ElasticsearchSourceSplitEnumerator enumerator =
+                new ElasticsearchSourceSplitEnumerator(
+                        context,
+                        state,
+                        ReadonlyConfig.fromMap(new HashMap<>()),
+                        Collections.singletonList(
+                                ElasticsearchSourceSplitTest.createSourceConfig()),
+                        esRestClient);
+        enumerator.open();
+        return enumerator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ElasticsearchSourceSplit> assignedSplits() {
+        ArgumentCaptor<List<ElasticsearchSourceSplit>> captor =
+                ArgumentCaptor.forClass(List.class);
+        Mockito.verify(context, Mockito.atLeastOnce())
+                .assignSplit(Mockito.anyInt(), captor.capture());
+        List<ElasticsearchSourceSplit> splits = new ArrayList<>();
+        captor.getAllValues().forEach(splits::addAll);
+        return splits;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ElasticsearchSourceSplitTest {
+
+    @Test
+    void testScrollSplit() {
+        ElasticsearchSourceSplit split = new ElasticsearchSourceSplit("1", createSourceConfig());
+        Assertions.assertFalse(split.isSliced());
+        Assertions.assertNull(split.getSearchAfter());
+        Assertions.assertEquals("1", split.copy().splitId());
+        Assertions.assertFalse(split.copy().isSliced());
+    }
+
+    @Test
+    void testCopySlicedSplit() {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(
+                        "1-2",
+                        createSourceConfig(),
+                        2,
+                        "pit",
+                        new ArrayList<>(Arrays.<Object>asList(7, 9)));
+        split.setReaderOwnedPit(true);
+
+        ElasticsearchSourceSplit copy = split.copy();
+        Assertions.assertTrue(copy.isSliced());
+        Assertions.assertEquals("1-2", copy.splitId());
+        Assertions.assertEquals(2, copy.getSliceId());
+        Assertions.assertEquals("pit", copy.getPitId());
+        Assertions.assertEquals(Arrays.asList(7, 9), copy.getSearchAfter());
+        Assertions.assertTrue(copy.isReaderOwnedPit());
+
+        // the reader keeps updating the split after the copy is snapshotted
+        split.getSearchAfter().set(1, 11);
+        split.setPitId("new-pit");
+        Assertions.assertEquals(Arrays.asList(7, 9), copy.getSearchAfter());
+        Assertions.assertEquals("pit", copy.getPitId());
+    }
+
+    static SourceConfig createSourceConfig() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"name"}, new SeaTunnelDataType[] {BasicType.STRING_TYPE});
+        SourceConfig sourceConfig = new SourceConfig();
+        sourceConfig.setIndex("st_index");
+        sourceConfig.setSource(Collections.singletonList("name"));
+        sourceConfig.setQuery(
+                Collections.<String, Object>singletonMap("match_all", Collections.emptyMap()));
+        sourceConfig.setScrollTime("1m");
+        sourceConfig.setScrollSize(2);
+        sourceConfig.setSliceNum(3);
+        sourceConfig.setCatalogTable(CatalogTableUtil.getCatalogTable("st_index", rowType));
+        return sourceConfig;
+    }
+}
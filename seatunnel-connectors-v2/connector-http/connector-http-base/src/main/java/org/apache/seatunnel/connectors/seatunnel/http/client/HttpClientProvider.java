@@ -67,12 +67,27 @@ public class HttpClientProvider implements AutoCloseable {
     private static final String ENCODING = "UTF-8";
     private static final String APPLICATION_JSON = "application/json";
     private static final int INITIAL_CAPACITY = 16;
+    private static final int DEFAULT_MAX_CONN_PER_ROUTE = 2;
+    private static final int DEFAULT_MAX_CONN_TOTAL = 20;
     private RequestConfig requestConfig;
     private final CloseableHttpClient httpClient;
     private final Retryer<CloseableHttpResponse> retryer;
 
     public HttpClientProvider(HttpParameter httpParameter) {
-        this.httpClient = HttpClients.createDefault();
+        this(httpParameter, httpParameter.getMaxInflightRequests());
+    }
+
+    /**
+     * @param maxConcurrentRequests the max number of concurrent requests to the same route, e.g.
+     *     the in-flight requests of the sink or the prefetched pages of the source
+     */
+    public HttpClientProvider(HttpParameter httpParameter, int maxConcurrentRequests) {
+        this.httpClient =
+                HttpClients.custom()
+                        .setMaxConnPerRoute(
+                                Math.max(DEFAULT_MAX_CONN_PER_ROUTE, maxConcurrentRequests))
+                        .setMaxConnTotal(Math.max(DEFAULT_MAX_CONN_TOTAL, maxConcurrentRequests))
+                        .build();
         this.retryer = buildRetryer(httpParameter);
         this.requestConfig =
                 RequestConfig.custom()
@@ -55,6 +55,12 @@ public class HttpConfig {
                     .defaultValue("page")
                     .withDescription(
                             "this parameter is used to specify the page field name in the request parameter");
+    public static final Option<Integer> PREFETCH_PAGES =
+            Options.key("prefetch_pages")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of pages which are requested concurrently, the pages are still emitted in order");
     public static final Option<Map<String, String>> PAGEING =
             Options.key("pageing").mapType().noDefaultValue().withDescription("pageing");
     public static final Option<HttpRequestMethod> METHOD =
@@ -131,6 +137,20 @@ public class HttpConfig {
                     .defaultValue(DEFAULT_SOCKET_TIMEOUT_MS)
                     .withDescription("Socket timeout setting, default 60s.");
 
+    public static final Option<BatchFormat> BATCH_FORMAT =
+            Options.key("batch_format")
+                    .enumType(BatchFormat.class)
+                    .noDefaultValue()
+                    .withDescription(
+                            "The body format of the sink request which contains batch_size rows, json_array or ndjson. One request per row if not set.");
+
+    public static final Option<Integer> MAX_INFLIGHT_REQUESTS =
+            Options.key("max_inflight_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of batch requests of one sink writer which are sent concurrently.");
+
     public enum ResponseFormat {
         JSON("json"),
         TEXT("text");
@@ -150,4 +170,20 @@ public class HttpConfig {
             return format;
         }
     }
+
+    public enum BatchFormat {
+        JSON_ARRAY("json_array"),
+        NDJSON("ndjson");
+
+        private final String format;
+
+        BatchFormat(String format) {
+            this.format = format;
+        }
+
+        @Override
+        public String toString() {
+            return format;
+        }
+    }
 }
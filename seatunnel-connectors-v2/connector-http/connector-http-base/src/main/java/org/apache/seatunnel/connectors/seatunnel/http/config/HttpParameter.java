@@ -40,6 +40,9 @@ public class HttpParameter implements Serializable {
     protected boolean enableMultilines;
     protected int connectTimeoutMs = HttpConfig.DEFAULT_CONNECT_TIMEOUT_MS;
     protected int socketTimeoutMs = HttpConfig.DEFAULT_SOCKET_TIMEOUT_MS;
+    protected HttpConfig.BatchFormat batchFormat;
+    protected int batchSize = HttpConfig.BATCH_SIZE.defaultValue();
+    protected int maxInflightRequests = HttpConfig.MAX_INFLIGHT_REQUESTS.defaultValue();
 
     public void buildWithConfig(Config pluginConfig) {
         // set url
@@ -32,4 +32,5 @@ public class PageInfo implements Serializable {
     private Integer batchSize;
     private String pageField;
     private Long pageIndex;
+    private int prefetchPages = HttpConfig.PREFETCH_PAGES.defaultValue();
 }
@@ -34,6 +34,7 @@ import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
 import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
 
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -74,6 +75,21 @@ public class HttpSink extends AbstractSimpleSink<SeaTunnelRow, Void>
                                             entry -> String.valueOf(entry.getValue().unwrapped()),
                                             (v1, v2) -> v2)));
         }
+        httpParameter.setRetryParameters(pluginConfig);
+        if (pluginConfig.hasPath(HttpConfig.BATCH_FORMAT.key())) {
+            httpParameter.setBatchFormat(
+                    HttpConfig.BatchFormat.valueOf(
+                            pluginConfig
+                                    .getString(HttpConfig.BATCH_FORMAT.key())
+                                    .toUpperCase(Locale.ROOT)));
+        }
+        if (pluginConfig.hasPath(HttpConfig.BATCH_SIZE.key())) {
+            httpParameter.setBatchSize(pluginConfig.getInt(HttpConfig.BATCH_SIZE.key()));
+        }
+        if (pluginConfig.hasPath(HttpConfig.MAX_INFLIGHT_REQUESTS.key())) {
+            httpParameter.setMaxInflightRequests(
+                    pluginConfig.getInt(HttpConfig.MAX_INFLIGHT_REQUESTS.key()));
+        }
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
     }
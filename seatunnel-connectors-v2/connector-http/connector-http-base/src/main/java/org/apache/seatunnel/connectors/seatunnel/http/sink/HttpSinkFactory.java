@@ -49,6 +49,9 @@ public class HttpSinkFactory implements TableSinkFactory {
                 .optional(HttpConfig.RETRY)
                 .optional(HttpConfig.RETRY_BACKOFF_MULTIPLIER_MS)
                 .optional(HttpConfig.RETRY_BACKOFF_MAX_MS)
+                .optional(HttpConfig.BATCH_FORMAT)
+                .optional(HttpConfig.BATCH_SIZE)
+                .optional(HttpConfig.MAX_INFLIGHT_REQUESTS)
                 .optional(SinkCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .build();
     }
@@ -24,13 +24,26 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSinkWriter;
 import org.apache.seatunnel.connectors.seatunnel.http.client.HttpClientProvider;
 import org.apache.seatunnel.connectors.seatunnel.http.client.HttpResponse;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpConfig;
 import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
 import org.apache.seatunnel.format.json.JsonSerializationSchema;
 
+import org.apache.http.HttpStatus;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
@@ -39,6 +52,11 @@ public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
     protected final SeaTunnelRowType seaTunnelRowType;
     protected final HttpParameter httpParameter;
     protected final SerializationSchema serializationSchema;
+    // the following fields are only used when the rows are sent in batches
+    private final List<String> batch;
+    private final Semaphore inflightRequests;
+    private final ExecutorService executor;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
 
     public HttpSinkWriter(SeaTunnelRowType seaTunnelRowType, HttpParameter httpParameter) {
         this(seaTunnelRowType, httpParameter, new JsonSerializationSchema(seaTunnelRowType));
@@ -52,12 +70,34 @@ public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         this.httpParameter = httpParameter;
         this.httpClient = new HttpClientProvider(httpParameter);
         this.serializationSchema = serializationSchema;
+        if (httpParameter.getBatchFormat() != null) {
+            this.batch = new ArrayList<>(httpParameter.getBatchSize());
+            this.inflightRequests = new Semaphore(httpParameter.getMaxInflightRequests());
+            this.executor =
+                    Executors.newFixedThreadPool(
+                            httpParameter.getMaxInflightRequests(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("http-sink-request-%d")
+                                    .setDaemon(true)
+                                    .build());
+        } else {
+            this.batch = null;
+            this.inflightRequests = null;
+            this.executor = null;
+        }
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
         byte[] serialize = serializationSchema.serialize(element);
         String body = new String(serialize);
+        if (batch != null) {
+            batch.add(body);
+            if (batch.size() >= httpParameter.getBatchSize()) {
+                flush();
+            }
+            return;
+        }
         try {
             // only support post web hook
             HttpResponse response =
@@ -74,10 +114,114 @@ public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         }
     }
 
+    @Override
+    public Optional<Void> prepareCommit() throws IOException {
+        // all rows before the checkpoint barrier must be delivered, to keep at-least-once
+        if (batch != null) {
+            flush();
+            awaitInflightRequests();
+        }
+        return Optional.empty();
+    }
+
     @Override
     public void close() throws IOException {
-        if (Objects.nonNull(httpClient)) {
-            httpClient.close();
+        try {
+            if (batch != null) {
+                flush();
+                awaitInflightRequests();
+            }
+        } finally {
+            if (Objects.nonNull(executor)) {
+                executor.shutdownNow();
+            }
+            if (Objects.nonNull(httpClient)) {
+                httpClient.close();
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        checkFailure();
+        if (batch.isEmpty()) {
+            return;
+        }
+        String body = buildBatchBody(batch, httpParameter.getBatchFormat());
+        int rows = batch.size();
+        batch.clear();
+        try {
+            inflightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for in-flight http requests", e);
+        }
+        executor.execute(
+                () -> {
+                    try {
+                        sendBatch(body, rows);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        inflightRequests.release();
+                    }
+                });
+    }
+
+    private void sendBatch(String body, int rows) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            // IOException is retried by the http client itself
+            HttpResponse response =
+                    httpClient.doPost(httpParameter.getUrl(), httpParameter.getHeaders(), body);
+            if (response.getCode() >= HttpStatus.SC_OK
+                    && response.getCode() < HttpStatus.SC_MULTIPLE_CHOICES) {
+                return;
+            }
+            if (attempt >= httpParameter.getRetry()) {
+                throw new HttpConnectorException(
+                        HttpConnectorErrorCode.REQUEST_FAILED,
+                        String.format(
+                                "Failed to send %d rows, http response status code:[%d], content:[%s]",
+                                rows, response.getCode(), response.getContent()));
+            }
+            long backoff =
+                    Math.min(
+                            (long) httpParameter.getRetryBackoffMultiplierMillis()
+                                    << Math.min(attempt, 20),
+                            httpParameter.getRetryBackoffMaxMillis());
+            log.warn(
+                    "[{}] send {} rows failed, http response status code:[{}], retry after {} ms",
+                    attempt + 1,
+                    rows,
+                    response.getCode(),
+                    backoff);
+            Thread.sleep(backoff);
+        }
+    }
+
+    private void awaitInflightRequests() throws IOException {
+        int permits = httpParameter.getMaxInflightRequests();
+        try {
+            inflightRequests.acquire(permits);
+            inflightRequests.release(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for in-flight http requests", e);
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new HttpConnectorException(
+                    HttpConnectorErrorCode.REQUEST_FAILED, "Failed to send rows to http sink", t);
+        }
+    }
+
+    static String buildBatchBody(List<String> rows, HttpConfig.BatchFormat batchFormat) {
+        if (HttpConfig.BatchFormat.NDJSON.equals(batchFormat)) {
+            return String.join("\n", rows) + "\n";
         }
+        return "[" + String.join(",", rows) + "]";
     }
 }
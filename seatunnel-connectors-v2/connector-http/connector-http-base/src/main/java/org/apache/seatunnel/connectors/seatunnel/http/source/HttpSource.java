@@ -115,6 +115,9 @@ public class HttpSource extends AbstractSingleSplitSource<SeaTunnelRow> {
             if (pageConfig.hasPath(HttpConfig.PAGE_FIELD.key())) {
                 pageInfo.setPageField(pageConfig.getString(HttpConfig.PAGE_FIELD.key()));
             }
+            if (pageConfig.hasPath(HttpConfig.PREFETCH_PAGES.key())) {
+                pageInfo.setPrefetchPages(pageConfig.getInt(HttpConfig.PREFETCH_PAGES.key()));
+            }
         }
     }
 
@@ -33,6 +33,7 @@ import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorErr
 import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
@@ -43,12 +44,18 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Setter
@@ -67,6 +74,8 @@ public class HttpSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
             Configuration.defaultConfiguration().addOptions(DEFAULT_OPTIONS);
     private boolean noMoreElementFlag = true;
     private Optional<PageInfo> pageInfoOptional = Optional.empty();
+    // requests the next pages while the current page is parsed, only used with prefetch_pages > 1
+    private ExecutorService prefetchExecutor;
 
     public HttpSourceReader(
             HttpParameter httpParameter,
@@ -98,24 +107,44 @@ public class HttpSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
 
     @Override
     public void open() {
-        httpClient = new HttpClientProvider(httpParameter);
+        int prefetchPages = pageInfoOptional.map(PageInfo::getPrefetchPages).orElse(1);
+        httpClient = new HttpClientProvider(httpParameter, prefetchPages);
+        if (prefetchPages > 1) {
+            prefetchExecutor =
+                    Executors.newFixedThreadPool(
+                            prefetchPages,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("http-source-prefetch-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (Objects.nonNull(prefetchExecutor)) {
+            prefetchExecutor.shutdownNow();
+        }
         if (Objects.nonNull(httpClient)) {
             httpClient.close();
         }
     }
 
     public void pollAndCollectData(Collector<SeaTunnelRow> output) throws Exception {
-        HttpResponse response =
-                httpClient.execute(
-                        this.httpParameter.getUrl(),
-                        this.httpParameter.getMethod().getMethod(),
-                        this.httpParameter.getHeaders(),
-                        this.httpParameter.getParams(),
-                        this.httpParameter.getBody());
+        collectResponse(requestPage(this.httpParameter.getParams()), output);
+    }
+
+    private HttpResponse requestPage(Map<String, String> params) throws Exception {
+        return httpClient.execute(
+                this.httpParameter.getUrl(),
+                this.httpParameter.getMethod().getMethod(),
+                this.httpParameter.getHeaders(),
+                params,
+                this.httpParameter.getBody());
+    }
+
+    private void collectResponse(HttpResponse response, Collector<SeaTunnelRow> output)
+            throws Exception {
         if (response.getCode() >= 200 && response.getCode() <= 207) {
             String content = response.getContent();
             if (!Strings.isNullOrEmpty(content)) {
@@ -144,6 +173,54 @@ public class HttpSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
+    /**
+     * Request up to prefetch_pages pages concurrently and collect them in order. If the total page
+     * size is unknown, the pages after the last one may be requested and are discarded.
+     */
+    private void prefetchAndCollectPages(PageInfo info, Collector<SeaTunnelRow> output)
+            throws Exception {
+        Deque<Future<HttpResponse>> prefetchedPages = new ArrayDeque<>();
+        long pageIndex = info.getPageIndex();
+        long nextPageIndex = pageIndex;
+        try {
+            while (!noMoreElementFlag) {
+                while (prefetchedPages.size() < info.getPrefetchPages()
+                        && (info.getTotalPageSize() <= 0
+                                || nextPageIndex <= info.getTotalPageSize())) {
+                    Map<String, String> params =
+                            httpParameter.getParams() == null
+                                    ? new HashMap<>()
+                                    : new HashMap<>(httpParameter.getParams());
+                    params.put(info.getPageField(), String.valueOf(nextPageIndex));
+                    prefetchedPages.add(prefetchExecutor.submit(() -> requestPage(params)));
+                    nextPageIndex++;
+                }
+                Future<HttpResponse> page = prefetchedPages.poll();
+                if (page == null) {
+                    noMoreElementFlag = true;
+                    break;
+                }
+                info.setPageIndex(pageIndex);
+                updateRequestParam(info);
+                collectResponse(getPage(page), output);
+                pageIndex += 1;
+            }
+        } finally {
+            prefetchedPages.forEach(page -> page.cancel(true));
+        }
+    }
+
+    private HttpResponse getPage(Future<HttpResponse> page) throws Exception {
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private void updateRequestParam(PageInfo pageInfo) {
         if (this.httpParameter.getParams() == null) {
             httpParameter.setParams(new HashMap<>());
@@ -166,6 +243,10 @@ public class HttpSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
             if (pageInfoOptional.isPresent()) {
                 noMoreElementFlag = false;
                 PageInfo info = pageInfoOptional.get();
+                if (prefetchExecutor != null) {
+                    prefetchAndCollectPages(info, output);
+                    return;
+                }
                 Long pageIndex = info.getPageIndex();
                 while (!noMoreElementFlag) {
                     // increment page
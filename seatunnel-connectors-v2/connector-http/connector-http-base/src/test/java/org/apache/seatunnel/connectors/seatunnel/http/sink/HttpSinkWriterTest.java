@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.sink;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpConfig;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HttpSinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private HttpServer server;
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failedRequests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/webhook",
+                exchange -> {
+                    String body = readBody(exchange.getRequestBody());
+                    // the first request fails once, the sink should retry it
+                    int code = failedRequests.getAndIncrement() == 0 ? 500 : 200;
+                    if (code == 200) {
+                        bodies.add(body);
+                    }
+                    exchange.sendResponseHeaders(code, -1);
+                    exchange.close();
+                });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void writeBatches() throws IOException {
+        HttpParameter httpParameter = new HttpParameter();
+        httpParameter.setUrl("http://localhost:" + server.getAddress().getPort() + "/webhook");
+        httpParameter.setBatchFormat(HttpConfig.BatchFormat.JSON_ARRAY);
+        httpParameter.setBatchSize(3);
+        httpParameter.setMaxInflightRequests(2);
+        httpParameter.setRetry(2);
+        httpParameter.setRetryBackoffMultiplierMillis(10);
+
+        HttpSinkWriter writer = new HttpSinkWriter(ROW_TYPE, httpParameter);
+        for (int i = 0; i < 7; i++) {
+            writer.write(new SeaTunnelRow(new Object[] {i, "name" + i}));
+        }
+        writer.prepareCommit();
+
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertEquals(4, failedRequests.get());
+        String all = String.join("", bodies);
+        for (int i = 0; i < 7; i++) {
+            Assertions.assertTrue(all.contains("{\"id\":" + i + ",\"name\":\"name" + i + "\"}"));
+        }
+        Assertions.assertTrue(bodies.contains("[{\"id\":6,\"name\":\"name6\"}]"));
+        writer.close();
+    }
+
+    @Test
+    void buildBatchBody() {
+        List<String> rows = Arrays.asList("{\"id\":1}", "{\"id\":2}");
+        Assertions.assertEquals(
+                "[{\"id\":1},{\"id\":2}]",
+                HttpSinkWriter.buildBatchBody(rows, HttpConfig.BatchFormat.JSON_ARRAY));
+        Assertions.assertEquals(
+                "{\"id\":1}\n{\"id\":2}\n",
+                HttpSinkWriter.buildBatchBody(rows, HttpConfig.BatchFormat.NDJSON));
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.source;
+
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpRequestMethod;
+import org.apache.seatunnel.connectors.seatunnel.http.config.PageInfo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HttpSourceReaderTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext(
+                "/pages",
+                exchange -> {
+                    requests.incrementAndGet();
+                    int page =
+                            Integer.parseInt(
+                                    exchange.getRequestURI().getQuery().replace("page=", ""));
+                    try {
+                        // the earlier pages are slower, the reader must still emit them in order
+                        Thread.sleep(50L * (5 - page));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    byte[] body = ("page" + page).getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void prefetchPagesInOrder() throws Exception {
+        HttpParameter httpParameter = new HttpParameter();
+        httpParameter.setUrl("http://localhost:" + server.getAddress().getPort() + "/pages");
+        httpParameter.setMethod(HttpRequestMethod.GET);
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setTotalPageSize(5L);
+        pageInfo.setPageIndex(1L);
+        pageInfo.setBatchSize(100);
+        pageInfo.setPageField("page");
+        pageInfo.setPrefetchPages(3);
+
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+        Mockito.when(context.getBoundedness()).thenReturn(Boundedness.BOUNDED);
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"content"},
+                        new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE});
+        HttpSourceReader reader =
+                new HttpSourceReader(
+                        httpParameter,
+                        new SingleSplitReaderContext(context),
+                        new SimpleTextDeserializationSchema(rowType),
+                        null,
+                        null,
+                        pageInfo);
+        List<String> rows = new ArrayList<>();
+        reader.open();
+        reader.pollNext(
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        rows.add((String) record.getField(0));
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return this;
+                    }
+                });
+        reader.close();
+
+        List<String> expected = new ArrayList<>();
+        for (int page = 1; page <= 5; page++) {
+            expected.add("page" + page);
+        }
+        Assertions.assertEquals(expected, rows);
+        Assertions.assertEquals(5, requests.get());
+        Mockito.verify(context).signalNoMoreElement();
+    }
+}
@@ -115,6 +115,40 @@ public class SinkConfig extends CommonConfig {
                     .noDefaultValue()
                     .withDescription("Default branch for commits");
 
+    public static final Option<Integer> TABLE_COMMIT_COALESCE_CHECKPOINTS =
+            Options.key("iceberg.table.commit-coalesce-checkpoints")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of checkpoints whose data files are committed together in one Iceberg snapshot. A larger value produces fewer snapshots and manifests at the cost of data visibility latency.");
+
+    public static final Option<Boolean> TABLE_COMPACTION_ENABLED =
+            Options.key("iceberg.table.compaction.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Set to `true` to rewrite small data files and the files with row-level deletes in the background, default is `false`");
+
+    public static final Option<Integer> TABLE_COMPACTION_INTERVAL_COMMITS =
+            Options.key("iceberg.table.compaction.interval-commits")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription("The number of sink commits between two compactions");
+
+    public static final Option<Integer> TABLE_COMPACTION_MIN_INPUT_FILES =
+            Options.key("iceberg.table.compaction.min-input-files")
+                    .intType()
+                    .defaultValue(5)
+                    .withDescription(
+                            "A partition is compacted when the number of its small data files and delete files reaches this value");
+
+    public static final Option<Long> TABLE_COMPACTION_SMALL_FILE_SIZE_BYTES =
+            Options.key("iceberg.table.compaction.small-file-size-bytes")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Data files smaller than this size are compacted, default is 75% of 'write.target-file-size-bytes'");
+
     @VisibleForTesting private static final String COMMA_NO_PARENS_REGEX = ",(?![^()]*+\\))";
 
     private final ReadonlyConfig readonlyConfig;
@@ -123,6 +157,12 @@ public class SinkConfig extends CommonConfig {
     private List<String> primaryKeys;
     private List<String> partitionKeys;
     private String commitBranch;
+    private int commitCoalesceCheckpoints;
+
+    private boolean compactionEnabled;
+    private int compactionIntervalCommits;
+    private int compactionMinInputFiles;
+    private Long compactionSmallFileSizeBytes;
 
     private boolean upsertModeEnabled;
     private boolean tableSchemaEvolutionEnabled;
@@ -141,6 +181,15 @@ public class SinkConfig extends CommonConfig {
         this.schemaSaveMode = readonlyConfig.get(SCHEMA_SAVE_MODE);
         this.dataSaveMode = readonlyConfig.get(DATA_SAVE_MODE);
         this.commitBranch = readonlyConfig.get(TABLES_DEFAULT_COMMIT_BRANCH);
+        this.commitCoalesceCheckpoints =
+                Math.max(1, readonlyConfig.get(TABLE_COMMIT_COALESCE_CHECKPOINTS));
+        this.compactionEnabled = readonlyConfig.get(TABLE_COMPACTION_ENABLED);
+        this.compactionIntervalCommits =
+                Math.max(1, readonlyConfig.get(TABLE_COMPACTION_INTERVAL_COMMITS));
+        this.compactionMinInputFiles =
+                Math.max(2, readonlyConfig.get(TABLE_COMPACTION_MIN_INPUT_FILES));
+        this.compactionSmallFileSizeBytes =
+                readonlyConfig.get(TABLE_COMPACTION_SMALL_FILE_SIZE_BYTES);
     }
 
     @VisibleForTesting
@@ -62,6 +62,11 @@ public class IcebergSinkFactory implements TableSinkFactory {
                         SinkConfig.TABLE_UPSERT_MODE_ENABLED_PROP,
                         SinkConfig.TABLE_SCHEMA_EVOLUTION_ENABLED_PROP,
                         SinkConfig.TABLES_DEFAULT_COMMIT_BRANCH,
+                        SinkConfig.TABLE_COMMIT_COALESCE_CHECKPOINTS,
+                        SinkConfig.TABLE_COMPACTION_ENABLED,
+                        SinkConfig.TABLE_COMPACTION_INTERVAL_COMMITS,
+                        SinkConfig.TABLE_COMPACTION_MIN_INPUT_FILES,
+                        SinkConfig.TABLE_COMPACTION_SMALL_FILE_SIZE_BYTES,
                         SinkCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .build();
     }
@@ -60,7 +60,13 @@ public class IcebergSinkWriter
     private final IcebergTableLoader icebergTableLoader;
     private RecordWriter writer;
     private final IcebergFilesCommitter filesCommitter;
+    // write results of the checkpoints which are not sent to the committer yet
     private final List<WriteResult> results = Lists.newArrayList();
+    private int uncommittedCheckpoints;
+    // the input is ended, the next prepare commit sends all the results to the committer
+    private boolean closing;
+    // the results are sent to the committer by the last prepare commit
+    private boolean resultsCommitted;
     private String commitUser = UUID.randomUUID().toString();
 
     private final DataTypeChangeEventHandler dataTypeChangeEventHandler;
@@ -119,11 +125,21 @@ public class IcebergSinkWriter
     @Override
     public Optional<IcebergCommitInfo> prepareCommit() throws IOException {
         List<WriteResult> writeResults = writer.complete();
-        IcebergCommitInfo icebergCommitInfo = new IcebergCommitInfo(writeResults);
         this.results.addAll(writeResults);
+        // coalesce the files of several checkpoints into one snapshot to reduce small commits
+        if (++uncommittedCheckpoints < config.getCommitCoalesceCheckpoints() && !closing) {
+            return Optional.empty();
+        }
+        resultsCommitted = true;
+        IcebergCommitInfo icebergCommitInfo = new IcebergCommitInfo(Lists.newArrayList(results));
         return Optional.of(icebergCommitInfo);
     }
 
+    @Override
+    public void prepareClose() {
+        this.closing = true;
+    }
+
     @Override
     public void applySchemaChange(SchemaChangeEvent event) throws IOException {
         // Waiting cdc connector support schema change event
@@ -137,8 +153,14 @@ public class IcebergSinkWriter
 
     @Override
     public List<IcebergSinkState> snapshotState(long checkpointId) throws IOException {
-        IcebergSinkState icebergSinkState = new IcebergSinkState(results, commitUser, checkpointId);
-        results.clear();
+        // the committed results are recovered by the committer, only keep the coalesced ones
+        if (resultsCommitted) {
+            results.clear();
+            uncommittedCheckpoints = 0;
+            resultsCommitted = false;
+        }
+        IcebergSinkState icebergSinkState =
+                new IcebergSinkState(Lists.newArrayList(results), commitUser, checkpointId);
         return Collections.singletonList(icebergSinkState);
     }
 
@@ -147,6 +169,8 @@ public class IcebergSinkWriter
 
     @Override
     public void close() throws IOException {
+        // the results which are not sent to the committer are kept in the state and committed
+        // on restore, the last checkpoint sends all of them after prepareClose
         try {
             if (writer != null) {
                 writer.close();
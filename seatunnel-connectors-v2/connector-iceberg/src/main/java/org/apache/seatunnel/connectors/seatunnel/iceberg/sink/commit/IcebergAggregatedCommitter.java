@@ -21,41 +21,98 @@ import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.writer.WriteResult;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
 
 /** Iceberg aggregated committer */
 @Slf4j
 public class IcebergAggregatedCommitter
         implements SinkAggregatedCommitter<IcebergCommitInfo, IcebergAggregatedCommitInfo> {
 
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    private final SinkConfig config;
     private final IcebergFilesCommitter filesCommitter;
 
+    private IcebergTableCompactor compactor;
+    private transient ExecutorService compactionExecutor;
+    private transient Future<?> compaction;
+    private int commitsSinceCompaction;
+
     public IcebergAggregatedCommitter(SinkConfig config, CatalogTable catalogTable) {
+        this.config = config;
         IcebergTableLoader tableLoader = IcebergTableLoader.create(config, catalogTable).open();
         this.filesCommitter = IcebergFilesCommitter.of(config, tableLoader);
+        if (config.isCompactionEnabled()) {
+            this.compactor = new IcebergTableCompactor(tableLoader, config);
+        }
     }
 
     @Override
     public List<IcebergAggregatedCommitInfo> commit(
             List<IcebergAggregatedCommitInfo> aggregatedCommitInfo) throws IOException {
         for (IcebergAggregatedCommitInfo commitInfo : aggregatedCommitInfo) {
-            commitFiles(commitInfo.commitInfos);
+            if (commitFiles(commitInfo.commitInfos) && compactor != null) {
+                tryCompact();
+            }
         }
         return Collections.emptyList();
     }
 
-    private void commitFiles(List<IcebergCommitInfo> commitInfos) {
-        for (IcebergCommitInfo icebergCommitInfo : commitInfos) {
-            if (icebergCommitInfo.getResults() == null) {
-                continue;
-            }
-            filesCommitter.doCommit(icebergCommitInfo.getResults());
+    /** Commit the files of all subtasks in one snapshot, return false if there is nothing. */
+    private boolean commitFiles(List<IcebergCommitInfo> commitInfos) {
+        List<WriteResult> results =
+                commitInfos.stream()
+                        .map(IcebergCommitInfo::getResults)
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .collect(toList());
+        if (results.isEmpty()) {
+            return false;
+        }
+        filesCommitter.doCommit(results);
+        return true;
+    }
+
+    private void tryCompact() {
+        if (++commitsSinceCompaction < config.getCompactionIntervalCommits()) {
+            return;
+        }
+        if (compaction != null && !compaction.isDone()) {
+            // the previous compaction is still running, try again after the next commit
+            return;
+        }
+        commitsSinceCompaction = 0;
+        if (compactionExecutor == null) {
+            compactionExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("iceberg-compaction-%d")
+                                    .setDaemon(true)
+                                    .build());
         }
+        compaction =
+                compactionExecutor.submit(
+                        () -> {
+                            try {
+                                compactor.compact();
+                            } catch (Exception e) {
+                                log.warn("Failed to compact iceberg table", e);
+                            }
+                        });
     }
 
     @Override
@@ -67,5 +124,21 @@ public class IcebergAggregatedCommitter
     public void abort(List<IcebergAggregatedCommitInfo> aggregatedCommitInfo) throws Exception {}
 
     @Override
-    public void close() throws IOException {}
+    public void close() throws IOException {
+        if (compactionExecutor != null) {
+            compactionExecutor.shutdown();
+            try {
+                // let the running compaction finish, an interrupted one is not committed
+                if (!compactionExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn(
+                            "Compaction of iceberg table is not finished in {}s, cancel it",
+                            CLOSE_TIMEOUT_SECONDS);
+                    compactionExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                compactionExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
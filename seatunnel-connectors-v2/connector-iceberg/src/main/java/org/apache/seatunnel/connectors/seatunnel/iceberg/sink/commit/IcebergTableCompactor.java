@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit;
+
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+import org.apache.seatunnel.shade.com.google.common.collect.Maps;
+
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.writer.PartitionedAppendWriter;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergFileScanTaskReader;
+
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RewriteFiles;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.data.GenericAppenderFactory;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppenderFactory;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.TaskWriter;
+import org.apache.iceberg.io.UnpartitionedWriter;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.StructLikeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
+import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
+import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT;
+
+/**
+ * Rewrites the small data files of a table and the data files with row-level deletes. The files
+ * are grouped by the partition of the current spec, a partition is rewritten when the number of
+ * its small data files and delete files reaches {@link SinkConfig#getCompactionMinInputFiles()}.
+ *
+ * <p>The rewritten data files keep the sequence number of the scanned snapshot, so equality
+ * deletes committed by the sink during the compaction still apply to them. The delete files which
+ * only apply to rewritten data files are removed by a second commit.
+ */
+@Slf4j
+public class IcebergTableCompactor implements Serializable {
+
+    private final IcebergTableLoader tableLoader;
+    private final SinkConfig config;
+
+    public IcebergTableCompactor(IcebergTableLoader tableLoader, SinkConfig config) {
+        this.tableLoader = tableLoader;
+        this.config = config;
+    }
+
+    public void compact() throws IOException {
+        Table table = tableLoader.loadTable();
+        table.refresh();
+        String branch = config.getCommitBranch();
+        Snapshot snapshot = branch == null ? table.currentSnapshot() : table.snapshot(branch);
+        if (snapshot == null) {
+            return;
+        }
+
+        Map<String, String> tableProps = Maps.newHashMap(table.properties());
+        tableProps.putAll(config.getWriteProps());
+        long targetFileSize =
+                PropertyUtil.propertyAsLong(
+                        tableProps,
+                        WRITE_TARGET_FILE_SIZE_BYTES,
+                        WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+        long smallFileSize =
+                config.getCompactionSmallFileSizeBytes() != null
+                        ? config.getCompactionSmallFileSizeBytes()
+                        : targetFileSize * 3 / 4;
+
+        PartitionSpec spec = table.spec();
+        StructLikeMap<List<FileScanTask>> partitions = StructLikeMap.create(spec.partitionType());
+        // delete file path -> paths of the data files it applies to
+        Map<String, Set<String>> deleteReferences = new HashMap<>();
+        try (CloseableIterable<FileScanTask> tasks =
+                table.newScan()
+                        .useSnapshot(snapshot.snapshotId())
+                        .caseSensitive(config.isCaseSensitive())
+                        .planFiles()) {
+            for (FileScanTask task : tasks) {
+                for (DeleteFile deleteFile : task.deletes()) {
+                    deleteReferences
+                            .computeIfAbsent(deleteFile.path().toString(), k -> new HashSet<>())
+                            .add(task.file().path().toString());
+                }
+                // files of the older specs are left as they are
+                if (task.file().specId() != spec.specId()) {
+                    continue;
+                }
+                if (task.file().fileSizeInBytes() < smallFileSize || !task.deletes().isEmpty()) {
+                    partitions
+                            .computeIfAbsent(task.file().partition(), k -> new ArrayList<>())
+                            .add(task);
+                }
+            }
+        }
+
+        List<List<FileScanTask>> groups = new ArrayList<>();
+        for (List<FileScanTask> group : partitions.values()) {
+            Set<String> deletes = new HashSet<>();
+            group.forEach(task -> task.deletes().forEach(d -> deletes.add(d.path().toString())));
+            if (group.size() + deletes.size() >= config.getCompactionMinInputFiles()) {
+                groups.add(group);
+            }
+        }
+        if (groups.isEmpty()) {
+            log.debug("Nothing to compact in table {}", tableLoader.getTableIdentifier());
+            return;
+        }
+
+        FileFormat format =
+                FileFormat.valueOf(
+                        tableProps
+                                .getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT)
+                                .toUpperCase());
+        FileAppenderFactory<Record> appenderFactory =
+                new GenericAppenderFactory(table.schema(), spec).setAll(tableProps);
+        OutputFileFactory fileFactory =
+                OutputFileFactory.builderFor(table, 1, System.currentTimeMillis())
+                        .defaultSpec(spec)
+                        .operationId("compaction-" + UUID.randomUUID())
+                        .format(format)
+                        .build();
+
+        Set<DataFile> rewrittenDataFiles = new HashSet<>();
+        Set<DataFile> addedDataFiles = new HashSet<>();
+        Map<String, DeleteFile> appliedDeleteFiles = new HashMap<>();
+        try {
+            for (List<FileScanTask> group : groups) {
+                TaskWriter<Record> writer =
+                        spec.isUnpartitioned()
+                                ? new UnpartitionedWriter<>(
+                                        spec,
+                                        format,
+                                        appenderFactory,
+                                        fileFactory,
+                                        table.io(),
+                                        targetFileSize)
+                                : new PartitionedAppendWriter(
+                                        spec,
+                                        format,
+                                        appenderFactory,
+                                        fileFactory,
+                                        table.io(),
+                                        targetFileSize,
+                                        table.schema());
+                rewrite(table, group, writer);
+                Collections.addAll(addedDataFiles, writer.dataFiles());
+                for (FileScanTask task : group) {
+                    rewrittenDataFiles.add(task.file());
+                    task.deletes().forEach(d -> appliedDeleteFiles.put(d.path().toString(), d));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteFiles(table, addedDataFiles);
+            throw e;
+        }
+
+        try {
+            RewriteFiles rewrite = table.newRewrite().validateFromSnapshot(snapshot.snapshotId());
+            if (branch != null) {
+                rewrite.toBranch(branch);
+            }
+            if (snapshot.sequenceNumber() > 0) {
+                rewrite.rewriteFiles(
+                        rewrittenDataFiles, addedDataFiles, snapshot.sequenceNumber());
+            } else {
+                // format v1 tables have no sequence numbers and no row-level deletes
+                rewrite.rewriteFiles(rewrittenDataFiles, addedDataFiles);
+            }
+            rewrite.commit();
+        } catch (ValidationException | CommitFailedException e) {
+            log.warn(
+                    "Compaction of table {} conflicts with other commits, skipping",
+                    tableLoader.getTableIdentifier(),
+                    e);
+            deleteFiles(table, addedDataFiles);
+            return;
+        }
+        log.info(
+                "Compacted {} data files into {} data files in table {}",
+                rewrittenDataFiles.size(),
+                addedDataFiles.size(),
+                tableLoader.getTableIdentifier());
+
+        Set<String> rewrittenPaths = new HashSet<>();
+        rewrittenDataFiles.forEach(dataFile -> rewrittenPaths.add(dataFile.path().toString()));
+        Set<DeleteFile> obsoleteDeleteFiles = new HashSet<>();
+        appliedDeleteFiles.forEach(
+                (path, deleteFile) -> {
+                    if (rewrittenPaths.containsAll(deleteReferences.get(path))) {
+                        obsoleteDeleteFiles.add(deleteFile);
+                    }
+                });
+        if (obsoleteDeleteFiles.isEmpty()) {
+            return;
+        }
+        try {
+            RewriteFiles removeDeletes = table.newRewrite();
+            if (branch != null) {
+                removeDeletes.toBranch(branch);
+            }
+            removeDeletes.rewriteFiles(
+                    Collections.emptySet(),
+                    obsoleteDeleteFiles,
+                    Collections.emptySet(),
+                    Collections.emptySet());
+            removeDeletes.commit();
+        } catch (ValidationException | CommitFailedException e) {
+            // the delete files do not apply to any live data file, the next compaction retries
+            log.warn(
+                    "Failed to remove {} applied delete files of table {}",
+                    obsoleteDeleteFiles.size(),
+                    tableLoader.getTableIdentifier(),
+                    e);
+        }
+    }
+
+    @VisibleForTesting
+    void rewrite(Table table, List<FileScanTask> group, TaskWriter<Record> writer)
+            throws IOException {
+        IcebergFileScanTaskReader reader =
+                IcebergFileScanTaskReader.builder()
+                        .fileIO(table.io())
+                        .tableSchema(table.schema())
+                        .projectedSchema(table.schema())
+                        .caseSensitive(config.isCaseSensitive())
+                        .reuseContainers(false)
+                        .build();
+        try {
+            for (FileScanTask task : group) {
+                try (CloseableIterator<Record> records = reader.open(task)) {
+                    while (records.hasNext()) {
+                        writer.write(records.next());
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+    }
+
+    private void deleteFiles(Table table, Set<DataFile> dataFiles) {
+        for (DataFile dataFile : dataFiles) {
+            try {
+                table.io().deleteFile(dataFile.path().toString());
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete the compacted file {}", dataFile.path(), e);
+            }
+        }
+    }
+}
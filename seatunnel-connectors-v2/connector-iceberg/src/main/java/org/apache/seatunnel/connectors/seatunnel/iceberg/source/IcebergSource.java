@@ -23,9 +23,11 @@ import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
@@ -47,11 +49,17 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFil
 import org.apache.seatunnel.connectors.seatunnel.iceberg.utils.SchemaUtils;
 
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 
 import lombok.SneakyThrows;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -61,16 +69,17 @@ public class IcebergSource
         implements SeaTunnelSource<
                         SeaTunnelRow, IcebergFileScanTaskSplit, IcebergSplitEnumeratorState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
 
     private static final long serialVersionUID = 4343414808223919870L;
 
     private final SourceConfig sourceConfig;
     private final Schema tableSchema;
-    private final Schema projectedSchema;
-    private final SeaTunnelRowType seaTunnelRowType;
+    private Schema projectedSchema;
+    private SeaTunnelRowType seaTunnelRowType;
     private JobContext jobContext;
-    private final CatalogTable catalogTable;
+    private CatalogTable catalogTable;
 
     public IcebergSource(ReadonlyConfig config, CatalogTable catalogTable) {
         this.sourceConfig = SourceConfig.loadConfig(config);
@@ -90,6 +99,109 @@ public class IcebergSource
         return "Iceberg";
     }
 
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        List<String> columnNames = Arrays.asList(catalogTable.getTableSchema().getFieldNames());
+        if (!columnNames.containsAll(fieldNames)
+                || !Arrays.asList(seaTunnelRowType.getFieldNames()).containsAll(fieldNames)) {
+            return false;
+        }
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType<?>[fieldNames.size()];
+        for (int i = 0; i < fieldNames.size(); i++) {
+            int index = seaTunnelRowType.indexOf(fieldNames.get(i));
+            fieldTypes[i] = seaTunnelRowType.getFieldType(index);
+        }
+        this.seaTunnelRowType =
+                new SeaTunnelRowType(fieldNames.toArray(new String[0]), fieldTypes);
+        this.projectedSchema = tableSchema.select(fieldNames);
+        this.catalogTable = CatalogTableUtil.projectCatalogTable(catalogTable, fieldNames);
+        return true;
+    }
+
+    @Override
+    public List<SourcePredicate> applyFilters(List<SourcePredicate> predicates) {
+        List<SourcePredicate> pushedPredicates = new ArrayList<>();
+        Expression filter =
+                sourceConfig.getFilter() == null
+                        ? Expressions.alwaysTrue()
+                        : sourceConfig.getFilter();
+        for (SourcePredicate predicate : predicates) {
+            Expression expression = toExpression(predicate);
+            if (expression != null) {
+                filter = Expressions.and(filter, expression);
+                pushedPredicates.add(predicate);
+            }
+        }
+        sourceConfig.setFilter(filter);
+        return pushedPredicates;
+    }
+
+    private Expression toExpression(SourcePredicate predicate) {
+        String name = predicate.getFieldName();
+        Types.NestedField field =
+                sourceConfig.isCaseSensitive()
+                        ? tableSchema.findField(name)
+                        : tableSchema.caseInsensitiveFindField(name);
+        if (field == null) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        for (Object value : predicate.getValues()) {
+            Object literal = toLiteral(field.type(), value);
+            if (literal == null) {
+                return null;
+            }
+            values.add(literal);
+        }
+        switch (predicate.getOperator()) {
+            case EQUAL:
+                return Expressions.equal(name, values.get(0));
+            case LESS_THAN:
+                return Expressions.lessThan(name, values.get(0));
+            case LESS_THAN_OR_EQUAL:
+                return Expressions.lessThanOrEqual(name, values.get(0));
+            case GREATER_THAN:
+                return Expressions.greaterThan(name, values.get(0));
+            case GREATER_THAN_OR_EQUAL:
+                return Expressions.greaterThanOrEqual(name, values.get(0));
+            case IS_NULL:
+                return Expressions.isNull(name);
+            case IS_NOT_NULL:
+                return Expressions.notNull(name);
+            case IN:
+                return Expressions.in(name, values);
+            default:
+                return null;
+        }
+    }
+
+    /** Convert the value to a literal which can be bound to the column type. */
+    private static Object toLiteral(Type type, Object value) {
+        switch (type.typeId()) {
+            case INTEGER:
+            case LONG:
+                if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+                    return ((Number) value).intValue();
+                }
+                return value instanceof Long ? value : null;
+            case DECIMAL:
+                if (!(value instanceof BigDecimal)) {
+                    return null;
+                }
+                try {
+                    // decimal literals are bound only with the same scale
+                    return ((BigDecimal) value)
+                            .setScale(((Types.DecimalType) type).scale(), RoundingMode.UNNECESSARY);
+                } catch (ArithmeticException e) {
+                    return null;
+                }
+            case STRING:
+                return value instanceof String ? value : null;
+            default:
+                return null;
+        }
+    }
+
     @SneakyThrows
     private Schema loadIcebergSchema(SourceConfig sourceConfig) {
         try (IcebergTableLoader icebergTableLoader =
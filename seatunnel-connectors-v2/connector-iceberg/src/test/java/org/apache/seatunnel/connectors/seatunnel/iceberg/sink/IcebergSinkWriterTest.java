@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.CommonConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit.IcebergCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.state.IcebergSinkState;
+
+import org.apache.iceberg.Table;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@DisabledOnOs(OS.WINDOWS)
+class IcebergSinkWriterTest {
+    private static final String WAREHOUSE = "file:///tmp/seatunnel/iceberg/sink-writer-test/";
+
+    private SinkConfig config;
+    private CatalogTable catalogTable;
+
+    @BeforeEach
+    void createConfig() {
+        Map<String, Object> catalogProps = new HashMap<>();
+        catalogProps.put("type", "hadoop");
+        catalogProps.put("warehouse", WAREHOUSE);
+        String table = "coalesce_" + System.nanoTime();
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(CommonConfig.KEY_CATALOG_NAME.key(), "seatunnel");
+        configs.put(CommonConfig.KEY_TABLE.key(), table);
+        configs.put(CommonConfig.CATALOG_PROPS.key(), catalogProps);
+        configs.put(SinkConfig.TABLE_COMMIT_COALESCE_CHECKPOINTS.key(), 2);
+        config = new SinkConfig(ReadonlyConfig.fromMap(configs));
+        catalogTable =
+                CatalogTableUtil.getCatalogTable(
+                        table,
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.LONG_TYPE, BasicType.STRING_TYPE
+                                }));
+    }
+
+    @AfterEach
+    void dropTable() throws IOException {
+        try (IcebergTableLoader tableLoader =
+                IcebergTableLoader.create(config, catalogTable).open()) {
+            tableLoader.getCatalog().dropTable(tableLoader.getTableIdentifier(), true);
+        }
+    }
+
+    @Test
+    void coalesceCheckpoints() throws IOException {
+        IcebergSinkWriter writer = IcebergSinkWriter.of(config, catalogTable);
+        writer.write(row(1));
+        Assertions.assertFalse(writer.prepareCommit(1).isPresent());
+        List<IcebergSinkState> states = writer.snapshotState(1);
+        Assertions.assertEquals(1, states.get(0).getWriteResults().size());
+
+        writer.write(row(2));
+        Optional<IcebergCommitInfo> commitInfo = writer.prepareCommit(2);
+        Assertions.assertTrue(commitInfo.isPresent());
+        Assertions.assertEquals(2, commitInfo.get().getResults().size());
+        // the results sent to the committer are not kept in the state
+        states = writer.snapshotState(2);
+        Assertions.assertTrue(states.get(0).getWriteResults().isEmpty());
+
+        writer.write(row(3));
+        Assertions.assertFalse(writer.prepareCommit(3).isPresent());
+        Assertions.assertEquals(1, writer.snapshotState(3).get(0).getWriteResults().size());
+        writer.close();
+    }
+
+    @Test
+    void sendPendingResultsInLastCheckpoint() throws IOException {
+        IcebergSinkWriter writer = IcebergSinkWriter.of(config, catalogTable);
+        writer.write(row(1));
+        Assertions.assertFalse(writer.prepareCommit(1).isPresent());
+        writer.snapshotState(1);
+
+        writer.write(row(2));
+        writer.prepareClose();
+        Optional<IcebergCommitInfo> commitInfo = writer.prepareCommit(2);
+        Assertions.assertTrue(commitInfo.isPresent());
+        Assertions.assertEquals(2, commitInfo.get().getResults().size());
+        Assertions.assertTrue(writer.snapshotState(2).get(0).getWriteResults().isEmpty());
+        writer.close();
+    }
+
+    @Test
+    void commitPendingResultsOnRestore() throws IOException {
+        IcebergSinkWriter writer = IcebergSinkWriter.of(config, catalogTable);
+        writer.write(row(1));
+        Assertions.assertFalse(writer.prepareCommit(1).isPresent());
+        List<IcebergSinkState> states = writer.snapshotState(1);
+        writer.write(row(2));
+        Assertions.assertFalse(writer.prepareCommit(2).isPresent());
+        // the pending results are not committed on close
+        writer.close();
+        Assertions.assertTrue(ids().isEmpty());
+
+        // the results of the restored checkpoint are committed, the later ones are discarded
+        IcebergSinkWriter restored = IcebergSinkWriter.of(config, catalogTable, states);
+        Assertions.assertEquals(1, ids().size());
+        Assertions.assertTrue(ids().contains(1L));
+        Assertions.assertTrue(restored.snapshotState(2).get(0).getWriteResults().isEmpty());
+        restored.close();
+    }
+
+    private static SeaTunnelRow row(long id) {
+        return new SeaTunnelRow(new Object[] {id, "name_" + id});
+    }
+
+    private Set<Long> ids() throws IOException {
+        Set<Long> ids = new HashSet<>();
+        try (IcebergTableLoader tableLoader =
+                IcebergTableLoader.create(config, catalogTable).open()) {
+            Table table = tableLoader.loadTable();
+            try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+                records.forEach(record -> ids.add((Long) record.getField("id")));
+            }
+        }
+        return ids;
+    }
+}
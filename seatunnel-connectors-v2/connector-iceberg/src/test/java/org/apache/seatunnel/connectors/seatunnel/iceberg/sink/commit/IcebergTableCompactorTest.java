@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.CommonConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericAppenderFactory;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.TaskWriter;
+import org.apache.iceberg.types.Types;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import com.google.common.collect.Lists;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@DisabledOnOs(OS.WINDOWS)
+class IcebergTableCompactorTest {
+    private static final String WAREHOUSE = "file:///tmp/seatunnel/iceberg/compaction-test/";
+
+    private static final Schema SCHEMA =
+            new Schema(
+                    Types.NestedField.required(1, "id", Types.LongType.get()),
+                    Types.NestedField.optional(2, "name", Types.StringType.get()));
+
+    private IcebergTableLoader tableLoader;
+
+    @AfterEach
+    void dropTable() throws IOException {
+        if (tableLoader != null) {
+            tableLoader.getCatalog().dropTable(tableLoader.getTableIdentifier(), true);
+            tableLoader.close();
+        }
+    }
+
+    @Test
+    void compactSmallFiles() throws IOException {
+        SinkConfig config = config(5);
+        Table table = createTable(config, PartitionSpec.unpartitioned(), 1);
+        for (long id = 0; id < 4; id++) {
+            append(table, id);
+        }
+        // not enough small files
+        new IcebergTableCompactor(tableLoader, config).compact();
+        Assertions.assertEquals(4, dataFiles(table));
+
+        append(table, 4);
+        new IcebergTableCompactor(tableLoader, config).compact();
+        Assertions.assertEquals(1, dataFiles(table));
+        Assertions.assertEquals(set(0L, 1L, 2L, 3L, 4L), ids(table));
+    }
+
+    @Test
+    void compactDeletesAndRemoveAppliedDeleteFiles() throws IOException {
+        SinkConfig config = config(5);
+        Table table = createTable(config, PartitionSpec.unpartitioned(), 2);
+        List<DataFile> dataFiles = Lists.newArrayList();
+        for (long id = 0; id < 4; id++) {
+            dataFiles.add(
+                    writeDataFile(table, id, record(table, id, "a"), record(table, id + 100, "a")));
+        }
+        AppendFiles append = table.newAppend();
+        dataFiles.forEach(append::appendFile);
+        append.commit();
+        table.newRowDelta()
+                .addDeletes(writePositionDelete(table, dataFiles.get(0), 0))
+                .addDeletes(writeEqualityDelete(table, 102L))
+                .commit();
+        Assertions.assertEquals(2, deleteFiles(table));
+
+        // 4 small data files and 2 delete files
+        new IcebergTableCompactor(tableLoader, config).compact();
+        Assertions.assertEquals(1, dataFiles(table));
+        Assertions.assertEquals(0, deleteFiles(table));
+        Assertions.assertEquals("0", table.currentSnapshot().summary().get("total-delete-files"));
+        Assertions.assertEquals(set(1L, 2L, 3L, 100L, 101L, 103L), ids(table));
+    }
+
+    @Test
+    void keepDeleteFilesOfOtherDataFiles() throws IOException {
+        SinkConfig config = config(4, 10_000L);
+        Table table = createTable(config, PartitionSpec.unpartitioned(), 2);
+        List<DataFile> dataFiles = Lists.newArrayList();
+        for (long id = 0; id < 3; id++) {
+            dataFiles.add(writeDataFile(table, id, record(table, id, "a")));
+        }
+        // a data file which is larger than the small file size
+        Record[] records = new Record[20000];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = record(table, 100 + i, UUID.randomUUID().toString());
+        }
+        dataFiles.add(writeDataFile(table, 3, records));
+        AppendFiles append = table.newAppend();
+        dataFiles.forEach(append::appendFile);
+        append.commit();
+        table.newRowDelta()
+                .addDeletes(writeEqualityDelete(table, 0L))
+                .addDeletes(writeEqualityDelete(table, 100L))
+                .commit();
+
+        // the small files are compacted, the delete files still apply to the large file
+        new IcebergTableCompactor(tableLoader, config).compact();
+        Assertions.assertEquals(2, dataFiles(table));
+        Assertions.assertEquals(2, deleteFiles(table));
+        Set<Long> ids = ids(table);
+        Assertions.assertEquals(records.length + 1, ids.size());
+        Assertions.assertFalse(ids.contains(0L));
+        Assertions.assertFalse(ids.contains(100L));
+    }
+
+    @Test
+    void compactPartitionedTable() throws IOException {
+        SinkConfig config = config(5);
+        PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("name").build();
+        Table table = createTable(config, spec, 2);
+        for (long id = 0; id < 7; id++) {
+            DataFile dataFile = writeDataFile(table, id, record(table, id, id < 5 ? "a" : "b"));
+            table.newAppend().appendFile(dataFile).commit();
+        }
+
+        // partition a has 5 small files, partition b has only 2
+        new IcebergTableCompactor(tableLoader, config).compact();
+        Assertions.assertEquals(3, dataFiles(table));
+        Map<String, Integer> partitionFiles = new HashMap<>();
+        try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+            for (FileScanTask task : tasks) {
+                String partition = task.file().partition().get(0, String.class);
+                partitionFiles.merge(partition, 1, Integer::sum);
+            }
+        }
+        Assertions.assertEquals(1, partitionFiles.get("a"));
+        Assertions.assertEquals(2, partitionFiles.get("b"));
+        Assertions.assertEquals(set(0L, 1L, 2L, 3L, 4L, 5L, 6L), ids(table));
+    }
+
+    @Test
+    void abortOnConflict() throws IOException {
+        SinkConfig config = config(5);
+        Table table = createTable(config, PartitionSpec.unpartitioned(), 2);
+        for (long id = 0; id < 5; id++) {
+            append(table, id);
+        }
+        IcebergTableCompactor compactor =
+                new IcebergTableCompactor(tableLoader, config) {
+                    @Override
+                    void rewrite(
+                            Table loaded, List<FileScanTask> group, TaskWriter<Record> writer)
+                            throws IOException {
+                        super.rewrite(loaded, group, writer);
+                        // a concurrent commit removes a data file which is being rewritten
+                        tableLoader
+                                .loadTable()
+                                .newDelete()
+                                .deleteFile(group.get(0).file())
+                                .commit();
+                    }
+                };
+        compactor.compact();
+
+        // the compaction is skipped and its files are deleted
+        Assertions.assertEquals(4, dataFiles(table));
+        Assertions.assertEquals(4, ids(table).size());
+        try (Stream<Path> files = Files.walk(new File(URI.create(table.location())).toPath())) {
+            Assertions.assertEquals(
+                    Collections.emptyList(),
+                    files.map(path -> path.getFileName().toString())
+                            .filter(name -> name.contains("compaction-"))
+                            .filter(name -> name.endsWith(".parquet"))
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    private SinkConfig config(int minInputFiles) {
+        return config(minInputFiles, null);
+    }
+
+    private SinkConfig config(int minInputFiles, Long smallFileSizeBytes) {
+        Map<String, Object> catalogProps = new HashMap<>();
+        catalogProps.put("type", "hadoop");
+        catalogProps.put("warehouse", WAREHOUSE);
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(CommonConfig.KEY_CATALOG_NAME.key(), "seatunnel");
+        configs.put(CommonConfig.KEY_TABLE.key(), "compaction_" + System.nanoTime());
+        configs.put(CommonConfig.CATALOG_PROPS.key(), catalogProps);
+        configs.put(SinkConfig.TABLE_COMPACTION_MIN_INPUT_FILES.key(), minInputFiles);
+        if (smallFileSizeBytes != null) {
+            configs.put(
+                    SinkConfig.TABLE_COMPACTION_SMALL_FILE_SIZE_BYTES.key(), smallFileSizeBytes);
+        }
+        return new SinkConfig(ReadonlyConfig.fromMap(configs));
+    }
+
+    private Table createTable(SinkConfig config, PartitionSpec spec, int formatVersion) {
+        tableLoader = IcebergTableLoader.create(config).open();
+        return tableLoader
+                .getCatalog()
+                .createTable(
+                        tableLoader.getTableIdentifier(),
+                        SCHEMA,
+                        spec,
+                        Collections.singletonMap(
+                                TableProperties.FORMAT_VERSION, String.valueOf(formatVersion)));
+    }
+
+    private static Record record(Table table, long id, String name) {
+        return GenericRecord.create(table.schema()).copy("id", id, "name", name);
+    }
+
+    private static void append(Table table, long id) throws IOException {
+        DataFile dataFile = writeDataFile(table, id, record(table, id, "name_" + id));
+        table.newAppend().appendFile(dataFile).commit();
+    }
+
+    private static DataFile writeDataFile(Table table, long fileId, Record... records)
+            throws IOException {
+        OutputFileFactory fileFactory =
+                OutputFileFactory.builderFor(table, 1, fileId).format(FileFormat.PARQUET).build();
+        PartitionKey partition = null;
+        EncryptedOutputFile outputFile;
+        if (table.spec().isUnpartitioned()) {
+            outputFile = fileFactory.newOutputFile();
+        } else {
+            partition = new PartitionKey(table.spec(), table.schema());
+            partition.partition(records[0]);
+            outputFile = fileFactory.newOutputFile(table.spec(), partition);
+        }
+        DataWriter<Record> writer =
+                new GenericAppenderFactory(table.schema(), table.spec())
+                        .newDataWriter(outputFile, FileFormat.PARQUET, partition);
+        try (DataWriter<Record> closeable = writer) {
+            Arrays.stream(records).forEach(closeable::write);
+        }
+        return writer.toDataFile();
+    }
+
+    private static DeleteFile writePositionDelete(Table table, DataFile dataFile, long position)
+            throws IOException {
+        PositionDeleteWriter<Record> writer =
+                new GenericAppenderFactory(table.schema(), table.spec())
+                        .newPosDeleteWriter(deleteOutputFile(table), FileFormat.PARQUET, null);
+        try (PositionDeleteWriter<Record> closeable = writer) {
+            closeable.write(PositionDelete.<Record>create().set(dataFile.path(), position, null));
+        }
+        return writer.toDeleteFile();
+    }
+
+    private static DeleteFile writeEqualityDelete(Table table, long id) throws IOException {
+        Schema deleteSchema = table.schema().select("id");
+        EqualityDeleteWriter<Record> writer =
+                new GenericAppenderFactory(
+                                table.schema(),
+                                table.spec(),
+                                new int[] {table.schema().findField("id").fieldId()},
+                                deleteSchema,
+                                null)
+                        .newEqDeleteWriter(deleteOutputFile(table), FileFormat.PARQUET, null);
+        try (EqualityDeleteWriter<Record> closeable = writer) {
+            closeable.write(GenericRecord.create(deleteSchema).copy("id", id));
+        }
+        return writer.toDeleteFile();
+    }
+
+    private static EncryptedOutputFile deleteOutputFile(Table table) {
+        return OutputFileFactory.builderFor(table, 2, System.nanoTime())
+                .format(FileFormat.PARQUET)
+                .build()
+                .newOutputFile();
+    }
+
+    private static int dataFiles(Table table) throws IOException {
+        table.refresh();
+        try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+            return Lists.newArrayList(tasks).size();
+        }
+    }
+
+    private static int deleteFiles(Table table) throws IOException {
+        table.refresh();
+        Set<String> deletes = new HashSet<>();
+        try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+            for (FileScanTask task : tasks) {
+                task.deletes().forEach(deleteFile -> deletes.add(deleteFile.path().toString()));
+            }
+        }
+        return deletes.size();
+    }
+
+    private static Set<Long> ids(Table table) throws IOException {
+        table.refresh();
+        Set<Long> ids = new HashSet<>();
+        try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+            records.forEach(record -> ids.add((Long) record.getField("id")));
+        }
+        return ids;
+    }
+
+    private static Set<Long> set(Long... ids) {
+        return new HashSet<>(Arrays.asList(ids));
+    }
+}
@@ -94,6 +94,15 @@ public interface JdbcSourceOptions {
                                     + "For example, a value of 1000 means a sampling rate of 1/1000. "
                                     + "This parameter is used when the sample sharding strategy is triggered.");
 
+    Option<Boolean> SPLIT_RESUMABLE =
+            Options.key("split.resumable")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Read the splits in the order of the split key if it is a single column primary key or unique key, "
+                                    + "so an unfinished split is resumed from the last emitted key after failover "
+                                    + "instead of being read again from the start. Only works with the dynamic chunk splitter.");
+
     Option<Boolean> USE_SELECT_COUNT =
             Options.key("use_select_count")
                     .booleanType()
@@ -19,6 +19,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.RowKind;
@@ -41,6 +42,8 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,12 +59,16 @@ public class JdbcInputFormat implements Serializable {
     private final JdbcDialect jdbcDialect;
     private final JdbcRowConverter jdbcRowConverter;
     private final Map<TablePath, CatalogTable> tables;
+    private final List<String> projectedColumns;
     private final ChunkSplitter chunkSplitter;
 
     private transient String splitTableId;
     private transient TableSchema splitTableSchema;
+    private transient TableSchema outputTableSchema;
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
+    private transient JdbcSourceSplit currentSplit;
+    private transient int splitKeyIndex;
     private volatile boolean hasNext;
 
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
@@ -71,6 +78,7 @@ public class JdbcInputFormat implements Serializable {
         this.chunkSplitter = ChunkSplitter.create(config);
         this.jdbcRowConverter = jdbcDialect.getRowConverter();
         this.tables = tables;
+        this.projectedColumns = config.getProjectedColumns();
     }
 
     public void openInputFormat() {}
@@ -92,9 +100,29 @@ public class JdbcInputFormat implements Serializable {
      */
     public void open(JdbcSourceSplit inputSplit) throws IOException {
         try {
-            splitTableSchema = tables.get(inputSplit.getTablePath()).getTableSchema();
+            CatalogTable splitTable = tables.get(inputSplit.getTablePath());
+            splitTableSchema = splitTable.getTableSchema();
+            outputTableSchema =
+                    projectedColumns == null
+                            ? splitTableSchema
+                            : CatalogTableUtil.projectCatalogTable(splitTable, projectedColumns)
+                                    .getTableSchema();
             splitTableId = inputSplit.getTablePath().toString();
 
+            currentSplit = inputSplit;
+            splitKeyIndex = chunkSplitter.getResumableSplitKeyIndex(inputSplit, splitTableSchema);
+            if (splitKeyIndex >= 0 && outputTableSchema != splitTableSchema) {
+                // the split is not resumable when its split key is not selected
+                String splitKeyName = splitTableSchema.getFieldNames()[splitKeyIndex];
+                splitKeyIndex =
+                        Arrays.asList(outputTableSchema.getFieldNames()).indexOf(splitKeyName);
+            }
+            if (inputSplit.getLastEmittedKey() != null) {
+                LOG.info(
+                        "Resume split {} after the split key {}",
+                        inputSplit.splitId(),
+                        inputSplit.getLastEmittedKey());
+            }
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
             hasNext = resultSet.next();
@@ -128,6 +156,11 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    /** Whether the opened split records its last emitted key, so it can be resumed after it. */
+    public boolean isResumable() {
+        return splitKeyIndex >= 0;
+    }
+
     /**
      * Checks whether all data has been read.
      *
@@ -143,9 +176,12 @@ public class JdbcInputFormat implements Serializable {
             if (!hasNext) {
                 return null;
             }
-            SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, splitTableSchema);
+            SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, outputTableSchema);
             seaTunnelRow.setTableId(splitTableId);
             seaTunnelRow.setRowKind(RowKind.INSERT);
+            if (splitKeyIndex >= 0) {
+                currentSplit.setLastEmittedKey(seaTunnelRow.getField(splitKeyIndex));
+            }
 
             // update hasNext after we've read the record
             hasNext = resultSet.next();
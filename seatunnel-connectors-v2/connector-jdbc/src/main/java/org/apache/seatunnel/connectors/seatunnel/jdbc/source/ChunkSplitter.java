@@ -124,20 +124,78 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
+    /**
+     * Returns the index of the split key in the rows of the split if the split is read in the order
+     * of an unique and not nullable split key, so it can be resumed from the last emitted key.
+     * Returns -1 otherwise.
+     */
+    public int getResumableSplitKeyIndex(JdbcSourceSplit split, TableSchema schema) {
+        return -1;
+    }
+
+    protected boolean isUniqueKey(TableSchema schema, String columnName) {
+        PrimaryKey pk = schema.getPrimaryKey();
+        if (pk != null && pk.getColumnNames().equals(Collections.singletonList(columnName))) {
+            return true;
+        }
+        List<ConstraintKey> constraintKeys = schema.getConstraintKeys();
+        if (constraintKeys == null) {
+            return false;
+        }
+        return constraintKeys.stream()
+                .filter(
+                        constraintKey ->
+                                constraintKey.getConstraintType()
+                                        == ConstraintKey.ConstraintType.UNIQUE_KEY)
+                .anyMatch(
+                        uniqueKey ->
+                                uniqueKey.getColumnNames().size() == 1
+                                        && columnName.equals(
+                                                uniqueKey.getColumnNames().get(0).getColumnName()));
+    }
+
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null);
+    }
+
+    /**
+     * @param orderByColumn the rows are sorted by the column if not null, the order is applied
+     *     after the common where condition so it is kept by the outer query.
+     */
+    protected PreparedStatement createPreparedStatement(String sql, String orderByColumn)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
         if (connection.getAutoCommit() != autoCommit) {
             connection.setAutoCommit(autoCommit);
         }
-        if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
-            sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
-        }
+        sql = createStatementSQL(sql, orderByColumn);
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
 
+    /** Apply the projected columns, the common where condition and the order to the split sql. */
+    protected String createStatementSQL(String sql, String orderByColumn) {
+        String whereConditionClause = config.getWhereConditionClause();
+        if (config.getProjectedColumns() != null) {
+            String columns =
+                    config.getProjectedColumns().stream()
+                            .map(jdbcDialect::quoteIdentifier)
+                            .collect(Collectors.joining(", "));
+            sql = String.format("SELECT %s FROM (%s) tmp", columns, sql);
+            if (StringUtils.isNotBlank(whereConditionClause)) {
+                sql = String.format("%s %s", sql, whereConditionClause);
+            }
+        } else if (StringUtils.isNotBlank(whereConditionClause)) {
+            sql = String.format("SELECT * FROM (%s) tmp %s", sql, whereConditionClause);
+        }
+        if (orderByColumn != null) {
+            sql = String.format("%s ORDER BY %s", sql, orderByColumn);
+        }
+        return sql;
+    }
+
     protected Connection getOrEstablishConnection() throws SQLException {
         try {
             return connectionProvider.getOrEstablishConnection();
@@ -43,6 +43,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -72,6 +73,21 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return createDynamicSplitStatement(split, schema);
     }
 
+    @Override
+    public int getResumableSplitKeyIndex(JdbcSourceSplit split, TableSchema schema) {
+        if (!config.isSplitResumable()
+                || split.getSplitKeyName() == null
+                || !isUniqueKey(schema, split.getSplitKeyName())) {
+            return -1;
+        }
+        int splitKeyIndex = Arrays.asList(schema.getFieldNames()).indexOf(split.getSplitKeyName());
+        // rows with a NULL split key don't match the `> ?` predicate of a resumed split
+        if (splitKeyIndex < 0 || schema.getColumns().get(splitKeyIndex).isNullable()) {
+            return -1;
+        }
+        return splitKeyIndex;
+    }
+
     private Collection<JdbcSourceSplit> createDynamicSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
         String splitKeyName = splitKey.getFieldNames()[0];
@@ -98,7 +114,11 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        String orderByColumn =
+                getResumableSplitKeyIndex(split, schema) < 0
+                        ? null
+                        : jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        PreparedStatement statement = createPreparedStatement(splitQuery, orderByColumn);
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
@@ -463,7 +483,7 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         boolean isFirstSplit = split.getSplitStart() == null;
         boolean isLastSplit = split.getSplitEnd() == null;
 
-        final String condition;
+        String condition;
         if (isFirstSplit && isLastSplit) {
             condition = null;
         } else if (isFirstSplit) {
@@ -488,6 +508,16 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             condition = sql.toString();
         }
 
+        if (split.getLastEmittedKey() != null) {
+            // resume the split after the last emitted key
+            StringBuilder sql = new StringBuilder();
+            if (condition != null) {
+                sql.append(condition).append(" AND ");
+            }
+            addKeyColumnsToCondition(schema, rowType, sql, " > ?");
+            condition = sql.toString();
+        }
+
         String splitQuery = split.getSplitQuery();
         if (StringUtils.isNotBlank(splitQuery)) {
             splitQuery = String.format("SELECT * FROM (%s) tmp", splitQuery);
@@ -525,28 +555,32 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
         boolean isFirstSplit = split.getSplitStart() == null;
         boolean isLastSplit = split.getSplitEnd() == null;
-        if (isFirstSplit && isLastSplit) {
-            return;
-        }
 
         Object[] splitStart = new Object[] {split.getSplitStart()};
         Object[] splitEnd = new Object[] {split.getSplitEnd()};
         int splitKeyNumbers = 1;
-        if (isFirstSplit) {
+        int parameterIndex = 0;
+        if (isFirstSplit && !isLastSplit) {
             for (int i = 0; i < splitKeyNumbers; i++) {
                 statement.setObject(i + 1, splitEnd[i]);
                 statement.setObject(i + 1 + splitKeyNumbers, splitEnd[i]);
             }
-        } else if (isLastSplit) {
+            parameterIndex = 2 * splitKeyNumbers;
+        } else if (isLastSplit && !isFirstSplit) {
             for (int i = 0; i < splitKeyNumbers; i++) {
                 statement.setObject(i + 1, splitStart[i]);
             }
-        } else {
+            parameterIndex = splitKeyNumbers;
+        } else if (!isFirstSplit) {
             for (int i = 0; i < splitKeyNumbers; i++) {
                 statement.setObject(i + 1, splitStart[i]);
                 statement.setObject(i + 1 + splitKeyNumbers, splitEnd[i]);
                 statement.setObject(i + 1 + 2 * splitKeyNumbers, splitEnd[i]);
             }
+            parameterIndex = 3 * splitKeyNumbers;
+        }
+        if (split.getLastEmittedKey() != null) {
+            statement.setObject(parameterIndex + 1, split.getLastEmittedKey());
         }
     }
 
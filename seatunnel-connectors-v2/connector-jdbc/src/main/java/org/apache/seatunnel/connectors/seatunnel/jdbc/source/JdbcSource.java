@@ -17,17 +17,24 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.JdbcCatalogUtils;
 
@@ -36,6 +43,8 @@ import org.slf4j.LoggerFactory;
 
 import lombok.SneakyThrows;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +53,8 @@ import java.util.stream.Collectors;
 public class JdbcSource
         implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit, JdbcSourceState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
 
     private final JdbcSourceConfig jdbcSourceConfig;
@@ -59,6 +69,13 @@ public class JdbcSource
                         jdbcSourceConfig.getTableConfigList());
     }
 
+    @VisibleForTesting
+    JdbcSource(
+            JdbcSourceConfig jdbcSourceConfig, Map<TablePath, JdbcSourceTable> jdbcSourceTables) {
+        this.jdbcSourceConfig = jdbcSourceConfig;
+        this.jdbcSourceTables = jdbcSourceTables;
+    }
+
     @Override
     public String getPluginName() {
         return "Jdbc";
@@ -71,11 +88,107 @@ public class JdbcSource
 
     @Override
     public List<CatalogTable> getProducedCatalogTables() {
+        List<String> projectedColumns = jdbcSourceConfig.getProjectedColumns();
         return jdbcSourceTables.values().stream()
                 .map(JdbcSourceTable::getCatalogTable)
+                .map(
+                        catalogTable ->
+                                projectedColumns == null
+                                        ? catalogTable
+                                        : CatalogTableUtil.projectCatalogTable(
+                                                catalogTable, projectedColumns))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        // the projection and the filters are shared by all tables
+        if (jdbcSourceTables.size() != 1) {
+            return false;
+        }
+        jdbcSourceConfig.setProjectedColumns(new ArrayList<>(fieldNames));
+        return true;
+    }
+
+    @Override
+    public List<SourcePredicate> applyFilters(List<SourcePredicate> predicates) {
+        List<SourcePredicate> pushedPredicates = new ArrayList<>();
+        if (jdbcSourceTables.size() != 1) {
+            return pushedPredicates;
+        }
+        JdbcDialect jdbcDialect =
+                JdbcDialectLoader.load(
+                        jdbcSourceConfig.getJdbcConnectionConfig().getUrl(),
+                        jdbcSourceConfig.getCompatibleMode());
+        List<String> conditions = new ArrayList<>();
+        String whereConditionClause = jdbcSourceConfig.getWhereConditionClause();
+        if (whereConditionClause != null) {
+            // the clause starts with 'where'
+            conditions.add(
+                    String.format("(%s)", whereConditionClause.trim().substring(5).trim()));
+        }
+        for (SourcePredicate predicate : predicates) {
+            String condition = toCondition(jdbcDialect, predicate);
+            if (condition != null) {
+                conditions.add(condition);
+                pushedPredicates.add(predicate);
+            }
+        }
+        if (!pushedPredicates.isEmpty()) {
+            jdbcSourceConfig.setWhereConditionClause("WHERE " + String.join(" AND ", conditions));
+        }
+        return pushedPredicates;
+    }
+
+    private static String toCondition(JdbcDialect jdbcDialect, SourcePredicate predicate) {
+        String column = jdbcDialect.quoteIdentifier(predicate.getFieldName());
+        List<String> values = new ArrayList<>();
+        for (Object value : predicate.getValues()) {
+            String literal = toLiteral(value);
+            if (literal == null) {
+                return null;
+            }
+            values.add(literal);
+        }
+        switch (predicate.getOperator()) {
+            case EQUAL:
+                return column + " = " + values.get(0);
+            case LESS_THAN:
+                return column + " < " + values.get(0);
+            case LESS_THAN_OR_EQUAL:
+                return column + " <= " + values.get(0);
+            case GREATER_THAN:
+                return column + " > " + values.get(0);
+            case GREATER_THAN_OR_EQUAL:
+                return column + " >= " + values.get(0);
+            case IS_NULL:
+                return column + " IS NULL";
+            case IS_NOT_NULL:
+                return column + " IS NOT NULL";
+            case IN:
+                return String.format("%s IN (%s)", column, String.join(", ", values));
+            default:
+                return null;
+        }
+    }
+
+    private static String toLiteral(Object value) {
+        if (value instanceof Byte
+                || value instanceof Short
+                || value instanceof Integer
+                || value instanceof Long) {
+            return value.toString();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        // backslashes are escape characters in some databases
+        if (value instanceof String && !((String) value).contains("\\")) {
+            return "'" + ((String) value).replace("'", "''") + "'";
+        }
+        return null;
+    }
+
     @Override
     public SourceReader<SeaTunnelRow, JdbcSourceSplit> createReader(
             SourceReader.Context readerContext) throws Exception {
@@ -36,9 +36,12 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
+    private static final int POLL_BATCH_SIZE = 1024;
+
     private final Context context;
     private final JdbcInputFormat inputFormat;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    private JdbcSourceSplit currentSplit;
     private volatile boolean noMoreSplit;
 
     public JdbcSourceReader(
@@ -61,30 +64,64 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
+            if (currentSplit == null) {
+                JdbcSourceSplit split = splits.poll();
+                if (null != split) {
                     inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
-                    }
-                } finally {
-                    inputFormat.close();
+                    currentSplit = split;
+                } else if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                    return;
+                } else {
+                    Thread.sleep(1000L);
+                    return;
+                }
+            }
+            // a split resumable from its last emitted key is read in bounded batches, so the
+            // checkpoint barrier doesn't wait until the whole split is read. Other splits are read
+            // at once, a checkpoint taken in the middle of them would duplicate the emitted rows
+            int batchSize = inputFormat.isResumable() ? POLL_BATCH_SIZE : Integer.MAX_VALUE;
+            try {
+                for (int i = 0; i < batchSize && !inputFormat.reachedEnd(); i++) {
+                    output.collect(inputFormat.nextRecord());
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
+            } catch (Exception e) {
+                closeCurrentSplit();
+                throw e;
+            }
+            if (inputFormat.reachedEnd()) {
+                closeCurrentSplit();
             }
         }
     }
 
+    private void closeCurrentSplit() throws IOException {
+        currentSplit = null;
+        inputFormat.close();
+    }
+
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            // only a resumable split is left open between polls, it is resumed after its last
+            // emitted key, or read again from the start if no row was emitted yet
+            JdbcSourceSplit split =
+                    new JdbcSourceSplit(
+                            currentSplit.getTablePath(),
+                            currentSplit.getSplitId(),
+                            currentSplit.getSplitQuery(),
+                            currentSplit.getSplitKeyName(),
+                            currentSplit.getSplitKeyType(),
+                            currentSplit.getSplitStart(),
+                            currentSplit.getSplitEnd());
+            split.setLastEmittedKey(currentSplit.getLastEmittedKey());
+            state.add(split);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
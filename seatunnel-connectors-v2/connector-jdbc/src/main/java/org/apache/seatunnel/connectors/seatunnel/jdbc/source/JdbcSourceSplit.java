@@ -21,14 +21,18 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Data
 @ToString
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    // the serial version of the splits written before the last emitted key was added
+    private static final long serialVersionUID = -815542654355310611L;
+
     private final TablePath tablePath;
     private final String splitId;
     private final String splitQuery;
@@ -37,6 +41,12 @@ public class JdbcSourceSplit implements SourceSplit {
     private final Object splitStart;
     private final Object splitEnd;
 
+    /**
+     * The split key of the last row emitted from this split, the split is resumed after it on
+     * restore. Only set if the split is read in the order of an unique split key.
+     */
+    @EqualsAndHashCode.Exclude private Object lastEmittedKey;
+
     @Override
     public String splitId() {
         return splitId;
@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -112,6 +114,107 @@ public class DynamicChunkSplitterTest {
                 splitQuerySQL);
     }
 
+    @Test
+    public void testResumeSplitQuerySQL() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:postgresql://localhost:5432/test")
+                                        .driverName("org.postgresql.Driver")
+                                        .build())
+                        .splitResumable(true)
+                        .build();
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("name")
+                                                .sourceType("varchar")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .build(),
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("int4")
+                                                .dataType(BasicType.INT_TYPE)
+                                                .build()))
+                        .primaryKey(PrimaryKey.of("pk", Arrays.asList("id")))
+                        .build();
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        1,
+                        10);
+        assertEquals(1, splitter.getResumableSplitKeyIndex(split, tableSchema));
+
+        split.setLastEmittedKey(5);
+        Assertions.assertEquals(
+                "SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" >= ? AND NOT (\"id\" = ?) AND \"id\" <= ? AND \"id\" > ?",
+                splitter.createDynamicSplitQuerySQL(split, tableSchema));
+
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        null,
+                        null);
+        split.setLastEmittedKey(5);
+        Assertions.assertEquals(
+                "SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" > ?",
+                splitter.createDynamicSplitQuerySQL(split, tableSchema));
+
+        // the split can't be resumed if the split key is not unique
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "name",
+                        BasicType.STRING_TYPE,
+                        null,
+                        null);
+        assertEquals(-1, splitter.getResumableSplitKeyIndex(split, tableSchema));
+
+        // the split can't be resumed if the split key is nullable
+        tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("int4")
+                                                .dataType(BasicType.INT_TYPE)
+                                                .nullable(true)
+                                                .build()))
+                        .constraintKey(
+                                ConstraintKey.of(
+                                        ConstraintKey.ConstraintType.UNIQUE_KEY,
+                                        "uk",
+                                        Arrays.asList(
+                                                ConstraintKey.ConstraintKeyColumn.of("id", null))))
+                        .build();
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        null,
+                        null);
+        assertEquals(-1, splitter.getResumableSplitKeyIndex(split, tableSchema));
+    }
+
     @Test
     public void testEfficientShardingThroughSampling() throws NoSuchMethodException {
         TablePath tablePath = new TablePath("db", "xe", "table");
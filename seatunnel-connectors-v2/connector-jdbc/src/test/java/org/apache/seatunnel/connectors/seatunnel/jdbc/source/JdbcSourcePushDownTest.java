@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SourcePredicate.Operator;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JdbcSourcePushDownTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("db", "t");
+
+    private static final String TABLE_QUERY = "SELECT * FROM `db`.`t`";
+
+    @Test
+    public void testProjection() {
+        JdbcSourceConfig config = createConfig(null);
+        JdbcSource source = createSource(config, TABLE_PATH);
+
+        Assertions.assertTrue(source.applyProjection(Arrays.asList("name", "id")));
+        CatalogTable producedTable = source.getProducedCatalogTables().get(0);
+        Assertions.assertArrayEquals(
+                new String[] {"name", "id"}, producedTable.getSeaTunnelRowType().getFieldNames());
+
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+        Assertions.assertEquals(
+                "SELECT `name`, `id` FROM (SELECT * FROM `db`.`t`) tmp",
+                splitter.createStatementSQL(TABLE_QUERY, null));
+        Assertions.assertEquals(
+                "SELECT `name`, `id` FROM (SELECT * FROM `db`.`t`) tmp ORDER BY `id`",
+                splitter.createStatementSQL(TABLE_QUERY, "`id`"));
+    }
+
+    @Test
+    public void testFilters() {
+        JdbcSourceConfig config = createConfig(null);
+        JdbcSource source = createSource(config, TABLE_PATH);
+
+        List<SourcePredicate> predicates =
+                Arrays.asList(
+                        SourcePredicate.of("age", Operator.GREATER_THAN, 18),
+                        SourcePredicate.of("name", Operator.EQUAL, "o'neil"),
+                        SourcePredicate.of("name", Operator.IN, "a", "b"),
+                        SourcePredicate.of("id", Operator.IS_NOT_NULL),
+                        // double literals and backslashes are not pushed
+                        SourcePredicate.of("age", Operator.LESS_THAN, 60.5d),
+                        SourcePredicate.of("name", Operator.EQUAL, "a\\b"));
+        Assertions.assertEquals(predicates.subList(0, 4), source.applyFilters(predicates));
+        Assertions.assertEquals(
+                "WHERE `age` > 18 AND `name` = 'o''neil' AND `name` IN ('a', 'b') AND `id` IS NOT NULL",
+                config.getWhereConditionClause());
+
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+        Assertions.assertEquals(
+                "SELECT * FROM (SELECT * FROM `db`.`t`) tmp WHERE `age` > 18 AND `name` = 'o''neil' AND `name` IN ('a', 'b') AND `id` IS NOT NULL",
+                splitter.createStatementSQL(TABLE_QUERY, null));
+    }
+
+    @Test
+    public void testMergeWhereCondition() {
+        JdbcSourceConfig config = createConfig("where age < 60 or name is null");
+        JdbcSource source = createSource(config, TABLE_PATH);
+
+        Assertions.assertTrue(source.applyProjection(Collections.singletonList("name")));
+        Assertions.assertEquals(
+                1,
+                source.applyFilters(
+                                Collections.singletonList(
+                                        SourcePredicate.of("age", Operator.GREATER_THAN, 18)))
+                        .size());
+        // the condition of the user is kept as a whole, so its OR is not mixed with the AND
+        Assertions.assertEquals(
+                "WHERE (age < 60 or name is null) AND `age` > 18",
+                config.getWhereConditionClause());
+
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+        Assertions.assertEquals(
+                "SELECT `name` FROM (SELECT * FROM `db`.`t`) tmp WHERE (age < 60 or name is null) AND `age` > 18 ORDER BY `id`",
+                splitter.createStatementSQL(TABLE_QUERY, "`id`"));
+    }
+
+    @Test
+    public void testKeepWhereConditionWithoutPushedFilters() {
+        JdbcSourceConfig config = createConfig("where age < 60");
+        JdbcSource source = createSource(config, TABLE_PATH);
+
+        Assertions.assertTrue(
+                source.applyFilters(
+                                Collections.singletonList(
+                                        SourcePredicate.of("age", Operator.GREATER_THAN, 1.5d)))
+                        .isEmpty());
+        Assertions.assertEquals("where age < 60", config.getWhereConditionClause());
+        Assertions.assertEquals(
+                "SELECT * FROM (SELECT * FROM `db`.`t`) tmp where age < 60",
+                new DynamicChunkSplitter(config).createStatementSQL(TABLE_QUERY, null));
+    }
+
+    @Test
+    public void testNoPushDownForMultipleTables() {
+        JdbcSourceConfig config = createConfig(null);
+        JdbcSource source = createSource(config, TABLE_PATH, TablePath.of("db", "t2"));
+
+        Assertions.assertFalse(source.applyProjection(Collections.singletonList("name")));
+        Assertions.assertTrue(
+                source.applyFilters(
+                                Collections.singletonList(
+                                        SourcePredicate.of("age", Operator.GREATER_THAN, 18)))
+                        .isEmpty());
+        Assertions.assertNull(config.getProjectedColumns());
+        Assertions.assertNull(config.getWhereConditionClause());
+        Assertions.assertEquals(
+                TABLE_QUERY,
+                new DynamicChunkSplitter(config).createStatementSQL(TABLE_QUERY, null));
+    }
+
+    private static JdbcSourceConfig createConfig(String whereConditionClause) {
+        return JdbcSourceConfig.builder()
+                .jdbcConnectionConfig(
+                        JdbcConnectionConfig.builder()
+                                .url("jdbc:mysql://localhost:3306/db")
+                                .driverName("com.mysql.cj.jdbc.Driver")
+                                .build())
+                .whereConditionClause(whereConditionClause)
+                .build();
+    }
+
+    private static JdbcSource createSource(JdbcSourceConfig config, TablePath... tablePaths) {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "age"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.LONG_TYPE, BasicType.STRING_TYPE, BasicType.INT_TYPE
+                        });
+        Map<TablePath, JdbcSourceTable> tables = new HashMap<>();
+        for (TablePath tablePath : tablePaths) {
+            tables.put(
+                    tablePath,
+                    JdbcSourceTable.builder()
+                            .tablePath(tablePath)
+                            .catalogTable(
+                                    CatalogTableUtil.getCatalogTable(
+                                            "mysql",
+                                            tablePath.getDatabaseName(),
+                                            null,
+                                            tablePath.getTableName(),
+                                            rowType))
+                            .build());
+        }
+        return new JdbcSource(config, tables);
+    }
+}
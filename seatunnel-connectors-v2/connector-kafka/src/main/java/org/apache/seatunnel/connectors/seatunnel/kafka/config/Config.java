@@ -168,6 +168,15 @@ public class Config {
                     .defaultValue(10000L)
                     .withDescription("The interval for poll message");
 
+    public static final Option<Integer> DECODE_PARALLELISM =
+            Options.key("decode.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads to deserialize the fetched messages of one reader. "
+                                    + "The messages of one partition are always deserialized in order. "
+                                    + "The default value 1 deserializes the messages in the reader thread.");
+
     public static final Option<MessageFormatErrorHandleWay> MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION =
             Options.key("format_error_handle_way")
                     .enumType(MessageFormatErrorHandleWay.class)
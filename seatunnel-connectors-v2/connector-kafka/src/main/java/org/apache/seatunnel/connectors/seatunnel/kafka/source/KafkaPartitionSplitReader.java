@@ -20,12 +20,15 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.shade.com.google.common.base.Preconditions;
 
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.utils.TemporaryClassLoaderContext;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.StartMode;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -54,11 +57,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class KafkaPartitionSplitReader
-        implements SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+public class KafkaPartitionSplitReader implements SplitReader<KafkaSourceRecord, KafkaSourceSplit> {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaPartitionSplitReader.class);
 
@@ -75,9 +79,17 @@ public class KafkaPartitionSplitReader
 
     private final long pollTimeout;
 
+    /** Null if the records are deserialized by the reader thread. */
+    @Nullable private final KafkaRecordDecoder recordDecoder;
+
+    private final Map<TopicPartition, TablePath> partitionTablePaths = new HashMap<>();
+
     public KafkaPartitionSplitReader(
-            KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context) {
+            KafkaSourceConfig kafkaSourceConfig,
+            SourceReader.Context context,
+            @Nullable KafkaRecordDecoder recordDecoder) {
         this.kafkaSourceConfig = kafkaSourceConfig;
+        this.recordDecoder = recordDecoder;
         this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask());
         this.stoppingOffsets = new HashMap<>();
         this.groupId =
@@ -86,7 +98,7 @@ public class KafkaPartitionSplitReader
     }
 
     @Override
-    public RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> fetch() throws IOException {
+    public RecordsWithSplitIds<KafkaSourceRecord> fetch() throws IOException {
         ConsumerRecords<byte[], byte[]> consumerRecords;
         try {
             consumerRecords = consumer.poll(Duration.ofMillis(pollTimeout));
@@ -96,12 +108,24 @@ public class KafkaPartitionSplitReader
             // stopping offset). We just mark empty partitions as finished and return an empty
             // record container, and this consumer will be closed by SplitFetcherManager.
             KafkaPartitionSplitRecords recordsBySplits =
-                    new KafkaPartitionSplitRecords(ConsumerRecords.empty());
+                    new KafkaPartitionSplitRecords(ConsumerRecords.empty(), null);
             markEmptySplitsAsFinished(recordsBySplits);
             return recordsBySplits;
         }
+        Map<TopicPartition, Future<List<KafkaSourceRecord>>> decodedRecords = null;
+        if (recordDecoder != null) {
+            // decode the partitions in parallel, while the reader is still emitting the
+            // previous fetched records
+            decodedRecords = new HashMap<>();
+            for (TopicPartition tp : consumerRecords.partitions()) {
+                decodedRecords.put(
+                        tp,
+                        recordDecoder.decode(
+                                partitionTablePaths.get(tp), consumerRecords.records(tp)));
+            }
+        }
         KafkaPartitionSplitRecords recordsBySplits =
-                new KafkaPartitionSplitRecords(consumerRecords);
+                new KafkaPartitionSplitRecords(consumerRecords, decodedRecords);
         List<TopicPartition> finishedPartitions = new ArrayList<>();
         for (TopicPartition tp : consumerRecords.partitions()) {
             long stoppingOffset = getStoppingOffset(tp);
@@ -185,6 +209,7 @@ public class KafkaPartitionSplitReader
                 .forEach(
                         s -> {
                             newPartitionAssignments.add(s.getTopicPartition());
+                            partitionTablePaths.put(s.getTopicPartition(), s.getTablePath());
                             parseStartingOffsets(
                                     s,
                                     partitionsStartingFromEarliest,
@@ -396,18 +421,22 @@ public class KafkaPartitionSplitReader
     }
 
     private static class KafkaPartitionSplitRecords
-            implements RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> {
+            implements RecordsWithSplitIds<KafkaSourceRecord> {
 
         private final Set<String> finishedSplits = new HashSet<>();
         private final Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
         private final ConsumerRecords<byte[], byte[]> consumerRecords;
+        @Nullable private final Map<TopicPartition, Future<List<KafkaSourceRecord>>> decodedRecords;
         private final Iterator<TopicPartition> splitIterator;
-        private Iterator<ConsumerRecord<byte[], byte[]>> recordIterator;
+        private Iterator<KafkaSourceRecord> recordIterator;
         private TopicPartition currentTopicPartition;
         private Long currentSplitStoppingOffset;
 
-        private KafkaPartitionSplitRecords(ConsumerRecords<byte[], byte[]> consumerRecords) {
+        private KafkaPartitionSplitRecords(
+                ConsumerRecords<byte[], byte[]> consumerRecords,
+                @Nullable Map<TopicPartition, Future<List<KafkaSourceRecord>>> decodedRecords) {
             this.consumerRecords = consumerRecords;
+            this.decodedRecords = decodedRecords;
             this.splitIterator = consumerRecords.partitions().iterator();
         }
 
@@ -424,7 +453,7 @@ public class KafkaPartitionSplitReader
         public String nextSplit() {
             if (splitIterator.hasNext()) {
                 currentTopicPartition = splitIterator.next();
-                recordIterator = consumerRecords.records(currentTopicPartition).iterator();
+                recordIterator = recordIterator(currentTopicPartition);
                 currentSplitStoppingOffset =
                         stoppingOffsets.getOrDefault(currentTopicPartition, Long.MAX_VALUE);
                 return currentTopicPartition.toString();
@@ -436,16 +465,38 @@ public class KafkaPartitionSplitReader
             }
         }
 
+        private Iterator<KafkaSourceRecord> recordIterator(TopicPartition topicPartition) {
+            if (decodedRecords == null) {
+                return consumerRecords.records(topicPartition).stream()
+                        .map(KafkaSourceRecord::of)
+                        .iterator();
+            }
+            try {
+                return decodedRecords.get(topicPartition).get().iterator();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaConnectorException(
+                        KafkaConnectorErrorCode.CONSUME_DATA_FAILED,
+                        "Interrupted while decoding the records of " + topicPartition,
+                        e);
+            } catch (ExecutionException e) {
+                throw new KafkaConnectorException(
+                        KafkaConnectorErrorCode.CONSUME_DATA_FAILED,
+                        "Failed to decode the records of " + topicPartition,
+                        e.getCause());
+            }
+        }
+
         @Nullable @Override
-        public ConsumerRecord<byte[], byte[]> nextRecordFromSplit() {
+        public KafkaSourceRecord nextRecordFromSplit() {
             Preconditions.checkNotNull(
                     currentTopicPartition,
                     "Make sure nextSplit() did not return null before "
                             + "iterate over the records split.");
             if (recordIterator.hasNext()) {
-                final ConsumerRecord<byte[], byte[]> record = recordIterator.next();
+                final KafkaSourceRecord record = recordIterator.next();
                 // Only emit records before stopping offset
-                if (record.offset() < currentSplitStoppingOffset) {
+                if (record.getConsumerRecord().offset() < currentSplitStoppingOffset) {
                     return record;
                 }
             }
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deserializes the records fetched from kafka in a worker pool, so the deserialization is not
+ * limited to the single reader thread. The records of one partition are decoded in order by one
+ * task, the records of different partitions are decoded in parallel.
+ */
+@Slf4j
+public class KafkaRecordDecoder implements Closeable {
+
+    private static final String DECODE_TIME = "KafkaRecordDecodeTime";
+    private static final String DECODE_QUEUE_DEPTH = "KafkaRecordDecodeQueueDepth";
+
+    private final Map<TablePath, ConsumerMetadata> mapMetadata;
+    private final ExecutorService executorService;
+
+    /** The deserialization schema is not thread safe, every worker uses its own copies. */
+    private final ThreadLocal<Map<TablePath, DeserializationSchema<SeaTunnelRow>>> schemas;
+
+    /** The total time in milliseconds spent on deserialization. */
+    private final Counter decodeTime;
+
+    /** The number of partition batches waiting to be decoded or being decoded. */
+    private final Counter queueDepth;
+
+    public KafkaRecordDecoder(
+            Map<TablePath, ConsumerMetadata> mapMetadata,
+            int parallelism,
+            MetricsContext metricsContext) {
+        this.mapMetadata = mapMetadata;
+        ClassLoader classLoader = KafkaRecordDecoder.class.getClassLoader();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName("kafka-record-decoder-" + threadIndex.getAndIncrement());
+                            thread.setDaemon(true);
+                            thread.setContextClassLoader(classLoader);
+                            return thread;
+                        });
+        this.schemas = ThreadLocal.withInitial(() -> copySchemas(classLoader));
+        this.decodeTime = metricsContext.counter(DECODE_TIME);
+        this.queueDepth = metricsContext.counter(DECODE_QUEUE_DEPTH);
+    }
+
+    /** Submit the records of one partition, the decoded records keep the order of the input. */
+    public Future<List<KafkaSourceRecord>> decode(
+            TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> consumerRecords) {
+        queueDepth.inc();
+        return executorService.submit(
+                () -> {
+                    try {
+                        return decodeRecords(tablePath, consumerRecords);
+                    } finally {
+                        queueDepth.dec();
+                    }
+                });
+    }
+
+    private List<KafkaSourceRecord> decodeRecords(
+            TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> consumerRecords) {
+        long startTime = System.nanoTime();
+        DeserializationSchema<SeaTunnelRow> deserializationSchema = schemas.get().get(tablePath);
+        List<KafkaSourceRecord> decodedRecords = new ArrayList<>(consumerRecords.size());
+        for (ConsumerRecord<byte[], byte[]> consumerRecord : consumerRecords) {
+            BufferedCollector collector = new BufferedCollector();
+            try {
+                deserialize(deserializationSchema, consumerRecord, collector);
+                decodedRecords.add(new KafkaSourceRecord(consumerRecord, collector.rows, null));
+            } catch (Exception e) {
+                decodedRecords.add(new KafkaSourceRecord(consumerRecord, null, e));
+            }
+        }
+        decodeTime.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return decodedRecords;
+    }
+
+    static void deserialize(
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            ConsumerRecord<byte[], byte[]> consumerRecord,
+            Collector<SeaTunnelRow> collector)
+            throws Exception {
+        if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+            ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                    .deserialize(consumerRecord, collector);
+        } else {
+            deserializationSchema.deserialize(consumerRecord.value(), collector);
+        }
+    }
+
+    private Map<TablePath, DeserializationSchema<SeaTunnelRow>> copySchemas(
+            ClassLoader classLoader) {
+        Map<TablePath, DeserializationSchema<SeaTunnelRow>> copies = new HashMap<>();
+        mapMetadata.forEach(
+                (tablePath, metadata) ->
+                        copies.put(
+                                tablePath,
+                                SerializationUtils.deserialize(
+                                        SerializationUtils.serialize(
+                                                metadata.getDeserializationSchema()),
+                                        classLoader)));
+        return copies;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    /** Buffers the deserialized rows, they are emitted later by the reader thread. */
+    private static class BufferedCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows = new ArrayList<>(1);
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public void collect(SchemaChangeEvent event) {
+            throw new UnsupportedOperationException(
+                    "Schema change event is not supported by the parallel decoding");
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
-import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
@@ -34,8 +33,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Map;
 
 public class KafkaRecordEmitter
-        implements RecordEmitter<
-                ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState> {
+        implements RecordEmitter<KafkaSourceRecord, SeaTunnelRow, KafkaSourceSplitState> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordEmitter.class);
     private final Map<TablePath, ConsumerMetadata> mapMetadata;
@@ -52,20 +50,26 @@ public class KafkaRecordEmitter
 
     @Override
     public void emitRecord(
-            ConsumerRecord<byte[], byte[]> consumerRecord,
+            KafkaSourceRecord sourceRecord,
             Collector<SeaTunnelRow> collector,
             KafkaSourceSplitState splitState)
             throws Exception {
-        outputCollector.output = collector;
-        // todo there is an additional loss in this place for non-multi-table scenarios
-        DeserializationSchema<SeaTunnelRow> deserializationSchema =
-                mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
+        ConsumerRecord<byte[], byte[]> consumerRecord = sourceRecord.getConsumerRecord();
         try {
-            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
-                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
+            if (sourceRecord.isDecoded()) {
+                if (sourceRecord.getDecodeError() != null) {
+                    throw sourceRecord.getDecodeError();
+                }
+                for (SeaTunnelRow row : sourceRecord.getRows()) {
+                    collector.collect(row);
+                }
             } else {
-                deserializationSchema.deserialize(consumerRecord.value(), outputCollector);
+                outputCollector.output = collector;
+                // todo there is an additional loss in this place for non-multi-table scenarios
+                DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                        mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
+                KafkaRecordDecoder.deserialize(
+                        deserializationSchema, consumerRecord, outputCollector);
             }
             // consumerRecord.offset + 1 is the offset commit to Kafka and also the start offset
             // for the next run
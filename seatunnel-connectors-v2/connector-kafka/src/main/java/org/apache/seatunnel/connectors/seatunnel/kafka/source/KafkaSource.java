@@ -32,8 +32,6 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceRead
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-
 import com.google.common.base.Supplier;
 
 import java.util.List;
@@ -78,11 +76,21 @@ public class KafkaSource
     public SourceReader<SeaTunnelRow, KafkaSourceSplit> createReader(
             SourceReader.Context readerContext) {
 
-        BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
+        BlockingQueue<RecordsWithSplitIds<KafkaSourceRecord>> elementsQueue =
                 new LinkedBlockingQueue<>();
 
+        KafkaRecordDecoder kafkaRecordDecoder =
+                kafkaSourceConfig.getDecodeParallelism() > 1
+                        ? new KafkaRecordDecoder(
+                                kafkaSourceConfig.getMapMetadata(),
+                                kafkaSourceConfig.getDecodeParallelism(),
+                                readerContext.getMetricsContext())
+                        : null;
+
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
-                () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
+                () ->
+                        new KafkaPartitionSplitReader(
+                                kafkaSourceConfig, readerContext, kafkaRecordDecoder);
 
         KafkaSourceFetcherManager kafkaSourceFetcherManager =
                 new KafkaSourceFetcherManager(
@@ -98,6 +106,7 @@ public class KafkaSource
                 kafkaRecordEmitter,
                 new SourceReaderOptions(readonlyConfig),
                 kafkaSourceConfig,
+                kafkaRecordDecoder,
                 readerContext);
     }
 
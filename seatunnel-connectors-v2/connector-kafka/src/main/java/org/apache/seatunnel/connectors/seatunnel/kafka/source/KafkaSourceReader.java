@@ -26,7 +26,6 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceRead
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 
@@ -45,7 +44,7 @@ import java.util.concurrent.ConcurrentMap;
 
 public class KafkaSourceReader
         extends SingleThreadMultiplexSourceReaderBase<
-                ConsumerRecord<byte[], byte[]>,
+                KafkaSourceRecord,
                 SeaTunnelRow,
                 KafkaSourceSplit,
                 KafkaSourceSplitState> {
@@ -58,22 +57,33 @@ public class KafkaSourceReader
 
     private final ConcurrentMap<TopicPartition, OffsetAndMetadata> offsetsOfFinishedSplits;
 
+    /** Null if the records are deserialized by the reader thread. */
+    private final KafkaRecordDecoder recordDecoder;
+
     KafkaSourceReader(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>
-                    splitFetcherManager,
-            RecordEmitter<ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState>
-                    recordEmitter,
+            BlockingQueue<RecordsWithSplitIds<KafkaSourceRecord>> elementsQueue,
+            SingleThreadFetcherManager<KafkaSourceRecord, KafkaSourceSplit> splitFetcherManager,
+            RecordEmitter<KafkaSourceRecord, SeaTunnelRow, KafkaSourceSplitState> recordEmitter,
             SourceReaderOptions options,
             KafkaSourceConfig kafkaSourceConfig,
+            KafkaRecordDecoder recordDecoder,
             Context context) {
         super(elementsQueue, splitFetcherManager, recordEmitter, options, context);
         this.kafkaSourceConfig = kafkaSourceConfig;
+        this.recordDecoder = recordDecoder;
         this.context = context;
         this.checkpointOffsetMap = Collections.synchronizedSortedMap(new TreeMap<>());
         this.offsetsOfFinishedSplits = new ConcurrentHashMap<>();
     }
 
+    @Override
+    public void close() {
+        super.close();
+        if (recordDecoder != null) {
+            recordDecoder.close();
+        }
+    }
+
     @Override
     protected void onSplitFinished(Map<String, KafkaSourceSplitState> finishedSplitIds) {
         finishedSplitIds.forEach(
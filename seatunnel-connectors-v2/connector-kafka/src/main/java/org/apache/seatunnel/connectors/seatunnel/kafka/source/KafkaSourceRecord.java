@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A record fetched by the {@link KafkaPartitionSplitReader}. If the parallel decoding is enabled,
+ * the value is already deserialized by the {@link KafkaRecordDecoder}, otherwise it is deserialized
+ * by the {@link KafkaRecordEmitter}.
+ */
+@Getter
+@AllArgsConstructor
+public class KafkaSourceRecord {
+
+    private final ConsumerRecord<byte[], byte[]> consumerRecord;
+
+    /** The deserialized rows, null if the record is not decoded yet. */
+    private final List<SeaTunnelRow> rows;
+
+    /** The error thrown by the deserialization, it is handled when the record is emitted. */
+    private final Exception decodeError;
+
+    public static KafkaSourceRecord of(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        return new KafkaSourceRecord(consumerRecord, null, null);
+    }
+
+    public boolean isDecoded() {
+        return rows != null || decodeError != null;
+    }
+}
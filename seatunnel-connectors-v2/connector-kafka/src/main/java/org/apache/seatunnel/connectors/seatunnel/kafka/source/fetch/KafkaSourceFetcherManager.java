@@ -23,9 +23,9 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.Sp
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherTask;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaPartitionSplitReader;
+import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaSourceRecord;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaSourceSplit;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
@@ -41,21 +41,19 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class KafkaSourceFetcherManager
-        extends SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+        extends SingleThreadFetcherManager<KafkaSourceRecord, KafkaSourceSplit> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaSourceFetcherManager.class);
 
     public KafkaSourceFetcherManager(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
-                    splitReaderSupplier) {
+            BlockingQueue<RecordsWithSplitIds<KafkaSourceRecord>> elementsQueue,
+            Supplier<SplitReader<KafkaSourceRecord, KafkaSourceSplit>> splitReaderSupplier) {
         super(elementsQueue, splitReaderSupplier);
     }
 
     public KafkaSourceFetcherManager(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
-                    splitReaderSupplier,
+            BlockingQueue<RecordsWithSplitIds<KafkaSourceRecord>> elementsQueue,
+            Supplier<SplitReader<KafkaSourceRecord, KafkaSourceSplit>> splitReaderSupplier,
             Consumer<Collection<String>> splitFinishedHook) {
         super(elementsQueue, splitReaderSupplier, splitFinishedHook);
     }
@@ -66,8 +64,7 @@ public class KafkaSourceFetcherManager
         if (offsetsToCommit.isEmpty()) {
             return;
         }
-        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher =
-                fetchers.get(0);
+        SplitFetcher<KafkaSourceRecord, KafkaSourceSplit> splitFetcher = fetchers.get(0);
         if (splitFetcher != null) {
             // The fetcher thread is still running. This should be the majority of the cases.
             enqueueOffsetsCommitTask(splitFetcher, offsetsToCommit, callback);
@@ -79,7 +76,7 @@ public class KafkaSourceFetcherManager
     }
 
     private void enqueueOffsetsCommitTask(
-            SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher,
+            SplitFetcher<KafkaSourceRecord, KafkaSourceSplit> splitFetcher,
             Map<TopicPartition, OffsetAndMetadata> offsetsToCommit,
             OffsetCommitCallback callback) {
         KafkaPartitionSplitReader kafkaReader =
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+
+class KafkaRecordDecoderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("test");
+
+    @Test
+    void testDecodeInOrder() throws Exception {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setDeserializationSchema(new JsonDeserializationSchema(false, false, rowType));
+        MetricsContext metricsContext = new AbstractMetricsContext() {};
+
+        KafkaRecordDecoder decoder =
+                new KafkaRecordDecoder(
+                        Collections.singletonMap(TABLE_PATH, metadata), 2, metricsContext);
+        try {
+            List<Future<List<KafkaSourceRecord>>> futures = new ArrayList<>();
+            for (int partition = 0; partition < 4; partition++) {
+                List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>();
+                for (int offset = 0; offset < 100; offset++) {
+                    String value =
+                            offset == 50
+                                    ? "not a json"
+                                    : String.format(
+                                            "{\"id\": %s, \"name\": \"p%s\"}", offset, partition);
+                    records.add(
+                            new ConsumerRecord<>(
+                                    "test",
+                                    partition,
+                                    offset,
+                                    null,
+                                    value.getBytes(StandardCharsets.UTF_8)));
+                }
+                futures.add(decoder.decode(TABLE_PATH, records));
+            }
+
+            for (int partition = 0; partition < 4; partition++) {
+                List<KafkaSourceRecord> decoded = futures.get(partition).get();
+                Assertions.assertEquals(100, decoded.size());
+                for (int offset = 0; offset < 100; offset++) {
+                    KafkaSourceRecord record = decoded.get(offset);
+                    Assertions.assertTrue(record.isDecoded());
+                    Assertions.assertEquals(offset, record.getConsumerRecord().offset());
+                    if (offset == 50) {
+                        // the error is kept and handled by the emitter
+                        Assertions.assertNotNull(record.getDecodeError());
+                        continue;
+                    }
+                    Assertions.assertEquals(1, record.getRows().size());
+                    Assertions.assertEquals(offset, record.getRows().get(0).getField(0));
+                    Assertions.assertEquals("p" + partition, record.getRows().get(0).getField(1));
+                }
+            }
+            Assertions.assertEquals(
+                    0, metricsContext.counter("KafkaRecordDecodeQueueDepth").getCount());
+        } finally {
+            decoder.close();
+        }
+    }
+}
@@ -21,9 +21,13 @@ import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -35,13 +39,21 @@ import org.apache.seatunnel.connectors.seatunnel.paimon.source.enumerator.Paimon
 import org.apache.seatunnel.connectors.seatunnel.paimon.source.enumerator.PaimonStreamSourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.paimon.utils.RowTypeConverter;
 
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.RowType;
 
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -52,7 +64,9 @@ import static org.apache.seatunnel.connectors.seatunnel.paimon.source.converter.
 
 /** Paimon connector source class. */
 public class PaimonSource
-        implements SeaTunnelSource<SeaTunnelRow, PaimonSourceSplit, PaimonSourceState> {
+        implements SeaTunnelSource<SeaTunnelRow, PaimonSourceSplit, PaimonSourceState>,
+                SupportColumnProjection,
+                SupportFilterPushDown {
 
     private static final long serialVersionUID = 1L;
 
@@ -66,7 +80,14 @@ public class PaimonSource
 
     private CatalogTable catalogTable;
 
-    protected final ReadBuilder readBuilder;
+    protected ReadBuilder readBuilder;
+
+    /** Nothing is pushed down when the projection and the filter are given by the query option. */
+    private final boolean hasQuery;
+
+    private int[] projectionIndex;
+
+    private Predicate predicate;
 
     public PaimonSource(ReadonlyConfig readonlyConfig, PaimonCatalog paimonCatalog) {
         PaimonSourceConfig paimonSourceConfig = new PaimonSourceConfig(readonlyConfig);
@@ -80,9 +101,8 @@ public class PaimonSource
         RowType paimonRowType = this.paimonTable.rowType();
         String[] filedNames = paimonRowType.getFieldNames().toArray(new String[0]);
 
-        Predicate predicate = null;
-        int[] projectionIndex = null;
-        if (!Objects.isNull(plainSelect)) {
+        this.hasQuery = !Objects.isNull(plainSelect);
+        if (hasQuery) {
             projectionIndex = convertSqlSelectToPaimonProjectionIndex(filedNames, plainSelect);
             if (!Objects.isNull(projectionIndex)) {
                 this.catalogTable =
@@ -107,6 +127,126 @@ public class PaimonSource
         return Collections.singletonList(catalogTable);
     }
 
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        if (hasQuery) {
+            return false;
+        }
+        RowType paimonRowType = paimonTable.rowType();
+        int[] index = new int[fieldNames.size()];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = paimonRowType.getFieldIndex(fieldNames.get(i));
+            if (index[i] < 0) {
+                return false;
+            }
+        }
+        this.projectionIndex = index;
+        this.catalogTable = CatalogTableUtil.projectCatalogTable(catalogTable, fieldNames);
+        this.seaTunnelRowType = RowTypeConverter.convert(paimonRowType, projectionIndex);
+        this.readBuilder =
+                paimonTable.newReadBuilder().withProjection(projectionIndex).withFilter(predicate);
+        return true;
+    }
+
+    @Override
+    public List<SourcePredicate> applyFilters(List<SourcePredicate> predicates) {
+        List<SourcePredicate> pushedPredicates = new ArrayList<>();
+        if (hasQuery) {
+            return pushedPredicates;
+        }
+        RowType paimonRowType = paimonTable.rowType();
+        PredicateBuilder builder = new PredicateBuilder(paimonRowType);
+        List<Predicate> paimonPredicates = new ArrayList<>();
+        for (SourcePredicate sourcePredicate : predicates) {
+            Predicate paimonPredicate = toPaimonPredicate(builder, paimonRowType, sourcePredicate);
+            if (paimonPredicate != null) {
+                paimonPredicates.add(paimonPredicate);
+                pushedPredicates.add(sourcePredicate);
+            }
+        }
+        if (!paimonPredicates.isEmpty()) {
+            if (predicate != null) {
+                paimonPredicates.add(predicate);
+            }
+            this.predicate = PredicateBuilder.and(paimonPredicates);
+            this.readBuilder =
+                    paimonTable
+                            .newReadBuilder()
+                            .withProjection(projectionIndex)
+                            .withFilter(predicate);
+        }
+        return pushedPredicates;
+    }
+
+    private static Predicate toPaimonPredicate(
+            PredicateBuilder builder, RowType rowType, SourcePredicate sourcePredicate) {
+        int index = builder.indexOf(sourcePredicate.getFieldName());
+        if (index < 0) {
+            return null;
+        }
+        DataType dataType = rowType.getTypeAt(index);
+        List<Object> values = new ArrayList<>();
+        for (Object value : sourcePredicate.getValues()) {
+            Object literal = toPaimonLiteral(dataType, value);
+            if (literal == null) {
+                return null;
+            }
+            values.add(literal);
+        }
+        switch (sourcePredicate.getOperator()) {
+            case EQUAL:
+                return builder.equal(index, values.get(0));
+            case LESS_THAN:
+                return builder.lessThan(index, values.get(0));
+            case LESS_THAN_OR_EQUAL:
+                return builder.lessOrEqual(index, values.get(0));
+            case GREATER_THAN:
+                return builder.greaterThan(index, values.get(0));
+            case GREATER_THAN_OR_EQUAL:
+                return builder.greaterOrEqual(index, values.get(0));
+            case IS_NULL:
+                return builder.isNull(index);
+            case IS_NOT_NULL:
+                return builder.isNotNull(index);
+            case IN:
+                return builder.in(index, values);
+            default:
+                return null;
+        }
+    }
+
+    /** Convert the value to the internal data structure of the paimon type. */
+    private static Object toPaimonLiteral(DataType dataType, Object value) {
+        switch (dataType.getTypeRoot()) {
+            case TINYINT:
+                return value instanceof Byte ? value : null;
+            case SMALLINT:
+                return value instanceof Short ? value : null;
+            case INTEGER:
+                return value instanceof Integer ? value : null;
+            case BIGINT:
+                return value instanceof Long ? value : null;
+            case DECIMAL:
+                if (!(value instanceof BigDecimal)) {
+                    return null;
+                }
+                DecimalType decimalType = (DecimalType) dataType;
+                try {
+                    BigDecimal decimal =
+                            ((BigDecimal) value)
+                                    .setScale(decimalType.getScale(), RoundingMode.UNNECESSARY);
+                    return Decimal.fromBigDecimal(
+                            decimal, decimalType.getPrecision(), decimalType.getScale());
+                } catch (ArithmeticException e) {
+                    return null;
+                }
+            case VARCHAR:
+                return value instanceof String ? BinaryString.fromString((String) value) : null;
+            default:
+                return null;
+        }
+    }
+
     @Override
     public void setJobContext(JobContext jobContext) {
         this.jobContext = jobContext;
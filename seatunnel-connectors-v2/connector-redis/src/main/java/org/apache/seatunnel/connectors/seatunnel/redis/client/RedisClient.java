@@ -33,7 +33,7 @@ public abstract class RedisClient extends Jedis {
 
     protected final RedisParameters redisParameters;
 
-    private final Integer redisVersion;
+    protected final Integer redisVersion;
 
     protected final int batchSize;
 
@@ -81,6 +81,11 @@ public abstract class RedisClient extends Jedis {
         return new ScanResult<>(resultCursor, typeKeys);
     }
 
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
     public abstract List<String> batchGetString(List<String> keys);
 
     public abstract List<List<String>> batchGetList(List<String> keys);
@@ -17,23 +17,67 @@
 
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
+import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.JedisWrapper;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.ConnectionPool;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.GET_CLUSTER_SLOTS_FAILED;
+import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.INVALID_CONFIG;
+import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.WRITE_TO_REDIS_FAILED;
+
+// In cluster mode, keys are grouped by the node which owns their hash slot, then every group is
+// written by a pipeline to its node in parallel
+@Slf4j
 public class RedisClusterClient extends RedisClient {
+
+    private static final int SLOT_COUNT = 16384;
+
+    private final JedisCluster jedisCluster;
+
+    private final AtomicReferenceArray<String> slotOwners =
+            new AtomicReferenceArray<>(SLOT_COUNT);
+
+    private ExecutorService executor;
+
     public RedisClusterClient(RedisParameters redisParameters, Jedis jedis, int redisVersion) {
         super(redisParameters, jedis, redisVersion);
+        this.jedisCluster = ((JedisWrapper) jedis).getJedisCluster();
     }
-
     @Override
     public List<String> batchGetString(List<String> keys) {
         if (CollectionUtils.isEmpty(keys)) {
@@ -98,41 +142,281 @@ public class RedisClusterClient extends RedisClient {
 
     @Override
     public void batchWriteString(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.STRING.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        // fold the ttl into the SET command
+        SetParams setParams = expireSeconds > 0 ? SetParams.setParams().ex(expireSeconds) : null;
+        batchWrite(
+                keys,
+                values,
+                expireSeconds,
+                RedisDataType.STRING,
+                (pipeline, key, value) -> {
+                    if (setParams == null) {
+                        pipeline.set(key, value);
+                    } else {
+                        pipeline.set(key, value, setParams);
+                    }
+                });
     }
 
     @Override
     public void batchWriteList(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.LIST.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(keys, values, expireSeconds, RedisDataType.LIST, Pipeline::lpush);
     }
 
     @Override
     public void batchWriteSet(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.SET.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(keys, values, expireSeconds, RedisDataType.SET, Pipeline::sadd);
     }
 
     @Override
     public void batchWriteHash(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.HASH.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(
+                keys,
+                values,
+                expireSeconds,
+                RedisDataType.HASH,
+                (pipeline, key, value) -> pipeline.hset(key, JsonUtils.toMap(value)));
     }
 
     @Override
     public void batchWriteZset(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.ZSET.set(this, keys.get(i), values.get(i), expireSeconds);
+        batchWrite(
+                keys,
+                values,
+                expireSeconds,
+                RedisDataType.ZSET,
+                (pipeline, key, value) -> pipeline.zadd(key, 1, value));
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        super.close();
+    }
+
+    /** The master nodes of the cluster, every one of them owns a part of the hash slots. */
+    public Set<String> getMasterNodes() {
+        renewSlotOwners();
+        Set<String> nodes = new TreeSet<>();
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            String node = slotOwners.get(slot);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    /** Create a client whose commands, e.g. SCAN, are run on the given node only. */
+    public RedisClient createNodeClient(String node) {
+        ConnectionPool pool = jedisCluster.getClusterNodes().get(node);
+        if (pool == null) {
+            throw new RedisConnectorException(
+                    INVALID_CONFIG, String.format("Redis node [%s] is not in the cluster", node));
+        }
+        return new RedisSingleClient(redisParameters, new Jedis(pool.getResource()), redisVersion);
+    }
+
+    private void batchWrite(
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            RedisDataType dataType,
+            PipelineWriter writer) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return;
         }
+        boolean expireSeparately = expireSeconds > 0 && dataType != RedisDataType.STRING;
+        Collection<Integer> pending = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            pending.add(i);
+        }
+        // keys redirected by ASK are migrating, only the cluster client can follow them
+        Collection<Integer> asked = Collections.synchronizedSet(new LinkedHashSet<>());
+        for (int attempt = 0;
+                attempt < JedisCluster.DEFAULT_MAX_ATTEMPTS && !pending.isEmpty();
+                attempt++) {
+            if (attempt > 0) {
+                log.info("{} keys are redirected, retry to write them", pending.size());
+            }
+            pending =
+                    writeByNode(
+                            keys, values, expireSeconds, expireSeparately, writer, pending, asked);
+        }
+        Set<Integer> remaining = new LinkedHashSet<>(pending);
+        remaining.addAll(asked);
+        for (int index : remaining) {
+            dataType.set(jedis, keys.get(index), values.get(index), expireSeconds);
+        }
+    }
+
+    private Collection<Integer> writeByNode(
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            boolean expireSeparately,
+            PipelineWriter writer,
+            Collection<Integer> indexes,
+            Collection<Integer> asked) {
+        Map<String, List<Integer>> groups = groupByNode(keys, indexes);
+        if (groups.size() == 1) {
+            Map.Entry<String, List<Integer>> group = groups.entrySet().iterator().next();
+            return writeToNode(
+                    group.getKey(),
+                    group.getValue(),
+                    keys,
+                    values,
+                    expireSeconds,
+                    expireSeparately,
+                    writer,
+                    asked);
+        }
+        List<Future<Collection<Integer>>> futures = new ArrayList<>(groups.size());
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            futures.add(
+                    getExecutor()
+                            .submit(
+                                    () ->
+                                            writeToNode(
+                                                    group.getKey(),
+                                                    group.getValue(),
+                                                    keys,
+                                                    values,
+                                                    expireSeconds,
+                                                    expireSeparately,
+                                                    writer,
+                                                    asked)));
+        }
+        Collection<Integer> redirected = new ArrayList<>();
+        for (Future<Collection<Integer>> future : futures) {
+            try {
+                redirected.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedisConnectorException(
+                        WRITE_TO_REDIS_FAILED, WRITE_TO_REDIS_FAILED.getErrorMessage(), e);
+            } catch (ExecutionException e) {
+                throw new RedisConnectorException(
+                        WRITE_TO_REDIS_FAILED,
+                        WRITE_TO_REDIS_FAILED.getErrorMessage(),
+                        e.getCause());
+            }
+        }
+        return redirected;
+    }
+
+    private Map<String, List<Integer>> groupByNode(
+            List<String> keys, Collection<Integer> indexes) {
+        Map<String, List<Integer>> groups = new HashMap<>();
+        for (int index : indexes) {
+            int slot = JedisClusterCRC16.getSlot(keys.get(index));
+            String node = slotOwners.get(slot);
+            if (node == null) {
+                renewSlotOwners();
+                node = slotOwners.get(slot);
+            }
+            groups.computeIfAbsent(node, k -> new ArrayList<>()).add(index);
+        }
+        return groups;
+    }
+
+    /** Write the keys to the node by one pipeline, return the keys redirected by MOVED. */
+    private Collection<Integer> writeToNode(
+            String node,
+            List<Integer> indexes,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            boolean expireSeparately,
+            PipelineWriter writer,
+            Collection<Integer> asked) {
+        ConnectionPool pool = node == null ? null : jedisCluster.getClusterNodes().get(node);
+        if (pool == null) {
+            // the node is no longer in the cluster
+            renewSlotOwners();
+            return indexes;
+        }
+        List<Integer> commandOwners = new ArrayList<>(indexes.size() * 2);
+        List<Object> results;
+        try (Connection connection = pool.getResource()) {
+            Pipeline pipeline = new Pipeline(connection);
+            for (int index : indexes) {
+                String key = keys.get(index);
+                writer.write(pipeline, key, values.get(index));
+                commandOwners.add(index);
+                if (expireSeparately) {
+                    pipeline.expire(key, expireSeconds);
+                    commandOwners.add(index);
+                }
+            }
+            results = pipeline.syncAndReturnAll();
+        }
+        Set<Integer> redirected = new LinkedHashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof JedisMovedDataException) {
+                JedisMovedDataException moved = (JedisMovedDataException) result;
+                slotOwners.set(moved.getSlot(), moved.getTargetNode().toString());
+                redirected.add(commandOwners.get(i));
+            } else if (result instanceof JedisAskDataException) {
+                asked.add(commandOwners.get(i));
+            } else if (result instanceof JedisDataException) {
+                throw new RedisConnectorException(
+                        WRITE_TO_REDIS_FAILED,
+                        String.format(
+                                "Failed to write key [%s] to redis node [%s]",
+                                keys.get(commandOwners.get(i)), node),
+                        (JedisDataException) result);
+            }
+        }
+        return redirected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void renewSlotOwners() {
+        for (Map.Entry<String, ConnectionPool> entry :
+                jedisCluster.getClusterNodes().entrySet()) {
+            try (Connection connection = entry.getValue().getResource()) {
+                // [start slot, end slot, [master host, master port, node id], replicas...]
+                for (Object slotRange : new Jedis(connection).clusterSlots()) {
+                    List<Object> slotInfo = (List<Object>) slotRange;
+                    List<Object> master = (List<Object>) slotInfo.get(2);
+                    String node =
+                            new HostAndPort(
+                                            SafeEncoder.encode((byte[]) master.get(0)),
+                                            ((Long) master.get(1)).intValue())
+                                    .toString();
+                    int end = ((Long) slotInfo.get(1)).intValue();
+                    for (int slot = ((Long) slotInfo.get(0)).intValue(); slot <= end; slot++) {
+                        slotOwners.set(slot, node);
+                    }
+                }
+                return;
+            } catch (JedisException e) {
+                log.warn("Failed to get the slots of redis cluster from {}", entry.getKey(), e);
+            }
+        }
+        throw new RedisConnectorException(
+                GET_CLUSTER_SLOTS_FAILED, GET_CLUSTER_SLOTS_FAILED.getErrorMessage());
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor =
+                    Executors.newFixedThreadPool(
+                            Math.max(1, jedisCluster.getClusterNodes().size()),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("redis-cluster-writer-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return executor;
+    }
+
+    @FunctionalInterface
+    private interface PipelineWriter {
+        void write(Pipeline pipeline, String key, String value);
     }
 }
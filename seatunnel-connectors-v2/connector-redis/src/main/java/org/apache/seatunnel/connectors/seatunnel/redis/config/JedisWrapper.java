@@ -82,6 +82,15 @@ public class JedisWrapper extends Jedis {
         return jedisCluster.zrange(key, start, stop);
     }
 
+    @Override
+    public long expire(final String key, final long seconds) {
+        return jedisCluster.expire(key, seconds);
+    }
+
+    public JedisCluster getJedisCluster() {
+        return jedisCluster;
+    }
+
     @Override
     public void close() {
         jedisCluster.close();
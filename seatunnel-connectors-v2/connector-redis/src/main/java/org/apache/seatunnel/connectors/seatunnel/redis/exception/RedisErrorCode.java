@@ -20,7 +20,9 @@ import org.apache.seatunnel.common.exception.SeaTunnelErrorCode;
 
 public enum RedisErrorCode implements SeaTunnelErrorCode {
     GET_REDIS_VERSION_INFO_FAILED("RedisErrorCode-01", "Failed to get the redis version"),
-    INVALID_CONFIG("RedisErrorCode-02", "Invalid redis Config");
+    INVALID_CONFIG("RedisErrorCode-02", "Invalid redis Config"),
+    WRITE_TO_REDIS_FAILED("RedisErrorCode-03", "Failed to write data to redis"),
+    GET_CLUSTER_SLOTS_FAILED("RedisErrorCode-04", "Failed to get the slots of redis cluster");
 
     private final String code;
     private final String description;
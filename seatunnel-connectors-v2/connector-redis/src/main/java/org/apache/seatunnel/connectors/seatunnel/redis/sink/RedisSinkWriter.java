@@ -115,5 +115,6 @@ public class RedisSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
             doBatchWrite();
             clearBuffer();
         }
+        redisClient.close();
     }
 }
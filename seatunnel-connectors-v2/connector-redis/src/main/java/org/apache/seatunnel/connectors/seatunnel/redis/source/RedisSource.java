@@ -21,15 +21,16 @@ import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.schema.TableSchemaOptions;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitSource;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
@@ -37,9 +38,12 @@ import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import com.google.common.collect.Lists;
 
+import java.util.Collections;
 import java.util.List;
 
-public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
+public class RedisSource
+        implements SeaTunnelSource<SeaTunnelRow, RedisSourceSplit, RedisSourceState>,
+                SupportParallelism {
     private final RedisParameters redisParameters = new RedisParameters();
     private SeaTunnelRowType seaTunnelRowType;
     private DeserializationSchema<SeaTunnelRow> deserializationSchema;
@@ -92,8 +96,23 @@ public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
     }
 
     @Override
-    public AbstractSingleSplitReader<SeaTunnelRow> createReader(
-            SingleSplitReaderContext readerContext) throws Exception {
+    public SourceReader<SeaTunnelRow, RedisSourceSplit> createReader(
+            SourceReader.Context readerContext) {
         return new RedisSourceReader(redisParameters, readerContext, deserializationSchema);
     }
+
+    @Override
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> createEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext) {
+        return new RedisSourceSplitEnumerator(
+                enumeratorContext, redisParameters, Collections.emptySet());
+    }
+
+    @Override
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> restoreEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext,
+            RedisSourceState checkpointState) {
+        return new RedisSourceSplitEnumerator(
+                enumeratorContext, redisParameters, checkpointState.getAssignedSplits());
+    }
 }
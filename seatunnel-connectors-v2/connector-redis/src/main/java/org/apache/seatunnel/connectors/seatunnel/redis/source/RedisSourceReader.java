@@ -18,13 +18,14 @@
 package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.JsonUtils;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
@@ -32,24 +33,34 @@ import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorE
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.io.IOException;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final SourceReader.Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final Deque<RedisSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    // node address to the client which scans the node
+    private final Map<String, RedisClient> nodeClients = new HashMap<>();
     private RedisClient redisClient;
+    private volatile boolean noMoreSplit;
 
     public RedisSourceReader(
             RedisParameters redisParameters,
-            SingleSplitReaderContext context,
+            SourceReader.Context context,
             DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
@@ -63,55 +74,103 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
 
     @Override
     public void close() throws IOException {
+        nodeClients.values().forEach(RedisClient::close);
         if (Objects.nonNull(redisClient)) {
             redisClient.close();
         }
     }
 
     @Override
-    public void internalPollNext(Collector<SeaTunnelRow> output) throws Exception {
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        RedisSourceSplit split = splits.peek();
+        if (split == null) {
+            if (noMoreSplit && Boundedness.BOUNDED.equals(context.getBoundedness())) {
+                log.info("Closed the bounded redis source");
+                context.signalNoMoreElement();
+            }
+            return;
+        }
         RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
-        String cursor = ScanParams.SCAN_POINTER_START;
-        String keysPattern = redisParameters.getKeysPattern();
-        int batchSize = redisParameters.getBatchSize();
-        while (true) {
-            // String cursor, int batchSize, String keysPattern, RedisType type
+        RedisClient nodeClient = getNodeClient(split.getNode());
+        // emit the keys of one SCAN page and move the cursor together, so a checkpoint never
+        // sees a cursor which is ahead or behind of the emitted rows
+        synchronized (output.getCheckpointLock()) {
             ScanResult<String> scanResult =
-                    redisClient.scanKeys(cursor, batchSize, keysPattern, redisDataType);
-            cursor = scanResult.getCursor();
-            List<String> keys = scanResult.getResult();
-            pollNext(keys, redisDataType, output);
+                    nodeClient.scanKeys(
+                            split.getCursor(),
+                            redisParameters.getBatchSize(),
+                            redisParameters.getKeysPattern(),
+                            redisDataType);
+            pollNext(nodeClient, scanResult.getResult(), redisDataType, output);
+            split.setCursor(scanResult.getCursor());
             // when cursor return "0", scan end
-            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
-                break;
+            if (ScanParams.SCAN_POINTER_START.equals(split.getCursor())) {
+                log.info("Finished to scan redis node {}", split.getNode());
+                splits.poll();
+                RedisClient finished = nodeClients.remove(split.getNode());
+                if (finished != null) {
+                    finished.close();
+                }
             }
         }
-        context.signalNoMoreElement();
     }
 
-    private void pollNext(List<String> keys, RedisDataType dataType, Collector<SeaTunnelRow> output)
+    @Override
+    public List<RedisSourceSplit> snapshotState(long checkpointId) {
+        return splits.stream()
+                .map(split -> new RedisSourceSplit(split.getNode(), split.getCursor()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        log.debug("reader {} add splits {}", context.getIndexOfSubtask(), splits);
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    private RedisClient getNodeClient(String node) {
+        if (redisClient instanceof RedisClusterClient) {
+            return nodeClients.computeIfAbsent(
+                    node, ((RedisClusterClient) redisClient)::createNodeClient);
+        }
+        return redisClient;
+    }
+
+    private void pollNext(
+            RedisClient client,
+            List<String> keys,
+            RedisDataType dataType,
+            Collector<SeaTunnelRow> output)
             throws IOException {
         if (CollectionUtils.isEmpty(keys)) {
             return;
         }
         if (RedisDataType.HASH.equals(dataType)) {
-            pollHashMapToNext(keys, output);
+            pollHashMapToNext(client, keys, output);
             return;
         }
         if (RedisDataType.STRING.equals(dataType) || RedisDataType.KEY.equals(dataType)) {
-            pollStringToNext(keys, output);
+            pollStringToNext(client, keys, output);
             return;
         }
         if (RedisDataType.LIST.equals(dataType)) {
-            pollListToNext(keys, output);
+            pollListToNext(client, keys, output);
             return;
         }
         if (RedisDataType.SET.equals(dataType)) {
-            pollSetToNext(keys, output);
+            pollSetToNext(client, keys, output);
             return;
         }
         if (RedisDataType.ZSET.equals(dataType)) {
-            pollZsetToNext(keys, output);
+            pollZsetToNext(client, keys, output);
             return;
         }
         throw new RedisConnectorException(
@@ -119,9 +178,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
                 "UnSupport redisDataType,only support string,list,hash,set,zset");
     }
 
-    private void pollZsetToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollZsetToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<List<String>> zSetList = redisClient.batchGetZset(keys);
+        List<List<String>> zSetList = client.batchGetZset(keys);
         for (List<String> values : zSetList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -129,9 +189,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollSetToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollSetToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<Set<String>> setList = redisClient.batchGetSet(keys);
+        List<Set<String>> setList = client.batchGetSet(keys);
         for (Set<String> values : setList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -139,9 +200,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollListToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollListToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<List<String>> valueList = redisClient.batchGetList(keys);
+        List<List<String>> valueList = client.batchGetList(keys);
         for (List<String> values : valueList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -149,9 +211,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollStringToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollStringToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<String> values = redisClient.batchGetString(keys);
+        List<String> values = client.batchGetString(keys);
         for (String value : values) {
             pollValueToNext(value, output);
         }
@@ -165,9 +228,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollHashMapToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollHashMapToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<Map<String, String>> values = redisClient.batchGetHash(keys);
+        List<Map<String, String>> values = client.batchGetHash(keys);
         if (deserializationSchema == null) {
             for (Map<String, String> value : values) {
                 output.collect(new SeaTunnelRow(new Object[] {JsonUtils.toJsonString(value)}));
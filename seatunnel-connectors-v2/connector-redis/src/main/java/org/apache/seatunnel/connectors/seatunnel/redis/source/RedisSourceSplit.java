@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** The keys of one redis node, the SCAN cursor is checkpointed to resume the scan on restore. */
+@Getter
+@ToString
+@EqualsAndHashCode(of = "node")
+public class RedisSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The address of the node, like as host:port. */
+    private final String node;
+
+    @Setter private String cursor;
+
+    public RedisSourceSplit(String node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public String splitId() {
+        return node;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.params.ScanParams;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** Create one split per master node, so the nodes of a cluster are scanned in parallel. */
+@Slf4j
+public class RedisSourceSplitEnumerator
+        implements SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+
+    private final SourceSplitEnumerator.Context<RedisSourceSplit> context;
+    private final RedisParameters redisParameters;
+    private final Map<Integer, List<RedisSourceSplit>> pendingSplits;
+    /** Splits that have been assigned to readers. */
+    private final Set<RedisSourceSplit> assignedSplits;
+
+    private final Object lock = new Object();
+
+    private volatile boolean discovered;
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> context,
+            RedisParameters redisParameters,
+            Set<RedisSourceSplit> assignedSplits) {
+        this.context = context;
+        this.redisParameters = redisParameters;
+        this.pendingSplits = new HashMap<>();
+        this.assignedSplits = new HashSet<>(assignedSplits);
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() throws Exception {
+        List<String> nodes = discoverNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            RedisSourceSplit split =
+                    new RedisSourceSplit(nodes.get(i), ScanParams.SCAN_POINTER_START);
+            if (!assignedSplits.contains(split)) {
+                addPendingSplits(
+                        Collections.singletonList(split), i % context.currentParallelism());
+            }
+        }
+        log.info("Discovered {} redis nodes to scan: {}", nodes.size(), nodes);
+        discovered = true;
+        assignPendingSplits();
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<RedisSourceSplit> splits, int subtaskId) {
+        log.debug("Redis source add splits back {}, subtaskId:{}", splits, subtaskId);
+        addPendingSplits(splits, subtaskId);
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return pendingSplits.values().stream().mapToInt(Collection::size).sum();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {}
+
+    @Override
+    public void registerReader(int subtaskId) {
+        // readers registered after the discovery still need to be told there are no more splits
+        if (discovered) {
+            assignPendingSplits();
+        }
+    }
+
+    @Override
+    public RedisSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (lock) {
+            return new RedisSourceState(new HashSet<>(assignedSplits));
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    private List<String> discoverNodes() {
+        if (RedisConfig.RedisMode.SINGLE.equals(redisParameters.getMode())) {
+            return Collections.singletonList(
+                    new HostAndPort(redisParameters.getHost(), redisParameters.getPort())
+                            .toString());
+        }
+        RedisClient redisClient = redisParameters.buildRedisClient();
+        try {
+            return new ArrayList<>(((RedisClusterClient) redisClient).getMasterNodes());
+        } finally {
+            redisClient.close();
+        }
+    }
+
+    private void addPendingSplits(Collection<RedisSourceSplit> splits, int ownerReader) {
+        pendingSplits.computeIfAbsent(ownerReader, r -> new ArrayList<>()).addAll(splits);
+    }
+
+    private void assignPendingSplits() {
+        for (int reader : context.registeredReaders()) {
+            List<RedisSourceSplit> splits = pendingSplits.remove(reader);
+            synchronized (lock) {
+                if (splits != null && !splits.isEmpty()) {
+                    assignedSplits.addAll(splits);
+                    log.info("Assigning splits to reader {} {}", reader, splits);
+                    context.assignSplit(reader, splits);
+                }
+                context.signalNoMoreSplits(reader);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.config.JedisWrapper;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.ConnectionPool;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class RedisClusterClientTest {
+
+    private static final HostAndPort FIRST = new HostAndPort("127.0.0.1", 7000);
+    private static final HostAndPort SECOND = new HostAndPort("127.0.0.1", 7001);
+
+    private final Map<String, Connection> connections = new HashMap<>();
+    private final Map<String, List<Object>> replies = new HashMap<>();
+    private JedisCluster jedisCluster;
+    private RedisClusterClient client;
+
+    @BeforeEach
+    void setUp() {
+        // the first node owns the slots [0, 8191], the second one owns [8192, 16383]
+        List<Object> slots =
+                Arrays.asList(slotRange(0, 8191, FIRST), slotRange(8192, 16383, SECOND));
+        Map<String, ConnectionPool> nodes = new HashMap<>();
+        for (HostAndPort node : Arrays.asList(FIRST, SECOND)) {
+            Connection connection = Mockito.mock(Connection.class);
+            Mockito.when(connection.getObjectMultiBulkReply()).thenReturn(slots);
+            Mockito.when(connection.getMany(Mockito.anyInt()))
+                    .thenAnswer(
+                            invocation -> {
+                                List<Object> reply = new ArrayList<>();
+                                for (int i = 0; i < invocation.<Integer>getArgument(0); i++) {
+                                    List<Object> pending = replies.get(node.toString());
+                                    reply.add(
+                                            pending == null || pending.isEmpty()
+                                                    ? "OK".getBytes(StandardCharsets.UTF_8)
+                                                    : pending.remove(0));
+                                }
+                                return reply;
+                            });
+            ConnectionPool pool = Mockito.mock(ConnectionPool.class);
+            Mockito.when(pool.getResource()).thenReturn(connection);
+            nodes.put(node.toString(), pool);
+            connections.put(node.toString(), connection);
+        }
+        jedisCluster = Mockito.mock(JedisCluster.class);
+        Mockito.when(jedisCluster.getClusterNodes()).thenReturn(nodes);
+        RedisParameters redisParameters = new RedisParameters();
+        redisParameters.setBatchSize(10);
+        client = new RedisClusterClient(redisParameters, new JedisWrapper(jedisCluster), 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void testGroupKeysBySlotOwner() {
+        List<String> keys =
+                IntStream.range(0, 20).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+        client.batchWriteString(keys, keys, 0);
+
+        List<String> firstKeys = sentKeys(FIRST);
+        List<String> secondKeys = sentKeys(SECOND);
+        Assertions.assertEquals(
+                keys.stream().filter(key -> slot(key) < 8192).collect(Collectors.toList()),
+                firstKeys);
+        Assertions.assertEquals(
+                keys.stream().filter(key -> slot(key) >= 8192).collect(Collectors.toList()),
+                secondKeys);
+        Assertions.assertFalse(firstKeys.isEmpty());
+        Assertions.assertFalse(secondKeys.isEmpty());
+        // every node gets one pipeline
+        Mockito.verify(connections.get(FIRST.toString())).getMany(firstKeys.size());
+        Mockito.verify(connections.get(SECOND.toString())).getMany(secondKeys.size());
+    }
+
+    @Test
+    void testRewriteMovedKeys() {
+        String key = keyOf(FIRST);
+        replies.put(
+                FIRST.toString(),
+                new ArrayList<>(
+                        Collections.singletonList(
+                                new JedisMovedDataException(
+                                        "MOVED " + slot(key) + " " + SECOND,
+                                        SECOND,
+                                        slot(key)))));
+        client.batchWriteString(Collections.singletonList(key), Collections.singletonList("v"), 0);
+
+        Assertions.assertEquals(Collections.singletonList(key), sentKeys(FIRST));
+        Assertions.assertEquals(Collections.singletonList(key), sentKeys(SECOND));
+
+        // the slot owner is updated by the redirection
+        client.batchWriteString(Collections.singletonList(key), Collections.singletonList("v"), 0);
+        Assertions.assertEquals(Collections.singletonList(key), sentKeys(FIRST));
+        Assertions.assertEquals(Arrays.asList(key, key), sentKeys(SECOND));
+        Mockito.verify(jedisCluster, Mockito.never()).set(Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    void testWriteAskedKeysByClusterClient() {
+        String key = keyOf(FIRST);
+        String otherKey = keyOf(SECOND);
+        replies.put(
+                FIRST.toString(),
+                new ArrayList<>(
+                        Collections.singletonList(
+                                new JedisAskDataException(
+                                        "ASK " + slot(key) + " " + SECOND, SECOND, slot(key)))));
+        client.batchWriteString(Arrays.asList(key, otherKey), Arrays.asList("v1", "v2"), 0);
+
+        // the migrating key is written by the cluster client, which follows the redirection
+        Mockito.verify(jedisCluster).set(key, "v1");
+        Mockito.verify(jedisCluster, Mockito.never()).set(Mockito.eq(otherKey), Mockito.any());
+        Assertions.assertEquals(Collections.singletonList(key), sentKeys(FIRST));
+        Assertions.assertEquals(Collections.singletonList(otherKey), sentKeys(SECOND));
+    }
+
+    private List<String> sentKeys(HostAndPort node) {
+        ArgumentCaptor<CommandArguments> captor = ArgumentCaptor.forClass(CommandArguments.class);
+        Mockito.verify(connections.get(node.toString()), Mockito.atLeast(0))
+                .sendCommand(captor.capture());
+        List<String> keys = new ArrayList<>();
+        for (CommandArguments arguments : captor.getAllValues()) {
+            Iterator<Rawable> iterator = arguments.iterator();
+            // the command, then the key
+            iterator.next();
+            keys.add(SafeEncoder.encode(iterator.next().getRaw()));
+        }
+        return keys;
+    }
+
+    private static String keyOf(HostAndPort node) {
+        for (int i = 0; ; i++) {
+            String key = "key-" + i;
+            if ((slot(key) < 8192) == (node == FIRST)) {
+                return key;
+            }
+        }
+    }
+
+    private static int slot(String key) {
+        return JedisClusterCRC16.getSlot(key);
+    }
+
+    private static List<Object> slotRange(long start, long end, HostAndPort master) {
+        return Arrays.asList(
+                start,
+                end,
+                Arrays.asList(
+                        master.getHost().getBytes(StandardCharsets.UTF_8),
+                        (long) master.getPort(),
+                        "id".getBytes(StandardCharsets.UTF_8)));
+    }
+}
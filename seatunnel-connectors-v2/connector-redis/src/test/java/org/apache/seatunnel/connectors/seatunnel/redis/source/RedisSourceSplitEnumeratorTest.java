@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+class RedisSourceSplitEnumeratorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void assignSplitOfSingleNode() throws Exception {
+        RedisParameters redisParameters = new RedisParameters();
+        redisParameters.setHost("localhost");
+        redisParameters.setPort(6379);
+        redisParameters.setMode(RedisConfig.RedisMode.SINGLE);
+        SourceSplitEnumerator.Context<RedisSourceSplit> context =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.currentParallelism()).thenReturn(2);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+
+        RedisSourceSplitEnumerator enumerator =
+                new RedisSourceSplitEnumerator(context, redisParameters, Collections.emptySet());
+        enumerator.run();
+
+        RedisSourceSplit split = new RedisSourceSplit("localhost:6379", "0");
+        Mockito.verify(context).assignSplit(0, Collections.singletonList(split));
+        Mockito.verify(context).signalNoMoreSplits(0);
+        Mockito.verify(context).signalNoMoreSplits(1);
+        Assertions.assertEquals(
+                Collections.singleton(split), enumerator.snapshotState(1).getAssignedSplits());
+
+        // the restored split is not assigned again, its cursor is restored by the reader
+        SourceSplitEnumerator.Context<RedisSourceSplit> restoredContext =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(restoredContext.currentParallelism()).thenReturn(2);
+        Mockito.when(restoredContext.registeredReaders())
+                .thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+        RedisSourceSplitEnumerator restoredEnumerator =
+                new RedisSourceSplitEnumerator(
+                        restoredContext, redisParameters, Collections.singleton(split));
+        restoredEnumerator.run();
+        Mockito.verify(restoredContext, Mockito.never())
+                .assignSplit(Mockito.anyInt(), Mockito.anyList());
+        Mockito.verify(restoredContext).signalNoMoreSplits(0);
+    }
+}
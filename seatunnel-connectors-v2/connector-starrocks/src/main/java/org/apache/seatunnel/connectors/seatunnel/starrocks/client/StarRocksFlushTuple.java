@@ -21,13 +21,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.List;
-
 @AllArgsConstructor
 @Getter
 @Setter
 public class StarRocksFlushTuple {
     private String label;
-    private Long bytes;
-    private List<byte[]> rows;
+    private StarRocksRecordBuffer buffer;
 }
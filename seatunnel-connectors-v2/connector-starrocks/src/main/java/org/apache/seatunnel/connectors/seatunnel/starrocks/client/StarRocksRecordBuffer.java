@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadFormat;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records of one stream load batch, stored in fixed size chunks. The writer thread appends records
+ * while the http body reads the sealed chunks, and the body is read from the beginning again when
+ * the stream load is retried.
+ */
+public class StarRocksRecordBuffer {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] JSON_ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_DELIMITER = ",".getBytes(StandardCharsets.UTF_8);
+
+    private final StreamLoadFormat format;
+    private final byte[] lineDelimiter;
+    private final Deque<byte[]> chunkPool;
+
+    /** Chunks which can be read by the http body, all of them are full except the last one. */
+    private final List<byte[]> chunks = new ArrayList<>();
+
+    private long readableBytes;
+    private boolean finished;
+
+    // only accessed by the writer thread
+    private byte[] currentChunk;
+    private int position;
+    @Getter private int rowCount;
+    @Getter private long bytes;
+
+    public StarRocksRecordBuffer(
+            StreamLoadFormat format, byte[] lineDelimiter, Deque<byte[]> chunkPool) {
+        this.format = format;
+        this.lineDelimiter = lineDelimiter;
+        this.chunkPool = chunkPool;
+    }
+
+    public void writeRecord(byte[] record) {
+        if (StreamLoadFormat.JSON.equals(format)) {
+            write(rowCount == 0 ? JSON_ARRAY_START : JSON_DELIMITER);
+            write(record);
+        } else {
+            write(record);
+            write(lineDelimiter);
+        }
+        rowCount++;
+    }
+
+    /** Seal the batch, the http body ends after the remaining chunks are read. */
+    public void finish() {
+        if (StreamLoadFormat.JSON.equals(format)) {
+            if (rowCount == 0) {
+                write(JSON_ARRAY_START);
+            }
+            write(JSON_ARRAY_END);
+        }
+        synchronized (this) {
+            if (currentChunk != null) {
+                chunks.add(currentChunk);
+                readableBytes += position;
+                currentChunk = null;
+            }
+            finished = true;
+            notifyAll();
+        }
+    }
+
+    /** Return the chunks to the pool, must be called after the stream load of the batch is done. */
+    public synchronized void release() {
+        chunkPool.addAll(chunks);
+        chunks.clear();
+        readableBytes = 0;
+    }
+
+    public InputStream newInputStream() {
+        return new RecordInputStream();
+    }
+
+    private void write(byte[] data) {
+        int offset = 0;
+        while (offset < data.length) {
+            if (currentChunk == null) {
+                currentChunk = chunkPool.isEmpty() ? new byte[CHUNK_SIZE] : chunkPool.pop();
+                position = 0;
+            }
+            int length = Math.min(CHUNK_SIZE - position, data.length - offset);
+            System.arraycopy(data, offset, currentChunk, position, length);
+            position += length;
+            offset += length;
+            if (position == CHUNK_SIZE) {
+                sealChunk();
+            }
+        }
+        bytes += data.length;
+    }
+
+    private synchronized void sealChunk() {
+        chunks.add(currentChunk);
+        readableBytes += position;
+        currentChunk = null;
+        notifyAll();
+    }
+
+    private class RecordInputStream extends InputStream {
+        private long readPosition;
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            byte[] chunk;
+            int chunkOffset;
+            int length;
+            synchronized (StarRocksRecordBuffer.this) {
+                while (readPosition >= readableBytes) {
+                    if (finished) {
+                        return -1;
+                    }
+                    try {
+                        StarRocksRecordBuffer.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting records");
+                    }
+                }
+                chunk = chunks.get((int) (readPosition / CHUNK_SIZE));
+                chunkOffset = (int) (readPosition % CHUNK_SIZE);
+                length =
+                        (int)
+                                Math.min(
+                                        Math.min(len, CHUNK_SIZE - chunkOffset),
+                                        readableBytes - readPosition);
+            }
+            // sealed chunks are not modified until release, copy them without the lock
+            System.arraycopy(chunk, chunkOffset, b, off, length);
+            readPosition += length;
+            return length;
+        }
+    }
+}
@@ -20,31 +20,52 @@ package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.UUID;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Stream load the records batch by batch. The stream load of a batch starts with its first record
+ * and reads the records while they are written, the writer only waits for the previous batch when
+ * a batch is finished, so at most two batches are buffered.
+ */
 @Slf4j
 public class StarRocksSinkManager {
 
     private final SinkConfig sinkConfig;
-    private final List<byte[]> batchList;
+    private final byte[] lineDelimiter;
+    private final Deque<byte[]> chunkPool = new ArrayDeque<>();
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
+    private ExecutorService loadExecutor;
     private volatile boolean initialize;
     private volatile Exception flushException;
-    private int batchRowCount = 0;
-    private long batchBytesSize = 0;
+
+    private StarRocksRecordBuffer currentBuffer;
+    private Future<?> currentLoad;
+    private StarRocksRecordBuffer pendingBuffer;
+    private Future<?> pendingLoad;
 
     public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
         this.sinkConfig = sinkConfig;
-        this.batchList = new ArrayList<>();
+        this.lineDelimiter =
+                StarRocksDelimiterParser.parse(
+                                (String) sinkConfig.getStreamLoadProps().get("row_delimiter"),
+                                "\n")
+                        .getBytes(StandardCharsets.UTF_8);
         starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
     }
 
@@ -52,34 +73,83 @@ public class StarRocksSinkManager {
         if (initialize) {
             return;
         }
+        loadExecutor =
+                Executors.newSingleThreadExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("starrocks-stream-load-%d")
+                                .setDaemon(true)
+                                .build());
         initialize = true;
     }
 
     public synchronized void write(String record) throws IOException {
         tryInit();
         checkFlushException();
-        byte[] bts = record.getBytes(StandardCharsets.UTF_8);
-        batchList.add(bts);
-        batchRowCount++;
-        batchBytesSize += bts.length;
-        if (batchRowCount >= sinkConfig.getBatchMaxSize()
-                || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+        if (currentBuffer == null) {
+            startBatch();
+        }
+        currentBuffer.writeRecord(record.getBytes(StandardCharsets.UTF_8));
+        if (currentBuffer.getRowCount() >= sinkConfig.getBatchMaxSize()
+                || currentBuffer.getBytes() >= sinkConfig.getBatchMaxBytes()) {
+            finishBatch();
         }
     }
 
     public synchronized void close() throws IOException {
-        flush();
+        try {
+            flush();
+        } finally {
+            if (loadExecutor != null) {
+                loadExecutor.shutdownNow();
+            }
+        }
     }
 
     public synchronized void flush() throws IOException {
         checkFlushException();
-        if (batchList.isEmpty()) {
+        if (currentBuffer != null) {
+            finishBatch();
+        }
+        waitPendingLoad();
+    }
+
+    private void startBatch() {
+        StarRocksRecordBuffer buffer =
+                new StarRocksRecordBuffer(sinkConfig.getLoadFormat(), lineDelimiter, chunkPool);
+        currentBuffer = buffer;
+        currentLoad = loadExecutor.submit(() -> load(buffer));
+    }
+
+    /** Finish the current batch, its stream load goes on while the next batch is written. */
+    private void finishBatch() throws IOException {
+        currentBuffer.finish();
+        waitPendingLoad();
+        pendingBuffer = currentBuffer;
+        pendingLoad = currentLoad;
+        currentBuffer = null;
+        currentLoad = null;
+    }
+
+    private void waitPendingLoad() throws IOException {
+        if (pendingLoad == null) {
             return;
         }
-        String label = createBatchLabel();
-        StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+        try {
+            pendingLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting stream load", e);
+        } catch (ExecutionException e) {
+            flushException = e;
+        }
+        pendingBuffer.release();
+        pendingBuffer = null;
+        pendingLoad = null;
+        checkFlushException();
+    }
+
+    private void load(StarRocksRecordBuffer buffer) {
+        StarRocksFlushTuple tuple = new StarRocksFlushTuple(createBatchLabel(), buffer);
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
                 Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
@@ -89,10 +159,12 @@ public class StarRocksSinkManager {
             } catch (Exception e) {
                 log.warn("Writing records to StarRocks failed, retry times = {}", i, e);
                 if (i >= sinkConfig.getMaxRetries()) {
-                    throw new StarRocksConnectorException(
-                            StarRocksConnectorErrorCode.WRITE_RECORDS_FAILED,
-                            "The number of retries was exceeded, writing records to StarRocks failed.",
-                            e);
+                    flushException =
+                            new StarRocksConnectorException(
+                                    StarRocksConnectorErrorCode.WRITE_RECORDS_FAILED,
+                                    "The number of retries was exceeded, writing records to StarRocks failed.",
+                                    e);
+                    return;
                 }
 
                 if (e instanceof StarRocksConnectorException
@@ -113,14 +185,13 @@ public class StarRocksSinkManager {
                     Thread.sleep(backoff);
                 } catch (InterruptedException ex) {
                     Thread.currentThread().interrupt();
-                    throw new StarRocksConnectorException(
-                            StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+                    flushException =
+                            new StarRocksConnectorException(
+                                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+                    return;
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
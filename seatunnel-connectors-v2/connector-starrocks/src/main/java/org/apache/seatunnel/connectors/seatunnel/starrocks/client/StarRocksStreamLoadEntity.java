@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadCompression;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Http body of a stream load batch, which is sent by chunked transfer encoding while the records of
+ * the batch are still written.
+ */
+public class StarRocksStreamLoadEntity extends AbstractHttpEntity {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final StarRocksRecordBuffer buffer;
+    private final StreamLoadCompression compression;
+
+    public StarRocksStreamLoadEntity(
+            StarRocksRecordBuffer buffer, StreamLoadCompression compression) {
+        this.buffer = buffer;
+        this.compression = compression;
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        // every write reads the buffer from the beginning, e.g. after a redirect
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() {
+        if (!StreamLoadCompression.NONE.equals(compression)) {
+            throw new UnsupportedOperationException(
+                    "Compressed stream load body can only be written");
+        }
+        return buffer.newInputStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        GZIPOutputStream gzipStream = null;
+        OutputStream target = outStream;
+        if (StreamLoadCompression.GZIP.equals(compression)) {
+            gzipStream = new GZIPOutputStream(outStream, COPY_BUFFER_SIZE);
+            target = gzipStream;
+        }
+        try (InputStream in = buffer.newInputStream()) {
+            byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+            int length;
+            while ((length = in.read(copyBuffer)) != -1) {
+                target.write(copyBuffer, 0, length);
+            }
+        }
+        if (gzipStream != null) {
+            // write the trailer without closing the connection stream
+            gzipStream.finish();
+        }
+        target.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -40,6 +40,11 @@ public class SinkConfig implements Serializable {
         JSON;
     }
 
+    public enum StreamLoadCompression {
+        NONE,
+        GZIP;
+    }
+
     private List<String> nodeUrls;
     private String jdbcUrl;
     private String username;
@@ -49,6 +54,7 @@ public class SinkConfig implements Serializable {
     private String labelPrefix;
     private String columnSeparator;
     private StreamLoadFormat loadFormat;
+    private StreamLoadCompression compression;
     private int batchMaxSize;
     private long batchMaxBytes;
 
@@ -94,6 +100,7 @@ public class SinkConfig implements Serializable {
         config.getOptional(StarRocksSinkOptions.COLUMN_SEPARATOR)
                 .ifPresent(sinkConfig::setColumnSeparator);
         sinkConfig.setLoadFormat(config.get(StarRocksSinkOptions.LOAD_FORMAT));
+        sinkConfig.setCompression(config.get(StarRocksSinkOptions.COMPRESSION));
         sinkConfig.setSchemaSaveMode(config.get(StarRocksSinkOptions.SCHEMA_SAVE_MODE));
         sinkConfig.setDataSaveMode(config.get(StarRocksSinkOptions.DATA_SAVE_MODE));
         sinkConfig.setCustomSql(config.get(StarRocksSinkOptions.CUSTOM_SQL));
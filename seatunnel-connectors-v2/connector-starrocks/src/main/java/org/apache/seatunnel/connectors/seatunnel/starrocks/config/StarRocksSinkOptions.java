@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.sink.DataSaveMode;
 import org.apache.seatunnel.api.sink.SaveModePlaceHolder;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadCompression;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadFormat;
 
 import java.util.List;
@@ -140,6 +141,14 @@ public interface StarRocksSinkOptions {
                     .enumType(StreamLoadFormat.class)
                     .defaultValue(StreamLoadFormat.JSON)
                     .withDescription("");
+
+    Option<StreamLoadCompression> COMPRESSION =
+            Options.key("starrocks.config.compression")
+                    .enumType(StreamLoadCompression.class)
+                    .defaultValue(StreamLoadCompression.NONE)
+                    .withDescription(
+                            "The compression of the stream load body, only supported by StarRocks 3.2.7 and later");
+
     Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadFormat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+public class StarRocksRecordBufferTest {
+
+    private static final byte[] LINE_DELIMITER = "\n".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testReadWhileWriting() throws Exception {
+        StarRocksRecordBuffer buffer =
+                new StarRocksRecordBuffer(
+                        StreamLoadFormat.JSON, LINE_DELIMITER, new ArrayDeque<>());
+        CompletableFuture<String> body =
+                CompletableFuture.supplyAsync(() -> readAll(buffer.newInputStream()));
+
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            String record = "{\"id\":" + i + "}";
+            buffer.writeRecord(record.getBytes(StandardCharsets.UTF_8));
+            expected.append(i == 0 ? "" : ",").append(record);
+        }
+        expected.append("]");
+        buffer.finish();
+
+        Assertions.assertTrue(buffer.getBytes() > StarRocksRecordBuffer.CHUNK_SIZE);
+        Assertions.assertEquals(expected.toString(), body.get());
+        // the body is read from the beginning again when the stream load is retried
+        Assertions.assertEquals(expected.toString(), readAll(buffer.newInputStream()));
+    }
+
+    @Test
+    public void testReuseChunks() {
+        Deque<byte[]> chunkPool = new ArrayDeque<>();
+        StarRocksRecordBuffer buffer =
+                new StarRocksRecordBuffer(StreamLoadFormat.CSV, LINE_DELIMITER, chunkPool);
+        buffer.writeRecord("1,a".getBytes(StandardCharsets.UTF_8));
+        buffer.writeRecord("2,b".getBytes(StandardCharsets.UTF_8));
+        buffer.finish();
+        Assertions.assertEquals(2, buffer.getRowCount());
+        Assertions.assertEquals("1,a\n2,b\n", readAll(buffer.newInputStream()));
+
+        buffer.release();
+        Assertions.assertEquals(1, chunkPool.size());
+        new StarRocksRecordBuffer(StreamLoadFormat.CSV, LINE_DELIMITER, chunkPool)
+                .writeRecord("3,c".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertTrue(chunkPool.isEmpty());
+    }
+
+    private static String readAll(InputStream in) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] bytes = new byte[1024];
+            int length;
+            while ((length = in.read(bytes)) != -1) {
+                out.write(bytes, 0, length);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -30,8 +30,8 @@ import org.apache.seatunnel.core.starter.exception.TaskExecuteException;
 import org.apache.seatunnel.core.starter.execution.PluginUtil;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelFactoryDiscovery;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelTransformPluginDiscovery;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 
-import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.operators.StreamMap;
 
@@ -142,7 +142,8 @@ public class TransformExecuteProcessor
             SeaTunnelTransform transform, DataStream<SeaTunnelRow> stream) {
         return stream.transform(
                 String.format("%s-Transform", transform.getPluginName()),
-                TypeInformation.of(SeaTunnelRow.class),
+                new SeaTunnelRowTypeInfo(
+                        transform.getProducedCatalogTable().getSeaTunnelRowType()),
                 new StreamMap<>(
                         flinkRuntimeEnvironment
                                 .getStreamExecutionEnvironment()
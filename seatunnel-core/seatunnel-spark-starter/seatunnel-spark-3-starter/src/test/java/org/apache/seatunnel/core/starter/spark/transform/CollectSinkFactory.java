@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.core.starter.spark.transform;
+
+import org.apache.seatunnel.api.configuration.Option;
+import org.apache.seatunnel.api.configuration.Options;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.connector.TableSink;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.api.table.factory.TableSinkFactory;
+import org.apache.seatunnel.api.table.factory.TableSinkFactoryContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import com.google.auto.service.AutoService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** A sink which collects the fields of the written rows by the configured key. */
+@AutoService(Factory.class)
+public class CollectSinkFactory implements TableSinkFactory<SeaTunnelRow, Void, Void, Void> {
+
+    public static final Option<String> KEY = Options.key("key").stringType().noDefaultValue();
+
+    private static final Map<String, List<List<Object>>> ROWS = new ConcurrentHashMap<>();
+
+    public static List<List<Object>> getRows(String key) {
+        return new ArrayList<>(ROWS.getOrDefault(key, new ArrayList<>()));
+    }
+
+    public static void clear() {
+        ROWS.clear();
+    }
+
+    @Override
+    public String factoryIdentifier() {
+        return "Collect";
+    }
+
+    @Override
+    public OptionRule optionRule() {
+        return OptionRule.builder().required(KEY).build();
+    }
+
+    @Override
+    public TableSink<SeaTunnelRow, Void, Void, Void> createSink(TableSinkFactoryContext context) {
+        return () -> new CollectSink(context.getOptions());
+    }
+
+    private static class CollectSink implements SeaTunnelSink<SeaTunnelRow, Void, Void, Void> {
+
+        private final ReadonlyConfig config;
+
+        private CollectSink(ReadonlyConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Collect";
+        }
+
+        @Override
+        public SinkWriter<SeaTunnelRow, Void, Void> createWriter(SinkWriter.Context context) {
+            String key = config.get(KEY);
+            return new SinkWriter<SeaTunnelRow, Void, Void>() {
+                @Override
+                public void write(SeaTunnelRow element) {
+                    ROWS.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>())
+                            .add(Arrays.asList(element.getFields()));
+                }
+
+                @Override
+                public Optional<Void> prepareCommit() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public void abortPrepare() {}
+
+                @Override
+                public void close() {}
+            };
+        }
+    }
+}
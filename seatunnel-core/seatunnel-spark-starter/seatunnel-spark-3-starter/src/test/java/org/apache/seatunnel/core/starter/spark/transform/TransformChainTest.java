@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.core.starter.spark.transform;
+
+import org.apache.seatunnel.common.config.DeployMode;
+import org.apache.seatunnel.core.starter.SeaTunnel;
+import org.apache.seatunnel.core.starter.exception.CommandException;
+import org.apache.seatunnel.core.starter.spark.args.SparkCommandArgs;
+import org.apache.seatunnel.core.starter.spark.multitable.MultiTableSinkTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.io.FileNotFoundException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TransformChainTest {
+
+    @Test
+    @DisabledOnJre(
+            value = JRE.JAVA_11,
+            disabledReason =
+                    "We should update apache common lang3 version to 3.8 to avoid NPE, "
+                            + "see https://github.com/apache/commons-lang/commit/50ce8c44e1601acffa39f5568f0fc140aade0564")
+    public void testChainedTransforms()
+            throws FileNotFoundException, URISyntaxException, CommandException {
+        CollectSinkFactory.clear();
+        String configFile =
+                MultiTableSinkTest.getTestConfigFile(
+                        "/config/fake_to_collect_with_chained_transforms.conf");
+        SparkCommandArgs sparkCommandArgs = new SparkCommandArgs();
+        sparkCommandArgs.setConfigFile(configFile);
+        sparkCommandArgs.setCheckConfig(false);
+        sparkCommandArgs.setVariables(null);
+        sparkCommandArgs.setDeployMode(DeployMode.CLIENT);
+        SeaTunnel.run(sparkCommandArgs.buildCommand());
+
+        // filter -> copy -> filter are run in one chain
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("B", 20, "B"), Arrays.asList("D", 40, "D")),
+                sorted(CollectSinkFactory.getRows("result")));
+        // the intermediate table is still readable by other consumers
+        Assertions.assertEquals(
+                Arrays.asList(
+                        Arrays.asList("B", 20), Arrays.asList("C", 30), Arrays.asList("D", 40)),
+                sorted(CollectSinkFactory.getRows("adult")));
+    }
+
+    private static List<List<Object>> sorted(List<List<Object>> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparing(row -> String.valueOf(row.get(0))))
+                .collect(Collectors.toList());
+    }
+}
@@ -49,11 +49,12 @@ import java.io.Serializable;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -113,15 +114,18 @@ public class TransformExecuteProcessor
                                         e -> e,
                                         (a, b) -> b,
                                         LinkedHashMap::new));
+        // result table name -> the transforms producing the table, which are fused into one
+        // mapPartitions, so the rows are only converted once for consecutive transforms
+        Map<String, TransformChain> transformChains = new HashMap<>();
         for (int i = 0; i < plugins.size(); i++) {
             try {
                 Config pluginConfig = pluginConfigs.get(i);
-                DatasetTableInfo dataset =
+                Optional<DatasetTableInfo> sourceTable =
                         fromSourceTable(
-                                        pluginConfig,
-                                        sparkRuntimeEnvironment,
-                                        new ArrayList<>(outputTables.values()))
-                                .orElse(input);
+                                pluginConfig,
+                                sparkRuntimeEnvironment,
+                                new ArrayList<>(outputTables.values()));
+                DatasetTableInfo dataset = sourceTable.orElse(input);
                 TableTransformFactory factory = plugins.get(i);
                 TableTransformFactoryContext context =
                         new TableTransformFactoryContext(
@@ -131,12 +135,23 @@ public class TransformExecuteProcessor
                 ConfigValidator.of(context.getOptions()).validate(factory.optionRule());
                 SeaTunnelTransform transform = factory.createTransform(context).createTransform();
 
-                Dataset<Row> inputDataset = sparkTransform(transform, dataset);
+                TransformChain upstreamChain =
+                        sourceTable
+                                .map(table -> transformChains.get(table.getTableName()))
+                                .orElse(null);
+                TransformChain chain =
+                        upstreamChain == null
+                                ? new TransformChain(dataset, transform)
+                                : upstreamChain.append(transform);
+                Dataset<Row> inputDataset = sparkTransform(chain);
                 registerInputTempView(pluginConfig, inputDataset);
                 String resultTableName =
                         pluginConfig.hasPath(RESULT_TABLE_NAME.key())
                                 ? pluginConfig.getString(RESULT_TABLE_NAME.key())
                                 : null;
+                if (resultTableName != null) {
+                    transformChains.put(resultTableName, chain);
+                }
                 outputTables.put(
                         resultTableName,
                         new DatasetTableInfo(
@@ -154,62 +169,102 @@ public class TransformExecuteProcessor
         return new ArrayList<>(outputTables.values());
     }
 
-    private Dataset<Row> sparkTransform(SeaTunnelTransform transform, DatasetTableInfo tableInfo) {
-        Dataset<Row> stream = tableInfo.getDataset();
+    private Dataset<Row> sparkTransform(TransformChain chain) {
+        Dataset<Row> stream = chain.input.getDataset();
         SeaTunnelDataType<?> inputDataType =
-                tableInfo.getCatalogTables().get(0).getSeaTunnelRowType();
-        SeaTunnelDataType<?> outputDataTYpe =
-                transform.getProducedCatalogTable().getSeaTunnelRowType();
-        StructType outputSchema = (StructType) TypeConverterUtils.parcel(outputDataTYpe);
+                chain.input.getCatalogTables().get(0).getSeaTunnelRowType();
+        SeaTunnelDataType<?> outputDataType =
+                chain.transforms
+                        .get(chain.transforms.size() - 1)
+                        .getProducedCatalogTable()
+                        .getSeaTunnelRowType();
+        StructType outputSchema = (StructType) TypeConverterUtils.parcel(outputDataType);
         SeaTunnelRowConverter inputRowConverter = new SeaTunnelRowConverter(inputDataType);
-        SeaTunnelRowConverter outputRowConverter = new SeaTunnelRowConverter(outputDataTYpe);
+        SeaTunnelRowConverter outputRowConverter = new SeaTunnelRowConverter(outputDataType);
         ExpressionEncoder<Row> encoder = RowEncoder.apply(outputSchema);
+        List<SeaTunnelTransform<SeaTunnelRow>> transforms = chain.transforms;
         return stream.mapPartitions(
-                        (MapPartitionsFunction<Row, Row>)
-                                (Iterator<Row> rowIterator) ->
-                                        new TransformIterator(
-                                                rowIterator,
-                                                transform,
-                                                outputSchema,
-                                                inputRowConverter,
-                                                outputRowConverter),
-                        encoder)
-                .filter(Objects::nonNull);
+                (MapPartitionsFunction<Row, Row>)
+                        (Iterator<Row> rowIterator) ->
+                                new TransformIterator(
+                                        rowIterator,
+                                        transforms,
+                                        inputRowConverter,
+                                        outputRowConverter),
+                encoder);
+    }
+
+    /** Consecutive transforms and the dataset read by the first one. */
+    private static class TransformChain {
+        private final DatasetTableInfo input;
+        private final List<SeaTunnelTransform<SeaTunnelRow>> transforms;
+
+        private TransformChain(
+                DatasetTableInfo input, List<SeaTunnelTransform<SeaTunnelRow>> transforms) {
+            this.input = input;
+            this.transforms = transforms;
+        }
+
+        @SuppressWarnings("unchecked")
+        private TransformChain(DatasetTableInfo input, SeaTunnelTransform<?> transform) {
+            this(
+                    input,
+                    Collections.singletonList((SeaTunnelTransform<SeaTunnelRow>) transform));
+        }
+
+        @SuppressWarnings("unchecked")
+        private TransformChain append(SeaTunnelTransform<?> transform) {
+            List<SeaTunnelTransform<SeaTunnelRow>> appended = new ArrayList<>(transforms);
+            appended.add((SeaTunnelTransform<SeaTunnelRow>) transform);
+            return new TransformChain(input, appended);
+        }
     }
 
     private static class TransformIterator implements Iterator<Row>, Serializable {
-        private Iterator<Row> sourceIterator;
-        private SeaTunnelTransform<SeaTunnelRow> transform;
-        private StructType structType;
-        private SeaTunnelRowConverter inputRowConverter;
-        private SeaTunnelRowConverter outputRowConverter;
+        private final Iterator<Row> sourceIterator;
+        private final List<SeaTunnelTransform<SeaTunnelRow>> transforms;
+        private final SeaTunnelRowConverter inputRowConverter;
+        private final SeaTunnelRowConverter outputRowConverter;
+        private Row nextRow;
 
         public TransformIterator(
                 Iterator<Row> sourceIterator,
-                SeaTunnelTransform<SeaTunnelRow> transform,
-                StructType structType,
+                List<SeaTunnelTransform<SeaTunnelRow>> transforms,
                 SeaTunnelRowConverter inputRowConverter,
                 SeaTunnelRowConverter outputRowConverter) {
             this.sourceIterator = sourceIterator;
-            this.transform = transform;
-            this.structType = structType;
+            this.transforms = transforms;
             this.inputRowConverter = inputRowConverter;
             this.outputRowConverter = outputRowConverter;
         }
 
         @Override
         public boolean hasNext() {
-            return sourceIterator.hasNext();
+            // skip the rows filtered out by any of the transforms
+            while (nextRow == null && sourceIterator.hasNext()) {
+                nextRow = transform(sourceIterator.next());
+            }
+            return nextRow != null;
         }
 
         @Override
         public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Row row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private Row transform(Row row) {
             try {
-                Row row = sourceIterator.next();
                 SeaTunnelRow seaTunnelRow = inputRowConverter.unpack((GenericRowWithSchema) row);
-                seaTunnelRow = (SeaTunnelRow) transform.map(seaTunnelRow);
-                if (seaTunnelRow == null) {
-                    return null;
+                for (SeaTunnelTransform<SeaTunnelRow> transform : transforms) {
+                    seaTunnelRow = transform.map(seaTunnelRow);
+                    if (seaTunnelRow == null) {
+                        return null;
+                    }
                 }
                 return outputRowConverter.parcel(seaTunnelRow);
             } catch (Exception e) {
@@ -42,7 +42,6 @@ import com.hazelcast.instance.impl.HazelcastInstanceImpl;
 import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -112,15 +111,16 @@ public class JobExecutionIT {
 
     @Test
     public void testExecuteJobWithLockMetrics() throws Exception {
-        // lock metrics map
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        // lock an entry of the metrics map which does not belong to the job
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
                 hazelcastInstance.getMap(Constant.IMAP_RUNNING_JOB_METRICS);
-        metricsImap.lock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
+        TaskLocation lockedTaskLocation = new TaskLocation();
+        metricsImap.lock(lockedTaskLocation);
         try {
             runJobFileWithAssertEndStatus(
                     "batch_fakesource_to_file.conf", "fake_to_file", JobStatus.FINISHED);
         } finally {
-            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
+            metricsImap.unlock(lockedTaskLocation);
         }
     }
 
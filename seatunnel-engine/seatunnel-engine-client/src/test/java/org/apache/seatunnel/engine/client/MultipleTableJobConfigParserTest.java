@@ -20,6 +20,10 @@ package org.apache.seatunnel.engine.client;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.common.JobContext;
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SourcePredicate.Operator;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.DeployMode;
 import org.apache.seatunnel.core.starter.utils.ConfigBuilder;
@@ -27,6 +31,8 @@ import org.apache.seatunnel.engine.common.config.JobConfig;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.core.dag.actions.TransformAction;
 import org.apache.seatunnel.engine.core.parse.MultipleTableJobConfigParser;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -147,4 +153,63 @@ public class MultipleTableJobConfigParserTest {
         Assertions.assertEquals("Transform[0]-sql", actions.get(0).getUpstream().get(0).getName());
         Assertions.assertEquals("Transform[1]-sql", actions.get(1).getUpstream().get(0).getName());
     }
+
+    @Test
+    public void testPushDownSqlTransformToSingleConsumerSource() {
+        List<Action> actions = parsePushDownJob("/batch_pushdown_to_console.conf");
+        Assertions.assertEquals(1, actions.size());
+        TransformAction transformAction = (TransformAction) actions.get(0).getUpstream().get(0);
+        PushDownSourceFactory.PushDownSource source =
+                getPushDownSource(transformAction.getUpstream().get(0));
+
+        Assertions.assertEquals(Arrays.asList("name", "age"), source.getProjectedFields());
+        Assertions.assertEquals(
+                Arrays.asList(
+                        SourcePredicate.of("age", Operator.GREATER_THAN, 18),
+                        SourcePredicate.of("name", Operator.EQUAL, "a")),
+                source.getPushedPredicates());
+
+        // the transform is created again on the projected table of the source
+        @SuppressWarnings("unchecked")
+        SeaTunnelTransform<SeaTunnelRow> transform =
+                (SeaTunnelTransform<SeaTunnelRow>) transformAction.getTransform();
+        Assertions.assertArrayEquals(
+                new String[] {"age", "name"},
+                transform.getProducedCatalogTable().getSeaTunnelRowType().getFieldNames());
+        SeaTunnelRow row = transform.map(new SeaTunnelRow(new Object[] {"a", 20}));
+        Assertions.assertArrayEquals(new Object[] {20, "a"}, row.getFields());
+    }
+
+    @Test
+    public void testNotPushDownSqlTransformToSharedSource() {
+        List<Action> actions = parsePushDownJob("/batch_pushdown_to_two_console.conf");
+        Assertions.assertEquals(2, actions.size());
+        TransformAction transformAction = (TransformAction) actions.get(0).getUpstream().get(0);
+        PushDownSourceFactory.PushDownSource source =
+                getPushDownSource(transformAction.getUpstream().get(0));
+        Assertions.assertSame(source, getPushDownSource(actions.get(1).getUpstream().get(0)));
+
+        // the other sink still reads all the rows and the columns of the source
+        Assertions.assertNull(source.getProjectedFields());
+        Assertions.assertNull(source.getPushedPredicates());
+        @SuppressWarnings("unchecked")
+        SeaTunnelTransform<SeaTunnelRow> transform =
+                (SeaTunnelTransform<SeaTunnelRow>) transformAction.getTransform();
+        SeaTunnelRow row = transform.map(new SeaTunnelRow(new Object[] {1L, "a", 20}));
+        Assertions.assertArrayEquals(new Object[] {20, "a"}, row.getFields());
+    }
+
+    private static List<Action> parsePushDownJob(String resource) {
+        Common.setDeployMode(DeployMode.CLIENT);
+        String filePath = TestUtils.getResource(resource);
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setJobContext(new JobContext());
+        MultipleTableJobConfigParser jobConfigParser =
+                new MultipleTableJobConfigParser(filePath, new IdGenerator(), jobConfig);
+        return jobConfigParser.parse(null).getLeft();
+    }
+
+    private static PushDownSourceFactory.PushDownSource getPushDownSource(Action action) {
+        return (PushDownSourceFactory.PushDownSource) ((SourceAction<?, ?, ?>) action).getSource();
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.client;
+
+import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.connector.TableSource;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.api.table.factory.TableSourceFactory;
+import org.apache.seatunnel.api.table.factory.TableSourceFactoryContext;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.google.auto.service.AutoService;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** A source which records the projection and the predicates pushed down by the job parser. */
+@AutoService(Factory.class)
+public class PushDownSourceFactory implements TableSourceFactory {
+
+    @Override
+    public String factoryIdentifier() {
+        return "PushDown";
+    }
+
+    @Override
+    public OptionRule optionRule() {
+        return OptionRule.builder().build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, SplitT extends SourceSplit, StateT extends Serializable>
+            TableSource<T, SplitT, StateT> createSource(TableSourceFactoryContext context) {
+        return () -> (SeaTunnelSource<T, SplitT, StateT>) new PushDownSource();
+    }
+
+    @Override
+    public Class<? extends SeaTunnelSource> getSourceClass() {
+        return PushDownSource.class;
+    }
+
+    @Getter
+    public static class PushDownSource
+            implements SeaTunnelSource<SeaTunnelRow, SourceSplit, Serializable>,
+                    SupportColumnProjection,
+                    SupportFilterPushDown {
+
+        private static final CatalogTable CATALOG_TABLE =
+                CatalogTableUtil.getCatalogTable(
+                        "pushdown",
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name", "age"},
+                                new SeaTunnelDataType<?>[] {
+                                    BasicType.LONG_TYPE, BasicType.STRING_TYPE, BasicType.INT_TYPE
+                                }));
+
+        private List<String> projectedFields;
+        private List<SourcePredicate> pushedPredicates;
+
+        @Override
+        public String getPluginName() {
+            return "PushDown";
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public List<CatalogTable> getProducedCatalogTables() {
+            return Collections.singletonList(
+                    projectedFields == null
+                            ? CATALOG_TABLE
+                            : CatalogTableUtil.projectCatalogTable(CATALOG_TABLE, projectedFields));
+        }
+
+        @Override
+        public boolean applyProjection(List<String> fieldNames) {
+            projectedFields = new ArrayList<>(fieldNames);
+            return true;
+        }
+
+        @Override
+        public List<SourcePredicate> applyFilters(List<SourcePredicate> predicates) {
+            pushedPredicates = new ArrayList<>(predicates);
+            return pushedPredicates;
+        }
+
+        @Override
+        public SourceReader<SeaTunnelRow, SourceSplit> createReader(
+                SourceReader.Context readerContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SourceSplitEnumerator<SourceSplit, Serializable> createEnumerator(
+                SourceSplitEnumerator.Context<SourceSplit> enumeratorContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SourceSplitEnumerator<SourceSplit, Serializable> restoreEnumerator(
+                SourceSplitEnumerator.Context<SourceSplit> enumeratorContext,
+                Serializable checkpointState) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
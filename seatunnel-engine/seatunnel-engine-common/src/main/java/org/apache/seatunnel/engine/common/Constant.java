@@ -57,9 +57,7 @@ public class Constant {
 
     public static final String IMAP_CHECKPOINT_ID = "engine_checkpoint-id-map";
 
-    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
-
-    public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
+    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobTaskMetrics";
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
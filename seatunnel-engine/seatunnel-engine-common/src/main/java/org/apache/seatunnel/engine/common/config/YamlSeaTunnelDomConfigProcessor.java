@@ -228,6 +228,15 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.key().equals(name)) {
+                checkpointStorageConfig.setIncremental(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_COMPACTION_INTERVAL
+                    .key()
+                    .equals(name)) {
+                checkpointStorageConfig.setCompactionInterval(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_STORAGE_COMPACTION_INTERVAL.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE_PLUGIN_CONFIG.key().equals(name)) {
                 Map<String, String> pluginConfig = parseCheckpointPluginConfig(node);
                 checkpointStorageConfig.setStoragePluginConfig(pluginConfig);
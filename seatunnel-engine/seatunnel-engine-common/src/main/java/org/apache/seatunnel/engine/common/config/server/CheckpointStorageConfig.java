@@ -30,6 +30,11 @@ public class CheckpointStorageConfig {
     private int maxRetainedCheckpoints =
             ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.defaultValue();
 
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.defaultValue();
+
+    private int compactionInterval =
+            ServerConfigOptions.CHECKPOINT_STORAGE_COMPACTION_INTERVAL.defaultValue();
+
     /** Storage plugin instance configuration */
     private Map<String, String> storagePluginConfig = new HashMap<>();
 }
@@ -103,6 +103,20 @@ public class ServerConfigOptions {
                     .defaultValue(20)
                     .withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to only store the changed action states since the latest full checkpoint.");
+
+    public static final Option<Integer> CHECKPOINT_STORAGE_COMPACTION_INTERVAL =
+            Options.key("compaction-interval")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription(
+                            "The number of incremental checkpoints between two full checkpoints.");
+
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
@@ -36,6 +36,12 @@ public class ShuffleConfig implements Config {
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
     private ShuffleStrategy shuffleStrategy;
+    /**
+     * Whether rows are written with the schema aware binary codec compiled from {@link
+     * ShuffleStrategy#getCatalogTables()}, otherwise each field is written by the generic object
+     * serializer.
+     */
+    @Builder.Default private boolean binaryRowCodec = false;
 
     @Tolerate
     public ShuffleConfig() {}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Route rows to the target partition by the hash of the key columns, so the rows with the same
+ * key are always written by the same sink writer. The key columns default to the primary key of
+ * each table.
+ *
+ * <p>The hash only depends on the key values and the number of target partitions, so the routing
+ * is stable across job restore.
+ */
+@Slf4j
+@SuppressWarnings("MagicNumber")
+@SuperBuilder
+@Getter
+@Setter
+@ToString
+public class ShuffleKeyHashStrategy extends ShuffleStrategy {
+    private final Map<Integer, String[]> inputQueueMapping = new HashMap<>();
+    private int targetPartitions;
+    private List<String> keyColumns;
+    @ToString.Exclude private transient Map<String, int[]> tableKeyIndexes;
+
+    @Tolerate
+    public ShuffleKeyHashStrategy() {}
+
+    @Override
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : getInputQueueNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    @Override
+    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
+        if (!(record.getData() instanceof SeaTunnelRow)) {
+            throw new UnsupportedOperationException("Unsupported record: " + record);
+        }
+        String[] inputQueueNames = getInputQueueNames(pipelineId, inputIndex);
+        SeaTunnelRow row = (SeaTunnelRow) record.getData();
+        int hash = hashKey(row, getKeyIndexes(row.getTableId()));
+        return inputQueueNames[(mix(hash) & Integer.MAX_VALUE) % targetPartitions];
+    }
+
+    /** The rows of a table are spread to all the sink writers, so are its schema changes. */
+    @Override
+    public boolean broadcast(Record<?> record) {
+        return record.getData() instanceof SchemaChangeEvent;
+    }
+
+    @Override
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
+        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
+            shuffles[inputIndex] = getIQueue(hazelcast, queueName);
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                Stream.of(shuffles).map(e -> e.getName()).collect(Collectors.toList()));
+
+        return shuffles;
+    }
+
+    /**
+     * Resolve the key columns of the table, return null if the table has no primary key and no
+     * key columns are configured.
+     *
+     * @throws IllegalArgumentException if the configured key columns are not in the table
+     */
+    public static List<String> resolveKeyColumns(
+            CatalogTable catalogTable, List<String> keyColumns) {
+        if (keyColumns != null && !keyColumns.isEmpty()) {
+            SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+            List<String> missingColumns =
+                    keyColumns.stream()
+                            .filter(column -> rowType.indexOf(column, false) < 0)
+                            .collect(Collectors.toList());
+            checkArgument(
+                    missingColumns.isEmpty(),
+                    String.format(
+                            "The shuffle partition keys %s are not found in table %s, the columns are %s",
+                            missingColumns,
+                            catalogTable.getTablePath(),
+                            Arrays.toString(rowType.getFieldNames())));
+            return keyColumns;
+        }
+        PrimaryKey primaryKey = catalogTable.getTableSchema().getPrimaryKey();
+        if (primaryKey == null
+                || primaryKey.getColumnNames() == null
+                || primaryKey.getColumnNames().isEmpty()) {
+            return null;
+        }
+        return primaryKey.getColumnNames();
+    }
+
+    private String[] getInputQueueNames(int pipelineId, int inputIndex) {
+        return inputQueueMapping.computeIfAbsent(
+                inputIndex,
+                key -> {
+                    String[] queueNames = new String[targetPartitions];
+                    for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+                        queueNames[targetIndex] = generateQueueName(pipelineId, key, targetIndex);
+                    }
+                    return queueNames;
+                });
+    }
+
+    private int[] getKeyIndexes(String tableId) {
+        if (tableKeyIndexes == null) {
+            Map<String, int[]> keyIndexes = new HashMap<>();
+            for (CatalogTable catalogTable : catalogTables) {
+                List<String> columns = resolveKeyColumns(catalogTable, keyColumns);
+                checkArgument(
+                        columns != null,
+                        "No key columns to shuffle the table " + catalogTable.getTablePath());
+                SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+                keyIndexes.put(
+                        catalogTable.getTableId().toTablePath().toString(),
+                        columns.stream().mapToInt(rowType::indexOf).toArray());
+            }
+            tableKeyIndexes = keyIndexes;
+        }
+        int[] keyIndexes = tableKeyIndexes.get(tableId);
+        if (keyIndexes == null && tableKeyIndexes.size() == 1) {
+            keyIndexes = tableKeyIndexes.values().iterator().next();
+        }
+        if (keyIndexes == null) {
+            throw new IllegalArgumentException("Unknown table of shuffle row: " + tableId);
+        }
+        return keyIndexes;
+    }
+
+    private static int hashKey(SeaTunnelRow row, int[] keyIndexes) {
+        int hash = 1;
+        for (int keyIndex : keyIndexes) {
+            Object field = row.getField(keyIndex);
+            int fieldHash;
+            if (field == null) {
+                fieldHash = 0;
+            } else if (field instanceof byte[]) {
+                fieldHash = Arrays.hashCode((byte[]) field);
+            } else if (field instanceof Object[]) {
+                fieldHash = Arrays.deepHashCode((Object[]) field);
+            } else {
+                fieldHash = field.hashCode();
+            }
+            hash = 31 * hash + fieldHash;
+        }
+        return hash;
+    }
+
+    /** The finalization mix of murmur3, spread the key hash to all partitions. */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
+        return String.format(
+                "ShuffleKeyHash-Queue_%s_%s_%s_%s",
+                getJobId(), pipelineId, inputIndex, targetIndex);
+    }
+}
@@ -32,7 +32,6 @@ import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -44,7 +43,6 @@ import java.util.stream.Stream;
 @Setter
 @ToString
 public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
-    private List<CatalogTable> catalogTables;
     private String targetTableId;
 
     @Tolerate
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -30,6 +31,7 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 @SuperBuilder(toBuilder = true)
@@ -47,6 +49,8 @@ public abstract class ShuffleStrategy implements Serializable {
     @Builder.Default protected int queueBackupCount = DEFAULT_QUEUE_BACKUP_COUNT;
     @Builder.Default protected int queueAsyncBackupCount = DEFAULT_QUEUE_ASYNC_BACKUP_COUNT;
     protected int queueEmptyQueueTtl;
+    /** The tables flowing through the shuffle edge. */
+    protected List<CatalogTable> catalogTables;
 
     @Tolerate
     public ShuffleStrategy() {}
@@ -56,6 +60,14 @@ public abstract class ShuffleStrategy implements Serializable {
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
+    /**
+     * Whether the record is sent to all the shuffle queues of the input like the barriers, instead
+     * of the queue of {@link #createShuffleKey(Record, int, int)}.
+     */
+    public boolean broadcast(Record<?> record) {
+        return false;
+    }
+
     public abstract IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex);
 
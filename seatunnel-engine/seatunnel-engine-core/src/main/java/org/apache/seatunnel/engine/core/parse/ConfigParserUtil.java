@@ -32,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 import scala.Tuple2;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -255,6 +256,35 @@ public final class ConfigParserUtil {
         }
     }
 
+    /**
+     * Get the ids of the tables which are the input of only one transform or sink, the source of
+     * such a table can be changed by its consumer.
+     */
+    static Set<String> getSingleConsumerTableIds(
+            List<? extends Config> sources,
+            List<? extends Config> transforms,
+            List<? extends Config> sinks) {
+        Set<String> tableIds = new HashSet<>();
+        if (isSimpleGraph(sources, transforms, sinks)) {
+            tableIds.add(getTableId(ReadonlyConfig.fromConfig(sources.get(0))));
+            return tableIds;
+        }
+        Map<String, Integer> consumers = new HashMap<>();
+        for (List<? extends Config> configs : Arrays.asList(transforms, sinks)) {
+            for (Config config : configs) {
+                getInputIds(ReadonlyConfig.fromConfig(config))
+                        .forEach(inputId -> consumers.merge(inputId, 1, Integer::sum));
+            }
+        }
+        consumers.forEach(
+                (tableId, count) -> {
+                    if (count == 1) {
+                        tableIds.add(tableId);
+                    }
+                });
+        return tableIds;
+    }
+
     private static String getTableId(ReadonlyConfig config) {
         return config.getOptional(RESULT_TABLE_NAME).orElse(DEFAULT_ID);
     }
@@ -29,7 +29,10 @@ import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
@@ -37,6 +40,7 @@ import org.apache.seatunnel.api.table.factory.TableSinkFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportPushDown;
 import org.apache.seatunnel.common.Constants;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.TypesafeConfigUtils;
@@ -112,6 +116,9 @@ public class MultipleTableJobConfigParser {
     private final JobConfigParser fallbackParser;
     private final boolean isStartWithSavePoint;
 
+    /** The ids of the tables which are the input of only one transform or sink. */
+    private Set<String> singleConsumerTableIds = Collections.emptySet();
+
     public MultipleTableJobConfigParser(
             String jobDefineFilePath, IdGenerator idGenerator, JobConfig jobConfig) {
         this(jobDefineFilePath, idGenerator, jobConfig, Collections.emptyList(), false);
@@ -199,6 +206,9 @@ public class MultipleTableJobConfigParser {
         try {
             Thread.currentThread().setContextClassLoader(classLoader);
             ConfigParserUtil.checkGraph(sourceConfigs, transformConfigs, sinkConfigs);
+            singleConsumerTableIds =
+                    ConfigParserUtil.getSingleConsumerTableIds(
+                            sourceConfigs, transformConfigs, sinkConfigs);
             LinkedHashMap<String, List<Tuple2<CatalogTable, Action>>> tableWithActionMap =
                     new LinkedHashMap<>();
 
@@ -458,6 +468,17 @@ public class MultipleTableJobConfigParser {
         SeaTunnelTransform<?> transform =
                 FactoryUtil.createAndPrepareTransform(
                         catalogTable, readonlyConfig, classLoader, factoryId);
+        if (transform instanceof SupportPushDown && inputs.size() == 1) {
+            Optional<CatalogTable> projectedTable =
+                    pushDownToSource(
+                            (SupportPushDown) transform, inputs.get(0), tableWithActionMap);
+            if (projectedTable.isPresent()) {
+                catalogTable = projectedTable.get();
+                transform =
+                        FactoryUtil.createAndPrepareTransform(
+                                catalogTable, readonlyConfig, classLoader, factoryId);
+            }
+        }
         transform.setJobContext(jobConfig.getJobContext());
         long id = idGenerator.getNextId();
         String actionName = JobConfigParser.createTransformActionName(index, factoryId);
@@ -477,6 +498,60 @@ public class MultipleTableJobConfigParser {
                         new Tuple2<>(transform.getProducedCatalogTable(), transformAction)));
     }
 
+    /**
+     * Push the columns and the predicates used by the transform into its input source, when the
+     * transform is the only consumer of the source.
+     *
+     * @return the projected table of the source, empty if the columns are not pushed
+     */
+    private Optional<CatalogTable> pushDownToSource(
+            SupportPushDown transform,
+            Tuple2<CatalogTable, Action> input,
+            LinkedHashMap<String, List<Tuple2<CatalogTable, Action>>> tableWithActionMap) {
+        if (!(input._2() instanceof SourceAction)) {
+            return Optional.empty();
+        }
+        Optional<String> sourceTableId =
+                tableWithActionMap.entrySet().stream()
+                        .filter(
+                                entry ->
+                                        !entry.getValue().isEmpty()
+                                                && entry.getValue().get(0)._2() == input._2())
+                        .map(Map.Entry::getKey)
+                        .findFirst();
+        if (!sourceTableId.isPresent() || !singleConsumerTableIds.contains(sourceTableId.get())) {
+            return Optional.empty();
+        }
+        SeaTunnelSource<?, ?, ?> source = ((SourceAction<?, ?, ?>) input._2()).getSource();
+        if (source instanceof SupportFilterPushDown) {
+            List<SourcePredicate> predicates = transform.getPredicates();
+            if (!predicates.isEmpty()) {
+                List<SourcePredicate> pushedPredicates =
+                        ((SupportFilterPushDown) source).applyFilters(predicates);
+                log.info(
+                        "Pushed predicates {} into source {}",
+                        pushedPredicates,
+                        input._2().getName());
+            }
+        }
+        if (source instanceof SupportColumnProjection) {
+            Optional<List<String>> requiredFields = transform.getRequiredFields();
+            if (requiredFields.isPresent()
+                    && ((SupportColumnProjection) source).applyProjection(requiredFields.get())) {
+                log.info(
+                        "Pushed projection {} into source {}",
+                        requiredFields.get(),
+                        input._2().getName());
+                CatalogTable projectedTable = source.getProducedCatalogTables().get(0);
+                tableWithActionMap.put(
+                        sourceTableId.get(),
+                        Collections.singletonList(new Tuple2<>(projectedTable, input._2())));
+                return Optional.of(projectedTable);
+            }
+        }
+        return Optional.empty();
+    }
+
     public static SeaTunnelDataType<?> getProducedType(Action action) {
         if (action instanceof SourceAction) {
             try {
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.event.AlterTableColumnsEvent;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ShuffleKeyHashStrategyTest {
+
+    private static final CatalogTable CATALOG_TABLE =
+            CatalogTable.of(
+                    TableIdentifier.of("fake", "default", null, "t1"),
+                    TableSchema.builder()
+                            .column(
+                                    PhysicalColumn.of(
+                                            "id", BasicType.LONG_TYPE, 0, false, null, null))
+                            .column(
+                                    PhysicalColumn.of(
+                                            "name", BasicType.STRING_TYPE, 0, true, null, null))
+                            .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                            .build(),
+                    new HashMap<>(),
+                    new ArrayList<>(),
+                    "");
+
+    @Test
+    public void testRouteByPrimaryKey() {
+        ShuffleKeyHashStrategy strategy = createStrategy(null);
+        Set<String> queueNames = new HashSet<>();
+        for (long id = 0; id < 100; id++) {
+            String queueName = strategy.createShuffleKey(createRecord(id, "a"), 1, 0);
+            Assertions.assertEquals(
+                    queueName, strategy.createShuffleKey(createRecord(id, "b"), 1, 0));
+            queueNames.add(queueName);
+        }
+        Assertions.assertEquals(4, queueNames.size());
+    }
+
+    @Test
+    public void testRouteStableAcrossRestore() {
+        for (long id = 0; id < 100; id++) {
+            Assertions.assertEquals(
+                    createStrategy(null).createShuffleKey(createRecord(id, "a"), 1, 0),
+                    createStrategy(null).createShuffleKey(createRecord(id, "a"), 1, 0));
+        }
+    }
+
+    @Test
+    public void testRouteByKeyColumns() {
+        ShuffleKeyHashStrategy strategy = createStrategy(Collections.singletonList("name"));
+        Assertions.assertEquals(
+                strategy.createShuffleKey(createRecord(1L, "a"), 1, 0),
+                strategy.createShuffleKey(createRecord(2L, "a"), 1, 0));
+    }
+
+    @Test
+    public void testResolveKeyColumns() {
+        Assertions.assertEquals(
+                Collections.singletonList("id"),
+                ShuffleKeyHashStrategy.resolveKeyColumns(CATALOG_TABLE, null));
+        Assertions.assertEquals(
+                Collections.singletonList("name"),
+                ShuffleKeyHashStrategy.resolveKeyColumns(
+                        CATALOG_TABLE, Collections.singletonList("name")));
+        IllegalArgumentException exception =
+                Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                ShuffleKeyHashStrategy.resolveKeyColumns(
+                                        CATALOG_TABLE, Arrays.asList("name", "age")));
+        Assertions.assertTrue(exception.getMessage().contains("[age]"));
+    }
+
+    @Test
+    public void testBroadcastSchemaChangeEvent() {
+        ShuffleKeyHashStrategy strategy = createStrategy(null);
+        Assertions.assertTrue(
+                strategy.broadcast(
+                        new Record<>(new AlterTableColumnsEvent(CATALOG_TABLE.getTableId()))));
+        Assertions.assertFalse(strategy.broadcast(createRecord(1L, "a")));
+    }
+
+    private static ShuffleKeyHashStrategy createStrategy(List<String> keyColumns) {
+        return ShuffleKeyHashStrategy.builder()
+                .jobId(1L)
+                .inputPartitions(2)
+                .targetPartitions(4)
+                .catalogTables(Collections.singletonList(CATALOG_TABLE))
+                .keyColumns(keyColumns)
+                .build();
+    }
+
+    private static Record<?> createRecord(long id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setTableId("default.t1");
+        return new Record<>(row);
+    }
+}
@@ -54,7 +54,6 @@ import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperati
 import org.apache.commons.collections4.CollectionUtils;
 
 import com.google.common.collect.Lists;
-import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
@@ -132,6 +131,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             new ConcurrentHashMap<>();
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> finishedExecutionContexts =
             new ConcurrentHashMap<>();
+    // the finished task groups whose final metrics are already in the metrics imap
+    private final Set<TaskGroupLocation> finishedMetricsUpdated = ConcurrentHashMap.newKeySet();
 
     private final ConcurrentMap<TaskGroupLocation, Map<String, CompletableFuture<?>>>
             taskAsyncFunctionFuture = new ConcurrentHashMap<>();
@@ -524,6 +525,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     public void notifyCleanTaskGroupContext(TaskGroupLocation taskGroupLocation) {
         finishedExecutionContexts.remove(taskGroupLocation);
+        finishedMetricsUpdated.remove(taskGroupLocation);
     }
 
     @Override
@@ -578,12 +580,22 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             nodeEngine.getNode().getState()));
             return;
         }
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        // every task has its own entry, so the nodes update the metrics of their tasks without
+        // locking the metrics of the other tasks
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
         Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
-        contextMap.putAll(finishedExecutionContexts);
+        Set<TaskGroupLocation> finishedLocations = new HashSet<>();
+        finishedExecutionContexts.forEach(
+                (taskGroupLocation, taskGroupContext) -> {
+                    // the metrics of a finished task group do not change anymore
+                    if (!finishedMetricsUpdated.contains(taskGroupLocation)) {
+                        contextMap.put(taskGroupLocation, taskGroupContext);
+                        finishedLocations.add(taskGroupLocation);
+                    }
+                });
         contextMap.putAll(executionContexts);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
+        Map<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
         contextMap.forEach(
                 (taskGroupLocation, taskGroupContext) -> {
                     taskGroupContext
@@ -603,36 +615,15 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     });
                 });
         if (!localMap.isEmpty()) {
-            boolean lockedIMap = false;
             try {
-                lockedIMap =
-                        metricsImap.tryLock(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, 5, TimeUnit.SECONDS);
-                if (!lockedIMap) {
-                    logger.warning("try lock failed in update metrics");
-                    return;
-                }
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.computeIfAbsent(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, k -> new HashMap<>());
-                centralMap.putAll(localMap);
-                metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
+                metricsImap.setAll(localMap);
+                finishedLocations.stream()
+                        .filter(finishedExecutionContexts::containsKey)
+                        .forEach(finishedMetricsUpdated::add);
             } catch (Exception e) {
                 logger.warning(
                         "The Imap acquisition failed due to the hazelcast node being offline or restarted, and will be retried next time",
                         e);
-            } finally {
-                if (lockedIMap) {
-                    boolean unLockedIMap = false;
-                    while (!unLockedIMap) {
-                        try {
-                            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                            unLockedIMap = true;
-                        } catch (OperationTimeoutException e) {
-                            logger.warning("unlock imap failed in update metrics", e);
-                        }
-                    }
-                }
             }
         }
         this.printTaskExecutionRuntimeInfo();
@@ -942,6 +933,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 recycleClassLoader(taskGroupLocation);
                 finishedExecutionContexts.put(
                         taskGroupLocation, executionContexts.remove(taskGroupLocation));
+                finishedMetricsUpdated.remove(taskGroupLocation);
                 cancellationFutures.remove(taskGroupLocation);
                 try {
                     cancelAsyncFunction(taskGroupLocation);
@@ -66,8 +66,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -75,7 +77,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneakyThrow;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.CHECKPOINT_TYPE;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.SAVEPOINT_TYPE;
 import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
@@ -89,6 +90,12 @@ import static org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTask
 public class CheckpointCoordinator {
     private static final Logger LOG = LoggerFactory.getLogger(CheckpointCoordinator.class);
 
+    /**
+     * The max number of completed checkpoints being persisted, no general checkpoint is triggered
+     * until some of them are stored.
+     */
+    @VisibleForTesting static final int MAX_PERSISTING_CHECKPOINTS = 4;
+
     private final long jobId;
 
     private final int pipelineId;
@@ -152,6 +159,27 @@ public class CheckpointCoordinator {
 
     private final String checkpointStateImapKey;
 
+    /** Null if the incremental checkpoint is disabled. */
+    private final IncrementalCheckpointTracker incrementalCheckpointTracker;
+
+    @Getter private final CheckpointMetrics checkpointMetrics = new CheckpointMetrics();
+
+    /** Stores the completed checkpoints one by one. */
+    private final ThreadPoolExecutor persistExecutor;
+
+    /** The number of completed checkpoints submitted to {@link #persistExecutor} but not stored. */
+    private final AtomicInteger persistingCounter = new AtomicInteger(0);
+
+    /** Deletes the checkpoints which are no longer retained. */
+    private final ThreadPoolExecutor janitorExecutor;
+
+    /** Notification of the latest persisted checkpoint, used to notify checkpoints in order. */
+    private CompletableFuture<Void> persistedCheckpointNotified =
+            CompletableFuture.completedFuture(null);
+
+    /** Increased when pending checkpoints are cleaned, persisted checkpoints before are ignored. */
+    private final AtomicInteger persistEpoch = new AtomicInteger(0);
+
     @SneakyThrows
     public CheckpointCoordinator(
             CheckpointManager manager,
@@ -189,6 +217,10 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
+        // the queue is bounded by deferring the trigger of the next checkpoint, blocking here would
+        // hold the coordinator monitor while the storage is slow
+        this.persistExecutor = createCheckpointStorageExecutor("checkpoint-persist");
+        this.janitorExecutor = createCheckpointStorageExecutor("checkpoint-janitor");
         this.serializer = new ProtoStuffSerializer();
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
@@ -196,6 +228,11 @@ public class CheckpointCoordinator {
         this.readyToCloseStartingTask = new CopyOnWriteArraySet<>();
         this.readyToCloseIdleTask = new CopyOnWriteArraySet<>();
         this.closedIdleTask = new CopyOnWriteArraySet<>();
+        this.incrementalCheckpointTracker =
+                coordinatorConfig.getStorage().isIncremental()
+                        ? new IncrementalCheckpointTracker(
+                                coordinatorConfig.getStorage().getCompactionInterval())
+                        : null;
 
         LOG.info(
                 "Create CheckpointCoordinator for job({}@{}) with plan({})",
@@ -203,8 +240,7 @@ public class CheckpointCoordinator {
                 jobId,
                 plan);
         if (pipelineState != null) {
-            this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            this.latestCompletedCheckpoint = restoreCheckpoint(pipelineState);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -237,6 +273,25 @@ public class CheckpointCoordinator {
         }
     }
 
+    private ThreadPoolExecutor createCheckpointStorageExecutor(String name) {
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        1,
+                        1,
+                        60,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName(String.format("%s-%s/%s", name, pipelineId, jobId));
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        // the coordinator has no close method, let the idle thread exit by itself
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public int getPipelineId() {
         return pipelineId;
     }
@@ -524,6 +579,14 @@ public class CheckpointCoordinator {
                 return;
             }
 
+            if (checkpointType.isGeneralCheckpoint() && isPersistBackPressured()) {
+                scheduleTriggerPendingCheckpoint(checkpointType, 500L);
+                LOG.debug(
+                        "skip trigger checkpoint because {} completed checkpoints are being persisted.",
+                        persistingCounter.get());
+                return;
+            }
+
             CompletableFuture<PendingCheckpoint> pendingCheckpoint =
                     createPendingCheckpoint(currentTimestamp, checkpointType);
             startTriggerPendingCheckpoint(pendingCheckpoint);
@@ -794,6 +857,7 @@ public class CheckpointCoordinator {
             readyToCloseIdleTask.clear();
             closedIdleTask.clear();
             pendingCounter.set(0);
+            persistEpoch.incrementAndGet();
             schemaChanging.set(false);
             scheduler.shutdownNow();
             scheduler =
@@ -837,50 +901,130 @@ public class CheckpointCoordinator {
         }
     }
 
+    /**
+     * Called once all tasks acknowledged the barrier. The states are persisted asynchronously by
+     * the single thread {@link #persistExecutor}, so a slow checkpoint storage doesn't block the
+     * coordinator. The tasks are notified only after the checkpoint is durably stored, and always in
+     * the order of the checkpoints.
+     */
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        long alignmentDuration =
+                completedCheckpoint.getCompletedTimestamp()
+                        - completedCheckpoint.getCheckpointTimestamp();
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
                 completedCheckpoint.getPipelineId(),
                 completedCheckpoint.getJobId(),
-                completedCheckpoint.getCompletedTimestamp()
-                        - completedCheckpoint.getCheckpointTimestamp(),
+                alignmentDuration,
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
+        checkpointMetrics.recordAligned(alignmentDuration);
         final long checkpointId = completedCheckpoint.getCheckpointId();
+        final int epoch = persistEpoch.get();
+        PendingCheckpoint pendingCheckpoint = pendingCheckpoints.get(checkpointId);
+        if (pendingCheckpoint != null) {
+            pendingCheckpoint.abortCheckpointTimeoutFutureWhenIsCompleted();
+        }
+        // the next general checkpoint can be triggered while this one is being persisted
+        boolean pipelined = completedCheckpoint.getCheckpointType().isGeneralCheckpoint();
+        if (pipelined) {
+            pendingCheckpoints.remove(checkpointId);
+            pendingCounter.decrementAndGet();
+        }
+
+        persistingCounter.incrementAndGet();
+        CompletableFuture<Void> persistFuture =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                persistCheckpoint(completedCheckpoint);
+                            } catch (Throwable e) {
+                                throw new CompletionException(e);
+                            } finally {
+                                persistingCounter.decrementAndGet();
+                            }
+                        },
+                        persistExecutor);
+        persistedCheckpointNotified =
+                persistedCheckpointNotified
+                        .thenCombineAsync(
+                                persistFuture,
+                                (previous, persisted) -> {
+                                    if (epoch != persistEpoch.get()) {
+                                        LOG.info(
+                                                "skip notify persisted checkpoint({}/{}@{}), the coordinator was reset",
+                                                checkpointId,
+                                                pipelineId,
+                                                jobId);
+                                        return null;
+                                    }
+                                    notifyPersistedCheckpoint(completedCheckpoint, pipelined);
+                                    return null;
+                                },
+                                executorService)
+                        .handle(
+                                (ignored, error) -> {
+                                    if (error != null && epoch == persistEpoch.get()) {
+                                        handleCoordinatorError(
+                                                "complete checkpoint failed",
+                                                error,
+                                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                                    }
+                                    return null;
+                                });
+    }
+
+    /** Whether the next general checkpoint should wait for the storage to catch up. */
+    @VisibleForTesting
+    boolean isPersistBackPressured() {
+        return persistingCounter.get() >= MAX_PERSISTING_CHECKPOINTS;
+    }
+
+    @VisibleForTesting
+    CompletedCheckpoint getLatestCompletedCheckpoint() {
+        return latestCompletedCheckpoint;
+    }
+
+    /** Runs in {@link #persistExecutor}, so the checkpoints are stored one by one in order. */
+    private void persistCheckpoint(CompletedCheckpoint completedCheckpoint) throws Exception {
+        if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
+            storeCheckpoint(completedCheckpoint);
+        }
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
-        try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
-                checkpointStorage.storeCheckPoint(
-                        PipelineState.builder()
-                                .checkpointId(checkpointId)
-                                .jobId(String.valueOf(jobId))
-                                .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
+        int maxRetainedCheckpoints = coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
+        if (completedCheckpointIds.size() % maxRetainedCheckpoints == 0
+                && completedCheckpointIds.size() / maxRetainedCheckpoints > 1) {
+            List<String> removedCheckpointIds = new ArrayList<>();
+            for (int i = 0; i < maxRetainedCheckpoints; i++) {
+                removedCheckpointIds.add(completedCheckpointIds.removeFirst());
             }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
-            }
-        } catch (Throwable e) {
-            LOG.error("store checkpoint states failed.", e);
-            sneakyThrow(e);
+            // the base checkpoints of the retained checkpoints are deleted later
+            List<String> needDeleteCheckpointId =
+                    incrementalCheckpointTracker == null
+                            ? removedCheckpointIds
+                            : incrementalCheckpointTracker.getDeletableCheckpointIds(
+                                    removedCheckpointIds, completedCheckpointIds);
+            janitorExecutor.execute(
+                    () -> {
+                        try {
+                            checkpointStorage.deleteCheckpoint(
+                                    String.valueOf(completedCheckpoint.getJobId()),
+                                    String.valueOf(completedCheckpoint.getPipelineId()),
+                                    needDeleteCheckpointId);
+                        } catch (Throwable e) {
+                            LOG.warn(
+                                    String.format(
+                                            "delete checkpoint %s of pipeline(%s/%s) failed",
+                                            needDeleteCheckpointId, pipelineId, jobId),
+                                    e);
+                        }
+                    });
         }
+    }
+
+    private void notifyPersistedCheckpoint(
+            CompletedCheckpoint completedCheckpoint, boolean pipelined) {
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
                 completedCheckpoint.getCheckpointId(),
@@ -888,8 +1032,10 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
         notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
+        if (!pipelined) {
+            pendingCheckpoints.remove(completedCheckpoint.getCheckpointId());
+            pendingCounter.decrementAndGet();
+        }
         if (isCompleted()) {
             cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
             if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
@@ -904,6 +1050,57 @@ public class CheckpointCoordinator {
         }
     }
 
+    private void storeCheckpoint(CompletedCheckpoint completedCheckpoint) throws Exception {
+        long startTime = System.currentTimeMillis();
+        CompletedCheckpoint checkpoint = completedCheckpoint;
+        long baseCheckpointId = 0;
+        if (incrementalCheckpointTracker != null) {
+            checkpoint = incrementalCheckpointTracker.track(completedCheckpoint);
+            baseCheckpointId = incrementalCheckpointTracker.getBaseCheckpointId();
+        }
+        byte[] states = serializer.serialize(checkpoint);
+        checkpointStorage.storeCheckPoint(
+                PipelineState.builder()
+                        .checkpointId(completedCheckpoint.getCheckpointId())
+                        .jobId(String.valueOf(jobId))
+                        .pipelineId(pipelineId)
+                        .states(states)
+                        .baseCheckpointId(baseCheckpointId)
+                        .build());
+        long duration = System.currentTimeMillis() - startTime;
+        checkpointMetrics.recordStored(states.length, duration, baseCheckpointId > 0);
+        LOG.info(
+                "store checkpoint({}/{}@{}) finished, incremental: {}, bytes: {}, cost: {}ms",
+                completedCheckpoint.getCheckpointId(),
+                pipelineId,
+                jobId,
+                baseCheckpointId > 0,
+                states.length,
+                duration);
+    }
+
+    private CompletedCheckpoint restoreCheckpoint(PipelineState pipelineState) throws Exception {
+        CompletedCheckpoint checkpoint =
+                serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        if (!pipelineState.isIncremental()) {
+            return checkpoint;
+        }
+        PipelineState basePipelineState =
+                checkpointStorage.getCheckpoint(
+                        pipelineState.getJobId(),
+                        String.valueOf(pipelineState.getPipelineId()),
+                        String.valueOf(pipelineState.getBaseCheckpointId()));
+        LOG.info(
+                "Merge incremental checkpoint({}) with base checkpoint({}) for job({}@{})",
+                pipelineState.getCheckpointId(),
+                pipelineState.getBaseCheckpointId(),
+                pipelineId,
+                jobId);
+        return IncrementalCheckpointTracker.merge(
+                serializer.deserialize(basePipelineState.getStates(), CompletedCheckpoint.class),
+                checkpoint);
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Statistics of the checkpoints completed by a {@link CheckpointCoordinator}, the time spent on
+ * aligning the barriers and on persisting the states are recorded separately.
+ */
+@Getter
+@ToString
+public class CheckpointMetrics {
+
+    private volatile long alignedCheckpoints;
+
+    /** The time from triggering the latest checkpoint until all tasks acknowledged it. */
+    private volatile long latestAlignmentDuration;
+
+    private volatile long totalAlignmentDuration;
+
+    private volatile long storedCheckpoints;
+
+    private volatile long storedIncrementalCheckpoints;
+
+    /** The serialized size of the latest stored checkpoint. */
+    private volatile long latestStoredBytes;
+
+    /** The time spent to serialize and store the latest checkpoint. */
+    private volatile long latestStoreDuration;
+
+    private volatile long totalStoredBytes;
+
+    private volatile long totalStoreDuration;
+
+    public synchronized void recordAligned(long duration) {
+        alignedCheckpoints++;
+        latestAlignmentDuration = duration;
+        totalAlignmentDuration += duration;
+    }
+
+    public synchronized void recordStored(long bytes, long duration, boolean incremental) {
+        storedCheckpoints++;
+        if (incremental) {
+            storedIncrementalCheckpoints++;
+        }
+        latestStoredBytes = bytes;
+        latestStoreDuration = duration;
+        totalStoredBytes += bytes;
+        totalStoreDuration += duration;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
+
+/**
+ * Keep the action states of the latest full checkpoint of a pipeline, so the following general
+ * checkpoints only need to store the subtask states which changed since it.
+ *
+ * <p>The states are compared per subtask, a subtask whose state changed is stored completely. So
+ * only the subtasks whose states stay the same save storage, e.g. the enumerator of a CDC source
+ * in the incremental phase, while the state of a CDC reader changes with every checkpoint.
+ *
+ * <p>An incremental checkpoint always refers to the latest full checkpoint rather than the
+ * previous incremental one, so restore only needs to merge two checkpoints. A full checkpoint is
+ * stored again every {@code compactionInterval} checkpoints, or if the structure of the states
+ * changed.
+ */
+public class IncrementalCheckpointTracker {
+
+    private final int compactionInterval;
+
+    private long fullCheckpointId;
+
+    private Map<ActionStateKey, ActionState> baseStates;
+
+    private int incrementalCount;
+
+    /** The base checkpoint ids of the stored incremental checkpoints. */
+    private final Map<Long, Long> baseCheckpointIds = new HashMap<>();
+
+    /** The full checkpoints which can't be deleted yet, because a retained one is based on them. */
+    private final Set<String> deferredCheckpointIds = new LinkedHashSet<>();
+
+    public IncrementalCheckpointTracker(int compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    /** The id of the base checkpoint of the latest checkpoint, 0 if it was stored completely. */
+    public long getBaseCheckpointId() {
+        return incrementalCount > 0 ? fullCheckpointId : 0;
+    }
+
+    /**
+     * Compute the states need to be stored of the checkpoint.
+     *
+     * @return the changed states since the base checkpoint, or the checkpoint itself if it must
+     *     be stored completely. Use {@link #getBaseCheckpointId()} to distinguish them.
+     */
+    public CompletedCheckpoint track(CompletedCheckpoint checkpoint) {
+        Map<ActionStateKey, ActionState> changedStates =
+                baseStates == null
+                                || incrementalCount >= compactionInterval
+                                || !checkpoint.getCheckpointType().isGeneralCheckpoint()
+                        ? null
+                        : diff(baseStates, checkpoint.getTaskStates());
+        if (changedStates == null) {
+            fullCheckpointId = checkpoint.getCheckpointId();
+            baseStates = checkpoint.getTaskStates();
+            incrementalCount = 0;
+            return checkpoint;
+        }
+        incrementalCount++;
+        baseCheckpointIds.put(checkpoint.getCheckpointId(), fullCheckpointId);
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpoint.getCheckpointId(),
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                changedStates,
+                checkpoint.getTaskStatistics());
+    }
+
+    /**
+     * Filter the checkpoints which are not retained anymore. A full checkpoint is kept as long as a
+     * retained checkpoint is based on it, and it is deleted with a later batch.
+     *
+     * @param checkpointIds the checkpoints which are not retained anymore
+     * @param retainedCheckpointIds the retained checkpoints
+     * @return the checkpoints which can be deleted
+     */
+    public List<String> getDeletableCheckpointIds(
+            List<String> checkpointIds, Collection<String> retainedCheckpointIds) {
+        Set<String> requiredCheckpointIds = new HashSet<>();
+        for (String checkpointId : retainedCheckpointIds) {
+            Long baseCheckpointId = baseCheckpointIds.get(Long.parseLong(checkpointId));
+            if (baseCheckpointId != null) {
+                requiredCheckpointIds.add(String.valueOf(baseCheckpointId));
+            }
+        }
+        List<String> candidates = new ArrayList<>(deferredCheckpointIds);
+        candidates.addAll(checkpointIds);
+        deferredCheckpointIds.clear();
+        List<String> deletableCheckpointIds = new ArrayList<>();
+        for (String checkpointId : candidates) {
+            if (requiredCheckpointIds.contains(checkpointId)) {
+                deferredCheckpointIds.add(checkpointId);
+            } else {
+                deletableCheckpointIds.add(checkpointId);
+                baseCheckpointIds.remove(Long.parseLong(checkpointId));
+            }
+        }
+        return deletableCheckpointIds;
+    }
+
+    /**
+     * Merge the changed states of the incremental checkpoint into the base checkpoint.
+     *
+     * @param base the full checkpoint
+     * @param incremental the incremental checkpoint based on it
+     * @return the complete checkpoint
+     */
+    public static CompletedCheckpoint merge(
+            CompletedCheckpoint base, CompletedCheckpoint incremental) {
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : base.getTaskStates().entrySet()) {
+            ActionState baseState = entry.getValue();
+            ActionState changedState = incremental.getTaskStates().get(entry.getKey());
+            if (changedState == null) {
+                taskStates.put(entry.getKey(), baseState);
+                continue;
+            }
+            ActionState state = new ActionState(entry.getKey(), baseState.getParallelism());
+            state.reportState(
+                    COORDINATOR_INDEX,
+                    changedState.getCoordinatorState() != null
+                            ? changedState.getCoordinatorState()
+                            : baseState.getCoordinatorState());
+            for (int i = 0; i < baseState.getParallelism(); i++) {
+                ActionSubtaskState subtaskState = changedState.getSubtaskStates().get(i);
+                state.reportState(
+                        i,
+                        subtaskState != null
+                                ? subtaskState
+                                : baseState.getSubtaskStates().get(i));
+            }
+            taskStates.put(entry.getKey(), state);
+        }
+        return new CompletedCheckpoint(
+                incremental.getJobId(),
+                incremental.getPipelineId(),
+                incremental.getCheckpointId(),
+                incremental.getCheckpointTimestamp(),
+                incremental.getCheckpointType(),
+                incremental.getCompletedTimestamp(),
+                taskStates,
+                incremental.getTaskStatistics());
+    }
+
+    /**
+     * Collect the changed subtask states, return null if the checkpoint can not be expressed as
+     * changes of the base checkpoint, e.g. an action or a subtask state is removed.
+     */
+    private static Map<ActionStateKey, ActionState> diff(
+            Map<ActionStateKey, ActionState> baseStates,
+            Map<ActionStateKey, ActionState> currentStates) {
+        if (!baseStates.keySet().equals(currentStates.keySet())) {
+            return null;
+        }
+        Map<ActionStateKey, ActionState> changedStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : currentStates.entrySet()) {
+            ActionState baseState = baseStates.get(entry.getKey());
+            ActionState currentState = entry.getValue();
+            if (baseState.getParallelism() != currentState.getParallelism()) {
+                return null;
+            }
+            ActionState changedState = null;
+            for (int i = COORDINATOR_INDEX; i < currentState.getParallelism(); i++) {
+                ActionSubtaskState base = getSubtaskState(baseState, i);
+                ActionSubtaskState current = getSubtaskState(currentState, i);
+                if (sameState(base, current)) {
+                    continue;
+                }
+                if (current == null) {
+                    return null;
+                }
+                if (changedState == null) {
+                    changedState = new ActionState(entry.getKey(), currentState.getParallelism());
+                }
+                changedState.reportState(i, current);
+            }
+            if (changedState != null) {
+                changedStates.put(entry.getKey(), changedState);
+            }
+        }
+        return changedStates;
+    }
+
+    private static ActionSubtaskState getSubtaskState(ActionState state, int index) {
+        return index == COORDINATOR_INDEX
+                ? state.getCoordinatorState()
+                : state.getSubtaskStates().get(index);
+    }
+
+    private static boolean sameState(ActionSubtaskState base, ActionSubtaskState current) {
+        if (base == current) {
+            return true;
+        }
+        if (base == null || current == null) {
+            return false;
+        }
+        List<byte[]> baseBytes = base.getState();
+        List<byte[]> currentBytes = current.getState();
+        if (baseBytes == null || currentBytes == null) {
+            return baseBytes == currentBytes;
+        }
+        if (baseBytes.size() != currentBytes.size()) {
+            return false;
+        }
+        for (int i = 0; i < baseBytes.size(); i++) {
+            if (!Arrays.equals(baseBytes.get(i), currentBytes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -25,6 +27,7 @@ import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
@@ -38,6 +41,7 @@ import org.apache.seatunnel.engine.core.dag.logical.LogicalEdge;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalVertex;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowBinaryCodec;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -53,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
@@ -216,6 +221,11 @@ public class ExecutionPlanGenerator {
                             .add(rightVertex);
                 });
         if (sourceExecutionVertices.size() != 1) {
+            if (isShufflePartitionByKey()) {
+                log.warn(
+                        "Skip shuffle partition by key, it only supports one source but found {}",
+                        sourceExecutionVertices.size());
+            }
             return executionEdges;
         }
         ExecutionVertex sourceExecutionVertex = sourceExecutionVertices.stream().findFirst().get();
@@ -230,13 +240,39 @@ public class ExecutionPlanGenerator {
             } catch (UnsupportedOperationException e) {
             }
         } else if (sourceAction instanceof TransformChainAction) {
+            if (isShufflePartitionByKey()) {
+                log.warn(
+                        "Skip shuffle partition by key, the source is chained with transforms: {}",
+                        sourceAction.getName());
+            }
             return executionEdges;
         } else {
             throw new SeaTunnelException(
                     "source action must be SourceAction or TransformChainAction");
         }
-        if (producedCatalogTables.size() <= 1
-                || targetVerticesMap.get(sourceExecutionVertex.getVertexId()).size() <= 1) {
+        List<ExecutionVertex> targetVertices =
+                targetVerticesMap.get(sourceExecutionVertex.getVertexId());
+        if (isShufflePartitionByKey()) {
+            if (targetVertices.size() != 1
+                    || !(targetVertices.get(0).getAction() instanceof SinkAction)) {
+                // the key columns are resolved on the source tables, the transforms may change them
+                log.warn(
+                        "Skip shuffle partition by key, the source must be directly connected to "
+                                + "a single sink, but it is connected to {}",
+                        targetVertices.stream()
+                                .map(vertex -> vertex.getAction().getName())
+                                .collect(Collectors.toList()));
+            } else if (targetVertices.get(0).getParallelism() <= 1) {
+                log.info("Skip shuffle partition by key, the parallelism of the sink is 1");
+            } else {
+                return generateKeyHashShuffleEdges(
+                        executionEdges,
+                        sourceExecutionVertex,
+                        targetVertices.get(0),
+                        producedCatalogTables);
+            }
+        }
+        if (producedCatalogTables.size() <= 1 || targetVertices.size() <= 1) {
             return executionEdges;
         }
 
@@ -260,7 +296,10 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .binaryRowCodec(SeaTunnelRowBinaryCodec.isSupported(producedCatalogTables))
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -281,6 +320,67 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    private boolean isShufflePartitionByKey() {
+        return ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions())
+                .get(EnvCommonOptions.SHUFFLE_PARTITION_BY_KEY);
+    }
+
+    @SuppressWarnings("MagicNumber")
+    private Set<ExecutionEdge> generateKeyHashShuffleEdges(
+            Set<ExecutionEdge> executionEdges,
+            ExecutionVertex sourceExecutionVertex,
+            ExecutionVertex sinkVertex,
+            List<CatalogTable> producedCatalogTables) {
+        List<String> keyColumns =
+                ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions())
+                        .get(EnvCommonOptions.SHUFFLE_PARTITION_KEYS);
+        Optional<CatalogTable> tableWithoutKey =
+                producedCatalogTables.stream()
+                        .filter(
+                                table ->
+                                        ShuffleKeyHashStrategy.resolveKeyColumns(table, keyColumns)
+                                                == null)
+                        .findFirst();
+        if (producedCatalogTables.isEmpty() || tableWithoutKey.isPresent()) {
+            log.warn(
+                    "Skip shuffle partition by key, no key columns found of table {}",
+                    tableWithoutKey.map(CatalogTable::getTablePath).orElse(null));
+            return executionEdges;
+        }
+
+        Action sourceAction = sourceExecutionVertex.getAction();
+        ShuffleStrategy shuffleStrategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(jobImmutableInformation.getJobId())
+                        .inputPartitions(sourceAction.getParallelism())
+                        .targetPartitions(sinkVertex.getParallelism())
+                        .catalogTables(producedCatalogTables)
+                        .keyColumns(keyColumns)
+                        .queueEmptyQueueTtl(
+                                (int)
+                                        (engineConfig.getCheckpointConfig().getCheckpointInterval()
+                                                * 3))
+                        .build();
+        ShuffleConfig shuffleConfig =
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .binaryRowCodec(SeaTunnelRowBinaryCodec.isSupported(producedCatalogTables))
+                        .build();
+
+        long shuffleVertexId = idGenerator.getNextId();
+        String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
+        ShuffleAction shuffleAction =
+                new ShuffleAction(shuffleVertexId, shuffleActionName, shuffleConfig);
+        shuffleAction.setParallelism(sinkVertex.getParallelism());
+        ExecutionVertex shuffleVertex =
+                new ExecutionVertex(shuffleVertexId, shuffleAction, shuffleAction.getParallelism());
+
+        Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        newExecutionEdges.add(new ExecutionEdge(sourceExecutionVertex, shuffleVertex));
+        newExecutionEdges.add(new ExecutionEdge(shuffleVertex, sinkVertex));
+        return newExecutionEdges;
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
@@ -34,6 +34,7 @@ import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.PendingSourceState;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 
+import com.hazelcast.config.IndexType;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import lombok.AllArgsConstructor;
@@ -104,6 +105,9 @@ public class JobHistoryService {
         this.pendingJobMasterMap = pendingJobMasterMap;
         this.runningJobMasterMap = runningJobMasterMap;
         this.finishedJobStateImap = finishedJobStateImap;
+        // used by the filters of the finished jobs rest api
+        this.finishedJobStateImap.addIndex(IndexType.HASH, "jobStatus");
+        this.finishedJobStateImap.addIndex(IndexType.SORTED, "finishTime");
         this.finishedJobMetricsImap = finishedJobMetricsImap;
         this.finishedJobDAGInfoImap = finishedJobVertexInfoImap;
         this.objectMapper = new ObjectMapper();
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.rest;
+
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The filters and the page of the finished jobs rest api. The filters are evaluated by the members
+ * owning the job states with the indexes of the finished job state imap, only the job states of
+ * the requested page are sent back.
+ */
+public class FinishedJobsQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final String state;
+    private final Long startTime;
+    private final Long endTime;
+    private final Integer page;
+    private final Integer pageSize;
+
+    /**
+     * @throws IllegalArgumentException if a parameter is not a number, the page or the page size is
+     *     not a positive int, or the page is out of range
+     */
+    public FinishedJobsQuery(String state, Map<String, String> params) {
+        this.state = state.toUpperCase();
+        this.startTime = parseLong(params, RestConstant.START_TIME);
+        this.endTime = parseLong(params, RestConstant.END_TIME);
+        this.page = parsePositiveInt(params, RestConstant.PAGE);
+        this.pageSize = parsePositiveInt(params, RestConstant.PAGE_SIZE);
+        // the offset of the page is an int in the paging predicate
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+        if (page != null && (long) (page - 1) * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("The page %s is out of range.", page));
+        }
+    }
+
+    /**
+     * Returns the job states matching the filters ordered by the finish time. All of them are
+     * returned if neither the page nor the page size is given.
+     */
+    public List<JobState> query(IMap<Long, JobState> finishedJobStateImap) {
+        if (!state.isEmpty()
+                && Arrays.stream(JobStatus.values()).noneMatch(s -> s.name().equals(state))) {
+            return Collections.emptyList();
+        }
+        Predicate<Long, JobState> predicate = toPredicate();
+        if (page == null && pageSize == null) {
+            List<JobState> jobStates = new ArrayList<>(finishedJobStateImap.values(predicate));
+            jobStates.sort(
+                    Comparator.comparing(
+                            JobState::getFinishTime,
+                            Comparator.nullsLast(Comparator.naturalOrder())));
+            return jobStates;
+        }
+        PagingPredicate<Long, JobState> pagingPredicate =
+                Predicates.pagingPredicate(
+                        predicate,
+                        new FinishTimeComparator(),
+                        pageSize == null ? DEFAULT_PAGE_SIZE : pageSize);
+        pagingPredicate.setPage(page == null ? 0 : page - 1);
+        return new ArrayList<>(finishedJobStateImap.values(pagingPredicate));
+    }
+
+    /** Reads the values of the job states, e.g. the metrics, with one getAll of the imap. */
+    public static <V> Map<Long, V> getAll(IMap<Long, V> imap, List<JobState> jobStates) {
+        if (jobStates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return imap.getAll(jobStates.stream().map(JobState::getJobId).collect(Collectors.toSet()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<Long, JobState> toPredicate() {
+        List<Predicate<Long, JobState>> predicates = new ArrayList<>();
+        if (!state.isEmpty()) {
+            predicates.add(Predicates.equal("jobStatus", JobStatus.valueOf(state)));
+        }
+        if (startTime != null) {
+            predicates.add(Predicates.greaterEqual("finishTime", startTime));
+        }
+        if (endTime != null) {
+            predicates.add(Predicates.lessEqual("finishTime", endTime));
+        }
+        if (predicates.isEmpty()) {
+            return Predicates.alwaysTrue();
+        }
+        return predicates.size() == 1
+                ? predicates.get(0)
+                : Predicates.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private static Long parseLong(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("The parameter %s must be a number, but is %s.", name, value));
+        }
+    }
+
+    private static Integer parsePositiveInt(Map<String, String> params, String name) {
+        Long value = parseLong(params, name);
+        if (value == null) {
+            return null;
+        }
+        if (value <= 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The parameter %s must be between 1 and %s, but is %s.",
+                            name, Integer.MAX_VALUE, value));
+        }
+        return value.intValue();
+    }
+
+    /** Executed by the members owning the job states to sort the pages. */
+    private static class FinishTimeComparator
+            implements Comparator<Map.Entry<Long, JobState>>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(Map.Entry<Long, JobState> o1, Map.Entry<Long, JobState> o2) {
+            Long finishTime1 = o1.getValue().getFinishTime();
+            Long finishTime2 = o2.getValue().getFinishTime();
+            if (finishTime1 == null || finishTime2 == null) {
+                return finishTime1 == null ? (finishTime2 == null ? 0 : 1) : -1;
+            }
+            return finishTime1.compareTo(finishTime2);
+        }
+    }
+}
@@ -45,6 +45,14 @@ public class RestConstant {
 
     public static final String METRICS = "metrics";
 
+    public static final String PAGE = "page";
+
+    public static final String PAGE_SIZE = "size";
+
+    public static final String START_TIME = "startTime";
+
+    public static final String END_TIME = "endTime";
+
     public static final String TABLE_SOURCE_RECEIVED_COUNT = "TableSourceReceivedCount";
     public static final String TABLE_SINK_WRITE_COUNT = "TableSinkWriteCount";
     public static final String TABLE_SOURCE_RECEIVED_QPS = "TableSourceReceivedQPS";
@@ -323,6 +323,17 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
     private void handleFinishedJobsInfo(HttpGetCommand command, String uri) {
 
         uri = StringUtil.stripTrailingSlash(uri);
+        String paramStr = "";
+        if (uri.contains("?")) {
+            int index = uri.indexOf("?");
+            paramStr = uri.substring(index + 1);
+            uri = StringUtil.stripTrailingSlash(uri.substring(0, index));
+        }
+        Map<String, String> params =
+                Arrays.stream(paramStr.split("&"))
+                        .map(variable -> variable.split("=", 2))
+                        .filter(pair -> pair.length == 2)
+                        .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1], (a, b) -> b));
 
         int indexEnd = uri.indexOf('/', URI_MAPS.length());
         String state;
@@ -331,6 +342,8 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         } else {
             state = uri.substring(indexEnd + 1);
         }
+        // the parameters are checked before reading the imaps
+        FinishedJobsQuery query = new FinishedJobsQuery(state, params);
 
         IMap<Long, JobState> finishedJob =
                 this.textCommandService
@@ -352,41 +365,22 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                         .getNodeEngine()
                         .getHazelcastInstance()
                         .getMap(Constant.IMAP_FINISHED_JOB_VERTEX_INFO);
-        SeaTunnelServer seaTunnelServer = getSeaTunnelServer(true);
+        List<JobState> jobStates = query.query(finishedJob);
+        // the metrics and the dag of the finished jobs are fetched in batch for the page only
+        Map<Long, JobMetrics> jobMetrics = FinishedJobsQuery.getAll(finishedJobMetrics, jobStates);
+        Map<Long, JobDAGInfo> jobDAGInfos = FinishedJobsQuery.getAll(finishedJobDAGInfo, jobStates);
         JsonArray jobs =
-                finishedJob.values().stream()
-                        .filter(
-                                jobState -> {
-                                    if (state.isEmpty()) {
-                                        return true;
-                                    }
-                                    return jobState.getJobStatus()
-                                            .name()
-                                            .equals(state.toUpperCase());
-                                })
-                        .sorted(Comparator.comparing(JobState::getFinishTime))
+                jobStates.stream()
                         .map(
-                                jobState -> {
-                                    Long jobId = jobState.getJobId();
-                                    String jobMetrics;
-                                    if (seaTunnelServer == null) {
-                                        jobMetrics =
-                                                (String)
-                                                        NodeEngineUtil.sendOperationToMasterNode(
-                                                                        getNode().nodeEngine,
-                                                                        new GetJobMetricsOperation(
-                                                                                jobId))
-                                                                .join();
-                                    } else {
-                                        jobMetrics =
-                                                seaTunnelServer
-                                                        .getCoordinatorService()
-                                                        .getJobMetrics(jobId)
-                                                        .toJsonString();
-                                    }
-                                    return getJobInfoJson(
-                                            jobState, jobMetrics, finishedJobDAGInfo.get(jobId));
-                                })
+                                jobState ->
+                                        getJobInfoJson(
+                                                jobState,
+                                                jobMetrics
+                                                        .getOrDefault(
+                                                                jobState.getJobId(),
+                                                                JobMetrics.empty())
+                                                        .toJsonString(),
+                                                jobDAGInfos.get(jobState.getJobId())))
                         .collect(JsonArray::new, JsonArray::add, JsonArray::add);
 
         this.prepareResponse(command, jobs);
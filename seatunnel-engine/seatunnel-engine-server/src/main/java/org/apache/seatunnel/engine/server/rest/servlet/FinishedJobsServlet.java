@@ -20,10 +20,8 @@ package org.apache.seatunnel.engine.server.rest.servlet;
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.core.job.JobDAGInfo;
-import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
-import org.apache.seatunnel.engine.server.operation.GetJobMetricsOperation;
-import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+import org.apache.seatunnel.engine.server.rest.FinishedJobsQuery;
 
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.map.IMap;
@@ -34,7 +32,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
 public class FinishedJobsServlet extends BaseServlet {
 
@@ -56,6 +55,9 @@ public class FinishedJobsServlet extends BaseServlet {
             state = "";
         }
 
+        // the parameters are checked before reading the imaps
+        FinishedJobsQuery query = new FinishedJobsQuery(state, getParameterMap(req));
+
         IMap<Long, JobState> finishedJob =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_FINISHED_JOB_STATE);
 
@@ -64,42 +66,22 @@ public class FinishedJobsServlet extends BaseServlet {
 
         IMap<Long, JobDAGInfo> finishedJobDAGInfo =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_FINISHED_JOB_VERTEX_INFO);
-        SeaTunnelServer seaTunnelServer = getSeaTunnelServer(true);
-        String finalState = state;
+        List<JobState> jobStates = query.query(finishedJob);
+        // the metrics and the dag of the finished jobs are fetched in batch for the page only
+        Map<Long, JobMetrics> jobMetrics = FinishedJobsQuery.getAll(finishedJobMetrics, jobStates);
+        Map<Long, JobDAGInfo> jobDAGInfos = FinishedJobsQuery.getAll(finishedJobDAGInfo, jobStates);
         JsonArray jobs =
-                finishedJob.values().stream()
-                        .filter(
-                                jobState -> {
-                                    if (finalState.isEmpty()) {
-                                        return true;
-                                    }
-                                    return jobState.getJobStatus()
-                                            .name()
-                                            .equals(finalState.toUpperCase());
-                                })
-                        .sorted(Comparator.comparing(JobState::getFinishTime))
+                jobStates.stream()
                         .map(
-                                jobState -> {
-                                    Long jobId = jobState.getJobId();
-                                    String jobMetrics;
-                                    if (seaTunnelServer == null) {
-                                        jobMetrics =
-                                                (String)
-                                                        NodeEngineUtil.sendOperationToMasterNode(
-                                                                        nodeEngine,
-                                                                        new GetJobMetricsOperation(
-                                                                                jobId))
-                                                                .join();
-                                    } else {
-                                        jobMetrics =
-                                                seaTunnelServer
-                                                        .getCoordinatorService()
-                                                        .getJobMetrics(jobId)
-                                                        .toJsonString();
-                                    }
-                                    return getJobInfoJson(
-                                            jobState, jobMetrics, finishedJobDAGInfo.get(jobId));
-                                })
+                                jobState ->
+                                        getJobInfoJson(
+                                                jobState,
+                                                jobMetrics
+                                                        .getOrDefault(
+                                                                jobState.getJobId(),
+                                                                JobMetrics.empty())
+                                                        .toJsonString(),
+                                                jobDAGInfos.get(jobState.getJobId())))
                         .collect(JsonArray::new, JsonArray::add, JsonArray::add);
 
         writeJson(resp, jobs);
@@ -33,7 +33,8 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        ENCODED_SEATUNNEL_ROW;
     }
 
     @Override
@@ -56,6 +57,9 @@ public class RecordSerializer implements StreamSerializer<Record> {
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof EncodedSeaTunnelRow) {
+            out.writeByte(RecordDataType.ENCODED_SEATUNNEL_ROW.ordinal());
+            out.writeByteArray(((EncodedSeaTunnelRow) data).getBytes());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -85,6 +89,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.ENCODED_SEATUNNEL_ROW.ordinal()) {
+            data = new EncodedSeaTunnelRow(in.readByteArray());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schema aware binary codec of {@link SeaTunnelRow} used by the shuffle edge.
+ *
+ * <p>The codec is compiled from the {@link SeaTunnelRowType} of every table flowing through the
+ * edge, so no type tag is written per field. One encoded row is laid out as:
+ *
+ * <pre>
+ * | table index (short) | row kind (byte) | null bitmap | field 0 | field 1 | ... |
+ * </pre>
+ *
+ * <p>Fixed width fields are written as primitives, variable width fields (string, bytes,
+ * decimal) are prefixed by their length. The table id is replaced by its index in a dictionary
+ * which is built in the same order on both sides of the edge.
+ */
+@Slf4j
+public class SeaTunnelRowBinaryCodec {
+
+    private static final Set<SqlType> SUPPORTED_TYPES =
+            EnumSet.of(
+                    SqlType.NULL,
+                    SqlType.STRING,
+                    SqlType.BOOLEAN,
+                    SqlType.TINYINT,
+                    SqlType.SMALLINT,
+                    SqlType.INT,
+                    SqlType.BIGINT,
+                    SqlType.FLOAT,
+                    SqlType.DOUBLE,
+                    SqlType.DECIMAL,
+                    SqlType.BYTES,
+                    SqlType.DATE,
+                    SqlType.TIME,
+                    SqlType.TIMESTAMP);
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final String[] tableIds;
+    private final SqlType[][] fieldTypes;
+    private final Map<String, Integer> tableIndexes;
+    private ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+    private SeaTunnelRowBinaryCodec(List<CatalogTable> catalogTables) {
+        this.tableIds = new String[catalogTables.size()];
+        this.fieldTypes = new SqlType[catalogTables.size()][];
+        this.tableIndexes = new HashMap<>();
+        for (int i = 0; i < catalogTables.size(); i++) {
+            CatalogTable catalogTable = catalogTables.get(i);
+            tableIds[i] = catalogTable.getTableId().toTablePath().toString();
+            SeaTunnelDataType<?>[] types = catalogTable.getSeaTunnelRowType().getFieldTypes();
+            fieldTypes[i] = new SqlType[types.length];
+            for (int j = 0; j < types.length; j++) {
+                fieldTypes[i][j] = types[j].getSqlType();
+            }
+            tableIndexes.put(tableIds[i], i);
+        }
+    }
+
+    /**
+     * Whether all fields of the given tables can be written by this codec. The shuffle edge falls
+     * back to the generic {@link RecordSerializer} path if not.
+     */
+    public static boolean isSupported(List<CatalogTable> catalogTables) {
+        if (catalogTables == null
+                || catalogTables.isEmpty()
+                || catalogTables.size() > Short.MAX_VALUE) {
+            return false;
+        }
+        for (CatalogTable catalogTable : catalogTables) {
+            for (SeaTunnelDataType<?> type : catalogTable.getSeaTunnelRowType().getFieldTypes()) {
+                if (!SUPPORTED_TYPES.contains(type.getSqlType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create the codec of the shuffle edge, return null if the edge uses the generic serializer.
+     */
+    public static SeaTunnelRowBinaryCodec of(ShuffleConfig shuffleConfig) {
+        if (!shuffleConfig.isBinaryRowCodec()) {
+            return null;
+        }
+        List<CatalogTable> catalogTables = shuffleConfig.getShuffleStrategy().getCatalogTables();
+        if (!isSupported(catalogTables)) {
+            log.warn("binary row codec is not supported by the shuffle tables, fallback");
+            return null;
+        }
+        return new SeaTunnelRowBinaryCodec(catalogTables);
+    }
+
+    public static SeaTunnelRowBinaryCodec of(List<CatalogTable> catalogTables) {
+        return new SeaTunnelRowBinaryCodec(catalogTables);
+    }
+
+    /**
+     * Encode the row, return null if the row does not match the compiled schema, e.g. the table id
+     * is unknown or the row was produced after a schema change. The caller should send the row
+     * through the generic serializer in this case.
+     */
+    public EncodedSeaTunnelRow encode(SeaTunnelRow row) {
+        Integer tableIndex = tableIndexes.get(row.getTableId());
+        if (tableIndex == null) {
+            return null;
+        }
+        SqlType[] types = fieldTypes[tableIndex];
+        if (types.length != row.getArity()) {
+            return null;
+        }
+        while (true) {
+            buffer.clear();
+            try {
+                writeRow(tableIndex, types, row);
+                byte[] bytes = new byte[buffer.position()];
+                System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+                return new EncodedSeaTunnelRow(bytes);
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            } catch (ClassCastException e) {
+                log.debug("row does not match the compiled schema, fallback", e);
+                return null;
+            }
+        }
+    }
+
+    public SeaTunnelRow decode(EncodedSeaTunnelRow encodedRow) {
+        ByteBuffer in = ByteBuffer.wrap(encodedRow.getBytes());
+        int tableIndex = in.getShort();
+        byte rowKind = in.get();
+        SqlType[] types = fieldTypes[tableIndex];
+        byte[] nullBitmap = new byte[nullBitmapSize(types.length)];
+        in.get(nullBitmap);
+
+        SeaTunnelRow row = new SeaTunnelRow(types.length);
+        row.setTableId(tableIds[tableIndex]);
+        row.setRowKind(RowKind.fromByteValue(rowKind));
+        for (int i = 0; i < types.length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) != 0) {
+                continue;
+            }
+            row.setField(i, readField(in, types[i]));
+        }
+        return row;
+    }
+
+    private void writeRow(int tableIndex, SqlType[] types, SeaTunnelRow row) {
+        buffer.putShort((short) tableIndex);
+        buffer.put(row.getRowKind().toByteValue());
+        int bitmapOffset = buffer.position();
+        int bitmapSize = nullBitmapSize(types.length);
+        for (int i = 0; i < bitmapSize; i++) {
+            buffer.put((byte) 0);
+        }
+        Object[] fields = row.getFields();
+        for (int i = 0; i < types.length; i++) {
+            Object field = fields[i];
+            if (field == null) {
+                int index = bitmapOffset + (i >>> 3);
+                buffer.put(index, (byte) (buffer.get(index) | (1 << (i & 7))));
+                continue;
+            }
+            writeField(field, types[i]);
+        }
+    }
+
+    private void writeField(Object field, SqlType type) {
+        switch (type) {
+            case NULL:
+                break;
+            case STRING:
+                writeBytes(((String) field).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BOOLEAN:
+                buffer.put((byte) (((Boolean) field) ? 1 : 0));
+                break;
+            case TINYINT:
+                buffer.put((Byte) field);
+                break;
+            case SMALLINT:
+                buffer.putShort((Short) field);
+                break;
+            case INT:
+                buffer.putInt((Integer) field);
+                break;
+            case BIGINT:
+                buffer.putLong((Long) field);
+                break;
+            case FLOAT:
+                buffer.putFloat((Float) field);
+                break;
+            case DOUBLE:
+                buffer.putDouble((Double) field);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) field;
+                buffer.putInt(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray());
+                break;
+            case BYTES:
+                writeBytes((byte[]) field);
+                break;
+            case DATE:
+                buffer.putLong(((LocalDate) field).toEpochDay());
+                break;
+            case TIME:
+                buffer.putLong(((LocalTime) field).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) field;
+                buffer.putLong(dateTime.toLocalDate().toEpochDay());
+                buffer.putLong(dateTime.toLocalTime().toNanoOfDay());
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + type);
+        }
+    }
+
+    private Object readField(ByteBuffer in, SqlType type) {
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return in.get() != 0;
+            case TINYINT:
+                return in.get();
+            case SMALLINT:
+                return in.getShort();
+            case INT:
+                return in.getInt();
+            case BIGINT:
+                return in.getLong();
+            case FLOAT:
+                return in.getFloat();
+            case DOUBLE:
+                return in.getDouble();
+            case DECIMAL:
+                int scale = in.getInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BYTES:
+                return readBytes(in);
+            case DATE:
+                return LocalDate.ofEpochDay(in.getLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.getLong());
+            case TIMESTAMP:
+                LocalDate date = LocalDate.ofEpochDay(in.getLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.getLong()));
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + type);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static int nullBitmapSize(int arity) {
+        return (arity + 7) >>> 3;
+    }
+}
@@ -100,6 +100,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected List<FlowLifeCycle> allCycles;
 
+    /** The transform cycles of this task, from the upstream to the downstream. */
+    private List<TransformFlowLifeCycle<?>> transformCycles;
+
     protected List<OneInputFlowLifeCycle<Record<?>>> outputs;
 
     protected List<CompletableFuture<Void>> flowFutures;
@@ -130,6 +133,13 @@ public abstract class SeaTunnelTask extends AbstractTask {
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
         startFlowLifeCycle = convertFlowToActionLifeCycle(executionFlow);
+        transformCycles = new ArrayList<>();
+        // the downstream cycles are created before the upstream ones
+        for (int i = allCycles.size() - 1; i >= 0; i--) {
+            if (allCycles.get(i) instanceof TransformFlowLifeCycle) {
+                transformCycles.add((TransformFlowLifeCycle<?>) allCycles.get(i));
+            }
+        }
         for (FlowLifeCycle cycle : allCycles) {
             cycle.init();
         }
@@ -286,6 +296,22 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected abstract void collect() throws Exception;
 
+    /**
+     * Send the rows buffered by the transforms of this task to the downstream.
+     *
+     * @param force flush all the buffered rows, otherwise only the rows which have been buffered
+     *     longer than {@link TransformFlowLifeCycle#BATCH_MAX_DELAY_MILLIS}.
+     */
+    public void flushTransforms(boolean force) {
+        for (TransformFlowLifeCycle<?> cycle : transformCycles) {
+            if (force) {
+                cycle.flush();
+            } else {
+                cycle.flushIfExpired();
+            }
+        }
+    }
+
     @Override
     public Set<URL> getJarsUrl() {
         return getFlowInfo((action, set) -> set.addAll(action.getJarUrls()));
@@ -125,6 +125,9 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
     @Override
     protected void collect() throws Exception {
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
+        synchronized (collector.getCheckpointLock()) {
+            flushTransforms(false);
+        }
     }
 
     @NonNull @Override
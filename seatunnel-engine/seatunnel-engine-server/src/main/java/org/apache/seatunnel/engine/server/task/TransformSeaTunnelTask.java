@@ -71,6 +71,7 @@ public class TransformSeaTunnelTask extends SeaTunnelTask {
     @Override
     protected void collect() throws Exception {
         ((OneOutputFlowLifeCycle<Record<?>>) startFlowLifeCycle).collect(collector);
+        flushTransforms(true);
     }
 
     @NonNull @Override
@@ -19,9 +19,12 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.EncodedSeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowBinaryCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
@@ -32,9 +35,11 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings("MagicNumber")
@@ -49,6 +54,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final SeaTunnelRowBinaryCodec rowCodec;
+    private final Set<String> schemaChangedTables = new HashSet<>();
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -67,6 +74,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.rowCodec = SeaTunnelRowBinaryCodec.of(shuffleAction.getConfig());
     }
 
     @Override
@@ -107,7 +115,13 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                 return;
             }
 
-            shuffleItem(record);
+            // the row type compiled into the codec is outdated after schema changed
+            schemaChangedTables.add(((SchemaChangeEvent) record.getData()).tablePath().toString());
+            if (shuffleStrategy.broadcast(record)) {
+                shuffleBroadcast(record);
+            } else {
+                shuffleItem(record);
+            }
         } else {
             if (prepareClose) {
                 return;
@@ -128,7 +142,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
     private synchronized void shuffleItem(Record<?> record) {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(encode(record));
         shuffleBufferSize++;
 
         if (shuffleBufferSize >= shuffleBatchSize
@@ -138,6 +152,27 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
+    private synchronized void shuffleBroadcast(Record<?> record) {
+        // buffered behind the records of every queue to keep the order
+        for (String shuffleKey : shuffles.keySet()) {
+            shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+            shuffleBufferSize++;
+        }
+        shuffleFlush();
+    }
+
+    private Record<?> encode(Record<?> record) {
+        if (rowCodec == null || !(record.getData() instanceof SeaTunnelRow)) {
+            return record;
+        }
+        SeaTunnelRow row = (SeaTunnelRow) record.getData();
+        if (schemaChangedTables.contains(row.getTableId())) {
+            return record;
+        }
+        EncodedSeaTunnelRow encodedRow = rowCodec.encode(row);
+        return encodedRow == null ? record : new Record<>(encodedRow);
+    }
+
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
             IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
@@ -21,6 +21,8 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.EncodedSeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowBinaryCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
@@ -43,6 +45,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
     private final IQueue<Record<?>>[] shuffles;
+    private final SeaTunnelRowBinaryCodec rowCodec;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -63,6 +66,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         .getShuffleStrategy()
                         .getShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.rowCodec = SeaTunnelRowBinaryCodec.of(shuffleAction.getConfig());
     }
 
     @Override
@@ -138,6 +142,11 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
+                    if (record.getData() instanceof EncodedSeaTunnelRow) {
+                        record =
+                                new Record<>(
+                                        rowCodec.decode((EncodedSeaTunnelRow) record.getData()));
+                    }
                     collector.collect(record);
                 }
             }
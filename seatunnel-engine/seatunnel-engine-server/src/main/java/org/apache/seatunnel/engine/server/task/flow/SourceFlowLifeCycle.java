@@ -158,6 +158,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
+                // don't hold the buffered rows of the transforms while the reader is idle
+                synchronized (collector.getCheckpointLock()) {
+                    runningTask.flushTransforms(true);
+                }
                 Thread.sleep(100);
             } else {
                 collector.resetEmptyThisPollNext();
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
@@ -30,6 +31,7 @@ import org.apache.seatunnel.engine.server.task.record.Barrier;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -38,12 +40,23 @@ import java.util.concurrent.CompletableFuture;
 public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
 
+    /** The max number of rows passed to {@link SeaTunnelTransform#mapBatch(List)} at once. */
+    public static final int BATCH_SIZE = 1024;
+
+    /** The max time a row is buffered before it is transformed. */
+    public static final long BATCH_MAX_DELAY_MILLIS = 10;
+
     private final TransformChainAction<T> action;
 
     private final List<SeaTunnelTransform<T>> transform;
 
     private final Collector<Record<?>> collector;
 
+    /** The rows waiting to be transformed, they are flushed before the next barrier. */
+    private List<T> buffer = new ArrayList<>(BATCH_SIZE);
+
+    private long bufferStartTime;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -72,8 +85,9 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
     }
 
     @Override
-    public void received(Record<?> record) {
+    public synchronized void received(Record<?> record) {
         if (record.getData() instanceof Barrier) {
+            flush();
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
@@ -88,25 +102,52 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
-            T inputData = (T) record.getData();
-            T outputData = inputData;
-            for (SeaTunnelTransform<T> t : transform) {
-                outputData = t.map(inputData);
-                log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
-                if (outputData == null) {
-                    log.trace("Transform[{}] filtered data row {}", t, inputData);
-                    break;
-                }
-
-                inputData = outputData;
+            if (buffer.isEmpty()) {
+                bufferStartTime = System.currentTimeMillis();
             }
-            if (outputData != null) {
-                // todo log metrics
-                collector.collect(new Record<>(outputData));
+            buffer.add((T) record.getData());
+            if (buffer.size() >= BATCH_SIZE || !(record.getData() instanceof SeaTunnelRow)) {
+                flush();
+            } else {
+                flushIfExpired();
             }
         }
     }
 
+    /**
+     * Transform the buffered rows if they have been buffered longer than {@link
+     * #BATCH_MAX_DELAY_MILLIS}. It is also called by the task thread after each round of
+     * collecting, so the rows are not held when no more rows arrive.
+     */
+    public synchronized void flushIfExpired() {
+        if (!buffer.isEmpty()
+                && System.currentTimeMillis() - bufferStartTime >= BATCH_MAX_DELAY_MILLIS) {
+            flush();
+        }
+    }
+
+    /** Transform the buffered rows and send the outputs to the downstream. */
+    public synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<T> outputs = buffer;
+        buffer = new ArrayList<>(BATCH_SIZE);
+        for (SeaTunnelTransform<T> t : transform) {
+            int inputSize = outputs.size();
+            outputs = t.mapBatch(outputs);
+            log.debug(
+                    "Transform[{}] input {} rows and output {} rows", t, inputSize, outputs.size());
+            if (outputs.isEmpty()) {
+                return;
+            }
+        }
+        for (T outputData : outputs) {
+            // todo log metrics
+            collector.collect(new Record<>(outputData));
+        }
+    }
+
     @Override
     public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
         // nothing
@@ -17,22 +17,37 @@
 
 package org.apache.seatunnel.engine.server.checkpoint;
 
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointIDCounter;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
+import com.hazelcast.map.IMap;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.apache.seatunnel.engine.common.Constant.IMAP_RUNNING_JOB_STATE;
+import static org.awaitility.Awaitility.await;
 
 public class CheckpointCoordinatorTest
         extends AbstractSeaTunnelServerTest<CheckpointCoordinatorTest> {
@@ -60,4 +75,131 @@ public class CheckpointCoordinatorTest
                                 999, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE),
                         new ArrayList<>()));
     }
+
+    @Test
+    void testPersistCheckpointAsynchronously() throws Exception {
+        CountDownLatch storeLatch = new CountDownLatch(1);
+        CheckpointStorage checkpointStorage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(checkpointStorage.storeCheckPoint(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            storeLatch.await();
+                            return "";
+                        });
+        CheckpointCoordinator coordinator =
+                createCoordinator(Mockito.mock(CheckpointManager.class), checkpointStorage);
+        int checkpoints = CheckpointCoordinator.MAX_PERSISTING_CHECKPOINTS + 2;
+
+        // completing checkpoints never waits for the slow storage
+        Assertions.assertTimeoutPreemptively(
+                Duration.ofSeconds(10),
+                () -> {
+                    for (long id = 1; id <= checkpoints; id++) {
+                        coordinator.completePendingCheckpoint(completedCheckpoint(id));
+                    }
+                });
+        Assertions.assertTrue(coordinator.isPersistBackPressured());
+        Assertions.assertNull(coordinator.getLatestCompletedCheckpoint());
+
+        storeLatch.countDown();
+        await().atMost(10000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertFalse(coordinator.isPersistBackPressured());
+                            Assertions.assertNotNull(coordinator.getLatestCompletedCheckpoint());
+                            Assertions.assertEquals(
+                                    checkpoints,
+                                    coordinator.getLatestCompletedCheckpoint().getCheckpointId());
+                        });
+        ArgumentCaptor<PipelineState> states = ArgumentCaptor.forClass(PipelineState.class);
+        Mockito.verify(checkpointStorage, Mockito.times(checkpoints))
+                .storeCheckPoint(states.capture());
+        Assertions.assertEquals(
+                LongStream.rangeClosed(1, checkpoints).boxed().collect(Collectors.toList()),
+                states.getAllValues().stream()
+                        .map(PipelineState::getCheckpointId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testFailWhenPersistCheckpointFailed() throws Exception {
+        CheckpointStorage checkpointStorage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(checkpointStorage.storeCheckPoint(Mockito.any()))
+                .thenThrow(new CheckpointStorageException("store failed"));
+        CheckpointManager checkpointManager = Mockito.mock(CheckpointManager.class);
+        CheckpointCoordinator coordinator =
+                createCoordinator(checkpointManager, checkpointStorage);
+
+        coordinator.completePendingCheckpoint(completedCheckpoint(1));
+        Mockito.verify(checkpointManager, Mockito.timeout(10000)).handleCheckpointError(1, false);
+        Assertions.assertNull(coordinator.getLatestCompletedCheckpoint());
+    }
+
+    @Test
+    void testIgnorePersistedCheckpointOfPreviousEpoch() throws Exception {
+        CountDownLatch storeLatch = new CountDownLatch(1);
+        CheckpointStorage checkpointStorage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(checkpointStorage.storeCheckPoint(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            storeLatch.await();
+                            PipelineState state = invocation.getArgument(0);
+                            if (state.getCheckpointId() == 2) {
+                                throw new CheckpointStorageException("store failed");
+                            }
+                            return "";
+                        });
+        CheckpointManager checkpointManager = Mockito.mock(CheckpointManager.class);
+        CheckpointCoordinator coordinator =
+                createCoordinator(checkpointManager, checkpointStorage);
+
+        coordinator.completePendingCheckpoint(completedCheckpoint(1));
+        coordinator.completePendingCheckpoint(completedCheckpoint(2));
+        coordinator.cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET);
+        coordinator.completePendingCheckpoint(completedCheckpoint(3));
+        storeLatch.countDown();
+
+        // the checkpoints are notified in order, so 1 and 2 are skipped once 3 is notified
+        await().atMost(10000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertNotNull(coordinator.getLatestCompletedCheckpoint());
+                            Assertions.assertEquals(
+                                    3,
+                                    coordinator.getLatestCompletedCheckpoint().getCheckpointId());
+                        });
+        Mockito.verify(checkpointManager, Mockito.never())
+                .handleCheckpointError(Mockito.anyInt(), Mockito.anyBoolean());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CheckpointCoordinator createCoordinator(
+            CheckpointManager checkpointManager, CheckpointStorage checkpointStorage) {
+        CheckpointConfig checkpointConfig = new CheckpointConfig();
+        checkpointConfig.setStorage(new CheckpointStorageConfig());
+        return new CheckpointCoordinator(
+                checkpointManager,
+                checkpointStorage,
+                checkpointConfig,
+                1L,
+                CheckpointPlan.builder().pipelineId(1).build(),
+                Mockito.mock(CheckpointIDCounter.class),
+                null,
+                Executors.newCachedThreadPool(),
+                Mockito.mock(IMap.class),
+                false);
+    }
+
+    private static CompletedCheckpoint completedCheckpoint(long checkpointId) {
+        long now = System.currentTimeMillis();
+        return new CompletedCheckpoint(
+                1L,
+                1,
+                checkpointId,
+                now,
+                CheckpointType.CHECKPOINT_TYPE,
+                now,
+                new HashMap<>(),
+                new HashMap<>());
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalCheckpointTrackerTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+    private static final ActionStateKey SINK = new ActionStateKey("sink");
+
+    @Test
+    public void testIncrementalCheckpoint() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker(2);
+
+        CompletedCheckpoint first =
+                createCheckpoint(1, CheckpointType.CHECKPOINT_TYPE, "splits-1", "s0", "s1");
+        Assertions.assertSame(first, tracker.track(first));
+        Assertions.assertEquals(0, tracker.getBaseCheckpointId());
+
+        // only the coordinator state of source changed
+        CompletedCheckpoint second =
+                createCheckpoint(2, CheckpointType.CHECKPOINT_TYPE, "splits-2", "s0", "s1");
+        CompletedCheckpoint incremental = tracker.track(second);
+        Assertions.assertEquals(1, tracker.getBaseCheckpointId());
+        Assertions.assertEquals(1, incremental.getTaskStates().size());
+        ActionState changed = incremental.getTaskStates().get(SOURCE);
+        Assertions.assertNotNull(changed.getCoordinatorState());
+        Assertions.assertNull(changed.getSubtaskStates().get(0));
+        assertSameStates(second, IncrementalCheckpointTracker.merge(first, incremental));
+
+        // changes are always based on the full checkpoint
+        CompletedCheckpoint third =
+                createCheckpoint(3, CheckpointType.CHECKPOINT_TYPE, "splits-1", "s0", "s2");
+        incremental = tracker.track(third);
+        Assertions.assertEquals(1, tracker.getBaseCheckpointId());
+        Assertions.assertNull(incremental.getTaskStates().get(SOURCE));
+        assertSameStates(third, IncrementalCheckpointTracker.merge(first, incremental));
+
+        // compaction
+        CompletedCheckpoint fourth =
+                createCheckpoint(4, CheckpointType.CHECKPOINT_TYPE, "splits-4", "s0", "s2");
+        Assertions.assertSame(fourth, tracker.track(fourth));
+        Assertions.assertEquals(0, tracker.getBaseCheckpointId());
+    }
+
+    @Test
+    public void testBaseRollover() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker(3);
+        Map<Long, CompletedCheckpoint> fullCheckpoints = new HashMap<>();
+        Deque<String> retainedCheckpointIds = new ArrayDeque<>();
+        List<List<String>> deletedCheckpointIds = new ArrayList<>();
+        for (long checkpointId = 1; checkpointId <= 12; checkpointId++) {
+            CompletedCheckpoint checkpoint =
+                    createCheckpoint(
+                            checkpointId,
+                            CheckpointType.CHECKPOINT_TYPE,
+                            "splits",
+                            "s0",
+                            "s" + checkpointId);
+            CompletedCheckpoint stored = tracker.track(checkpoint);
+            long baseCheckpointId = tracker.getBaseCheckpointId();
+            // the full checkpoints are 1, 5 and 9
+            Assertions.assertEquals(
+                    checkpointId % 4 == 1 ? 0 : checkpointId - (checkpointId - 1) % 4,
+                    baseCheckpointId);
+            if (baseCheckpointId == 0) {
+                fullCheckpoints.put(checkpointId, checkpoint);
+            } else {
+                assertSameStates(
+                        checkpoint,
+                        IncrementalCheckpointTracker.merge(
+                                fullCheckpoints.get(baseCheckpointId), stored));
+            }
+
+            // retain 3 checkpoints like the coordinator
+            retainedCheckpointIds.addLast(String.valueOf(checkpointId));
+            if (retainedCheckpointIds.size() == 6) {
+                List<String> removedCheckpointIds = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    removedCheckpointIds.add(retainedCheckpointIds.removeFirst());
+                }
+                deletedCheckpointIds.add(
+                        tracker.getDeletableCheckpointIds(
+                                removedCheckpointIds, retainedCheckpointIds));
+            }
+        }
+
+        // a full checkpoint is deleted once no retained checkpoint is based on it
+        Assertions.assertEquals(
+                Arrays.asList(
+                        Arrays.asList("2", "3"),
+                        Arrays.asList("1", "4", "6"),
+                        Arrays.asList("5", "7", "8")),
+                deletedCheckpointIds);
+    }
+
+    @Test
+    public void testSavepointIsAlwaysFull() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker(10);
+        tracker.track(createCheckpoint(1, CheckpointType.CHECKPOINT_TYPE, "a", "b", "c"));
+        CompletedCheckpoint savepoint =
+                createCheckpoint(2, CheckpointType.SAVEPOINT_TYPE, "a", "b", "c");
+        Assertions.assertSame(savepoint, tracker.track(savepoint));
+        Assertions.assertEquals(0, tracker.getBaseCheckpointId());
+    }
+
+    @Test
+    public void testMergeAfterSerialize() {
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker(10);
+        CompletedCheckpoint first =
+                createCheckpoint(1, CheckpointType.CHECKPOINT_TYPE, "a", "b", "c");
+        CompletedCheckpoint second =
+                createCheckpoint(2, CheckpointType.CHECKPOINT_TYPE, "a", "b", "d");
+        tracker.track(first);
+        CompletedCheckpoint incremental = tracker.track(second);
+
+        CompletedCheckpoint merged =
+                IncrementalCheckpointTracker.merge(
+                        serializer.deserialize(
+                                serializer.serialize(first), CompletedCheckpoint.class),
+                        serializer.deserialize(
+                                serializer.serialize(incremental), CompletedCheckpoint.class));
+        assertSameStates(second, merged);
+    }
+
+    private static CompletedCheckpoint createCheckpoint(
+            long checkpointId,
+            CheckpointType checkpointType,
+            String enumeratorState,
+            String readerState,
+            String writerState) {
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        ActionState source = new ActionState(SOURCE, 1);
+        source.reportState(-1, createState(SOURCE, -1, enumeratorState));
+        source.reportState(0, createState(SOURCE, 0, readerState));
+        taskStates.put(SOURCE, source);
+        ActionState sink = new ActionState(SINK, 1);
+        sink.reportState(0, createState(SINK, 0, writerState));
+        taskStates.put(SINK, sink);
+        return new CompletedCheckpoint(
+                1L,
+                1,
+                checkpointId,
+                checkpointId,
+                checkpointType,
+                checkpointId,
+                taskStates,
+                new HashMap<>());
+    }
+
+    private static ActionSubtaskState createState(ActionStateKey key, int index, String state) {
+        return new ActionSubtaskState(
+                key,
+                index,
+                Collections.singletonList(state.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertSameStates(
+            CompletedCheckpoint expected, CompletedCheckpoint actual) {
+        Assertions.assertEquals(expected.getCheckpointId(), actual.getCheckpointId());
+        Assertions.assertEquals(
+                expected.getTaskStates().keySet(), actual.getTaskStates().keySet());
+        for (ActionStateKey key : expected.getTaskStates().keySet()) {
+            ActionState expectedState = expected.getTaskStates().get(key);
+            ActionState actualState = actual.getTaskStates().get(key);
+            assertSameState(expectedState.getCoordinatorState(), actualState.getCoordinatorState());
+            for (int i = 0; i < expectedState.getParallelism(); i++) {
+                assertSameState(
+                        expectedState.getSubtaskStates().get(i),
+                        actualState.getSubtaskStates().get(i));
+            }
+        }
+    }
+
+    private static void assertSameState(ActionSubtaskState expected, ActionSubtaskState actual) {
+        if (expected == null) {
+            Assertions.assertNull(actual);
+            return;
+        }
+        Assertions.assertEquals(expected.getState().size(), actual.getState().size());
+        for (int i = 0; i < expected.getState().size(); i++) {
+            Assertions.assertArrayEquals(expected.getState().get(i), actual.getState().get(i));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.rest;
+
+import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.rest.filter.ExceptionHandlingFilter;
+import org.apache.seatunnel.engine.server.rest.servlet.FinishedJobsServlet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class FinishedJobsQueryTest extends AbstractSeaTunnelServerTest<FinishedJobsQueryTest> {
+
+    private IMap<Long, JobState> finishedJobStateImap;
+
+    @Override
+    protected String getHazelcastConfig() {
+        // the rest api of the finished jobs is in the DATA endpoint group
+        return super.getHazelcastConfig()
+                .replace(
+                        "        CLUSTER_WRITE:\n          enabled: true\n",
+                        "        CLUSTER_WRITE:\n          enabled: true\n"
+                                + "        DATA:\n          enabled: true\n");
+    }
+
+    @BeforeAll
+    public void createJobStates() {
+        finishedJobStateImap = instance.getMap("FinishedJobsQueryTest");
+        finishedJobStateImap.addIndex(IndexType.HASH, "jobStatus");
+        finishedJobStateImap.addIndex(IndexType.SORTED, "finishTime");
+        // put in a different order than the finish time
+        putJobState(4L, JobStatus.CANCELED, 400L);
+        putJobState(1L, JobStatus.FINISHED, 100L);
+        putJobState(5L, JobStatus.FINISHED, 500L);
+        putJobState(3L, JobStatus.FINISHED, 300L);
+        putJobState(2L, JobStatus.FAILED, 200L);
+    }
+
+    @Test
+    public void testFilterByStateAndFinishTime() {
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), query("", params()));
+        Assertions.assertEquals(Arrays.asList(1L, 3L, 5L), query("finished", params()));
+        Assertions.assertEquals(
+                Arrays.asList(2L, 3L, 4L), query("", params("startTime", "200", "endTime", "400")));
+        Assertions.assertEquals(
+                Arrays.asList(3L, 5L), query("FINISHED", params("startTime", "200")));
+        Assertions.assertEquals(Arrays.asList(1L, 2L), query("", params("endTime", "250")));
+        Assertions.assertEquals(Collections.emptyList(), query("unknown", params()));
+    }
+
+    @Test
+    public void testPageOrderedByFinishTime() {
+        Assertions.assertEquals(Arrays.asList(1L, 2L), query("", params("page", "1", "size", "2")));
+        Assertions.assertEquals(Arrays.asList(3L, 4L), query("", params("page", "2", "size", "2")));
+        Assertions.assertEquals(
+                Collections.singletonList(5L), query("", params("page", "3", "size", "2")));
+        Assertions.assertEquals(
+                Collections.emptyList(), query("", params("page", "4", "size", "2")));
+        // the first page if only the size is given, 20 jobs in a page if only the page is given
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), query("", params("size", "3")));
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), query("", params("page", "1")));
+        Assertions.assertEquals(
+                Collections.singletonList(5L),
+                query("finished", params("page", "2", "size", "2")));
+        Assertions.assertEquals(
+                Arrays.asList(3L, 4L),
+                query("", params("page", "1", "size", "2", "startTime", "300")));
+    }
+
+    @Test
+    public void testRejectInvalidParameters() {
+        List<Map<String, String>> invalidParams =
+                Arrays.asList(
+                        params("page", "abc"),
+                        params("page", "0"),
+                        params("size", "-1"),
+                        params("page", "2147483648"),
+                        params("size", "9223372036854775807"),
+                        params("page", "2147483647"),
+                        params("startTime", "yesterday"),
+                        params("endTime", "1.5"));
+        for (Map<String, String> params : invalidParams) {
+            Assertions.assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new FinishedJobsQuery("", params),
+                    params.toString());
+        }
+        Assertions.assertEquals(
+                Arrays.asList(1L, 2L, 3L, 4L, 5L), query("", params("size", "2147483647")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetAllValuesOfThePage() {
+        IMap<Long, JobMetrics> metricsImap = Mockito.mock(IMap.class);
+        Map<Long, JobMetrics> metrics = Collections.singletonMap(3L, JobMetrics.empty());
+        Mockito.when(metricsImap.getAll(new HashSet<>(Arrays.asList(3L, 4L)))).thenReturn(metrics);
+
+        List<JobState> jobStates =
+                new FinishedJobsQuery("", params("page", "2", "size", "2"))
+                        .query(finishedJobStateImap);
+        Assertions.assertSame(metrics, FinishedJobsQuery.getAll(metricsImap, jobStates));
+        Mockito.verify(metricsImap).getAll(new HashSet<>(Arrays.asList(3L, 4L)));
+        Mockito.verifyNoMoreInteractions(metricsImap);
+
+        Assertions.assertTrue(
+                FinishedJobsQuery.getAll(metricsImap, Collections.emptyList()).isEmpty());
+        Mockito.verifyNoMoreInteractions(metricsImap);
+    }
+
+    @Test
+    public void testRestApiRespondsBadRequest() throws Exception {
+        int port = instance.getCluster().getLocalMember().getAddress().getPort();
+        String url =
+                "http://localhost:" + port + RestConstant.CONTEXT_PATH + "/finished-jobs/FINISHED";
+        Assertions.assertEquals(200, getResponseCode(url));
+        Assertions.assertEquals(200, getResponseCode(url + "?page=1&size=2"));
+        Assertions.assertEquals(400, getResponseCode(url + "?page=abc"));
+        Assertions.assertEquals(400, getResponseCode(url + "?size=2147483648"));
+        Assertions.assertEquals(400, getResponseCode(url + "?startTime=yesterday"));
+    }
+
+    @Test
+    public void testServletRespondsBadRequest() throws Exception {
+        NodeEngineImpl nodeEngine = Mockito.mock(NodeEngineImpl.class);
+        FinishedJobsServlet servlet = new FinishedJobsServlet(nodeEngine);
+        ExceptionHandlingFilter filter = new ExceptionHandlingFilter();
+        filter.init(null);
+        for (String param : Arrays.asList("page", "size", "startTime")) {
+            HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+            Mockito.when(request.getMethod()).thenReturn("GET");
+            Mockito.when(request.getPathInfo()).thenReturn("/FINISHED");
+            Mockito.when(request.getParameterMap())
+                    .thenReturn(Collections.singletonMap(param, new String[] {"2147483648x"}));
+            HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+            Mockito.when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+            filter.doFilter(request, response, servlet::service);
+
+            Mockito.verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        }
+        // the imaps are not read for invalid parameters
+        Mockito.verifyNoInteractions(nodeEngine);
+    }
+
+    private List<Long> query(String state, Map<String, String> params) {
+        return new FinishedJobsQuery(state, params).query(finishedJobStateImap).stream()
+                .map(JobState::getJobId)
+                .collect(Collectors.toList());
+    }
+
+    private void putJobState(long jobId, JobStatus jobStatus, long finishTime) {
+        finishedJobStateImap.put(
+                jobId,
+                new JobState(
+                        jobId,
+                        "job" + jobId,
+                        jobStatus,
+                        finishTime - 50,
+                        finishTime,
+                        Collections.emptyMap(),
+                        null));
+    }
+
+    private static Map<String, String> params(String... keyValues) {
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put(keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+
+    private static int getResponseCode(String url) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
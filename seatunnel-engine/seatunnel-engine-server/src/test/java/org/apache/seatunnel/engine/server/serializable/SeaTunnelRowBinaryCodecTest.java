@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SeaTunnelRowBinaryCodecTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_null"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(30, 8),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        BasicType.VOID_TYPE
+                    });
+
+    private static final List<CatalogTable> CATALOG_TABLES =
+            Arrays.asList(
+                    CatalogTableUtil.getCatalogTable("fake", "default", null, "t1", ROW_TYPE),
+                    CatalogTableUtil.getCatalogTable(
+                            "fake",
+                            "default",
+                            null,
+                            "t2",
+                            new SeaTunnelRowType(
+                                    new String[] {"id"},
+                                    new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE})));
+
+    @Test
+    public void testEncodeAndDecode() {
+        SeaTunnelRowBinaryCodec codec = SeaTunnelRowBinaryCodec.of(CATALOG_TABLES);
+
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            "seatunnel 你好",
+                            true,
+                            (byte) 1,
+                            (short) 2,
+                            3,
+                            4L,
+                            5.5f,
+                            6.6d,
+                            new BigDecimal("-1234567890123456789.12345678"),
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(2023, 1, 1),
+                            LocalTime.of(12, 30, 15, 123456789),
+                            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999),
+                            null
+                        });
+        row.setTableId("default.t1");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        SeaTunnelRow decoded = codec.decode(codec.encode(row));
+        Assertions.assertEquals(row, decoded);
+        Assertions.assertEquals("default.t1", decoded.getTableId());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, decoded.getRowKind());
+
+        SeaTunnelRow other = new SeaTunnelRow(new Object[] {Long.MAX_VALUE});
+        other.setTableId("default.t2");
+        Assertions.assertEquals(other, codec.decode(codec.encode(other)));
+    }
+
+    @Test
+    public void testEncodeNullFields() {
+        SeaTunnelRowBinaryCodec codec = SeaTunnelRowBinaryCodec.of(CATALOG_TABLES);
+
+        SeaTunnelRow row = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        row.setTableId("default.t1");
+        row.setRowKind(RowKind.DELETE);
+
+        SeaTunnelRow decoded = codec.decode(codec.encode(row));
+        Assertions.assertEquals(row, decoded);
+        for (int i = 0; i < decoded.getArity(); i++) {
+            Assertions.assertTrue(decoded.isNullAt(i));
+        }
+    }
+
+    @Test
+    public void testFallbackWhenRowNotMatchSchema() {
+        SeaTunnelRowBinaryCodec codec = SeaTunnelRowBinaryCodec.of(CATALOG_TABLES);
+
+        SeaTunnelRow unknownTable = new SeaTunnelRow(new Object[] {1L});
+        unknownTable.setTableId("default.t3");
+        Assertions.assertNull(codec.encode(unknownTable));
+
+        SeaTunnelRow arityChanged = new SeaTunnelRow(new Object[] {1L, "new column"});
+        arityChanged.setTableId("default.t2");
+        Assertions.assertNull(codec.encode(arityChanged));
+
+        SeaTunnelRow typeChanged = new SeaTunnelRow(new Object[] {"1"});
+        typeChanged.setTableId("default.t2");
+        Assertions.assertNull(codec.encode(typeChanged));
+    }
+
+    @Test
+    public void testEncodeLargeRow() {
+        SeaTunnelRowBinaryCodec codec = SeaTunnelRowBinaryCodec.of(CATALOG_TABLES);
+
+        SeaTunnelRow row = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        row.setTableId("default.t1");
+        row.setField(0, String.join("", Collections.nCopies(100000, "a")));
+        row.setField(9, new byte[100000]);
+
+        Assertions.assertEquals(row, codec.decode(codec.encode(row)));
+    }
+
+    @Test
+    public void testIsSupported() {
+        Assertions.assertTrue(SeaTunnelRowBinaryCodec.isSupported(CATALOG_TABLES));
+        Assertions.assertFalse(SeaTunnelRowBinaryCodec.isSupported(Collections.emptyList()));
+        Assertions.assertFalse(
+                SeaTunnelRowBinaryCodec.isSupported(
+                        Collections.singletonList(
+                                CatalogTableUtil.getCatalogTable(
+                                        "fake",
+                                        "default",
+                                        null,
+                                        "t4",
+                                        new SeaTunnelRowType(
+                                                new String[] {"c_array"},
+                                                new SeaTunnelDataType<?>[] {
+                                                    ArrayType.STRING_ARRAY_TYPE
+                                                })))));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class SinkFlowLifeCycleTest {
+
+    private static final TaskLocation TASK_LOCATION =
+            new TaskLocation(new TaskGroupLocation(1L, 1, 1), 1, 0);
+
+    private SinkWriter writer;
+    private SeaTunnelTask runningTask;
+    private SinkFlowLifeCycle lifeCycle;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writer = Mockito.mock(SinkWriter.class);
+        Mockito.when(writer.prepareCommit(Mockito.anyLong())).thenReturn(Optional.empty());
+        Mockito.when(writer.snapshotState(Mockito.anyLong())).thenReturn(Collections.emptyList());
+        SeaTunnelSink sink = Mockito.mock(SeaTunnelSink.class);
+        Mockito.when(sink.createWriter(Mockito.any())).thenReturn(writer);
+        SinkAction sinkAction = Mockito.mock(SinkAction.class);
+        Mockito.when(sinkAction.getSink()).thenReturn(sink);
+        Mockito.when(sinkAction.getParallelism()).thenReturn(1);
+        runningTask = Mockito.mock(SeaTunnelTask.class);
+
+        lifeCycle =
+                new SinkFlowLifeCycle(
+                        sinkAction,
+                        TASK_LOCATION,
+                        0,
+                        runningTask,
+                        null,
+                        false,
+                        new CompletableFuture<>(),
+                        Mockito.mock(MetricsContext.class));
+        lifeCycle.init();
+        lifeCycle.restoreState(Collections.emptyList());
+    }
+
+    @Test
+    void testPrepareCloseBeforeLastPrepareCommit() throws Exception {
+        lifeCycle.received(new Record<>(barrier(1, Collections.emptySet())));
+        Mockito.verify(writer).prepareCommit(1);
+        Mockito.verify(writer, Mockito.never()).prepareClose();
+
+        CheckpointBarrier barrier = barrier(2, Collections.singleton(TASK_LOCATION));
+        lifeCycle.received(new Record<>(barrier));
+        InOrder inOrder = Mockito.inOrder(writer, runningTask);
+        inOrder.verify(writer).prepareClose();
+        inOrder.verify(writer).prepareCommit(2);
+        inOrder.verify(writer).snapshotState(2);
+        inOrder.verify(runningTask).ack(barrier);
+        Assertions.assertTrue(lifeCycle.getPrepareClose());
+
+        // the records after the prepare-close barrier are dropped
+        lifeCycle.received(new Record<>(new Object()));
+        Mockito.verify(writer, Mockito.never()).write(Mockito.any());
+    }
+
+    @Test
+    void testPrepareCloseOnFinalCheckpoint() throws Exception {
+        lifeCycle.received(
+                new Record<>(
+                        new CheckpointBarrier(
+                                1,
+                                System.currentTimeMillis(),
+                                CheckpointType.COMPLETED_POINT_TYPE)));
+        InOrder inOrder = Mockito.inOrder(writer);
+        inOrder.verify(writer).prepareClose();
+        inOrder.verify(writer).prepareCommit(1);
+    }
+
+    private static CheckpointBarrier barrier(long id, Set<TaskLocation> prepareClose) {
+        return new CheckpointBarrier(
+                id,
+                System.currentTimeMillis(),
+                CheckpointType.CHECKPOINT_TYPE,
+                prepareClose,
+                Collections.emptySet());
+    }
+}
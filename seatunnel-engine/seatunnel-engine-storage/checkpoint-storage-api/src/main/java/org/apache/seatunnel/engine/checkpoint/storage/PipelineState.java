@@ -33,4 +33,15 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /**
+     * The id of the full checkpoint which this checkpoint is based on. If set, the states only
+     * contain the changed action states since the base checkpoint, and must be merged with the
+     * states of the base checkpoint on restore. 0 means the states are complete.
+     */
+    private long baseCheckpointId;
+
+    public boolean isIncremental() {
+        return baseCheckpointId > 0 && baseCheckpointId != checkpointId;
+    }
 }
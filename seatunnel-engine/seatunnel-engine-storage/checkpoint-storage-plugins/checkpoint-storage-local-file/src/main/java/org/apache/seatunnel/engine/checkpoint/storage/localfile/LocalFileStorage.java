@@ -33,7 +33,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -50,6 +52,8 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     private static final String[] FILE_EXTENSIONS = new String[] {FILE_FORMAT};
 
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
     private static final String DEFAULT_WINDOWS_OS_NAME_SPACE =
             "C:\\ProgramData\\seatunnel\\checkpoint\\";
 
@@ -95,15 +99,24 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                         + getCheckPointName(state);
 
         File file = new File(fileName);
+        // write to a temporary file first, the checkpoint file only becomes visible after the
+        // data is fully written, so a crash never leaves a partial checkpoint behind
+        File tmpFile = new File(fileName + TMP_FILE_SUFFIX);
         try {
-            FileUtils.touch(file);
+            FileUtils.touch(tmpFile);
         } catch (IOException e) {
             throw new CheckpointStorageException("Failed to create checkpoint file " + fileName, e);
         }
 
         try {
-            FileUtils.writeByteArrayToFile(file, datas);
+            FileUtils.writeByteArrayToFile(tmpFile, datas);
+            Files.move(
+                    tmpFile.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
+            FileUtils.deleteQuietly(tmpFile);
             throw new CheckpointStorageException(
                     "Failed to write checkpoint data to file " + fileName, e);
         }
@@ -27,6 +27,8 @@ import org.apache.seatunnel.transform.exception.ErrorDataTransformException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Function;
+
 @Slf4j
 public abstract class AbstractCatalogSupportTransform implements SeaTunnelTransform<SeaTunnelRow> {
     protected final ErrorHandleWay rowErrorHandleWay;
@@ -46,8 +48,20 @@ public abstract class AbstractCatalogSupportTransform implements SeaTunnelTransf
 
     @Override
     public SeaTunnelRow map(SeaTunnelRow row) {
+        return map(row, this::transformRow);
+    }
+
+    /**
+     * Outputs the row transformed by the function, or null if the row is skipped by the error
+     * handle way. It is used by the transforms which compute the output of a batch of rows at once,
+     * so the error handle way still applies to each row.
+     *
+     * @param row upstream input row data
+     * @param transformer transforms the row
+     */
+    protected SeaTunnelRow map(SeaTunnelRow row, Function<SeaTunnelRow, SeaTunnelRow> transformer) {
         try {
-            return transformRow(row);
+            return transformer.apply(row);
         } catch (ErrorDataTransformException e) {
             if (e.getErrorHandleWay() != null) {
                 ErrorHandleWay errorHandleWay = e.getErrorHandleWay();
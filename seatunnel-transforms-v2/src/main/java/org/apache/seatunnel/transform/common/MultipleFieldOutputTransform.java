@@ -53,6 +53,17 @@ public abstract class MultipleFieldOutputTransform extends AbstractCatalogSuppor
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object[] fieldValues = getOutputFieldValues(new SeaTunnelRowAccessor(inputRow));
+        return outputRow(inputRow, fieldValues);
+    }
+
+    /**
+     * Outputs the row with the new fields value, it is used by the transforms which compute the
+     * fields value of a batch of rows at once.
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValues The new fields value of the row.
+     */
+    protected SeaTunnelRow outputRow(SeaTunnelRow inputRow, Object[] fieldValues) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         for (int i = 0; i < outputFieldNames.length; i++) {
             outputRow.setField(fieldsIndex[i], fieldValues == null ? null : fieldValues[i]);
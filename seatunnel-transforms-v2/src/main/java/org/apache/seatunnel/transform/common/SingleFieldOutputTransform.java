@@ -44,7 +44,17 @@ public abstract class SingleFieldOutputTransform extends AbstractCatalogSupportT
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object fieldValue = getOutputFieldValue(new SeaTunnelRowAccessor(inputRow));
+        return outputRow(inputRow, fieldValue);
+    }
 
+    /**
+     * Outputs the row with the new field value, it is used by the transforms which compute the
+     * field value of a batch of rows at once.
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValue The new field value of the row.
+     */
+    protected SeaTunnelRow outputRow(SeaTunnelRow inputRow, Object fieldValue) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         outputRow.setField(fieldIndex, fieldValue);
         return outputRow;
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.nlpmodel;
+
+import org.apache.seatunnel.common.utils.function.SupplierWithException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sends the requests of a batch to the remote model with bounded concurrency. Every in-flight
+ * request borrows one of the {@code parallelism} model instances, so the models don't need to be
+ * thread safe. A failed request is retried with exponential backoff.
+ */
+@Slf4j
+public class ModelRequestExecutor<M extends Closeable> implements Closeable {
+
+    private final BlockingQueue<M> models;
+    private final ExecutorService executorService;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public ModelRequestExecutor(
+            int parallelism,
+            int maxRetries,
+            long retryBackoffMs,
+            SupplierWithException<M, IOException> modelSupplier)
+            throws IOException {
+        this.models = new ArrayBlockingQueue<>(parallelism);
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                models.add(modelSupplier.get());
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        this.executorService =
+                parallelism > 1
+                        ? Executors.newFixedThreadPool(
+                                parallelism,
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("model-request-%d")
+                                        .setDaemon(true)
+                                        .build())
+                        : null;
+    }
+
+    /** Send one request, e.g. to get the model metadata. */
+    public <R> R execute(ModelRequest<M, Void, R> request) throws IOException {
+        return executeWithRetry(request, null);
+    }
+
+    /** Send the requests concurrently, the results are in the same order as the requests. */
+    public <T, R> List<R> execute(List<T> requests, ModelRequest<M, T, R> request)
+            throws IOException {
+        List<R> results = new ArrayList<>(requests.size());
+        if (executorService == null || requests.size() == 1) {
+            for (T t : requests) {
+                results.add(executeWithRetry(request, t));
+            }
+            return results;
+        }
+        List<Future<R>> futures = new ArrayList<>(requests.size());
+        for (T t : requests) {
+            futures.add(executorService.submit(() -> executeWithRetry(request, t)));
+        }
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for model response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private <T, R> R executeWithRetry(ModelRequest<M, T, R> request, T t) throws IOException {
+        M model;
+        try {
+            model = models.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for model");
+        }
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    return request.apply(model, t);
+                } catch (IOException | RuntimeException e) {
+                    if (attempt >= maxRetries) {
+                        throw e;
+                    }
+                    long backoffMs = retryBackoffMs << Math.min(attempt, 10);
+                    log.warn(
+                            "Model request failed, retry {}/{} after {} ms",
+                            attempt + 1,
+                            maxRetries,
+                            backoffMs,
+                            e);
+                    Thread.sleep(backoffMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while retrying model request");
+        } finally {
+            models.add(model);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        IOException exception = null;
+        for (M model : models) {
+            try {
+                model.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ModelRequest<M, T, R> {
+        R apply(M model, T request) throws IOException;
+    }
+}
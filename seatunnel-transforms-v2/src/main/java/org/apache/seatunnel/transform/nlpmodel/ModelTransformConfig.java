@@ -75,10 +75,37 @@ public class ModelTransformConfig implements Serializable {
     public static final Option<Integer> PROCESS_BATCH_SIZE =
             Options.key("process_batch_size")
                     .intType()
-                    .defaultValue(100)
+                    .defaultValue(1)
                     .withFallbackKeys("inference_batch_size")
                     .withDescription("The row batch size of each process");
 
+    public static final Option<Integer> INFERENCE_PARALLELISM =
+            Options.key("inference_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of in-flight requests to the model of each transform instance");
+
+    public static final Option<Integer> MAX_RETRIES =
+            Options.key("max_retries")
+                    .intType()
+                    .defaultValue(3)
+                    .withDescription("The max retry times of a failed request to the model");
+
+    public static final Option<Long> RETRY_BACKOFF_MS =
+            Options.key("retry_backoff_ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The backoff before the first retry, it is doubled for every next retry");
+
+    public static final Option<Integer> CACHE_SIZE =
+            Options.key("cache_size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max number of model results cached by input, 0 means the cache is disabled");
+
     public static class CustomRequestConfig {
 
         // Custom response parsing
@@ -21,12 +21,14 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.VectorType;
 import org.apache.seatunnel.transform.common.MultipleFieldOutputTransform;
 import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.embadding.remote.Model;
 import org.apache.seatunnel.transform.nlpmodel.embadding.remote.custom.CustomModel;
@@ -35,12 +37,17 @@ import org.apache.seatunnel.transform.nlpmodel.embadding.remote.openai.OpenAIMod
 import org.apache.seatunnel.transform.nlpmodel.embadding.remote.qianfan.QianfanModel;
 import org.apache.seatunnel.transform.nlpmodel.llm.LLMTransformConfig;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -49,8 +56,9 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     private final ReadonlyConfig config;
     private List<String> fieldNames;
     private List<Integer> fieldOriginalIndexes;
-    private Model model;
     private Integer dimension;
+    private ModelRequestExecutor<Model> executor;
+    private Cache<Object, ByteBuffer> cache;
 
     public EmbeddingTransform(
             @NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
@@ -62,89 +70,79 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     }
 
     private void tryOpen() {
-        if (model == null) {
+        if (executor == null) {
             open();
         }
     }
 
     @Override
     public void open() {
-        // Initialize model
-        ModelProvider provider = config.get(ModelTransformConfig.MODEL_PROVIDER);
         try {
-            switch (provider) {
-                case CUSTOM:
-                    // load custom_config from the configuration
-                    ReadonlyConfig customConfig =
-                            config.getOptional(
-                                            ModelTransformConfig.CustomRequestConfig.CUSTOM_CONFIG)
-                                    .map(ReadonlyConfig::fromMap)
-                                    .orElseThrow(
-                                            () ->
-                                                    new IllegalArgumentException(
-                                                            "Custom config can't be null"));
-                    model =
-                            new CustomModel(
-                                    config.get(ModelTransformConfig.MODEL),
-                                    provider.usedEmbeddingPath(
-                                            config.get(ModelTransformConfig.API_PATH)),
-                                    customConfig.get(
-                                            LLMTransformConfig.CustomRequestConfig
-                                                    .CUSTOM_REQUEST_HEADERS),
-                                    customConfig.get(
-                                            ModelTransformConfig.CustomRequestConfig
-                                                    .CUSTOM_REQUEST_BODY),
-                                    customConfig.get(
-                                            LLMTransformConfig.CustomRequestConfig
-                                                    .CUSTOM_RESPONSE_PARSE),
-                                    config.get(
-                                            EmbeddingTransformConfig
-                                                    .SINGLE_VECTORIZED_INPUT_NUMBER));
-                    break;
-                case OPENAI:
-                    model =
-                            new OpenAIModel(
-                                    config.get(ModelTransformConfig.API_KEY),
-                                    config.get(ModelTransformConfig.MODEL),
-                                    provider.usedEmbeddingPath(
-                                            config.get(ModelTransformConfig.API_PATH)),
-                                    config.get(
-                                            EmbeddingTransformConfig
-                                                    .SINGLE_VECTORIZED_INPUT_NUMBER));
-                    break;
-                case DOUBAO:
-                    model =
-                            new DoubaoModel(
-                                    config.get(ModelTransformConfig.API_KEY),
-                                    config.get(ModelTransformConfig.MODEL),
-                                    provider.usedEmbeddingPath(
-                                            config.get(ModelTransformConfig.API_PATH)),
-                                    config.get(
-                                            EmbeddingTransformConfig
-                                                    .SINGLE_VECTORIZED_INPUT_NUMBER));
-                    break;
-                case QIANFAN:
-                    model =
-                            new QianfanModel(
-                                    config.get(ModelTransformConfig.API_KEY),
-                                    config.get(ModelTransformConfig.SECRET_KEY),
-                                    config.get(ModelTransformConfig.MODEL),
-                                    provider.usedEmbeddingPath(
-                                            config.get(ModelTransformConfig.API_PATH)),
-                                    config.get(ModelTransformConfig.OAUTH_PATH),
-                                    config.get(
-                                            EmbeddingTransformConfig
-                                                    .SINGLE_VECTORIZED_INPUT_NUMBER));
-                    break;
-                case LOCAL:
-                default:
-                    throw new IllegalArgumentException("Unsupported model provider: " + provider);
-            }
+            executor =
+                    new ModelRequestExecutor<>(
+                            config.get(ModelTransformConfig.INFERENCE_PARALLELISM),
+                            config.get(ModelTransformConfig.MAX_RETRIES),
+                            config.get(ModelTransformConfig.RETRY_BACKOFF_MS),
+                            this::createModel);
             // Initialize dimension
-            dimension = model.dimension();
+            dimension = executor.execute((model, request) -> model.dimension());
         } catch (IOException e) {
             throw new RuntimeException("Failed to initialize model", e);
         }
+        int cacheSize = config.get(ModelTransformConfig.CACHE_SIZE);
+        if (cacheSize > 0) {
+            cache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        }
+    }
+
+    private Model createModel() throws IOException {
+        ModelProvider provider = config.get(ModelTransformConfig.MODEL_PROVIDER);
+        Integer vectorizedNumber =
+                config.get(EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER);
+        switch (provider) {
+            case CUSTOM:
+                // load custom_config from the configuration
+                ReadonlyConfig customConfig =
+                        config.getOptional(ModelTransformConfig.CustomRequestConfig.CUSTOM_CONFIG)
+                                .map(ReadonlyConfig::fromMap)
+                                .orElseThrow(
+                                        () ->
+                                                new IllegalArgumentException(
+                                                        "Custom config can't be null"));
+                return new CustomModel(
+                        config.get(ModelTransformConfig.MODEL),
+                        provider.usedEmbeddingPath(config.get(ModelTransformConfig.API_PATH)),
+                        customConfig.get(
+                                LLMTransformConfig.CustomRequestConfig.CUSTOM_REQUEST_HEADERS),
+                        customConfig.get(
+                                ModelTransformConfig.CustomRequestConfig.CUSTOM_REQUEST_BODY),
+                        customConfig.get(
+                                LLMTransformConfig.CustomRequestConfig.CUSTOM_RESPONSE_PARSE),
+                        vectorizedNumber);
+            case OPENAI:
+                return new OpenAIModel(
+                        config.get(ModelTransformConfig.API_KEY),
+                        config.get(ModelTransformConfig.MODEL),
+                        provider.usedEmbeddingPath(config.get(ModelTransformConfig.API_PATH)),
+                        vectorizedNumber);
+            case DOUBAO:
+                return new DoubaoModel(
+                        config.get(ModelTransformConfig.API_KEY),
+                        config.get(ModelTransformConfig.MODEL),
+                        provider.usedEmbeddingPath(config.get(ModelTransformConfig.API_PATH)),
+                        vectorizedNumber);
+            case QIANFAN:
+                return new QianfanModel(
+                        config.get(ModelTransformConfig.API_KEY),
+                        config.get(ModelTransformConfig.SECRET_KEY),
+                        config.get(ModelTransformConfig.MODEL),
+                        provider.usedEmbeddingPath(config.get(ModelTransformConfig.API_PATH)),
+                        config.get(ModelTransformConfig.OAUTH_PATH),
+                        vectorizedNumber);
+            case LOCAL:
+            default:
+                throw new IllegalArgumentException("Unsupported model provider: " + provider);
+        }
     }
 
     private void initOutputFields(SeaTunnelRowType inputRowType, Map<String, String> fields) {
@@ -173,11 +171,111 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
             for (int i = 0; i < fieldOriginalIndexes.size(); i++) {
                 fieldArray[i] = inputRow.getField(fieldOriginalIndexes.get(i));
             }
-            List<ByteBuffer> vectorization = model.vectorization(fieldArray);
-            return vectorization.toArray();
+            return vectorization(Collections.singletonList(fieldArray)).get(0);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to data vectorization", e);
+        }
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        tryOpen();
+        List<Object[]> fieldArrays = new ArrayList<>(rows.size());
+        for (SeaTunnelRow row : rows) {
+            Object[] fieldArray = new Object[fieldOriginalIndexes.size()];
+            for (int i = 0; i < fieldOriginalIndexes.size(); i++) {
+                fieldArray[i] = row.getField(fieldOriginalIndexes.get(i));
+            }
+            fieldArrays.add(fieldArray);
+        }
+        List<Object[]> vectorizations;
+        try {
+            vectorizations = vectorization(fieldArrays);
         } catch (Exception e) {
             throw new RuntimeException("Failed to data vectorization", e);
         }
+        List<SeaTunnelRow> outputs = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] vectorization = vectorizations.get(i);
+            SeaTunnelRow output = map(rows.get(i), row -> outputRow(row, vectorization));
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+        return outputs;
+    }
+
+    /**
+     * Vectorize the fields of all the rows. The cached fields are skipped, the others are split
+     * into requests of {@code single_vectorized_input_number} fields which are sent concurrently.
+     */
+    private List<Object[]> vectorization(List<Object[]> fieldArrays) throws IOException {
+        // the cached vector of each field is looked up once, the missed fields are vectorized
+        // once for each distinct value, and the fields point to the index of their input
+        List<ByteBuffer[]> cachedVectors = new ArrayList<>(fieldArrays.size());
+        List<int[]> inputIndexes = new ArrayList<>(fieldArrays.size());
+        List<Object> inputs = new ArrayList<>();
+        Map<Object, Integer> missedFields = new HashMap<>();
+        for (Object[] fieldArray : fieldArrays) {
+            ByteBuffer[] cached = new ByteBuffer[fieldArray.length];
+            int[] indexes = new int[fieldArray.length];
+            for (int i = 0; i < fieldArray.length; i++) {
+                Object field = fieldArray[i];
+                cached[i] = cache == null || field == null ? null : cache.getIfPresent(field);
+                if (cached[i] != null) {
+                    continue;
+                }
+                Integer inputIndex =
+                        cache == null || field == null ? null : missedFields.get(field);
+                if (inputIndex == null) {
+                    inputIndex = inputs.size();
+                    inputs.add(field);
+                    if (cache != null && field != null) {
+                        missedFields.put(field, inputIndex);
+                    }
+                }
+                indexes[i] = inputIndex;
+            }
+            cachedVectors.add(cached);
+            inputIndexes.add(indexes);
+        }
+        List<ByteBuffer> vectors = new ArrayList<>(inputs.size());
+        if (!inputs.isEmpty()) {
+            int vectorizedNumber =
+                    config.get(EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER);
+            List<Object[]> requests = new ArrayList<>();
+            for (List<Object> request : Lists.partition(inputs, vectorizedNumber)) {
+                requests.add(request.toArray());
+            }
+            executor.execute(requests, EmbeddingTransform::requestModel).forEach(vectors::addAll);
+            if (cache != null) {
+                missedFields.forEach((field, index) -> cache.put(field, vectors.get(index)));
+            }
+        }
+
+        List<Object[]> results = new ArrayList<>(fieldArrays.size());
+        for (int row = 0; row < fieldArrays.size(); row++) {
+            ByteBuffer[] cached = cachedVectors.get(row);
+            int[] indexes = inputIndexes.get(row);
+            Object[] result = new Object[cached.length];
+            for (int i = 0; i < cached.length; i++) {
+                ByteBuffer vector = cached[i] != null ? cached[i] : vectors.get(indexes[i]);
+                result[i] = vector.duplicate();
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static List<ByteBuffer> requestModel(Model model, Object[] fields) throws IOException {
+        List<ByteBuffer> vectors = model.vectorization(fields);
+        if (vectors.size() != fields.length) {
+            throw new IOException(
+                    String.format(
+                            "The model returned %s vectors for %s inputs",
+                            vectors.size(), fields.length));
+        }
+        return vectors;
     }
 
     @Override
@@ -205,8 +303,8 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
-        if (model != null) {
-            model.close();
+        if (executor != null) {
+            executor.close();
         }
     }
 }
@@ -46,7 +46,11 @@ public class EmbeddingTransformFactory implements TableTransformFactory {
                 .optional(
                         EmbeddingTransformConfig.API_PATH,
                         EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER,
-                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE)
+                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE,
+                        EmbeddingTransformConfig.INFERENCE_PARALLELISM,
+                        EmbeddingTransformConfig.MAX_RETRIES,
+                        EmbeddingTransformConfig.RETRY_BACKOFF_MS,
+                        EmbeddingTransformConfig.CACHE_SIZE)
                 .conditional(
                         EmbeddingTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(ModelProvider.OPENAI, ModelProvider.DOUBAO),
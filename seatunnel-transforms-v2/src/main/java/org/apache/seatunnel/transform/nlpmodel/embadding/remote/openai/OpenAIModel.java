@@ -20,6 +20,7 @@ package org.apache.seatunnel.transform.nlpmodel.embadding.remote.openai;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.type.TypeReference;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.seatunnel.transform.nlpmodel.embadding.remote.AbstractModel;
@@ -55,9 +56,6 @@ public class OpenAIModel extends AbstractModel {
 
     @Override
     protected List<List<Float>> vector(Object[] fields) throws IOException {
-        if (fields.length > 1) {
-            throw new IllegalArgumentException("OpenAI model only supports single input");
-        }
         return vectorGeneration(fields);
     }
 
@@ -103,7 +101,15 @@ public class OpenAIModel extends AbstractModel {
     public ObjectNode createJsonNodeFromData(Object[] data) throws JsonProcessingException {
         ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
         objectNode.put("model", model);
-        objectNode.put("input", data[0].toString());
+        if (data.length == 1) {
+            objectNode.put("input", data[0].toString());
+        } else {
+            // the embeddings api accepts an array of inputs for batch requests
+            ArrayNode inputs = objectNode.putArray("input");
+            for (Object input : data) {
+                inputs.add(input.toString());
+            }
+        }
         return objectNode;
     }
 
@@ -24,9 +24,11 @@ import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
 import org.apache.seatunnel.api.table.catalog.SeaTunnelDataTypeConvertorUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;
 import org.apache.seatunnel.transform.common.SingleFieldOutputTransform;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.Model;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.custom.CustomModel;
@@ -34,17 +36,28 @@ import org.apache.seatunnel.transform.nlpmodel.llm.remote.kimiai.KimiAIModel;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.microsoft.MicrosoftModel;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.openai.OpenAIModel;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 public class LLMTransform extends SingleFieldOutputTransform {
     private final ReadonlyConfig config;
     private final SeaTunnelDataType<?> outputDataType;
-    private Model model;
+    private ModelRequestExecutor<Model> executor;
+    private Cache<List<Object>, String> cache;
+    private int[] inferenceColumnIndexes;
 
     public LLMTransform(@NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
         super(inputCatalogTable);
@@ -55,7 +68,7 @@ public class LLMTransform extends SingleFieldOutputTransform {
     }
 
     private void tryOpen() {
-        if (model == null) {
+        if (executor == null) {
             open();
         }
     }
@@ -67,6 +80,31 @@ public class LLMTransform extends SingleFieldOutputTransform {
 
     @Override
     public void open() {
+        try {
+            executor =
+                    new ModelRequestExecutor<>(
+                            config.get(ModelTransformConfig.INFERENCE_PARALLELISM),
+                            config.get(ModelTransformConfig.MAX_RETRIES),
+                            config.get(ModelTransformConfig.RETRY_BACKOFF_MS),
+                            this::createModel);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to initialize model", e);
+        }
+        int cacheSize = config.get(ModelTransformConfig.CACHE_SIZE);
+        if (cacheSize > 0) {
+            cache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        }
+        List<String> inferenceColumns = config.get(LLMTransformConfig.INFERENCE_COLUMNS);
+        if (inferenceColumns != null && !inferenceColumns.isEmpty()) {
+            SeaTunnelRowType rowType = inputCatalogTable.getSeaTunnelRowType();
+            inferenceColumnIndexes = new int[inferenceColumns.size()];
+            for (int i = 0; i < inferenceColumns.size(); i++) {
+                inferenceColumnIndexes[i] = rowType.indexOf(inferenceColumns.get(i));
+            }
+        }
+    }
+
+    private Model createModel() {
         ModelProvider provider = config.get(ModelTransformConfig.MODEL_PROVIDER);
         switch (provider) {
             case CUSTOM:
@@ -78,56 +116,47 @@ public class LLMTransform extends SingleFieldOutputTransform {
                                         () ->
                                                 new IllegalArgumentException(
                                                         "Custom config can't be null"));
-                model =
-                        new CustomModel(
-                                inputCatalogTable.getSeaTunnelRowType(),
-                                outputDataType.getSqlType(),
-                                config.get(LLMTransformConfig.INFERENCE_COLUMNS),
-                                config.get(LLMTransformConfig.PROMPT),
-                                config.get(LLMTransformConfig.MODEL),
-                                provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)),
-                                customConfig.get(
-                                        LLMTransformConfig.CustomRequestConfig
-                                                .CUSTOM_REQUEST_HEADERS),
-                                customConfig.get(
-                                        LLMTransformConfig.CustomRequestConfig.CUSTOM_REQUEST_BODY),
-                                customConfig.get(
-                                        LLMTransformConfig.CustomRequestConfig
-                                                .CUSTOM_RESPONSE_PARSE));
-                break;
+                return new CustomModel(
+                        inputCatalogTable.getSeaTunnelRowType(),
+                        outputDataType.getSqlType(),
+                        config.get(LLMTransformConfig.INFERENCE_COLUMNS),
+                        config.get(LLMTransformConfig.PROMPT),
+                        config.get(LLMTransformConfig.MODEL),
+                        provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)),
+                        customConfig.get(
+                                LLMTransformConfig.CustomRequestConfig.CUSTOM_REQUEST_HEADERS),
+                        customConfig.get(
+                                LLMTransformConfig.CustomRequestConfig.CUSTOM_REQUEST_BODY),
+                        customConfig.get(
+                                LLMTransformConfig.CustomRequestConfig.CUSTOM_RESPONSE_PARSE));
             case MICROSOFT:
-                model =
-                        new MicrosoftModel(
-                                inputCatalogTable.getSeaTunnelRowType(),
-                                outputDataType.getSqlType(),
-                                config.get(LLMTransformConfig.INFERENCE_COLUMNS),
-                                config.get(LLMTransformConfig.PROMPT),
-                                config.get(LLMTransformConfig.MODEL),
-                                config.get(LLMTransformConfig.API_KEY),
-                                provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
-                break;
+                return new MicrosoftModel(
+                        inputCatalogTable.getSeaTunnelRowType(),
+                        outputDataType.getSqlType(),
+                        config.get(LLMTransformConfig.INFERENCE_COLUMNS),
+                        config.get(LLMTransformConfig.PROMPT),
+                        config.get(LLMTransformConfig.MODEL),
+                        config.get(LLMTransformConfig.API_KEY),
+                        provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
             case OPENAI:
             case DOUBAO:
-                model =
-                        new OpenAIModel(
-                                inputCatalogTable.getSeaTunnelRowType(),
-                                outputDataType.getSqlType(),
-                                config.get(LLMTransformConfig.INFERENCE_COLUMNS),
-                                config.get(LLMTransformConfig.PROMPT),
-                                config.get(LLMTransformConfig.MODEL),
-                                config.get(LLMTransformConfig.API_KEY),
-                                provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
+                return new OpenAIModel(
+                        inputCatalogTable.getSeaTunnelRowType(),
+                        outputDataType.getSqlType(),
+                        config.get(LLMTransformConfig.INFERENCE_COLUMNS),
+                        config.get(LLMTransformConfig.PROMPT),
+                        config.get(LLMTransformConfig.MODEL),
+                        config.get(LLMTransformConfig.API_KEY),
+                        provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
             case KIMIAI:
-                model =
-                        new KimiAIModel(
-                                inputCatalogTable.getSeaTunnelRowType(),
-                                outputDataType.getSqlType(),
-                                config.get(LLMTransformConfig.INFERENCE_COLUMNS),
-                                config.get(LLMTransformConfig.PROMPT),
-                                config.get(LLMTransformConfig.MODEL),
-                                config.get(LLMTransformConfig.API_KEY),
-                                provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
-                break;
+                return new KimiAIModel(
+                        inputCatalogTable.getSeaTunnelRowType(),
+                        outputDataType.getSqlType(),
+                        config.get(LLMTransformConfig.INFERENCE_COLUMNS),
+                        config.get(LLMTransformConfig.PROMPT),
+                        config.get(LLMTransformConfig.MODEL),
+                        config.get(LLMTransformConfig.API_KEY),
+                        provider.usedLLMPath(config.get(LLMTransformConfig.API_PATH)));
             case QIANFAN:
             default:
                 throw new IllegalArgumentException("Unsupported model provider: " + provider);
@@ -139,28 +168,150 @@ public class LLMTransform extends SingleFieldOutputTransform {
         tryOpen();
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(inputRow.getFields());
         try {
-            List<String> values = model.inference(Collections.singletonList(seaTunnelRow));
-            switch (outputDataType.getSqlType()) {
-                case STRING:
-                    return String.valueOf(values.get(0));
-                case INT:
-                    return Integer.parseInt(values.get(0));
-                case BIGINT:
-                    return Long.parseLong(values.get(0));
-                case DOUBLE:
-                    return Double.parseDouble(values.get(0));
-                case BOOLEAN:
-                    return Boolean.parseBoolean(values.get(0));
-                default:
-                    throw new IllegalArgumentException(
-                            "Unsupported output data type: " + outputDataType);
-            }
+            return convertValue(inference(Collections.singletonList(seaTunnelRow)).get(0));
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Failed to inference model with row %s", seaTunnelRow), e);
         }
     }
 
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        tryOpen();
+        List<String> values;
+        try {
+            values = inference(rows);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Failed to inference model with %s rows", rows.size()), e);
+        }
+        List<SeaTunnelRow> outputs = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            String value = values.get(i);
+            SeaTunnelRow output = map(rows.get(i), row -> outputRow(row, convertValue(value)));
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+        return outputs;
+    }
+
+    /**
+     * Inference the rows which are not cached, they are split into requests of {@code
+     * process_batch_size} rows which are sent concurrently.
+     */
+    private List<String> inference(List<SeaTunnelRow> rows) throws IOException {
+        String[] results = new String[rows.size()];
+        // the rows to inference, and the indexes of the rows sharing the result of each of them
+        List<SeaTunnelRow> inputs = new ArrayList<>();
+        List<List<Integer>> inputRowIndexes = new ArrayList<>();
+        Map<List<Object>, List<Integer>> missedKeys = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            SeaTunnelRow row = rows.get(i);
+            List<Object> cacheKey = cache == null ? null : cacheKey(row);
+            if (cacheKey != null) {
+                results[i] = cache.getIfPresent(cacheKey);
+                if (results[i] != null) {
+                    continue;
+                }
+                List<Integer> rowIndexes = missedKeys.get(cacheKey);
+                if (rowIndexes != null) {
+                    rowIndexes.add(i);
+                    continue;
+                }
+            }
+            List<Integer> rowIndexes = new ArrayList<>();
+            rowIndexes.add(i);
+            if (cacheKey != null) {
+                missedKeys.put(cacheKey, rowIndexes);
+            }
+            inputs.add(row);
+            inputRowIndexes.add(rowIndexes);
+        }
+        if (!inputs.isEmpty()) {
+            List<String> values = requestInputs(inputs);
+            for (int i = 0; i < inputs.size(); i++) {
+                String value = values.get(i);
+                for (int rowIndex : inputRowIndexes.get(i)) {
+                    results[rowIndex] = value;
+                }
+                if (cache != null && value != null) {
+                    cache.put(cacheKey(inputs.get(i)), value);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<String> requestInputs(List<SeaTunnelRow> inputs) throws IOException {
+        List<List<SeaTunnelRow>> requests =
+                Lists.partition(inputs, config.get(ModelTransformConfig.PROCESS_BATCH_SIZE));
+        List<List<String>> responses = executor.execute(requests, LLMTransform::requestModel);
+        List<String> values = new ArrayList<>(inputs.size());
+        for (int i = 0; i < requests.size(); i++) {
+            List<SeaTunnelRow> request = requests.get(i);
+            List<String> response = responses.get(i);
+            if (response.size() != request.size()) {
+                // the results can't be matched to the rows, request the rows one by one instead
+                log.warn(
+                        "The model returned {} results for {} rows, request the rows one by one",
+                        response.size(),
+                        request.size());
+                List<String> rowValues = new ArrayList<>(request.size());
+                executor.execute(Lists.partition(request, 1), LLMTransform::requestModel)
+                        .forEach(rowValues::addAll);
+                response = rowValues;
+            }
+            values.addAll(response);
+        }
+        return values;
+    }
+
+    /**
+     * The model may return a wrong number of results for more than one row. The first result is
+     * used if the model returns more than one result for one row.
+     */
+    private static List<String> requestModel(Model model, List<SeaTunnelRow> rows)
+            throws IOException {
+        List<String> values = model.inference(rows);
+        if (rows.size() > 1) {
+            return values;
+        }
+        if (values.isEmpty()) {
+            throw new IOException("The model returned no result for the row");
+        }
+        return values.subList(0, 1);
+    }
+
+    private List<Object> cacheKey(SeaTunnelRow row) {
+        if (inferenceColumnIndexes == null) {
+            return Arrays.asList(row.getFields().clone());
+        }
+        Object[] key = new Object[inferenceColumnIndexes.length];
+        for (int i = 0; i < inferenceColumnIndexes.length; i++) {
+            key[i] = row.getField(inferenceColumnIndexes[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    private Object convertValue(String value) {
+        switch (outputDataType.getSqlType()) {
+            case STRING:
+                return String.valueOf(value);
+            case INT:
+                return Integer.parseInt(value);
+            case BIGINT:
+                return Long.parseLong(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case BOOLEAN:
+                return Boolean.parseBoolean(value);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported output data type: " + outputDataType);
+        }
+    }
+
     @Override
     protected Column getOutputColumn() {
         String customFieldName = config.get(LLMTransformConfig.OUTPUT_COLUMN_NAME);
@@ -177,8 +328,8 @@ public class LLMTransform extends SingleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
-        if (model != null) {
-            model.close();
+        if (executor != null) {
+            executor.close();
         }
     }
 }
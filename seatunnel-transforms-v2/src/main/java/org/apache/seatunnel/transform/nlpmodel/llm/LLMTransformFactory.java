@@ -46,7 +46,11 @@ public class LLMTransformFactory implements TableTransformFactory {
                 .optional(
                         LLMTransformConfig.API_PATH,
                         LLMTransformConfig.OUTPUT_DATA_TYPE,
-                        LLMTransformConfig.PROCESS_BATCH_SIZE)
+                        LLMTransformConfig.PROCESS_BATCH_SIZE,
+                        LLMTransformConfig.INFERENCE_PARALLELISM,
+                        LLMTransformConfig.MAX_RETRIES,
+                        LLMTransformConfig.RETRY_BACKOFF_MS,
+                        LLMTransformConfig.CACHE_SIZE)
                 .conditional(
                         LLMTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(
@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.transform.sql;
 
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public interface SQLEngine {
     void init(
@@ -33,5 +36,15 @@ public interface SQLEngine {
 
     SeaTunnelRow transformBySQL(SeaTunnelRow inputRow);
 
+    /** Get the input columns used by the SQL, empty if all columns are used. */
+    default Optional<List<String>> getRequiredFields() {
+        return Optional.empty();
+    }
+
+    /** Get the predicates of the SQL which can be evaluated by the source. */
+    default List<SourcePredicate> getPredicates() {
+        return Collections.emptyList();
+    }
+
     default void close() {}
 }
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.transform.sql.zeta;
 
+import org.apache.seatunnel.api.source.SourcePredicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -45,6 +46,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 
@@ -65,6 +67,9 @@ public class ZetaSQLEngine implements SQLEngine {
 
     private Integer allColumnsCount = null;
 
+    /** The compiled select items, null stands for all columns of the input row. */
+    private ZetaSQLEvaluator[] projections;
+
     public ZetaSQLEngine() {}
 
     @Override
@@ -87,6 +92,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        compileProjections();
     }
 
     private void parseSQL() {
@@ -246,31 +252,49 @@ public class ZetaSQLEngine implements SQLEngine {
         return seaTunnelRow;
     }
 
+    @Override
+    public Optional<List<String>> getRequiredFields() {
+        return new ZetaSQLPushDown(inputRowType, selectBody).getRequiredFields();
+    }
+
+    @Override
+    public List<SourcePredicate> getPredicates() {
+        return new ZetaSQLPushDown(inputRowType, selectBody).getPredicates();
+    }
+
     private Object[] scanTable(SeaTunnelRow inputRow) {
         // do nothing, only return the input fields
         return inputRow.getFields();
     }
 
-    private Object[] project(Object[] inputFields) {
+    private void compileProjections() {
         List<SelectItem> selectItems = selectBody.getSelectItems();
+        projections = new ZetaSQLEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof AllColumns) {
+                projections[i] = null;
+            } else if (selectItem instanceof SelectExpressionItem) {
+                Expression expression = ((SelectExpressionItem) selectItem).getExpression();
+                projections[i] = zetaSQLFunction.compile(expression);
+            } else {
+                projections[i] = inputFields -> null;
+            }
+        }
+    }
 
-        int columnsSize = countColumnsSize(selectItems);
+    private Object[] project(Object[] inputFields) {
+        int columnsSize = countColumnsSize(selectBody.getSelectItems());
 
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
-            if (selectItem instanceof AllColumns) {
-                for (Object inputField : inputFields) {
-                    fields[idx] = inputField;
-                    idx++;
-                }
-            } else if (selectItem instanceof SelectExpressionItem) {
-                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-                Expression expression = expressionItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
-                idx++;
+        for (ZetaSQLEvaluator projection : projections) {
+            if (projection == null) {
+                System.arraycopy(inputFields, 0, fields, idx, inputFields.length);
+                idx += inputFields.length;
             } else {
+                fields[idx] = projection.evaluate(inputFields);
                 idx++;
             }
         }
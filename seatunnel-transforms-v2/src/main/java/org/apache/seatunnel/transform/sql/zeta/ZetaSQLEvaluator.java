@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+/**
+ * An expression of the select list which is compiled once by {@link
+ * ZetaSQLFunction#compile(net.sf.jsqlparser.expression.Expression)}, column indexes and result
+ * types are resolved up front so evaluating it does not walk the SQL AST again.
+ */
+@FunctionalInterface
+public interface ZetaSQLEvaluator {
+
+    /**
+     * Evaluate the expression on one row
+     *
+     * @param inputFields the fields of the input row
+     * @return result value
+     */
+    Object evaluate(Object[] inputFields);
+}
@@ -58,6 +58,7 @@ import net.sf.jsqlparser.schema.Column;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -319,6 +320,109 @@ public class ZetaSQLFunction {
                 String.format("Unsupported SQL Expression: %s ", expression.toString()));
     }
 
+    /**
+     * Compile the expression into an evaluator. Column indexes, literals and result types of
+     * arithmetic expressions are resolved once here instead of for every row, expressions which
+     * can't be compiled are evaluated by {@link #computeForValue(Expression, Object[])}.
+     */
+    public ZetaSQLEvaluator compile(Expression expression) {
+        if (expression instanceof NullValue
+                || expression instanceof DoubleValue
+                || expression instanceof LongValue
+                || expression instanceof StringValue) {
+            Object value = computeForValue(expression, null);
+            return inputFields -> value;
+        }
+        if (expression instanceof Column) {
+            int index = columnIndex(((Column) expression).getColumnName());
+            if (index != -1) {
+                return inputFields -> inputFields[index];
+            }
+        }
+        if (expression instanceof Parenthesis) {
+            return compile(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            ExpressionList expressionList = function.getParameters();
+            List<Expression> argExpressions =
+                    expressionList == null ? null : expressionList.getExpressions();
+            return compileFunction(function.getName().toUpperCase(), argExpressions);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return compileFunction(
+                    CONCAT,
+                    Arrays.asList(concat.getLeftExpression(), concat.getRightExpression()));
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            ZetaSQLEvaluator left = compile(binaryExpression.getLeftExpression());
+            ZetaSQLEvaluator right = compile(binaryExpression.getRightExpression());
+            SeaTunnelDataType<?>[] resultType = new SeaTunnelDataType<?>[1];
+            return inputFields -> {
+                Number leftValue = (Number) left.evaluate(inputFields);
+                Number rightValue = (Number) right.evaluate(inputFields);
+                if (leftValue == null || rightValue == null) {
+                    return null;
+                }
+                if (resultType[0] == null) {
+                    resultType[0] = zetaSQLType.getExpressionType(binaryExpression);
+                }
+                return executeArithmeticExpr(
+                        binaryExpression, resultType[0], leftValue, rightValue);
+            };
+        }
+        if (expression instanceof CastExpression) {
+            CastExpression castExpression = (CastExpression) expression;
+            ZetaSQLEvaluator left = compile(castExpression.getLeftExpression());
+            return inputFields -> executeCastExpr(castExpression, left.evaluate(inputFields));
+        }
+        if (expression instanceof CaseExpression) {
+            CaseExpression caseExpression = (CaseExpression) expression;
+            SeaTunnelDataType<?>[] resultType = new SeaTunnelDataType<?>[1];
+            return inputFields -> {
+                Object value = executeCaseExpr(caseExpression, inputFields);
+                if (resultType[0] == null) {
+                    resultType[0] = zetaSQLType.getExpressionType(caseExpression);
+                }
+                return SystemFunction.castAs(value, resultType[0]);
+            };
+        }
+        return inputFields -> computeForValue(expression, inputFields);
+    }
+
+    private ZetaSQLEvaluator compileFunction(String functionName, List<Expression> argExpressions) {
+        if (argExpressions == null || argExpressions.isEmpty()) {
+            return inputFields -> executeFunctionExpr(functionName, new ArrayList<>());
+        }
+        ZetaSQLEvaluator[] args = new ZetaSQLEvaluator[argExpressions.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = compile(argExpressions.get(i));
+        }
+        return inputFields -> {
+            List<Object> functionArgs = new ArrayList<>(args.length);
+            for (ZetaSQLEvaluator arg : args) {
+                functionArgs.add(arg.evaluate(inputFields));
+            }
+            return executeFunctionExpr(functionName, functionArgs);
+        };
+    }
+
+    private int columnIndex(String columnName) {
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+
     public Object executeCaseExpr(CaseExpression caseExpression, Object[] inputFields) {
         Expression switchExpr = caseExpression.getSwitchExpression();
         Object switchValue = switchExpr == null ? null : computeForValue(switchExpr, inputFields);
@@ -579,6 +683,14 @@ public class ZetaSQLFunction {
             return null;
         }
         SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return executeArithmeticExpr(binaryExpression, resultType, leftValue, rightValue);
+    }
+
+    private Object executeArithmeticExpr(
+            BinaryExpression binaryExpression,
+            SeaTunnelDataType<?> resultType,
+            Number leftValue,
+            Number rightValue) {
         if (resultType.getSqlType() == SqlType.INT) {
             if (binaryExpression instanceof Addition) {
                 return leftValue.intValue() + rightValue.intValue();
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SourcePredicate.Operator;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Extracts the input columns and the predicates of a select statement which can be pushed into
+ * the source. Only the predicates whose result at the source never differs from {@link
+ * ZetaSQLFilter} on a matching row are extracted, e.g. {@code <>} is not extracted because it
+ * accepts null values.
+ */
+public class ZetaSQLPushDown {
+
+    private final SeaTunnelRowType inputRowType;
+    private final PlainSelect selectBody;
+
+    public ZetaSQLPushDown(SeaTunnelRowType inputRowType, PlainSelect selectBody) {
+        this.inputRowType = inputRowType;
+        this.selectBody = selectBody;
+    }
+
+    public Optional<List<String>> getRequiredFields() {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        boolean[] unresolved = {false};
+        ExpressionVisitorAdapter visitor =
+                new ExpressionVisitorAdapter() {
+                    @Override
+                    public void visit(Column column) {
+                        int index = fieldIndex(column);
+                        if (index == -1) {
+                            unresolved[0] = true;
+                        } else {
+                            indexes.add(index);
+                        }
+                    }
+                };
+        for (SelectItem selectItem : selectBody.getSelectItems()) {
+            if (!(selectItem instanceof SelectExpressionItem)) {
+                // all columns
+                return Optional.empty();
+            }
+            ((SelectExpressionItem) selectItem).getExpression().accept(visitor);
+        }
+        if (selectBody.getWhere() != null) {
+            selectBody.getWhere().accept(visitor);
+        }
+        if (unresolved[0] || indexes.size() == inputRowType.getTotalFields()) {
+            return Optional.empty();
+        }
+        List<String> fieldNames = new ArrayList<>(indexes.size());
+        indexes.forEach(index -> fieldNames.add(inputRowType.getFieldName(index)));
+        return Optional.of(fieldNames);
+    }
+
+    public List<SourcePredicate> getPredicates() {
+        if (selectBody.getWhere() == null) {
+            return Collections.emptyList();
+        }
+        List<Expression> conjuncts = new ArrayList<>();
+        collectConjuncts(selectBody.getWhere(), conjuncts);
+        List<SourcePredicate> predicates = new ArrayList<>();
+        for (Expression conjunct : conjuncts) {
+            SourcePredicate predicate = toPredicate(conjunct);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+
+    private void collectConjuncts(Expression expression, List<Expression> conjuncts) {
+        if (expression instanceof AndExpression) {
+            collectConjuncts(((AndExpression) expression).getLeftExpression(), conjuncts);
+            collectConjuncts(((AndExpression) expression).getRightExpression(), conjuncts);
+        } else if (expression instanceof Parenthesis) {
+            collectConjuncts(((Parenthesis) expression).getExpression(), conjuncts);
+        } else {
+            conjuncts.add(expression);
+        }
+    }
+
+    private SourcePredicate toPredicate(Expression expression) {
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            int index = topLevelFieldIndex(isNullExpression.getLeftExpression());
+            if (index == -1) {
+                return null;
+            }
+            return SourcePredicate.of(
+                    inputRowType.getFieldName(index),
+                    isNullExpression.isNot() ? Operator.IS_NOT_NULL : Operator.IS_NULL);
+        }
+        if (expression instanceof InExpression) {
+            InExpression inExpression = (InExpression) expression;
+            int index = topLevelFieldIndex(inExpression.getLeftExpression());
+            if (inExpression.isNot()
+                    || index == -1
+                    || !(inExpression.getRightItemsList() instanceof ExpressionList)) {
+                return null;
+            }
+            List<Expression> items =
+                    ((ExpressionList) inExpression.getRightItemsList()).getExpressions();
+            Object[] values = new Object[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                values[i] = toFieldValue(index, items.get(i), Operator.IN);
+                if (values[i] == null) {
+                    return null;
+                }
+            }
+            return SourcePredicate.of(inputRowType.getFieldName(index), Operator.IN, values);
+        }
+        if (expression instanceof ComparisonOperator) {
+            ComparisonOperator comparison = (ComparisonOperator) expression;
+            Operator operator = comparisonOperator(comparison);
+            if (operator == null) {
+                return null;
+            }
+            Expression columnExpression = comparison.getLeftExpression();
+            Expression valueExpression = comparison.getRightExpression();
+            if (topLevelFieldIndex(columnExpression) == -1) {
+                columnExpression = comparison.getRightExpression();
+                valueExpression = comparison.getLeftExpression();
+                operator = flip(operator);
+            }
+            int index = topLevelFieldIndex(columnExpression);
+            if (index == -1) {
+                return null;
+            }
+            Object value = toFieldValue(index, valueExpression, operator);
+            if (value == null) {
+                return null;
+            }
+            return SourcePredicate.of(inputRowType.getFieldName(index), operator, value);
+        }
+        return null;
+    }
+
+    private Operator comparisonOperator(ComparisonOperator comparison) {
+        if (comparison instanceof EqualsTo) {
+            return Operator.EQUAL;
+        }
+        if (comparison instanceof GreaterThan) {
+            return Operator.GREATER_THAN;
+        }
+        if (comparison instanceof GreaterThanEquals) {
+            return Operator.GREATER_THAN_OR_EQUAL;
+        }
+        if (comparison instanceof MinorThan) {
+            return Operator.LESS_THAN;
+        }
+        if (comparison instanceof MinorThanEquals) {
+            return Operator.LESS_THAN_OR_EQUAL;
+        }
+        return null;
+    }
+
+    private Operator flip(Operator operator) {
+        switch (operator) {
+            case GREATER_THAN:
+                return Operator.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return Operator.LESS_THAN_OR_EQUAL;
+            case LESS_THAN:
+                return Operator.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return Operator.GREATER_THAN_OR_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
+    /**
+     * Convert a literal to the java type of the field, return null if the literal can not be
+     * compared with the field by the source in the same way as {@link ZetaSQLFilter} does.
+     */
+    private Object toFieldValue(int index, Expression expression, Operator operator) {
+        SeaTunnelDataType<?> fieldType = inputRowType.getFieldType(index);
+        switch (fieldType.getSqlType()) {
+            case STRING:
+                // strings are compared by the source with its own collation
+                if (expression instanceof StringValue
+                        && (operator == Operator.EQUAL || operator == Operator.IN)) {
+                    return ((StringValue) expression).getValue();
+                }
+                return null;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DECIMAL:
+                break;
+            default:
+                return null;
+        }
+        BigDecimal value = toBigDecimal(expression);
+        if (value == null) {
+            return null;
+        }
+        try {
+            switch (fieldType.getSqlType()) {
+                case TINYINT:
+                    return value.byteValueExact();
+                case SMALLINT:
+                    return value.shortValueExact();
+                case INT:
+                    return value.intValueExact();
+                case BIGINT:
+                    return value.longValueExact();
+                default:
+                    return value;
+            }
+        } catch (ArithmeticException e) {
+            // out of the range of the field or has a fractional part
+            return null;
+        }
+    }
+
+    /** Get the exact value of a numeric literal, the fractional part of a double is kept. */
+    private BigDecimal toBigDecimal(Expression expression) {
+        if (expression instanceof SignedExpression) {
+            SignedExpression signedExpression = (SignedExpression) expression;
+            BigDecimal value = toBigDecimal(signedExpression.getExpression());
+            if (value == null || signedExpression.getSign() == '~') {
+                return null;
+            }
+            return signedExpression.getSign() == '-' ? value.negate() : value;
+        }
+        if (expression instanceof LongValue) {
+            try {
+                return new BigDecimal(((LongValue) expression).getStringValue());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (expression instanceof DoubleValue) {
+            return BigDecimal.valueOf(((DoubleValue) expression).getValue());
+        }
+        return null;
+    }
+
+    private int topLevelFieldIndex(Expression expression) {
+        if (!(expression instanceof Column)) {
+            return -1;
+        }
+        return columnIndex(((Column) expression).getColumnName());
+    }
+
+    /** Resolve the input field of a column in the same way as {@link ZetaSQLFunction} does. */
+    private int fieldIndex(Column column) {
+        int index = columnIndex(column.getColumnName());
+        if (index == -1) {
+            // the column is a nested field
+            index = columnIndex(column.getFullyQualifiedName().split("\\.")[0]);
+        }
+        return index;
+    }
+
+    private int columnIndex(String columnName) {
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.embedding;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.utils.BufferUtils;
+import org.apache.seatunnel.transform.nlpmodel.embadding.EmbeddingTransform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EmbeddingTransformBatchTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile boolean dropLastVector;
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/embeddings", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    /** Returns the vector [input length, index of the input in the request] of every input. */
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+        List<String> inputs = new ArrayList<>();
+        if (request.get("input").isArray()) {
+            request.get("input").forEach(input -> inputs.add(input.asText()));
+        } else {
+            inputs.add(request.get("input").asText());
+        }
+        int status = 200;
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        if (failures.getAndDecrement() > 0) {
+            status = 500;
+        } else {
+            ArrayNode data = response.putArray("data");
+            for (int i = 0; i < (dropLastVector ? inputs.size() - 1 : inputs.size()); i++) {
+                data.addObject().putArray("embedding").add(inputs.get(i).length()).add(i);
+            }
+        }
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(response);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private EmbeddingTransform createTransform(int cacheSize) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("model_provider", "OPENAI");
+        config.put("model", "test-model");
+        config.put("api_key", "key");
+        config.put("api_path", "http://localhost:" + server.getAddress().getPort() + "/embeddings");
+        config.put("vectorization_fields", Collections.singletonMap("name_vector", "name"));
+        config.put("single_vectorized_input_number", 4);
+        config.put("inference_parallelism", 2);
+        config.put("retry_backoff_ms", 10L);
+        config.put("cache_size", cacheSize);
+        EmbeddingTransform transform =
+                new EmbeddingTransform(
+                        ReadonlyConfig.fromMap(config),
+                        CatalogTableUtil.getCatalogTable(
+                                "test",
+                                new SeaTunnelRowType(
+                                        new String[] {"id", "name"},
+                                        new SeaTunnelDataType[] {
+                                            BasicType.INT_TYPE, BasicType.STRING_TYPE
+                                        })));
+        transform.open();
+        transform.getProducedCatalogTable();
+        return transform;
+    }
+
+    private static List<SeaTunnelRow> rows(String... names) {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            rows.add(new SeaTunnelRow(new Object[] {i, names[i]}));
+        }
+        return rows;
+    }
+
+    /** Asserts the first element of every vector is the length of the name of its row. */
+    private static void assertVectors(List<SeaTunnelRow> outputs, String... names) {
+        Assertions.assertEquals(names.length, outputs.size());
+        for (int i = 0; i < names.length; i++) {
+            Assertions.assertEquals(i, outputs.get(i).getField(0));
+            Float[] vector = BufferUtils.toFloatArray((ByteBuffer) outputs.get(i).getField(2));
+            Assertions.assertEquals(names[i].length(), vector[0].intValue());
+        }
+    }
+
+    @Test
+    void testBatchRequestsWithRetryAndCache() {
+        EmbeddingTransform transform = createTransform(100);
+        // the dimension request
+        Assertions.assertEquals(1, requests.get());
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            name.append('a');
+            rows.add(new SeaTunnelRow(new Object[] {i, name.toString()}));
+        }
+        failures.set(1);
+        List<SeaTunnelRow> outputs = transform.mapBatch(rows);
+        // 3 requests of at most 4 inputs, and one retry
+        Assertions.assertEquals(5, requests.get());
+        Assertions.assertEquals(10, outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            Assertions.assertEquals(i, outputs.get(i).getField(0));
+            Float[] vector = BufferUtils.toFloatArray((ByteBuffer) outputs.get(i).getField(2));
+            Assertions.assertEquals(i + 1, vector[0].intValue());
+            Assertions.assertEquals(i % 4, vector[1].intValue());
+        }
+
+        // all the names are cached
+        outputs = transform.mapBatch(rows);
+        Assertions.assertEquals(5, requests.get());
+        Float[] vector = BufferUtils.toFloatArray((ByteBuffer) outputs.get(9).getField(2));
+        Assertions.assertEquals(10, vector[0].intValue());
+        transform.close();
+    }
+
+    @Test
+    void testDuplicateValuesInBatch() {
+        EmbeddingTransform transform = createTransform(100);
+        String[] names = {"a", "bb", "a", "ccc", "bb", "a"};
+        assertVectors(transform.mapBatch(rows(names)), names);
+        // the dimension request, and one request of the 3 distinct values
+        Assertions.assertEquals(2, requests.get());
+
+        String[] moreNames = {"ccc", "dddd", "a", "dddd"};
+        assertVectors(transform.mapBatch(rows(moreNames)), moreNames);
+        Assertions.assertEquals(3, requests.get());
+        transform.close();
+    }
+
+    @Test
+    void testSmallCache() {
+        // the cached vectors of the batch are evicted while its missed values are put
+        EmbeddingTransform transform = createTransform(1);
+        String[] names = {"a", "bb", "ccc", "dddd", "a", "bb", "eeeee"};
+        assertVectors(transform.mapBatch(rows(names)), names);
+
+        String[] moreNames = {"eeeee", "a", "bb", "a", "ffffff", "eeeee"};
+        assertVectors(transform.mapBatch(rows(moreNames)), moreNames);
+        transform.close();
+    }
+
+    @Test
+    void testWrongNumberOfVectors() {
+        EmbeddingTransform transform = createTransform(0);
+        dropLastVector = true;
+        Assertions.assertThrows(
+                RuntimeException.class, () -> transform.mapBatch(rows("a", "bb", "ccc")));
+        // the dimension request, and the request with its 3 retries
+        Assertions.assertEquals(5, requests.get());
+        transform.close();
+    }
+}
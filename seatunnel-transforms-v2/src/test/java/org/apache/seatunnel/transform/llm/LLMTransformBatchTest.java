@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.transform.llm;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.nlpmodel.llm.LLMTransform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LLMTransformBatchTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<String> inferredNames = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean dropLastResult;
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/chat", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    /** Returns the upper case name of every row in the chat request. */
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+        JsonNode rows =
+                OBJECT_MAPPER.readTree(request.get("messages").get(1).get("content").asText());
+        List<String> results = new ArrayList<>();
+        for (JsonNode row : rows) {
+            String name = row.get("name").asText();
+            inferredNames.add(name);
+            results.add(name.toUpperCase());
+        }
+        if (dropLastResult && results.size() > 1) {
+            results.remove(results.size() - 1);
+        }
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ArrayNode choices = response.putArray("choices");
+        choices.addObject()
+                .putObject("message")
+                .put("content", OBJECT_MAPPER.writeValueAsString(results));
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(response);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private LLMTransform createTransform(int cacheSize) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("model_provider", "OPENAI");
+        config.put("model", "test-model");
+        config.put("api_key", "key");
+        config.put("api_path", "http://localhost:" + server.getAddress().getPort() + "/chat");
+        config.put("prompt", "Upper case the name");
+        config.put("inference_columns", Collections.singletonList("name"));
+        config.put("process_batch_size", 2);
+        config.put("inference_parallelism", 2);
+        config.put("cache_size", cacheSize);
+        LLMTransform transform =
+                new LLMTransform(
+                        ReadonlyConfig.fromMap(config),
+                        CatalogTableUtil.getCatalogTable(
+                                "test",
+                                new SeaTunnelRowType(
+                                        new String[] {"id", "name"},
+                                        new SeaTunnelDataType[] {
+                                            BasicType.INT_TYPE, BasicType.STRING_TYPE
+                                        })));
+        transform.open();
+        transform.getProducedCatalogTable();
+        return transform;
+    }
+
+    private static List<SeaTunnelRow> rows(String... names) {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            rows.add(new SeaTunnelRow(new Object[] {i, names[i]}));
+        }
+        return rows;
+    }
+
+    private static void assertOutputs(List<SeaTunnelRow> outputs, String... names) {
+        Assertions.assertEquals(names.length, outputs.size());
+        for (int i = 0; i < names.length; i++) {
+            Assertions.assertEquals(i, outputs.get(i).getField(0));
+            Assertions.assertEquals(names[i].toUpperCase(), outputs.get(i).getField(2));
+        }
+    }
+
+    @Test
+    void testDuplicateKeysInBatch() {
+        LLMTransform transform = createTransform(100);
+        String[] names = {"a", "b", "a", "c", "b", "a"};
+        assertOutputs(transform.mapBatch(rows(names)), names);
+        // every distinct key is inferred once
+        Assertions.assertEquals(3, inferredNames.size());
+        Assertions.assertEquals(3, inferredNames.stream().distinct().count());
+
+        // the keys are cached, only the new key is inferred
+        String[] moreNames = {"c", "d", "a", "d"};
+        assertOutputs(transform.mapBatch(rows(moreNames)), moreNames);
+        Assertions.assertEquals(4, inferredNames.size());
+        Assertions.assertEquals("d", inferredNames.get(3));
+        transform.close();
+    }
+
+    @Test
+    void testCacheEvictionInBatch() {
+        // the cached results of the batch are evicted while its missed keys are put
+        LLMTransform transform = createTransform(1);
+        String[] names = {"a", "b", "c", "a", "b"};
+        assertOutputs(transform.mapBatch(rows(names)), names);
+        Assertions.assertEquals(3, inferredNames.size());
+
+        String[] moreNames = {"c", "a", "b", "d", "c"};
+        assertOutputs(transform.mapBatch(rows(moreNames)), moreNames);
+        transform.close();
+    }
+
+    @Test
+    void testWithoutCache() {
+        LLMTransform transform = createTransform(0);
+        String[] names = {"a", "a", "b"};
+        assertOutputs(transform.mapBatch(rows(names)), names);
+        Assertions.assertEquals(3, inferredNames.size());
+        transform.close();
+    }
+
+    @Test
+    void testWrongNumberOfResults() {
+        LLMTransform transform = createTransform(0);
+        dropLastResult = true;
+        String[] names = {"a", "b", "c"};
+        assertOutputs(transform.mapBatch(rows(names)), names);
+        // the request of "a" and "b" returns one result, so they are requested one by one
+        Assertions.assertEquals(4, requests.get());
+        transform.close();
+    }
+}
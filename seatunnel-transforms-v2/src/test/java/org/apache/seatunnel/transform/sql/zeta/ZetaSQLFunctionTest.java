@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+import java.util.Collections;
+
+public class ZetaSQLFunctionTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "amount"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.LONG_TYPE
+                    });
+
+    @Test
+    public void testCompiledExpressionMatchesInterpreted() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, Collections.emptyList());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, Collections.emptyList());
+        String[] expressions = {
+            "id",
+            "`name`",
+            "1",
+            "'a'",
+            "null",
+            "id + 1",
+            "(id * 2) - 3",
+            "price * amount",
+            "amount % 3",
+            "upper(name)",
+            "name || '_' || id",
+            "concat(name, '-', trim(name))",
+            "cast(id as string)",
+            "case when id > 1 then 'big' else 'small' end",
+            "-id",
+            "coalesce(null, name)"
+        };
+        Object[][] rows = {
+            {1, "a", 1.5D, 10L},
+            {2, " b ", 2.0D, 7L},
+            {3, "c", null, null}
+        };
+        for (String sql : expressions) {
+            Expression expression = CCJSqlParserUtil.parseExpression(sql);
+            ZetaSQLEvaluator evaluator = zetaSQLFunction.compile(expression);
+            for (Object[] row : rows) {
+                Assertions.assertEquals(
+                        zetaSQLFunction.computeForValue(expression, row),
+                        evaluator.evaluate(row),
+                        sql);
+            }
+        }
+    }
+}
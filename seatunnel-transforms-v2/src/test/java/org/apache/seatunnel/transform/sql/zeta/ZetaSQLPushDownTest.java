@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.SourcePredicate;
+import org.apache.seatunnel.api.source.SourcePredicate.Operator;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+public class ZetaSQLPushDownTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "amount", "score"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        BasicType.LONG_TYPE,
+                        BasicType.DOUBLE_TYPE
+                    });
+
+    private static ZetaSQLPushDown pushDown(String sql) throws Exception {
+        PlainSelect plainSelect =
+                (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+        return new ZetaSQLPushDown(ROW_TYPE, plainSelect);
+    }
+
+    @Test
+    public void testRequiredFields() throws Exception {
+        Assertions.assertEquals(
+                Optional.of(Arrays.asList("id", "name", "amount")),
+                pushDown("select upper(name) as n, id from t where amount > 1")
+                        .getRequiredFields());
+        Assertions.assertEquals(
+                Optional.of(Collections.singletonList("name")),
+                pushDown("select `name` from t").getRequiredFields());
+        Assertions.assertEquals(
+                Optional.empty(), pushDown("select *, id + 1 from t").getRequiredFields());
+        Assertions.assertEquals(
+                Optional.empty(), pushDown("select id, unknown from t").getRequiredFields());
+        Assertions.assertEquals(
+                Optional.empty(),
+                pushDown("select id, name, price, amount, score from t").getRequiredFields());
+    }
+
+    @Test
+    public void testPredicates() throws Exception {
+        Assertions.assertEquals(
+                Arrays.asList(
+                        SourcePredicate.of("id", Operator.GREATER_THAN, 5),
+                        SourcePredicate.of("amount", Operator.LESS_THAN_OR_EQUAL, -3L),
+                        SourcePredicate.of("name", Operator.IN, "a", "b"),
+                        SourcePredicate.of(
+                                "price", Operator.GREATER_THAN_OR_EQUAL, new BigDecimal("1.5")),
+                        SourcePredicate.of("score", Operator.IS_NOT_NULL)),
+                pushDown(
+                                "select * from t where id > 5 and (-3 >= amount"
+                                        + " and name in ('a', 'b')) and price >= 1.5"
+                                        + " and score is not null")
+                        .getPredicates());
+    }
+
+    @Test
+    public void testPredicatesNotPushed() throws Exception {
+        String[] conditions = {
+            "id <> 5",
+            "id > 5 or amount > 5",
+            "id > 1.5",
+            "id > 10000000000",
+            "name > 'a'",
+            "name = 1",
+            "score > 1",
+            "id not in (1, 2)",
+            "id in (1, null)",
+            "id + 1 > 5",
+            "id > amount",
+            "name like 'a%'"
+        };
+        for (String condition : conditions) {
+            Assertions.assertEquals(
+                    Collections.emptyList(),
+                    pushDown("select * from t where " + condition).getPredicates(),
+                    condition);
+        }
+    }
+}
@@ -0,0 +1,542 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@link TypeSerializer} of {@link SeaTunnelRow}. The fields of a row are written by the types
+ * of the {@link SeaTunnelRowType} and null fields are marked in a bitmap, so no class names are
+ * written like the kryo serializer of a generic type does.
+ *
+ * <p>A field whose value does not match its declared type is written with a type tag, the same
+ * as the values of arrays, maps and nested rows. Rows whose arity does not match the row type,
+ * e.g. the rows of a multi-table source, are written with type tags only. Values of other classes
+ * fall back to kryo.
+ */
+public class SeaTunnelRowSerializer extends TypeSerializer<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte TYPED_LAYOUT = 0;
+    private static final byte TAGGED_LAYOUT = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte TINYINT = 3;
+    private static final byte SMALLINT = 4;
+    private static final byte INT = 5;
+    private static final byte BIGINT = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte DECIMAL = 9;
+    private static final byte BYTES = 10;
+    private static final byte DATE = 11;
+    private static final byte TIME = 12;
+    private static final byte TIMESTAMP = 13;
+    private static final byte ROW = 14;
+    private static final byte MAP = 15;
+    private static final byte ARRAY = 16;
+    private static final byte KRYO = 17;
+
+    /** The classes of the tags written with a dedicated encoding, indexed by tag. */
+    private static final Class<?>[] TAG_CLASSES = {
+        Object.class,
+        String.class,
+        Boolean.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigDecimal.class,
+        byte[].class,
+        LocalDate.class,
+        LocalTime.class,
+        LocalDateTime.class,
+        SeaTunnelRow.class
+    };
+
+    private static final Map<Class<?>, Byte> CLASS_TAGS = new HashMap<>();
+
+    static {
+        for (byte tag = STRING; tag <= ROW; tag++) {
+            CLASS_TAGS.put(TAG_CLASSES[tag], tag);
+        }
+    }
+
+    private final SeaTunnelRowType rowType;
+
+    /** The tag of each field of the row type, {@link #NULL} if the field is always tagged. */
+    private final byte[] fieldTags;
+
+    private final TypeSerializer<Object> kryoSerializer;
+
+    public SeaTunnelRowSerializer(SeaTunnelRowType rowType, ExecutionConfig executionConfig) {
+        this(rowType, new KryoSerializer<>(Object.class, executionConfig));
+    }
+
+    private SeaTunnelRowSerializer(
+            SeaTunnelRowType rowType, TypeSerializer<Object> kryoSerializer) {
+        this.rowType = rowType;
+        this.fieldTags = rowType == null ? null : fieldTags(rowType);
+        this.kryoSerializer = kryoSerializer;
+    }
+
+    public SeaTunnelRowType getRowType() {
+        return rowType;
+    }
+
+    @Override
+    public boolean isImmutableType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> duplicate() {
+        TypeSerializer<Object> duplicateKryoSerializer = kryoSerializer.duplicate();
+        return duplicateKryoSerializer == kryoSerializer
+                ? this
+                : new SeaTunnelRowSerializer(rowType, duplicateKryoSerializer);
+    }
+
+    @Override
+    public SeaTunnelRow createInstance() {
+        return new SeaTunnelRow(fieldTags == null ? 0 : fieldTags.length);
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from) {
+        return copyRow(from);
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from, SeaTunnelRow reuse) {
+        return copyRow(from);
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow row, DataOutputView target) throws IOException {
+        Object[] fields = row.getFields();
+        if (fieldTags == null || fields.length != fieldTags.length) {
+            target.writeByte(TAGGED_LAYOUT);
+            writeTaggedRow(row, target);
+            return;
+        }
+        target.writeByte(TYPED_LAYOUT);
+        target.writeByte(row.getRowKind().toByteValue());
+        StringValue.writeString(row.getTableId(), target);
+
+        // the first bitmap marks the null fields, the second one marks the tagged fields
+        int bitmapSize = (fields.length + 7) >>> 3;
+        byte[] bitmaps = new byte[bitmapSize * 2];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                bitmaps[i >>> 3] |= (byte) (1 << (i & 7));
+            } else if (!isTyped(i, fields[i])) {
+                bitmaps[bitmapSize + (i >>> 3)] |= (byte) (1 << (i & 7));
+            }
+        }
+        target.write(bitmaps);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                continue;
+            }
+            if (isTyped(i, fields[i])) {
+                writeValue(fieldTags[i], fields[i], target);
+            } else {
+                writeTaggedValue(fields[i], target);
+            }
+        }
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(DataInputView source) throws IOException {
+        if (source.readByte() == TAGGED_LAYOUT) {
+            return readTaggedRow(source);
+        }
+        RowKind rowKind = RowKind.fromByteValue(source.readByte());
+        String tableId = StringValue.readString(source);
+
+        int bitmapSize = (fieldTags.length + 7) >>> 3;
+        byte[] bitmaps = new byte[bitmapSize * 2];
+        source.readFully(bitmaps);
+        Object[] fields = new Object[fieldTags.length];
+        for (int i = 0; i < fields.length; i++) {
+            int mask = 1 << (i & 7);
+            if ((bitmaps[i >>> 3] & mask) != 0) {
+                continue;
+            }
+            if ((bitmaps[bitmapSize + (i >>> 3)] & mask) != 0) {
+                fields[i] = readTaggedValue(source);
+            } else {
+                fields[i] = readValue(fieldTags[i], source);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        row.setTableId(tableId);
+        return row;
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(SeaTunnelRow reuse, DataInputView source) throws IOException {
+        return deserialize(source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        serialize(deserialize(source), target);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowSerializer)) {
+            return false;
+        }
+        SeaTunnelRowSerializer that = (SeaTunnelRowSerializer) obj;
+        return Objects.equals(rowType, that.rowType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(rowType);
+    }
+
+    @Override
+    public TypeSerializerSnapshot<SeaTunnelRow> snapshotConfiguration() {
+        return new SeaTunnelRowSerializerSnapshot(rowType);
+    }
+
+    private static byte[] fieldTags(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        byte[] tags = new byte[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            switch (fieldTypes[i].getSqlType()) {
+                case STRING:
+                    tags[i] = STRING;
+                    break;
+                case BOOLEAN:
+                    tags[i] = BOOLEAN;
+                    break;
+                case TINYINT:
+                    tags[i] = TINYINT;
+                    break;
+                case SMALLINT:
+                    tags[i] = SMALLINT;
+                    break;
+                case INT:
+                    tags[i] = INT;
+                    break;
+                case BIGINT:
+                    tags[i] = BIGINT;
+                    break;
+                case FLOAT:
+                    tags[i] = FLOAT;
+                    break;
+                case DOUBLE:
+                    tags[i] = DOUBLE;
+                    break;
+                case DECIMAL:
+                    tags[i] = DECIMAL;
+                    break;
+                case BYTES:
+                    tags[i] = BYTES;
+                    break;
+                case DATE:
+                    tags[i] = DATE;
+                    break;
+                case TIME:
+                    tags[i] = TIME;
+                    break;
+                case TIMESTAMP:
+                    tags[i] = TIMESTAMP;
+                    break;
+                default:
+                    // nested and vector values are always written with type tags
+                    tags[i] = NULL;
+            }
+        }
+        return tags;
+    }
+
+    private boolean isTyped(int index, Object value) {
+        return fieldTags[index] != NULL && TAG_CLASSES[fieldTags[index]] == value.getClass();
+    }
+
+    private static byte tagOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        Byte tag = CLASS_TAGS.get(value.getClass());
+        if (tag != null) {
+            return tag;
+        }
+        if (value instanceof Map) {
+            return MAP;
+        }
+        if (value instanceof Object[]
+                && (value.getClass().getComponentType() == Object.class
+                        || CLASS_TAGS.containsKey(value.getClass().getComponentType()))) {
+            return ARRAY;
+        }
+        return KRYO;
+    }
+
+    private void writeTaggedRow(SeaTunnelRow row, DataOutputView target) throws IOException {
+        target.writeByte(row.getRowKind().toByteValue());
+        StringValue.writeString(row.getTableId(), target);
+        Object[] fields = row.getFields();
+        target.writeInt(fields.length);
+        for (Object field : fields) {
+            writeTaggedValue(field, target);
+        }
+    }
+
+    private SeaTunnelRow readTaggedRow(DataInputView source) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(source.readByte());
+        String tableId = StringValue.readString(source);
+        Object[] fields = new Object[source.readInt()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = readTaggedValue(source);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private void writeTaggedValue(Object value, DataOutputView target) throws IOException {
+        byte tag = tagOf(value);
+        target.writeByte(tag);
+        if (tag != NULL) {
+            writeValue(tag, value, target);
+        }
+    }
+
+    private Object readTaggedValue(DataInputView source) throws IOException {
+        byte tag = source.readByte();
+        return tag == NULL ? null : readValue(tag, source);
+    }
+
+    private void writeValue(byte tag, Object value, DataOutputView target) throws IOException {
+        switch (tag) {
+            case STRING:
+                StringValue.writeString((String) value, target);
+                break;
+            case BOOLEAN:
+                target.writeBoolean((Boolean) value);
+                break;
+            case TINYINT:
+                target.writeByte((Byte) value);
+                break;
+            case SMALLINT:
+                target.writeShort((Short) value);
+                break;
+            case INT:
+                target.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                target.writeLong((Long) value);
+                break;
+            case FLOAT:
+                target.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                target.writeDouble((Double) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                target.writeInt(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray(), target);
+                break;
+            case BYTES:
+                writeBytes((byte[]) value, target);
+                break;
+            case DATE:
+                target.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                target.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                target.writeLong(dateTime.toLocalDate().toEpochDay());
+                target.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                break;
+            case ROW:
+                writeTaggedRow((SeaTunnelRow) value, target);
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                target.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeTaggedValue(entry.getKey(), target);
+                    writeTaggedValue(entry.getValue(), target);
+                }
+                break;
+            case ARRAY:
+                Object[] array = (Object[]) value;
+                Byte componentTag = CLASS_TAGS.get(array.getClass().getComponentType());
+                target.writeByte(componentTag == null ? NULL : componentTag);
+                target.writeInt(array.length);
+                for (Object element : array) {
+                    writeTaggedValue(element, target);
+                }
+                break;
+            default:
+                kryoSerializer.serialize(value, target);
+        }
+    }
+
+    private Object readValue(byte tag, DataInputView source) throws IOException {
+        switch (tag) {
+            case STRING:
+                return StringValue.readString(source);
+            case BOOLEAN:
+                return source.readBoolean();
+            case TINYINT:
+                return source.readByte();
+            case SMALLINT:
+                return source.readShort();
+            case INT:
+                return source.readInt();
+            case BIGINT:
+                return source.readLong();
+            case FLOAT:
+                return source.readFloat();
+            case DOUBLE:
+                return source.readDouble();
+            case DECIMAL:
+                int scale = source.readInt();
+                return new BigDecimal(new BigInteger(readBytes(source)), scale);
+            case BYTES:
+                return readBytes(source);
+            case DATE:
+                return LocalDate.ofEpochDay(source.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(source.readLong());
+            case TIMESTAMP:
+                LocalDate date = LocalDate.ofEpochDay(source.readLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(source.readLong()));
+            case ROW:
+                return readTaggedRow(source);
+            case MAP:
+                int size = source.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    map.put(readTaggedValue(source), readTaggedValue(source));
+                }
+                return map;
+            case ARRAY:
+                Class<?> componentType = TAG_CLASSES[source.readByte()];
+                Object[] array = (Object[]) Array.newInstance(componentType, source.readInt());
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readTaggedValue(source);
+                }
+                return array;
+            case KRYO:
+                return kryoSerializer.deserialize(source);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView target) throws IOException {
+        target.writeInt(bytes.length);
+        target.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView source) throws IOException {
+        byte[] bytes = new byte[source.readInt()];
+        source.readFully(bytes);
+        return bytes;
+    }
+
+    private SeaTunnelRow copyRow(SeaTunnelRow from) {
+        Object[] fields = from.getFields();
+        Object[] copied = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            copied[i] = copyValue(fields[i]);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(copied);
+        row.setRowKind(from.getRowKind());
+        row.setTableId(from.getTableId());
+        return row;
+    }
+
+    private Object copyValue(Object value) {
+        switch (tagOf(value)) {
+            case BYTES:
+                return ((byte[]) value).clone();
+            case ROW:
+                return copyRow((SeaTunnelRow) value);
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                Map<Object, Object> copiedMap = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    copiedMap.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+                }
+                return copiedMap;
+            case ARRAY:
+                Object[] array = ((Object[]) value).clone();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = copyValue(array[i]);
+                }
+                return array;
+            case KRYO:
+                return kryoSerializer.copy(value);
+            default:
+                // the other values are immutable
+                return value;
+        }
+    }
+}
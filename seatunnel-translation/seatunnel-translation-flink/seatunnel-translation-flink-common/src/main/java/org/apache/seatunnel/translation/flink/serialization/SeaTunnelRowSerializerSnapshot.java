@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.util.InstantiationUtil;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The snapshot of {@link SeaTunnelRowSerializer}, the serializer is compatible as is when the row
+ * type is not changed, otherwise the state is migrated by the restored serializer.
+ */
+public class SeaTunnelRowSerializerSnapshot implements TypeSerializerSnapshot<SeaTunnelRow> {
+
+    private static final int VERSION = 1;
+
+    private SeaTunnelRowType rowType;
+
+    /** Used by flink to restore the snapshot. */
+    public SeaTunnelRowSerializerSnapshot() {}
+
+    SeaTunnelRowSerializerSnapshot(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    @Override
+    public int getCurrentVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputView out) throws IOException {
+        out.writeBoolean(rowType != null);
+        if (rowType != null) {
+            byte[] bytes = InstantiationUtil.serializeObject(rowType);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+            throws IOException {
+        if (!in.readBoolean()) {
+            rowType = null;
+            return;
+        }
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try {
+            rowType = InstantiationUtil.deserializeObject(bytes, userCodeClassLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to read the row type of the serializer snapshot", e);
+        }
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> restoreSerializer() {
+        return new SeaTunnelRowSerializer(rowType, new ExecutionConfig());
+    }
+
+    @Override
+    public TypeSerializerSchemaCompatibility<SeaTunnelRow> resolveSchemaCompatibility(
+            TypeSerializer<SeaTunnelRow> newSerializer) {
+        if (!(newSerializer instanceof SeaTunnelRowSerializer)) {
+            return TypeSerializerSchemaCompatibility.incompatible();
+        }
+        if (Objects.equals(rowType, ((SeaTunnelRowSerializer) newSerializer).getRowType())) {
+            return TypeSerializerSchemaCompatibility.compatibleAsIs();
+        }
+        return TypeSerializerSchemaCompatibility.compatibleAfterMigration();
+    }
+}
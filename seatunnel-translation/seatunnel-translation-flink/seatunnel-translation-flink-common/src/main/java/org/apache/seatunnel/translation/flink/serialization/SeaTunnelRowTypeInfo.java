@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link TypeInformation} of {@link SeaTunnelRow}, which creates a {@link
+ * SeaTunnelRowSerializer} of the row type instead of the kryo serializer of a generic type.
+ */
+public class SeaTunnelRowTypeInfo extends TypeInformation<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The type of the rows, null if the rows have different types, e.g. multi-table rows. */
+    private final SeaTunnelRowType rowType;
+
+    public SeaTunnelRowTypeInfo(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    public static SeaTunnelRowTypeInfo of(List<CatalogTable> catalogTables) {
+        return new SeaTunnelRowTypeInfo(
+                catalogTables.size() == 1 ? catalogTables.get(0).getSeaTunnelRowType() : null);
+    }
+
+    @Override
+    public boolean isBasicType() {
+        return false;
+    }
+
+    @Override
+    public boolean isTupleType() {
+        return false;
+    }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getTotalFields() {
+        return 1;
+    }
+
+    @Override
+    public Class<SeaTunnelRow> getTypeClass() {
+        return SeaTunnelRow.class;
+    }
+
+    @Override
+    public boolean isKeyType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> createSerializer(ExecutionConfig config) {
+        return new SeaTunnelRowSerializer(rowType, config);
+    }
+
+    @Override
+    public String toString() {
+        return "SeaTunnelRowTypeInfo{rowType=" + rowType + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowTypeInfo)) {
+            return false;
+        }
+        SeaTunnelRowTypeInfo that = (SeaTunnelRowTypeInfo) obj;
+        return that.canEqual(this) && Objects.equals(rowType, that.rowType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(rowType);
+    }
+
+    @Override
+    public boolean canEqual(Object obj) {
+        return obj instanceof SeaTunnelRowTypeInfo;
+    }
+}
@@ -23,8 +23,12 @@ import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.translation.flink.serialization.FlinkSimpleVersionedSerializer;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.connector.source.Boundedness;
@@ -37,6 +41,7 @@ import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * The source implementation of {@link Source}, used for proxy all {@link SeaTunnelSource} in flink.
@@ -108,6 +113,17 @@ public class FlinkSource<SplitT extends SourceSplit, EnumStateT extends Serializ
 
     @Override
     public TypeInformation<SeaTunnelRow> getProducedType() {
-        return TypeInformation.of(SeaTunnelRow.class);
+        List<CatalogTable> catalogTables;
+        try {
+            catalogTables = source.getProducedCatalogTables();
+        } catch (UnsupportedOperationException e) {
+            // the legacy source only provides the produced type
+            SeaTunnelDataType<SeaTunnelRow> producedType = source.getProducedType();
+            return new SeaTunnelRowTypeInfo(
+                    producedType instanceof SeaTunnelRowType
+                            ? (SeaTunnelRowType) producedType
+                            : null);
+        }
+        return SeaTunnelRowTypeInfo.of(catalogTables);
     }
 }
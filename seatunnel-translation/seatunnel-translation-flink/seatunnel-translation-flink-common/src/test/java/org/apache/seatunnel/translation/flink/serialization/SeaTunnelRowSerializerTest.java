@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SeaTunnelRowSerializerTest {
+
+    private static final SeaTunnelRowType NESTED_ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "tags"},
+                    new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, ArrayType.STRING_ARRAY_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_map",
+                        "c_array",
+                        "c_row"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(38, 10),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                        ArrayType.INT_ARRAY_TYPE,
+                        NESTED_ROW_TYPE
+                    });
+
+    private final SeaTunnelRowSerializer serializer =
+            new SeaTunnelRowSerializer(ROW_TYPE, new ExecutionConfig());
+
+    @Test
+    void testRoundTrip() throws IOException {
+        SeaTunnelRow row = fullRow();
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        row.setTableId("db.table");
+        assertRoundTrip(serializer, row);
+
+        // decimal with a negative unscaled value and a timestamp before the epoch
+        row.setField(8, new BigDecimal("-98765432109876543210.0123456789"));
+        row.setField(12, LocalDateTime.of(1900, 2, 28, 23, 59, 59, 999_999_999));
+        assertRoundTrip(serializer, row);
+    }
+
+    @Test
+    void testNullFields() throws IOException {
+        assertRoundTrip(serializer, new SeaTunnelRow(ROW_TYPE.getTotalFields()));
+
+        // the null bitmap spans two bytes for 16 fields
+        for (int i = 0; i < ROW_TYPE.getTotalFields(); i++) {
+            SeaTunnelRow row = fullRow();
+            row.setField(i, null);
+            assertRoundTrip(serializer, row);
+        }
+        SeaTunnelRow row = fullRow();
+        row.setField(0, null);
+        row.setField(7, null);
+        row.setField(8, null);
+        row.setField(15, null);
+        assertRoundTrip(serializer, row);
+    }
+
+    @Test
+    void testMismatchedFieldType() throws IOException {
+        SeaTunnelRow row = fullRow();
+        // the values do not match the declared types, they are written with type tags
+        row.setField(0, 12);
+        row.setField(4, 12L);
+        row.setField(5, "12");
+        row.setField(9, new Byte[] {1, 2});
+        row.setField(14, new Object[] {1, "a", null});
+        assertRoundTrip(serializer, row);
+    }
+
+    @Test
+    void testMismatchedArity() throws IOException {
+        // e.g. the rows of the other tables of a multi-table source
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {"a", 1, null, new byte[] {1, 2}});
+        row.setTableId("db.other_table");
+        row.setRowKind(RowKind.DELETE);
+        assertRoundTrip(serializer, row);
+
+        SeaTunnelRowSerializer untypedSerializer =
+                new SeaTunnelRowSerializer(null, new ExecutionConfig());
+        assertRoundTrip(untypedSerializer, row);
+        assertRoundTrip(untypedSerializer, fullRow());
+        Assertions.assertEquals(0, untypedSerializer.createInstance().getArity());
+    }
+
+    @Test
+    void testNestedValues() throws IOException {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", null);
+        map.put(null, 3);
+        SeaTunnelRow nestedRow =
+                new SeaTunnelRow(new Object[] {1, new String[] {"x", null, "z"}, map});
+        nestedRow.setRowKind(RowKind.UPDATE_BEFORE);
+
+        SeaTunnelRow row = fullRow();
+        row.setField(13, map);
+        row.setField(14, new Integer[] {1, null, 3});
+        row.setField(15, nestedRow);
+        SeaTunnelRow result = assertRoundTrip(serializer, row);
+
+        Assertions.assertEquals(Integer[].class, result.getField(14).getClass());
+        SeaTunnelRow resultRow = (SeaTunnelRow) result.getField(15);
+        Assertions.assertEquals(RowKind.UPDATE_BEFORE, resultRow.getRowKind());
+        Assertions.assertEquals(String[].class, resultRow.getField(1).getClass());
+    }
+
+    @Test
+    void testKryoFallback() throws IOException {
+        SeaTunnelRow row = fullRow();
+        row.setField(14, new ArrayList<>(Arrays.asList(1, 2, 3)));
+        assertRoundTrip(serializer, row);
+    }
+
+    @Test
+    void testCopy() {
+        SeaTunnelRow row = fullRow();
+        row.setTableId("db.table");
+        SeaTunnelRow copy = serializer.copy(row);
+        Assertions.assertEquals(row, copy);
+        Assertions.assertNotSame(row.getField(9), copy.getField(9));
+        Assertions.assertNotSame(row.getField(13), copy.getField(13));
+        Assertions.assertNotSame(row.getField(14), copy.getField(14));
+        Assertions.assertNotSame(row.getField(15), copy.getField(15));
+
+        ((byte[]) row.getField(9))[0] = 9;
+        ((Object[]) ((SeaTunnelRow) row.getField(15)).getField(1))[0] = "changed";
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) copy.getField(9));
+        Assertions.assertEquals(
+                "x", ((Object[]) ((SeaTunnelRow) copy.getField(15)).getField(1))[0]);
+    }
+
+    @Test
+    void testSnapshot() throws IOException {
+        TypeSerializerSnapshot<SeaTunnelRow> snapshot =
+                restoreSnapshot(serializer.snapshotConfiguration());
+        TypeSerializer<SeaTunnelRow> restoredSerializer = snapshot.restoreSerializer();
+        Assertions.assertEquals(serializer, restoredSerializer);
+        Assertions.assertTrue(snapshot.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+        Assertions.assertTrue(
+                snapshot.resolveSchemaCompatibility(
+                                new KryoSerializer<>(SeaTunnelRow.class, new ExecutionConfig()))
+                        .isIncompatible());
+
+        TypeSerializerSnapshot<SeaTunnelRow> untypedSnapshot =
+                restoreSnapshot(
+                        new SeaTunnelRowSerializer(null, new ExecutionConfig())
+                                .snapshotConfiguration());
+        Assertions.assertTrue(
+                untypedSnapshot
+                        .resolveSchemaCompatibility(
+                                new SeaTunnelRowSerializer(null, new ExecutionConfig()))
+                        .isCompatibleAsIs());
+    }
+
+    @Test
+    void testMigrateState() throws IOException {
+        SeaTunnelRowType newRowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "tags", "name"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE, ArrayType.STRING_ARRAY_TYPE, BasicType.STRING_TYPE
+                        });
+        SeaTunnelRowSerializer newSerializer =
+                new SeaTunnelRowSerializer(newRowType, new ExecutionConfig());
+        TypeSerializerSnapshot<SeaTunnelRow> snapshot =
+                restoreSnapshot(serializer.snapshotConfiguration());
+        Assertions.assertTrue(
+                snapshot.resolveSchemaCompatibility(newSerializer).isCompatibleAfterMigration());
+
+        // flink migrates the state by reading it with the restored serializer
+        SeaTunnelRow row = fullRow();
+        DataOutputSerializer out = new DataOutputSerializer(128);
+        serializer.serialize(row, out);
+        SeaTunnelRow restored =
+                snapshot.restoreSerializer()
+                        .deserialize(new DataInputDeserializer(out.getCopyOfBuffer()));
+        Assertions.assertEquals(row, restored);
+        assertRoundTrip(newSerializer, restored);
+    }
+
+    private static SeaTunnelRow fullRow() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("k1", 1);
+        map.put("k2", 2);
+        return new SeaTunnelRow(
+                new Object[] {
+                    "string",
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.5f,
+                    6.6d,
+                    new BigDecimal("1234567890.0123456789"),
+                    new byte[] {1, 2, 3},
+                    LocalDate.of(2024, 2, 29),
+                    LocalTime.of(12, 30, 15, 123_456_789),
+                    LocalDateTime.of(2024, 2, 29, 12, 30, 15, 123_456_789),
+                    map,
+                    new Integer[] {1, 2, 3},
+                    new SeaTunnelRow(new Object[] {7, new String[] {"x", "y"}})
+                });
+    }
+
+    private static SeaTunnelRow assertRoundTrip(
+            TypeSerializer<SeaTunnelRow> serializer, SeaTunnelRow row) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(128);
+        serializer.serialize(row, out);
+        byte[] bytes = out.getCopyOfBuffer();
+
+        DataInputDeserializer in = new DataInputDeserializer(bytes);
+        SeaTunnelRow result = serializer.deserialize(in);
+        Assertions.assertEquals(0, in.available());
+        Assertions.assertEquals(row, result);
+        Assertions.assertEquals(
+                row,
+                serializer.deserialize(
+                        serializer.createInstance(), new DataInputDeserializer(bytes)));
+
+        // copying the serialized row writes the same bytes
+        DataOutputSerializer copied = new DataOutputSerializer(128);
+        serializer.duplicate().copy(new DataInputDeserializer(bytes), copied);
+        Assertions.assertArrayEquals(bytes, copied.getCopyOfBuffer());
+        return result;
+    }
+
+    private static TypeSerializerSnapshot<SeaTunnelRow> restoreSnapshot(
+            TypeSerializerSnapshot<SeaTunnelRow> snapshot) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(128);
+        TypeSerializerSnapshot.writeVersionedSnapshot(out, snapshot);
+        return TypeSerializerSnapshot.readVersionedSnapshot(
+                new DataInputDeserializer(out.getCopyOfBuffer()),
+                SeaTunnelRowSerializerTest.class.getClassLoader());
+    }
+}
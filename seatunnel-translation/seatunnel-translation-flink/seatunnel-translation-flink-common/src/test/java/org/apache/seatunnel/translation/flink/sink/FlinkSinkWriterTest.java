@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.translation.flink.sink;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+@SuppressWarnings("unchecked")
+public class FlinkSinkWriterTest {
+
+    @Test
+    public void testPrepareCloseOnEndOfInputFlush() throws Exception {
+        SinkWriter<SeaTunnelRow, String, String> sinkWriter = Mockito.mock(SinkWriter.class);
+        Mockito.when(sinkWriter.prepareCommit(Mockito.anyLong())).thenReturn(Optional.of("commit"));
+        SinkWriter.Context context = Mockito.mock(SinkWriter.Context.class);
+        Mockito.when(context.getMetricsContext()).thenReturn(Mockito.mock(MetricsContext.class));
+        FlinkSinkWriter<SeaTunnelRow, String, String> writer =
+                new FlinkSinkWriter<>(sinkWriter, 1, context);
+
+        Assertions.assertEquals(1, writer.prepareCommit(false).size());
+        Mockito.verify(sinkWriter, Mockito.never()).prepareClose();
+        writer.snapshotState();
+
+        // flink flushes the writer with the last prepare commit at the end of input
+        Assertions.assertEquals(1, writer.prepareCommit(true).size());
+        InOrder inOrder = Mockito.inOrder(sinkWriter);
+        inOrder.verify(sinkWriter).prepareClose();
+        inOrder.verify(sinkWriter).prepareCommit(2);
+    }
+}
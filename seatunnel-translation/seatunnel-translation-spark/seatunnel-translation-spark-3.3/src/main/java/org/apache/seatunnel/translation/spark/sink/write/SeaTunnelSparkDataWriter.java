@@ -79,6 +79,8 @@ public class SeaTunnelSparkDataWriter<CommitInfoT, StateT> implements DataWriter
 
     @Override
     public WriterCommitMessage commit() throws IOException {
+        // the writer is closed after this commit
+        sinkWriter.prepareClose();
         Optional<CommitInfoT> commitInfoTOptional = sinkWriter.prepareCommit(epochId);
         commitInfoTOptional.ifPresent(commitInfoT -> latestCommitInfoT = commitInfoT);
         sinkWriter.snapshotState(epochId++);